@@ -1,19 +1,29 @@
 package com.aithor.apartmentcore;
 
 import com.aithor.apartmentcore.command.CommandHandler;
+import com.aithor.apartmentcore.cooldown.CooldownService;
 import com.aithor.apartmentcore.edition.Edition;
 import com.aithor.apartmentcore.edition.EditionManager;
 import com.aithor.apartmentcore.edition.LicenseManager;
 import com.aithor.apartmentcore.gui.GUIManager;
+import com.aithor.apartmentcore.ledger.TransactionLedger;
+import com.aithor.apartmentcore.transaction.TransactionCoordinator;
+import com.aithor.apartmentcore.transaction.TransactionIntent;
 import com.aithor.apartmentcore.manager.ApartmentManager;
 import com.aithor.apartmentcore.manager.AuctionManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
 import com.aithor.apartmentcore.manager.DataManager;
+import com.aithor.apartmentcore.manager.EconomyGateway;
+import com.aithor.apartmentcore.manager.LeaderboardManager;
 import com.aithor.apartmentcore.manager.LoggerManager;
 import com.aithor.apartmentcore.manager.MessageManager;
+import com.aithor.apartmentcore.manager.PriceHistoryManager;
 import com.aithor.apartmentcore.manager.TaskManager;
+import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.ConfirmationAction;
+import com.aithor.apartmentcore.notification.NotificationManager;
 import com.aithor.apartmentcore.placeholder.ApartmentPlaceholder;
+import com.aithor.apartmentcore.profile.PlayerProfileStore;
 import com.aithor.apartmentcore.achievement.AchievementManager;
 import com.aithor.apartmentcore.research.ResearchManager;
 import com.aithor.apartmentcore.shop.ApartmentShopManager;
@@ -28,7 +38,6 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Map;
 import java.util.UUID;
@@ -37,12 +46,14 @@ import java.io.File;
 
 public class ApartmentCore extends JavaPlugin {
     private Economy economy;
+    private EconomyGateway economyGateway;
     private EditionManager editionManager;
     private LicenseManager licenseManager;
     private ConfigManager configManager;
     private DataManager dataManager;
     private ApartmentManager apartmentManager;
     private TaskManager taskManager;
+    private LeaderboardManager leaderboardManager;
     private CommandHandler commandHandler;
     private ApartmentPlaceholder placeholder;
     private MessageManager messageManager;
@@ -53,10 +64,14 @@ public class ApartmentCore extends JavaPlugin {
     private ResearchManager researchManager;
     private AchievementManager achievementManager;
     private MainMenuConfig mainMenuConfig;
-    private BukkitTask auctionTask;
+    private NotificationManager notificationManager;
+    private TransactionLedger ledger;
+    private TransactionCoordinator transactionCoordinator;
+    private PriceHistoryManager priceHistoryManager;
+    private PlayerProfileStore profileStore;
     private UpdateChecker updateChecker;
 
-    private final Map<UUID, Long> commandCooldowns = new ConcurrentHashMap<>();
+    private final CooldownService cooldownService = new CooldownService();
     private final Map<UUID, ConfirmationAction> pendingConfirmations = new ConcurrentHashMap<>();
 
     private long lastMinecraftDay = 0L;
@@ -99,6 +114,7 @@ public class ApartmentCore extends JavaPlugin {
             getServer().getPluginManager().disablePlugin(this);
             return;
         }
+        this.economyGateway = new EconomyGateway(this, economy, configManager);
 
         // Data and managers
         this.dataManager = new DataManager(this, configManager);
@@ -112,6 +128,24 @@ public class ApartmentCore extends JavaPlugin {
         this.apartmentManager.loadGuestBooks();
         this.apartmentManager.loadStats();
 
+        this.leaderboardManager = new LeaderboardManager(apartmentManager, configManager);
+
+        this.ledger = new TransactionLedger(this, configManager);
+        this.ledger.load();
+
+        this.priceHistoryManager = new PriceHistoryManager(this, configManager);
+        this.priceHistoryManager.load();
+
+        // Recoverable auction/market payments; journal is replayed below once auctions are loaded
+        this.transactionCoordinator = new TransactionCoordinator(this, configManager);
+        this.transactionCoordinator.registerRecovery(TransactionIntent.Kind.MARKET_SALE, intent -> {
+            Apartment apt = apartmentManager.getApartment(intent.apartmentId);
+            return apt != null && intent.getSteps().get(0).playerId.equals(apt.owner);
+        });
+
+        this.notificationManager = new NotificationManager(this, configManager);
+        getServer().getPluginManager().registerEvents(notificationManager, this);
+
         this.taskManager = new TaskManager(this, apartmentManager, configManager);
         this.taskManager.startAllTasks();
 
@@ -136,12 +170,23 @@ public class ApartmentCore extends JavaPlugin {
         // Shop system (always active; tiers customisable only in Pro)
         this.shopManager = new ApartmentShopManager(this, apartmentManager, economy, configManager, dataManager);
 
+        // Research and achievement data per player, loaded on demand
+        this.profileStore = new PlayerProfileStore(this, configManager);
+        this.profileStore.load();
+        getServer().getPluginManager().registerEvents(profileStore, this);
+
         // Research system (always active; customisation only in Pro)
         this.researchManager = new ResearchManager(this, economy, configManager);
 
         // Achievement system (always active; customisation only in Pro)
         this.achievementManager = new AchievementManager(this, economy, configManager);
 
+        // Lazy income profiles include shop and research buffs, so compile them now
+        this.apartmentManager.syncIncomeAccrual();
+
+        // Finish or reverse auction/market payments interrupted by the last shutdown
+        this.transactionCoordinator.load();
+
         // Commands
         this.commandHandler = new CommandHandler(this, apartmentManager, economy, configManager);
         PluginCommand cmd = getCommand("apartmentcore");
@@ -183,12 +228,8 @@ public class ApartmentCore extends JavaPlugin {
         if (taskManager != null) {
             taskManager.cancelAllTasks();
         }
-        if (auctionTask != null) {
-            try {
-                auctionTask.cancel();
-            } catch (Throwable ignored) {
-            }
-            auctionTask = null;
+        if (auctionManager != null) {
+            auctionManager.shutdown();
         }
         if (apartmentManager != null) {
             apartmentManager.saveApartments();
@@ -200,6 +241,9 @@ public class ApartmentCore extends JavaPlugin {
             auctionManager.saveAuctions();
             auctionManager = null;
         }
+        if (priceHistoryManager != null) {
+            priceHistoryManager.save();
+        }
         if (guiManager != null) {
             try {
                 guiManager.closeAllGUIs();
@@ -207,6 +251,9 @@ public class ApartmentCore extends JavaPlugin {
             }
             guiManager = null;
         }
+        if (notificationManager != null) {
+            notificationManager.clear();
+        }
         if (shopManager != null) {
             try {
                 shopManager.saveShopData();
@@ -228,7 +275,19 @@ public class ApartmentCore extends JavaPlugin {
             }
             achievementManager = null;
         }
+        if (profileStore != null) {
+            profileStore.close();
+        }
+        if (transactionCoordinator != null) {
+            transactionCoordinator.close();
+        }
+        if (ledger != null) {
+            ledger.close();
+        }
         log("ApartmentCore disabled.");
+        if (loggerManager != null) {
+            loggerManager.close();
+        }
     }
 
     private boolean setupEconomy() {
@@ -282,6 +341,10 @@ public class ApartmentCore extends JavaPlugin {
         return economy;
     }
 
+    public EconomyGateway getEconomyGateway() {
+        return economyGateway;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
@@ -306,14 +369,51 @@ public class ApartmentCore extends JavaPlugin {
         return loggerManager;
     }
 
-    public Map<UUID, Long> getCommandCooldowns() {
-        return commandCooldowns;
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
+
+    public ApartmentPlaceholder getPlaceholder() {
+        return placeholder;
+    }
+
+    public TransactionLedger getLedger() {
+        return ledger;
+    }
+
+    public TransactionCoordinator getTransactionCoordinator() {
+        return transactionCoordinator;
+    }
+
+    public PriceHistoryManager getPriceHistoryManager() {
+        return priceHistoryManager;
+    }
+
+    public PlayerProfileStore getProfileStore() {
+        return profileStore;
+    }
+
+    public NotificationManager getNotificationManager() {
+        return notificationManager;
+    }
+
+    public CooldownService getCooldownService() {
+        return cooldownService;
     }
 
     public Map<UUID, ConfirmationAction> getPendingConfirmations() {
         return pendingConfirmations;
     }
 
+    /**
+     * Store a pending confirmation that expires after security.confirmation-timeout seconds
+     */
+    public void addPendingConfirmation(UUID playerId, ConfirmationAction action) {
+        pendingConfirmations.put(playerId, action);
+        long timeout = getConfig().getLong("security.confirmation-timeout", 30) * 1000;
+        cooldownService.schedule(timeout, () -> pendingConfirmations.remove(playerId, action));
+    }
+
     public long getLastMinecraftDay() {
         return lastMinecraftDay;
     }
@@ -397,15 +497,8 @@ public class ApartmentCore extends JavaPlugin {
         try {
             this.auctionManager = new AuctionManager(this, apartmentManager, economy, configManager, dataManager);
             this.auctionManager.loadAuctions();
-            // schedule periodic processing every 60 seconds
-            this.auctionTask = getServer().getScheduler().runTaskTimer(this, () -> {
-                try {
-                    if (auctionManager != null) {
-                        auctionManager.processEndedAuctions();
-                    }
-                } catch (Throwable ignored) {
-                }
-            }, 20L * 60L, 20L * 60L);
+            // End auctions exactly at their deadlines
+            this.auctionManager.startDeadlineTimer();
             debug("Auction system initialized.");
         } catch (Throwable t) {
             getLogger().warning("Failed to initialize Auction system: " + t.getMessage());
@@ -416,15 +509,9 @@ public class ApartmentCore extends JavaPlugin {
      * Shutdown the auction system (cancel scheduler and save).
      */
     public void shutdownAuctionSystem() {
-        if (auctionTask != null) {
-            try {
-                auctionTask.cancel();
-            } catch (Throwable ignored) {
-            }
-            auctionTask = null;
-        }
         if (auctionManager != null) {
             try {
+                auctionManager.shutdown();
                 auctionManager.saveAuctions();
             } catch (Throwable ignored) {
             }
@@ -0,0 +1,70 @@
+package com.aithor.apartmentcore.achievement;
+
+import java.util.UUID;
+
+/**
+ * Something a player did that can advance an achievement. Posted with
+ * {@link AchievementManager#post} and evaluated off the main thread.
+ *
+ * <p>Cumulative events add their value to the achievement's progress; the
+ * others report an absolute value that only raises it.
+ */
+public abstract class AchievementEvent {
+
+    public final UUID playerId;
+    final AchievementType type;
+    final double value;
+    final boolean cumulative;
+
+    private AchievementEvent(UUID playerId, AchievementType type, double value, boolean cumulative) {
+        this.playerId = playerId;
+        this.type = type;
+        this.value = value;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Income generated for an owner
+     */
+    public static final class IncomeGenerated extends AchievementEvent {
+        public IncomeGenerated(UUID playerId, double amount) {
+            super(playerId, AchievementType.INCOME_MILLIONAIRE, amount, true);
+        }
+    }
+
+    /**
+     * Tax paid by an owner
+     */
+    public static final class TaxPaid extends AchievementEvent {
+        public TaxPaid(UUID playerId, double amount) {
+            super(playerId, AchievementType.TAX_CONTRIBUTOR, amount, true);
+        }
+    }
+
+    /**
+     * Money a seller received for an apartment
+     */
+    public static final class ApartmentSold extends AchievementEvent {
+        public ApartmentSold(UUID sellerId, double amount) {
+            super(sellerId, AchievementType.SALES_TYCOON, amount, true);
+        }
+    }
+
+    /**
+     * A research finished; carries how many research types are at their maximum tier
+     */
+    public static final class ResearchCompleted extends AchievementEvent {
+        public ResearchCompleted(UUID playerId, int maxedResearches) {
+            super(playerId, AchievementType.RESEARCH_MASTER, maxedResearches, false);
+        }
+    }
+
+    /**
+     * An apartment of the player reached a new level
+     */
+    public static final class LevelReached extends AchievementEvent {
+        public LevelReached(UUID playerId, int level, int maxLevel) {
+            super(playerId, AchievementType.MAX_LEVEL_OWNER, level >= maxLevel ? 1 : 0, false);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.aithor.apartmentcore.achievement;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.profile.PlayerProfile;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -13,20 +15,40 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Manages the achievement system: configuration, player data, tracking,
  * persistence, and reward distribution.
+ *
+ * <p>Progress arrives as {@link AchievementEvent}s that are evaluated on a
+ * single achievement thread; unlocked achievements are handed back to the
+ * main thread for rewards, titles and boss bars.
  */
 public class AchievementManager {
 
+    private static final class Unlock {
+        final UUID playerId;
+        final AchievementType type;
+
+        Unlock(UUID playerId, AchievementType type) {
+            this.playerId = playerId;
+            this.type = type;
+        }
+    }
+
     private final ApartmentCore plugin;
     private final Economy economy;
     private final ConfigManager configManager;
@@ -35,12 +57,10 @@ public class AchievementManager {
     private FileConfiguration achievementConfig;
     private File achievementConfigFile;
 
-    // Player data (UUID -> data)
-    private final Map<UUID, PlayerAchievementData> playerData;
-
-    // Data file for persistence
-    private File dataFile;
-    private FileConfiguration dataConfig;
+    // Event evaluation
+    private final ExecutorService executor;
+    private final Queue<Unlock> unlocked = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
 
     // Cached config per achievement type
     private final Map<AchievementType, Boolean> enabledMap = new ConcurrentHashMap<>();
@@ -91,10 +111,13 @@ public class AchievementManager {
         this.plugin = plugin;
         this.economy = economy;
         this.configManager = configManager;
-        this.playerData = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ApartmentCore-Achievements");
+            t.setDaemon(true);
+            return t;
+        });
 
         loadAchievementConfig();
-        loadPlayerData();
     }
 
     // ===========================
@@ -281,6 +304,10 @@ public class AchievementManager {
 
     public void reloadConfig() {
         loadAchievementConfig();
+        // Targets may have changed
+        for (PlayerProfile profile : plugin.getProfileStore().getLoadedProfiles()) {
+            profile.getAchievements().setThresholds(null);
+        }
     }
 
     public boolean isEnabled() {
@@ -369,65 +396,98 @@ public class AchievementManager {
     // ===========================
 
     /**
-     * Record progress for an achievement. Automatically checks for completion.
-     *
-     * @param playerId The player UUID
-     * @param type     The achievement type
-     * @param amount   The amount to add to progress
+     * Queue an event for evaluation on the achievement thread. Cheap enough
+     * for hot paths such as income ticks.
      */
-    public void recordProgress(UUID playerId, AchievementType type, double amount) {
-        if (!enabled || !isAchievementEnabled(type))
+    public void post(AchievementEvent event) {
+        if (event.playerId == null || !enabled || !isAchievementEnabled(event.type))
             return;
-
-        PlayerAchievementData data = getPlayerData(playerId);
-        if (data.isCompleted(type))
+        if (event.value <= 0)
             return;
-
-        data.addProgress(type, amount);
-        checkCompletion(playerId, data, type);
+        try {
+            executor.execute(() -> evaluate(event));
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down
+        }
     }
 
     /**
-     * Set absolute progress for an achievement (used for snapshot-based
-     * achievements
-     * like max level or max tier research).
-     *
-     * @param playerId The player UUID
-     * @param type     The achievement type
-     * @param value    The absolute progress value
+     * Apply an event to the player's progress (achievement thread). The
+     * thresholds index says which achievements the event can still complete;
+     * completed or disabled ones are skipped without touching the player data.
      */
-    public void setProgress(UUID playerId, AchievementType type, double value) {
-        if (!enabled || !isAchievementEnabled(type))
-            return;
+    private void evaluate(AchievementEvent event) {
+        plugin.getProfileStore().update(event.playerId, profile -> apply(profile.getAchievements(), event));
+    }
 
-        PlayerAchievementData data = getPlayerData(playerId);
-        if (data.isCompleted(type))
-            return;
+    /**
+     * @return Whether the progress changed (runs under the profile lock)
+     */
+    private boolean apply(PlayerAchievementData data, AchievementEvent event) {
+        double[] next = data.getThresholds();
+        if (next == null) {
+            next = indexThresholds(data);
+            data.setThresholds(next);
+        }
+        int slot = event.type.ordinal();
+        if (Double.isInfinite(next[slot]))
+            return false;
+
+        double progress;
+        if (event.cumulative) {
+            data.addProgress(event.type, event.value);
+            progress = data.getProgress(event.type);
+        } else {
+            progress = Math.max(data.getProgress(event.type), event.value);
+            data.setProgress(event.type, progress);
+        }
+        if (progress < next[slot])
+            return true;
 
-        data.setProgress(type, value);
-        checkCompletion(playerId, data, type);
+        next[slot] = Double.POSITIVE_INFINITY;
+        data.setCompleted(event.type, true);
+        unlocked.add(new Unlock(event.playerId, event.type));
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTask(plugin, this::dispatchUnlocks);
+            } catch (RuntimeException e) {
+                // Plugin disabled; shutdown() dispatches what is left
+                dispatchScheduled.set(false);
+            }
+        }
+        return true;
     }
 
     /**
-     * Check if a player has met the target for an achievement and grant it if so.
+     * Next threshold per achievement (by ordinal); infinite when the
+     * achievement is completed or disabled
      */
-    private void checkCompletion(UUID playerId, PlayerAchievementData data, AchievementType type) {
-        if (data.isCompleted(type))
-            return;
-
-        double target = getAchievementTarget(type);
-        if (data.getProgress(type) >= target) {
-            completeAchievement(playerId, data, type);
+    private double[] indexThresholds(PlayerAchievementData data) {
+        double[] next = new double[AchievementType.values().length];
+        for (AchievementType type : AchievementType.values()) {
+            next[type.ordinal()] = data.isCompleted(type) || !isAchievementEnabled(type)
+                    ? Double.POSITIVE_INFINITY
+                    : getAchievementTarget(type);
         }
+        return next;
     }
 
     /**
-     * Mark an achievement as completed and grant rewards.
+     * Grant rewards and play the effects of unlocked achievements (main thread)
      */
-    private void completeAchievement(UUID playerId, PlayerAchievementData data, AchievementType type) {
-        data.setCompleted(type, true);
-        savePlayerData();
+    private void dispatchUnlocks() {
+        dispatchScheduled.set(false);
+        Unlock unlock;
+        while ((unlock = unlocked.poll()) != null) {
+            completeAchievement(unlock.playerId, unlock.type);
+            plugin.getProfileStore().save(unlock.playerId);
+        }
+    }
 
+    /**
+     * Grant the rewards of a completed achievement and notify the player.
+     */
+    private void completeAchievement(UUID playerId, AchievementType type) {
         Player player = Bukkit.getPlayer(playerId);
         String achName = getAchievementName(type);
 
@@ -542,6 +602,8 @@ public class AchievementManager {
                     double amount = Double.parseDouble(trimmed.substring(7).trim());
                     if (amount > 0 && player != null) {
                         economy.depositPlayer(player, amount);
+                        plugin.getLedger().record(TransactionType.ACHIEVEMENT_REWARD, player.getUniqueId(),
+                                player.getName(), null, amount, type.name());
                     }
                 } else if (trimmed.toLowerCase().startsWith("[exp]")) {
                     int exp = Integer.parseInt(trimmed.substring(5).trim());
@@ -595,83 +657,11 @@ public class AchievementManager {
     // Player Data Access
     // ===========================
 
+    /**
+     * Achievement data of a player; loads their profile if needed
+     */
     public PlayerAchievementData getPlayerData(UUID playerId) {
-        return playerData.computeIfAbsent(playerId, PlayerAchievementData::new);
-    }
-
-    // ===========================
-    // Persistence
-    // ===========================
-
-    private void loadPlayerData() {
-        try {
-            File dataDir = new File(plugin.getDataFolder(), "data");
-            if (!dataDir.exists()) {
-                dataDir.mkdirs();
-            }
-
-            this.dataFile = new File(dataDir, "achievement_data.yml");
-            if (!dataFile.exists()) {
-                dataFile.createNewFile();
-                plugin.debug("Created new achievement_data.yml file");
-            }
-
-            this.dataConfig = YamlConfiguration.loadConfiguration(dataFile);
-
-            ConfigurationSection players = dataConfig.getConfigurationSection("players");
-            if (players == null)
-                return;
-
-            for (String uuidStr : players.getKeys(false)) {
-                try {
-                    UUID uuid = UUID.fromString(uuidStr);
-                    PlayerAchievementData data = new PlayerAchievementData(uuid);
-                    ConfigurationSection playerSec = players.getConfigurationSection(uuidStr);
-                    if (playerSec == null)
-                        continue;
-
-                    for (AchievementType type : AchievementType.values()) {
-                        ConfigurationSection achSec = playerSec.getConfigurationSection(type.getConfigKey());
-                        if (achSec != null) {
-                            data.setProgress(type, achSec.getDouble("progress", 0));
-                            data.setCompleted(type, achSec.getBoolean("completed", false));
-                            data.setCompletedAt(type, achSec.getLong("completed-at", 0L));
-                        }
-                    }
-
-                    playerData.put(uuid, data);
-                } catch (IllegalArgumentException e) {
-                    plugin.getLogger().warning("Invalid UUID in achievement data: " + uuidStr);
-                }
-            }
-
-            plugin.debug("Loaded achievement data for " + playerData.size() + " players.");
-        } catch (Throwable t) {
-            plugin.getLogger().warning("Failed to load achievement data: " + t.getMessage());
-        }
-    }
-
-    public void savePlayerData() {
-        try {
-            YamlConfiguration config = new YamlConfiguration();
-
-            for (Map.Entry<UUID, PlayerAchievementData> entry : playerData.entrySet()) {
-                String uuid = entry.getKey().toString();
-                PlayerAchievementData data = entry.getValue();
-
-                for (AchievementType type : AchievementType.values()) {
-                    String path = "players." + uuid + "." + type.getConfigKey() + ".";
-                    config.set(path + "progress", data.getProgress(type));
-                    config.set(path + "completed", data.isCompleted(type));
-                    config.set(path + "completed-at", data.getCompletedAt(type));
-                }
-            }
-
-            config.save(dataFile);
-            plugin.debug("Saved achievement data for " + playerData.size() + " players.");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save achievement data: " + e.getMessage());
-        }
+        return plugin.getProfileStore().get(playerId).getAchievements();
     }
 
     // ===========================
@@ -679,6 +669,12 @@ public class AchievementManager {
     // ===========================
 
     public void shutdown() {
-        savePlayerData();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatchUnlocks();
     }
 }
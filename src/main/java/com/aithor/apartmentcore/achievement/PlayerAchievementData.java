@@ -4,8 +4,11 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.UUID;
 
+import org.bukkit.configuration.ConfigurationSection;
+
 /**
  * Stores achievement progress and completion data for a single player.
+ * Updated on the achievement thread and read by menus on the main thread.
  */
 public class PlayerAchievementData {
 
@@ -20,6 +23,9 @@ public class PlayerAchievementData {
     /** Timestamp of when the achievement was completed (0 = not completed) */
     private final Map<AchievementType, Long> completedAt;
 
+    /** Next threshold per achievement ordinal (achievement thread); null until indexed */
+    private volatile double[] thresholds;
+
     public PlayerAchievementData(UUID playerId) {
         this.playerId = playerId;
         this.progress = new EnumMap<>(AchievementType.class);
@@ -39,43 +45,43 @@ public class PlayerAchievementData {
 
     // --- Progress ---
 
-    public double getProgress(AchievementType type) {
+    public synchronized double getProgress(AchievementType type) {
         return progress.getOrDefault(type, 0.0);
     }
 
-    public void setProgress(AchievementType type, double value) {
+    public synchronized void setProgress(AchievementType type, double value) {
         progress.put(type, value);
     }
 
-    public void addProgress(AchievementType type, double amount) {
+    public synchronized void addProgress(AchievementType type, double amount) {
         progress.put(type, getProgress(type) + amount);
     }
 
     // --- Completion ---
 
-    public boolean isCompleted(AchievementType type) {
+    public synchronized boolean isCompleted(AchievementType type) {
         return completed.getOrDefault(type, false);
     }
 
-    public void setCompleted(AchievementType type, boolean value) {
+    public synchronized void setCompleted(AchievementType type, boolean value) {
         completed.put(type, value);
         if (value && getCompletedAt(type) == 0L) {
             completedAt.put(type, System.currentTimeMillis());
         }
     }
 
-    public long getCompletedAt(AchievementType type) {
+    public synchronized long getCompletedAt(AchievementType type) {
         return completedAt.getOrDefault(type, 0L);
     }
 
-    public void setCompletedAt(AchievementType type, long timestamp) {
+    public synchronized void setCompletedAt(AchievementType type, long timestamp) {
         completedAt.put(type, timestamp);
     }
 
     /**
      * Get the number of completed achievements.
      */
-    public int getCompletedCount() {
+    public synchronized int getCompletedCount() {
         int count = 0;
         for (Boolean b : completed.values()) {
             if (b) count++;
@@ -89,4 +95,40 @@ public class PlayerAchievementData {
     public int getTotalCount() {
         return AchievementType.values().length;
     }
+
+    // --- Threshold index ---
+
+    double[] getThresholds() {
+        return thresholds;
+    }
+
+    void setThresholds(double[] thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    // --- Persistence ---
+
+    public synchronized void save(ConfigurationSection section) {
+        for (AchievementType type : AchievementType.values()) {
+            String path = type.getConfigKey() + ".";
+            section.set(path + "progress", getProgress(type));
+            section.set(path + "completed", isCompleted(type));
+            section.set(path + "completed-at", getCompletedAt(type));
+        }
+    }
+
+    public static PlayerAchievementData load(UUID playerId, ConfigurationSection section) {
+        PlayerAchievementData data = new PlayerAchievementData(playerId);
+        if (section == null)
+            return data;
+        for (AchievementType type : AchievementType.values()) {
+            ConfigurationSection achSec = section.getConfigurationSection(type.getConfigKey());
+            if (achSec != null) {
+                data.setProgress(type, achSec.getDouble("progress", 0));
+                data.setCompleted(type, achSec.getBoolean("completed", false));
+                data.setCompletedAt(type, achSec.getLong("completed-at", 0L));
+            }
+        }
+        return data;
+    }
 }
@@ -1,11 +1,17 @@
 package com.aithor.apartmentcore.command;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.cooldown.CooldownType;
 import com.aithor.apartmentcore.manager.ApartmentManager;
+import com.aithor.apartmentcore.ledger.LedgerPage;
+import com.aithor.apartmentcore.ledger.LedgerRecord;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.manager.AuctionManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.manager.EconomyGateway;
 import com.aithor.apartmentcore.manager.DataManager;
 import com.aithor.apartmentcore.manager.MessageManager;
+import com.aithor.apartmentcore.manager.PriceHistoryManager;
 import com.aithor.apartmentcore.edition.LicenseManager;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.ApartmentAuction;
@@ -14,8 +20,12 @@ import com.aithor.apartmentcore.model.ApartmentStats;
 import com.aithor.apartmentcore.model.ConfirmationAction;
 import com.aithor.apartmentcore.model.GuestBookEntry;
 import com.aithor.apartmentcore.model.LevelConfig;
+import com.aithor.apartmentcore.model.PriceStats;
 import com.aithor.apartmentcore.model.TaxInvoice;
 import com.aithor.apartmentcore.model.TaxStatus;
+import com.aithor.apartmentcore.placeholder.CompiledPlaceholder;
+import com.aithor.apartmentcore.transaction.TransactionCoordinator;
+import com.aithor.apartmentcore.transaction.TransactionIntent;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.math.BlockVector3;
@@ -44,7 +54,6 @@ public class ApartmentCommandService {
     // Guestbook leave cooldowns (moved from CommandHandler)
 
     // Correct field (actual one used)
-    private final Map<UUID, Long> guestBookCooldowns = new HashMap<>();
 
     public ApartmentCommandService(ApartmentCore plugin,
             ApartmentManager apartmentManager,
@@ -87,17 +96,15 @@ public class ApartmentCommandService {
                     return true;
                 }
                 // Cooldown check
-                long cooldown = configManager.getGuestBookLeaveCooldown() * 1000L;
-                long lastUsed = guestBookCooldowns.getOrDefault(player.getUniqueId(), 0L);
-                if (System.currentTimeMillis() - lastUsed < cooldown) {
+                if (plugin.getCooldownService().isActive(CooldownType.GUESTBOOK_LEAVE, player.getUniqueId())) {
                     player.sendMessage(plugin.getMessageManager().getMessage("guestbook.leave.cooldown"));
                     return true;
                 }
 
                 String message = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
                 if (message.length() > configManager.getGuestBookMaxMessageLength()) {
-                    player.sendMessage(plugin.getMessageManager().getMessage("guestbook.leave.too_long")
-                            .replace("%max_chars%", String.valueOf(configManager.getGuestBookMaxMessageLength())));
+                    player.sendMessage(plugin.getMessageManager().format("guestbook.leave.too_long",
+                            "max_chars", String.valueOf(configManager.getGuestBookMaxMessageLength())));
                     return true;
                 }
 
@@ -109,26 +116,27 @@ public class ApartmentCommandService {
                 entries.add(new GuestBookEntry(player.getUniqueId(), player.getName(), message,
                         System.currentTimeMillis()));
                 apartmentManager.saveGuestBooks();
-                guestBookCooldowns.put(player.getUniqueId(), System.currentTimeMillis());
-                player.sendMessage(plugin.getMessageManager().getMessage("guestbook.leave.success")
-                        .replace("%apartment%", apt.displayName));
+                plugin.getCooldownService().start(CooldownType.GUESTBOOK_LEAVE, player.getUniqueId(),
+                        configManager.getGuestBookLeaveCooldown() * 1000L);
+                player.sendMessage(plugin.getMessageManager().format("guestbook.leave.success",
+                        "apartment", apt.displayName));
                 break;
 
             case "read":
                 List<GuestBookEntry> book = apartmentManager.getGuestBooks().get(apartmentId);
                 if (book == null || book.isEmpty()) {
-                    player.sendMessage(plugin.getMessageManager().getMessage("guestbook.read.empty")
-                            .replace("%apartment%", apt.displayName));
+                    player.sendMessage(plugin.getMessageManager().format("guestbook.read.empty",
+                            "apartment", apt.displayName));
                     return true;
                 }
-                player.sendMessage(plugin.getMessageManager().getMessage("guestbook.read.header").replace("%apartment%",
-                        apt.displayName));
+                player.sendMessage(plugin.getMessageManager().format("guestbook.read.header",
+                        "apartment", apt.displayName));
                 SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
                 for (GuestBookEntry entry : book) {
-                    String line = plugin.getMessageManager().getMessage("guestbook.read.line_format")
-                            .replace("%date%", sdf.format(new Date(entry.timestamp)))
-                            .replace("%player%", entry.senderName)
-                            .replace("%message%", entry.message);
+                    String line = plugin.getMessageManager().format("guestbook.read.line_format",
+                            "date", sdf.format(new Date(entry.timestamp)),
+                            "player", entry.senderName,
+                            "message", entry.message);
                     player.sendMessage(line);
                 }
                 break;
@@ -140,10 +148,10 @@ public class ApartmentCommandService {
                 }
                 ConfirmationAction pending = plugin.getPendingConfirmations().get(player.getUniqueId());
                 if (pending == null || !pending.type.equals("guestbook_clear") || !pending.data.equals(apartmentId)) {
-                    player.sendMessage(plugin.getMessageManager().getMessage("guestbook.clear.confirm_line1")
-                            .replace("%apartment%", apt.displayName));
+                    player.sendMessage(plugin.getMessageManager().format("guestbook.clear.confirm_line1",
+                            "apartment", apt.displayName));
                     player.sendMessage(plugin.getMessageManager().getMessage("guestbook.clear.confirm_line2"));
-                    plugin.getPendingConfirmations().put(player.getUniqueId(),
+                    plugin.addPendingConfirmation(player.getUniqueId(),
                             new ConfirmationAction("guestbook_clear", apartmentId, System.currentTimeMillis()));
                 }
                 break;
@@ -237,10 +245,7 @@ public class ApartmentCommandService {
                     (nextInvoiceInMs > 0 ? formatTime(nextInvoiceInMs) : "Soon"));
 
             // Next income countdown using configurable interval
-            long incomeIntervalMs = Math.max(1000L, configManager.getIncomeGenerationInterval() * 50L);
-            long lastGen = plugin.getLastIncomeGenerationTime();
-            long nextIncomeMillis = lastGen <= 0L ? System.currentTimeMillis() + incomeIntervalMs
-                    : lastGen + incomeIntervalMs;
+            long nextIncomeMillis = apartmentManager.getNextIncomeAt(apt, System.currentTimeMillis());
             long incomeTimeRemaining = nextIncomeMillis - System.currentTimeMillis();
             sender.sendMessage(ChatColor.YELLOW + "Next Income In: " + ChatColor.WHITE +
                     (incomeTimeRemaining > 0 ? formatTime(incomeTimeRemaining) : "Now"));
@@ -249,7 +254,7 @@ public class ApartmentCommandService {
         if (apt.owner != null && sender instanceof Player &&
                 apt.owner.equals(((Player) sender).getUniqueId())) {
             sender.sendMessage(ChatColor.YELLOW + "Pending Income: " + ChatColor.WHITE
-                    + configManager.formatMoney(apt.pendingIncome));
+                    + configManager.formatMoney(apt.getPendingIncome()));
             if (apt.penalty > 0) {
                 sender.sendMessage(
                         ChatColor.YELLOW + "Penalty: " + ChatColor.RED + configManager.formatMoney(apt.penalty));
@@ -302,11 +307,13 @@ public class ApartmentCommandService {
         }
 
         economy.withdrawPlayer(player, apt.price);
+        apartmentManager.settleIncome(apt);
         apt.owner = player.getUniqueId();
         apt.lastTaxPayment = System.currentTimeMillis();
         apt.inactive = false;
         apt.penalty = 0;
         apt.inactiveSince = 0;
+        apartmentManager.refreshIndexes(apt);
 
         // Add player to WorldGuard region
         apartmentManager.addPlayerToRegion(player, apt);
@@ -321,6 +328,8 @@ public class ApartmentCommandService {
         }
 
         plugin.logTransaction(player.getName() + " purchased apartment " + apartmentId);
+        plugin.getLedger().record(TransactionType.PURCHASE, player.getUniqueId(), player.getName(),
+                apt.id, apt.price, "Bought from server");
 
         return true;
     }
@@ -359,7 +368,7 @@ public class ApartmentCommandService {
             player.sendMessage(ChatColor.YELLOW + "Type " + ChatColor.WHITE + "/apartmentcore confirm" +
                     ChatColor.YELLOW + " to confirm the sale.");
 
-            plugin.getPendingConfirmations().put(player.getUniqueId(),
+            plugin.addPendingConfirmation(player.getUniqueId(),
                     new ConfirmationAction("sell", apartmentId, System.currentTimeMillis()));
             return true;
         }
@@ -414,6 +423,7 @@ public class ApartmentCommandService {
         apt.marketListing = true;
         apt.marketPrice = customPrice >= 0 ? customPrice : apt.price;
         apt.marketListedAt = System.currentTimeMillis();
+        apartmentManager.refreshIndexes(apt);
 
         apartmentManager.saveApartments();
 
@@ -453,6 +463,7 @@ public class ApartmentCommandService {
         apt.marketListing = false;
         apt.marketPrice = 0;
         apt.marketListedAt = 0;
+        apartmentManager.refreshIndexes(apt);
 
         apartmentManager.saveApartments();
 
@@ -518,7 +529,7 @@ public class ApartmentCommandService {
             player.sendMessage(ChatColor.YELLOW + "Type " + ChatColor.WHITE + "/apartmentcore confirm"
                     + ChatColor.YELLOW + " to confirm the purchase.");
 
-            plugin.getPendingConfirmations().put(player.getUniqueId(),
+            plugin.addPendingConfirmation(player.getUniqueId(),
                     new ConfirmationAction("market_buy", apartmentId, System.currentTimeMillis()));
             return true;
         }
@@ -660,37 +671,24 @@ public class ApartmentCommandService {
 
         // Check cooldown (24 hours)
         UUID playerUuid = player.getUniqueId();
-        Map<String, Long> playerCooldowns = apartmentManager.getPlayerRatingCooldowns().computeIfAbsent(playerUuid,
-                k -> new HashMap<>());
-        Long lastRating = playerCooldowns.get(apartmentId);
-
-        if (lastRating != null) {
-            long timeSinceLastRating = System.currentTimeMillis() - lastRating;
-            if (timeSinceLastRating < 86400000) { // 24 hours in milliseconds
-                long hoursLeft = TimeUnit.MILLISECONDS.toHours(86400000 - timeSinceLastRating);
-                player.sendMessage(
-                        ChatColor.RED + "You can rate this apartment again in " + (hoursLeft + 1) + " hours!");
-                return true;
-            }
+        long ratingCooldownLeft = plugin.getCooldownService().getRemaining(CooldownType.APARTMENT_RATING, playerUuid,
+                apartmentId);
+        if (ratingCooldownLeft > 0) {
+            long hoursLeft = TimeUnit.MILLISECONDS.toHours(ratingCooldownLeft);
+            player.sendMessage(
+                    ChatColor.RED + "You can rate this apartment again in " + (hoursLeft + 1) + " hours!");
+            return true;
         }
 
         // Get or create rating entry
         ApartmentRating aptRating = apartmentManager.getApartmentRatings().computeIfAbsent(apartmentId,
                 k -> new ApartmentRating());
 
-        // Check if player has rated before
-        Double oldRating = aptRating.raters.get(playerUuid);
-        if (oldRating != null) {
-            // Update existing rating
-            aptRating.totalRating = aptRating.totalRating - oldRating + rating;
-        } else {
-            // New rating
-            aptRating.totalRating += rating;
-            aptRating.ratingCount++;
-        }
-
-        aptRating.raters.put(playerUuid, rating);
-        playerCooldowns.put(apartmentId, System.currentTimeMillis());
+        // Adds a new rating or replaces the player's previous one
+        aptRating.rate(playerUuid, rating);
+        plugin.getCooldownService().start(CooldownType.APARTMENT_RATING, playerUuid, apartmentId,
+                86400000L); // 24 hours in milliseconds
+        apartmentManager.refreshIndexes(apt);
 
         apartmentManager.saveRatings();
 
@@ -744,13 +742,14 @@ public class ApartmentCommandService {
 
                 // Track sales achievement (before resetting owner)
                 if (plugin.getAchievementManager() != null) {
-                    plugin.getAchievementManager().recordProgress(player.getUniqueId(),
-                            com.aithor.apartmentcore.achievement.AchievementType.SALES_TYCOON, sellPrice);
+                    plugin.getAchievementManager().post(
+                            new com.aithor.apartmentcore.achievement.AchievementEvent.ApartmentSold(player.getUniqueId(), sellPrice));
                 }
 
                 apartmentManager.removePlayerFromRegion(player, aptToSell);
 
-                // Reset apartment
+                // Reset apartment; income accrued so far belongs to the seller
+                apartmentManager.settleIncome(aptToSell);
                 aptToSell.owner = null;
                 aptToSell.pendingIncome = 0;
                 aptToSell.inactive = false;
@@ -765,6 +764,7 @@ public class ApartmentCommandService {
                 apartmentManager.getApartmentRatings().remove(aptToSell.id);
                 apartmentManager.getGuestBooks().remove(aptToSell.id);
                 apartmentManager.removeStats(aptToSell.id);
+                apartmentManager.refreshIndexes(aptToSell);
 
                 apartmentManager.saveApartments();
                 apartmentManager.saveRatings();
@@ -782,6 +782,8 @@ public class ApartmentCommandService {
                 plugin.logTransaction(player.getName() + " sold apartment " + aptToSell.id +
                         " for " + configManager.formatMoney(sellPrice) +
                         (shopRefund > 0 ? " + shop refund " + configManager.formatMoney(shopRefund) : ""));
+                plugin.getLedger().record(TransactionType.SALE, player.getUniqueId(), player.getName(),
+                        aptToSell.id, sellPrice, "Sold to server");
                 break;
 
             case "market_buy":
@@ -824,18 +826,28 @@ public class ApartmentCommandService {
                         ? Bukkit.getOfflinePlayer(previousOwner).getName()
                         : "Unknown";
 
-                // Withdraw from buyer
-                economy.withdrawPlayer(player, mktPrice);
+                // Charge the buyer and pay the seller; if either fails nothing changes hands
+                TransactionCoordinator transactions = plugin.getTransactionCoordinator();
+                TransactionIntent sale = transactions.begin(TransactionIntent.Kind.MARKET_SALE,
+                        "market:" + aptToBuy.id + ":" + aptToBuy.marketListedAt, aptToBuy.id)
+                        .withdraw(player.getUniqueId(), mktPrice);
+                if (previousOwner != null) {
+                    sale.deposit(previousOwner, mktPrice);
+                }
+                if (!transactions.execute(sale)) {
+                    player.sendMessage(ChatColor.RED + "Payment failed"
+                            + (sale.getFailure() != null ? ": " + sale.getFailure() : ".")
+                            + " You have not been charged.");
+                    return true;
+                }
 
-                // Pay the seller
                 if (previousOwner != null) {
                     OfflinePlayer seller = Bukkit.getOfflinePlayer(previousOwner);
-                    economy.depositPlayer(seller, mktPrice);
 
                     // Track sales achievement for seller
                     if (plugin.getAchievementManager() != null) {
-                        plugin.getAchievementManager().recordProgress(previousOwner,
-                                com.aithor.apartmentcore.achievement.AchievementType.SALES_TYCOON, mktPrice);
+                        plugin.getAchievementManager().post(
+                                new com.aithor.apartmentcore.achievement.AchievementEvent.ApartmentSold(previousOwner, mktPrice));
                     }
 
                     // Notify seller if online
@@ -851,11 +863,13 @@ public class ApartmentCommandService {
                     apartmentManager.removeOwnerUuidFromRegion(aptToBuy, previousOwner);
                 }
 
-                // Transfer ownership
+                // Transfer ownership; income accrued so far belongs to the seller
+                apartmentManager.settleIncome(aptToBuy);
                 aptToBuy.owner = player.getUniqueId();
                 aptToBuy.marketListing = false;
                 aptToBuy.marketPrice = 0;
                 aptToBuy.marketListedAt = 0;
+                apartmentManager.refreshIndexes(aptToBuy);
 
                 // Keep existing apartment data (level, pending income, etc.) - ownership
                 // transfer
@@ -866,6 +880,7 @@ public class ApartmentCommandService {
                 apartmentManager.addPlayerToRegion(player, aptToBuy);
 
                 apartmentManager.saveApartments();
+                transactions.complete(sale);
 
                 player.sendMessage(ChatColor.GREEN + "Successfully purchased " + ChatColor.YELLOW
                         + aptToBuy.displayName + ChatColor.GREEN + " from " + ChatColor.WHITE
@@ -875,6 +890,9 @@ public class ApartmentCommandService {
                 plugin.logTransaction(player.getName() + " bought apartment " + aptToBuy.id
                         + " from market (seller: " + previousOwnerName + ") for "
                         + configManager.formatMoney(mktPrice));
+                plugin.getLedger().record(TransactionType.MARKET_SALE, player.getUniqueId(), player.getName(),
+                        previousOwner, previousOwnerName, aptToBuy.id, mktPrice, "Bought on market");
+                plugin.getPriceHistoryManager().record(aptToBuy, mktPrice, PriceStats.Source.MARKET);
                 break;
 
             case "guestbook_clear":
@@ -906,12 +924,13 @@ public class ApartmentCommandService {
 
         switch (action.toLowerCase()) {
             case "claim":
+                apartmentManager.settleIncome(apt);
                 if (apt.pendingIncome <= 0) {
                     player.sendMessage(ChatColor.RED + "No income to claim!");
                     return true;
                 }
                 double incomeToClaim = apt.pendingIncome;
-                economy.depositPlayer(player, incomeToClaim);
+                plugin.getEconomyGateway().deposit(player, incomeToClaim);
                 player.sendMessage(ChatColor.GREEN + "Claimed " + configManager.formatMoney(incomeToClaim) + " from "
                         + apt.displayName);
 
@@ -921,22 +940,12 @@ public class ApartmentCommandService {
 
                 // Track income achievement
                 if (plugin.getAchievementManager() != null) {
-                    plugin.getAchievementManager().recordProgress(player.getUniqueId(),
-                            com.aithor.apartmentcore.achievement.AchievementType.INCOME_MILLIONAIRE, 0);
-                    // Recalculate total for setProgress
-                    double totalInc = 0;
-                    for (com.aithor.apartmentcore.model.Apartment a : apartmentManager.getApartments().values()) {
-                        if (player.getUniqueId().equals(a.owner)) {
-                            ApartmentStats s = apartmentManager.getStats(a.id);
-                            if (s != null)
-                                totalInc += s.totalIncomeGenerated;
-                        }
-                    }
-                    plugin.getAchievementManager().setProgress(player.getUniqueId(),
-                            com.aithor.apartmentcore.achievement.AchievementType.INCOME_MILLIONAIRE, totalInc);
+                    plugin.getAchievementManager().post(
+                            new com.aithor.apartmentcore.achievement.AchievementEvent.IncomeGenerated(player.getUniqueId(), incomeToClaim));
                 }
 
                 apt.pendingIncome = 0;
+                apartmentManager.refreshIndexes(apt);
                 plugin.setLastRentClaimTime(System.currentTimeMillis());
                 apartmentManager.saveApartments();
                 apartmentManager.saveStats();
@@ -945,14 +954,14 @@ public class ApartmentCommandService {
             case "info":
                 player.sendMessage(ChatColor.GOLD + "=== Rent Info: " + apt.displayName + " ===");
                 player.sendMessage(ChatColor.YELLOW + "Pending Income: " + ChatColor.WHITE
-                        + configManager.formatMoney(apt.pendingIncome));
+                        + configManager.formatMoney(apt.getPendingIncome()));
                 player.sendMessage(ChatColor.YELLOW + "Hourly Income Range: " + ChatColor.WHITE +
                         configManager.formatMoney(apt.getMinIncome(configManager, apt.level)) + " - " +
                         configManager.formatMoney(apt.getMaxIncome(configManager, apt.level)));
                 player.sendMessage(ChatColor.YELLOW + "Level: " + ChatColor.WHITE + apt.level + "/5");
 
                 // Income countdown
-                long nextIncomeMillis = plugin.getLastIncomeGenerationTime() + 50000L;
+                long nextIncomeMillis = apartmentManager.getNextIncomeAt(apt, System.currentTimeMillis());
                 long incomeTimeRemaining = nextIncomeMillis - System.currentTimeMillis();
                 player.sendMessage(ChatColor.YELLOW + "Next Income In: " + ChatColor.WHITE +
                         (incomeTimeRemaining > 0 ? formatTime(incomeTimeRemaining) : "Now"));
@@ -1045,13 +1054,13 @@ public class ApartmentCommandService {
             return true;
         }
 
-        if (!economy.has(player, totalUnpaid)) {
+        if (!plugin.getEconomyGateway().has(player, totalUnpaid)) {
             player.sendMessage(ChatColor.RED + "Insufficient funds! Need: " + configManager.formatMoney(totalUnpaid));
             return true;
         }
 
         // Withdraw once and mark all invoices as paid (oldest first)
-        economy.withdrawPlayer(player, totalUnpaid);
+        plugin.getEconomyGateway().withdraw(player, totalUnpaid);
         long now = System.currentTimeMillis();
         for (Apartment apt : owned) {
             List<TaxInvoice> unpaid = new ArrayList<>();
@@ -1068,34 +1077,30 @@ public class ApartmentCommandService {
                     return Long.compare(a.createdAt, b.createdAt);
                 }
             });
+            double paid = 0;
             for (TaxInvoice inv : unpaid) {
                 inv.paidAt = now;
                 apt.lastTaxPayment = now;
                 // Update stats
                 ApartmentStats stats = apartmentManager.getStats(apt.id);
                 stats.totalTaxPaid += inv.amount;
+                paid += inv.amount;
+            }
+            if (paid > 0) {
+                plugin.getLedger().record(TransactionType.TAX_PAYMENT, player.getUniqueId(), player.getName(),
+                        apt.id, paid, unpaid.size() + " invoice(s) paid");
             }
             // Clear legacy inactive flags if any
             apt.inactive = false;
             apt.inactiveSince = 0L;
+            apartmentManager.refreshIndexes(apt);
         }
 
         apartmentManager.saveApartments();
         apartmentManager.saveStats();
 
         // Track tax achievement
-        if (plugin.getAchievementManager() != null) {
-            double totalTax = 0;
-            for (Apartment a : apartmentManager.getApartments().values()) {
-                if (player.getUniqueId().equals(a.owner)) {
-                    ApartmentStats s = apartmentManager.getStats(a.id);
-                    if (s != null)
-                        totalTax += s.totalTaxPaid;
-                }
-            }
-            plugin.getAchievementManager().setProgress(player.getUniqueId(),
-                    com.aithor.apartmentcore.achievement.AchievementType.TAX_CONTRIBUTOR, totalTax);
-        }
+        apartmentManager.trackTaxAchievement(player.getUniqueId(), totalUnpaid);
 
         player.sendMessage(
                 ChatColor.GREEN + "All tax arrears have been paid: " + configManager.formatMoney(totalUnpaid));
@@ -1148,8 +1153,7 @@ public class ApartmentCommandService {
             return true;
         }
 
-        int configMaxLevel = configManager.getLevelConfigs().keySet().stream()
-                .mapToInt(Integer::intValue).max().orElse(5);
+        int configMaxLevel = configManager.getMaxConfiguredLevel();
         // Edition gate: cap max level (Free = 5)
         int maxLevel = Math.min(configMaxLevel, plugin.getEditionManager().getMaxLevel());
         if (apt.level >= maxLevel) {
@@ -1203,14 +1207,14 @@ public class ApartmentCommandService {
         if (upgradeDuration <= 0) {
             // Instant upgrade
             apt.level++;
+            apartmentManager.refreshIndexes(apt);
             apartmentManager.saveApartments();
 
             // Track max level achievement
             if (plugin.getAchievementManager() != null) {
-                if (apt.level >= maxLevel) {
-                    plugin.getAchievementManager().setProgress(player.getUniqueId(),
-                            com.aithor.apartmentcore.achievement.AchievementType.MAX_LEVEL_OWNER, 1);
-                }
+                plugin.getAchievementManager().post(
+                        new com.aithor.apartmentcore.achievement.AchievementEvent.LevelReached(
+                                player.getUniqueId(), apt.level, maxLevel));
             }
 
             player.sendMessage(ChatColor.GREEN + "Successfully upgraded " + apt.displayName + " to level " + apt.level);
@@ -1231,6 +1235,7 @@ public class ApartmentCommandService {
             // Time-based upgrade
             apt.upgradeInProgress = true;
             apt.upgradeCompleteAt = System.currentTimeMillis() + (upgradeDuration * 50L); // 1 tick = 50ms
+            apartmentManager.refreshIndexes(apt);
             apartmentManager.saveApartments();
 
             player.sendMessage(ChatColor.GREEN + "Upgrade process for " + apt.displayName + " has started!");
@@ -1345,6 +1350,14 @@ public class ApartmentCommandService {
                 + ChatColor.WHITE + " - Manage backups");
         sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin auction <list|cancel|forceend> [id|filter]"
                 + ChatColor.WHITE + " - Manage auctions");
+        sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin placeholders" + ChatColor.WHITE
+                + " - Show placeholder cache statistics");
+        sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin ledger [gui] <player|apartment> <name|id> [page]"
+                + ChatColor.WHITE + " - Show transaction history");
+        sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin economy" + ChatColor.WHITE
+                + " - Show economy call latency");
+        sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin prices [level]" + ChatColor.WHITE
+                + " - Show auction and market price history");
         sender.sendMessage(ChatColor.YELLOW + "/apartmentcore admin reload" + ChatColor.WHITE + " - Reload config");
     }
 
@@ -1452,10 +1465,12 @@ public class ApartmentCommandService {
                         }
                     }
 
-                    com.aithor.apartmentcore.research.PlayerResearchData rData = plugin.getResearchManager()
-                            .getPlayerData(targetUuid);
-                    rData.setCompletedTier(rType, tier);
-                    plugin.getResearchManager().savePlayerData();
+                    com.aithor.apartmentcore.research.ResearchType researchType = rType;
+                    plugin.getProfileStore().update(targetUuid, profile -> {
+                        profile.getResearch().setCompletedTier(researchType, tier);
+                        return true;
+                    });
+                    plugin.getResearchManager().savePlayerData(targetUuid);
 
                     sender.sendMessage(ChatColor.GREEN + "Successfully set research " + rType.getDisplayName()
                             + " to tier " + tier + " for " + factoryId);
@@ -1531,6 +1546,7 @@ public class ApartmentCommandService {
                             apt.taxInvoices = new ArrayList<>();
                         TaxInvoice inv = new TaxInvoice(amount, now, due);
                         apt.taxInvoices.add(inv);
+                        apartmentManager.refreshIndexes(apt);
                         apartmentManager.saveApartments();
                         sender.sendMessage(ChatColor.GREEN + "Added invoice " + inv.id + " ("
                                 + configManager.formatMoney(amount) + ") to " + apt.displayName);
@@ -1560,6 +1576,7 @@ public class ApartmentCommandService {
                     }
                     boolean removed = apt.taxInvoices.removeIf(inv -> invoiceId.equals(inv.id));
                     if (removed) {
+                        apartmentManager.refreshIndexes(apt);
                         apartmentManager.saveApartments();
                         sender.sendMessage(
                                 ChatColor.GREEN + "Removed invoice " + invoiceId + " from " + apt.displayName);
@@ -1607,11 +1624,15 @@ public class ApartmentCommandService {
                 configManager.loadConfiguration();
                 plugin.getMessageManager().reloadMessages();
                 plugin.getMainMenuConfig().load();
+                if (plugin.getPlaceholder() != null) {
+                    plugin.getPlaceholder().refresh();
+                }
                 
                 // Reload apartment data specifically to pick up changes to apartments.yml
                 plugin.getDataManager().loadDataFile();
                 apartmentManager.getApartments().clear();
                 apartmentManager.loadApartments();
+                apartmentManager.syncIncomeAccrual();
                 
                 boolean nowEnabled = configManager.isAuctionEnabled();
 
@@ -1657,6 +1678,46 @@ public class ApartmentCommandService {
                 return true;
             }
 
+            case "placeholders": {
+                if (plugin.getPlaceholder() == null) {
+                    sender.sendMessage(ChatColor.RED + "PlaceholderAPI integration is not active.");
+                    return true;
+                }
+                List<CompiledPlaceholder> stats = plugin.getPlaceholder().getEngine().getStatistics();
+                if (stats.isEmpty()) {
+                    sender.sendMessage(ChatColor.YELLOW + "No placeholders have been requested yet.");
+                    return true;
+                }
+                sender.sendMessage(ChatColor.GOLD + "=== Placeholder Cache (" + stats.size() + " compiled) ===");
+                for (CompiledPlaceholder p : stats.subList(0, Math.min(15, stats.size()))) {
+                    long total = p.getHits() + p.getMisses();
+                    double hitRate = total > 0 ? p.getHits() * 100.0 / total : 0;
+                    sender.sendMessage(ChatColor.YELLOW + p.getParams() + ChatColor.WHITE + " - Hits: " + p.getHits()
+                            + ", Misses: " + p.getMisses() + String.format(" (%.1f%%)", hitRate));
+                }
+                return true;
+            }
+
+            case "ledger":
+                return handleLedgerCommand(sender, args);
+
+            case "economy": {
+                sender.sendMessage(ChatColor.GOLD + "=== Economy Calls (" + plugin.getEconomy().getName() + ") ===");
+                for (EconomyGateway.CallStats s : plugin.getEconomyGateway().getStatistics()) {
+                    sender.sendMessage(ChatColor.YELLOW + s.operation.name() + ChatColor.WHITE + " - Calls: "
+                            + s.getCalls() + String.format(", Avg: %.2f ms, Max: %.2f ms", s.getAverageMillis(),
+                                    s.getMaxMillis())
+                            + ", Slow: " + (s.getSlowCalls() > 0 ? ChatColor.RED : ChatColor.WHITE) + s.getSlowCalls());
+                }
+                int pending = plugin.getTransactionCoordinator().getPendingCount();
+                sender.sendMessage(ChatColor.YELLOW + "Pending transactions: "
+                        + (pending > 0 ? ChatColor.RED : ChatColor.WHITE) + pending);
+                return true;
+            }
+
+            case "prices":
+                return handlePricesCommand(sender, args);
+
             case "auction": {
                 AuctionManager am = plugin.getAuctionManager();
                 if (am == null) {
@@ -1729,6 +1790,172 @@ public class ApartmentCommandService {
     // ======================
     // Internal admin helpers
     // ======================
+    private static final int LEDGER_PAGE_SIZE = 10;
+
+    /**
+     * /apartmentcore admin prices [level]
+     */
+    private boolean handlePricesCommand(CommandSender sender, String[] args) {
+        PriceHistoryManager history = plugin.getPriceHistoryManager();
+        List<String> groups;
+        if (args.length > 1) {
+            int level;
+            try {
+                level = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "Invalid level: " + args[1]);
+                return true;
+            }
+            groups = new ArrayList<>();
+            groups.add(PriceHistoryManager.levelGroup(level));
+            groups.addAll(history.getGroups(PriceHistoryManager.levelGroup(level) + ":"));
+            sender.sendMessage(ChatColor.GOLD + "=== Price History (level " + level + ") ===");
+        } else {
+            groups = new ArrayList<>();
+            groups.add(PriceHistoryManager.ALL);
+            for (String group : history.getGroups("level:")) {
+                if (group.indexOf(':') == group.lastIndexOf(':')) {
+                    groups.add(group);
+                }
+            }
+            sender.sendMessage(ChatColor.GOLD + "=== Price History ===");
+        }
+
+        boolean any = false;
+        for (String group : groups) {
+            PriceStats stats = history.getStats(group);
+            if (stats == null || stats.getCount() == 0) {
+                continue;
+            }
+            any = true;
+            sender.sendMessage(ChatColor.YELLOW + group + ChatColor.WHITE + " - Sales: " + stats.getCount()
+                    + ", Mean: " + configManager.formatMoney(stats.getMean())
+                    + ", Median: " + configManager.formatMoney(stats.getMedian())
+                    + " (" + configManager.formatMoney(stats.getP25()) + " - "
+                    + configManager.formatMoney(stats.getP75()) + ")"
+                    + ", Last: " + configManager.formatMoney(stats.getLast()));
+        }
+        if (!any) {
+            sender.sendMessage(ChatColor.YELLOW + "No sales recorded yet.");
+            return true;
+        }
+
+        if (args.length > 1) {
+            PriceStats stats = history.getStats(groups.get(0));
+            if (stats != null) {
+                SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+                sender.sendMessage(ChatColor.GOLD + "Recent sales:");
+                List<double[]> recent = stats.getRecent();
+                for (double[] sale : recent.subList(0, Math.min(10, recent.size()))) {
+                    sender.sendMessage(ChatColor.GRAY + sdf.format(new Date((long) sale[1])) + " "
+                            + ChatColor.WHITE + configManager.formatMoney(sale[0]) + ChatColor.GRAY + " ("
+                            + PriceStats.Source.values()[(int) sale[2]].name().toLowerCase() + ")");
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * /apartmentcore admin ledger [gui] <player|apartment> <name|id> [page]
+     */
+    private boolean handleLedgerCommand(CommandSender sender, String[] args) {
+        if (!configManager.isLedgerEnabled()) {
+            sender.sendMessage(ChatColor.RED + "The transaction ledger is disabled.");
+            return true;
+        }
+        boolean gui = args.length > 1 && args[1].equalsIgnoreCase("gui");
+        int base = gui ? 2 : 1;
+        if (args.length < base + 2) {
+            sender.sendMessage(ChatColor.YELLOW
+                    + "Usage: /apartmentcore admin ledger [gui] <player|apartment> <name|id> [page]");
+            return true;
+        }
+
+        String scope = args[base].toLowerCase();
+        String target = args[base + 1];
+        UUID targetPlayer = null;
+        String label;
+        if (scope.equals("player")) {
+            @SuppressWarnings("deprecation")
+            OfflinePlayer op = Bukkit.getOfflinePlayer(target);
+            targetPlayer = op.getUniqueId();
+            label = op.getName() != null ? op.getName() : target;
+        } else if (scope.equals("apartment")) {
+            // Removed apartments keep their history, so the ID is not checked
+            Apartment apt = apartmentManager.getApartment(target);
+            label = apt != null ? apt.displayName : target;
+        } else {
+            sender.sendMessage(ChatColor.RED + "Scope must be 'player' or 'apartment'.");
+            return true;
+        }
+        plugin.logAdminAction("Admin " + sender.getName() + " viewed the ledger of " + scope + " " + label);
+
+        if (gui) {
+            if (!(sender instanceof Player)) {
+                sender.sendMessage(ChatColor.RED + "Only players can use this command!");
+                return true;
+            }
+            if (plugin.getGUIManager() == null) {
+                sender.sendMessage(ChatColor.RED + "GUI system is disabled.");
+                return true;
+            }
+            plugin.getGUIManager().openLedger((Player) sender, targetPlayer, target, label);
+            return true;
+        }
+
+        int page = 1;
+        if (args.length > base + 2) {
+            try {
+                page = Math.max(1, Integer.parseInt(args[base + 2]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "Invalid page number!");
+                return true;
+            }
+        }
+        int offset = (page - 1) * LEDGER_PAGE_SIZE;
+        int shownPage = page;
+        boolean byPlayer = targetPlayer != null;
+
+        java.util.concurrent.CompletableFuture<LedgerPage> query = byPlayer
+                ? plugin.getLedger().queryPlayer(targetPlayer, offset, LEDGER_PAGE_SIZE)
+                : plugin.getLedger().queryApartment(target, offset, LEDGER_PAGE_SIZE);
+        query.whenComplete((result, error) -> plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (error != null) {
+                sender.sendMessage(ChatColor.RED + "Failed to read the ledger: " + error.getMessage());
+                return;
+            }
+            if (result.total == 0) {
+                sender.sendMessage(ChatColor.YELLOW + "No transactions recorded for " + label + ".");
+                return;
+            }
+            int pages = (result.total + LEDGER_PAGE_SIZE - 1) / LEDGER_PAGE_SIZE;
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+            sender.sendMessage(ChatColor.GOLD + "=== Ledger: " + label + " (page " + shownPage + "/" + pages
+                    + ", " + result.total + " records) ===");
+            for (LedgerRecord record : result.records) {
+                StringBuilder line = new StringBuilder()
+                        .append(ChatColor.GRAY).append(format.format(new Date(record.time))).append(' ')
+                        .append(ChatColor.YELLOW).append(record.type.getDisplayName()).append(' ')
+                        .append(ChatColor.WHITE).append(configManager.formatMoney(record.amount));
+                if (record.playerName != null) {
+                    line.append(ChatColor.GRAY).append(" by ").append(ChatColor.WHITE).append(record.playerName);
+                }
+                if (record.counterpartyName != null) {
+                    line.append(ChatColor.GRAY).append(" with ").append(ChatColor.WHITE).append(record.counterpartyName);
+                }
+                if (record.apartmentId != null && byPlayer) {
+                    line.append(ChatColor.GRAY).append(" [").append(record.apartmentId).append(']');
+                }
+                if (!record.details.isEmpty()) {
+                    line.append(ChatColor.DARK_GRAY).append(" - ").append(record.details);
+                }
+                sender.sendMessage(line.toString());
+            }
+        }));
+        return true;
+    }
+
     private boolean createApartment(CommandSender sender, String regionName, String id, double price, int floor, int height) {
         if (apartmentManager.getApartment(id) != null) {
             sender.sendMessage(ChatColor.RED + "Apartment with this ID already exists!");
@@ -1762,10 +1989,12 @@ public class ApartmentCommandService {
         Apartment apt = new Apartment(id, regionName, worldName, null, price, 0.0, 0, 1,
                 System.currentTimeMillis(), 0, false, 0, 0, id, "", floor, height);
         // Populate default custom incomes from config so admins can edit them in apartments.yml
-        if (configManager != null && configManager.getLevelConfigs() != null) {
-            for (java.util.Map.Entry<Integer, com.aithor.apartmentcore.model.LevelConfig> entry : configManager.getLevelConfigs().entrySet()) {
-                apt.customMinIncomes.put(entry.getKey(), entry.getValue().minIncome);
-                apt.customMaxIncomes.put(entry.getKey(), entry.getValue().maxIncome);
+        if (configManager != null) {
+            for (int lvl = 0; lvl <= configManager.getMaxConfiguredLevel(); lvl++) {
+                com.aithor.apartmentcore.model.LevelConfig levelConfig = configManager.getLevelConfig(lvl);
+                if (levelConfig != null) {
+                    apt.setCustomIncome(lvl, levelConfig.minIncome, levelConfig.maxIncome);
+                }
             }
         }
         // Set default teleport location to the admin's current position at creation
@@ -1774,6 +2003,7 @@ public class ApartmentCommandService {
             apt.setCustomTeleportLocation(player.getLocation());
         }
         apartmentManager.getApartments().put(id, apt);
+        apartmentManager.refreshIndexes(apt);
         apartmentManager.saveApartments();
 
         sender.sendMessage(ChatColor.GREEN + "Successfully created apartment " + id);
@@ -1807,6 +2037,7 @@ public class ApartmentCommandService {
         apartmentManager.getApartmentRatings().remove(apartmentId);
         apartmentManager.getGuestBooks().remove(apartmentId);
         apartmentManager.removeStats(apartmentId);
+        apartmentManager.refreshIndexes(apartmentId);
         apartmentManager.saveApartments();
         apartmentManager.saveRatings();
         apartmentManager.saveGuestBooks();
@@ -1828,6 +2059,7 @@ public class ApartmentCommandService {
             switch (property.toLowerCase()) {
                 case "owner":
                     if (value.equalsIgnoreCase("none")) {
+                        apartmentManager.settleIncome(apt);
                         apt.owner = null;
                         sender.sendMessage(ChatColor.GREEN + "Removed owner from apartment " + apt.displayName);
                     } else {
@@ -1852,6 +2084,7 @@ public class ApartmentCommandService {
                             sender.sendMessage(ChatColor.RED + "Player not found or has never played!");
                             return true;
                         }
+                        apartmentManager.settleIncome(apt);
                         apt.owner = targetUuid;
                         sender.sendMessage(ChatColor.GREEN + "Set owner of " + apt.displayName + " to "
                                 + (online != null ? online.getName() : targetUuid.toString()));
@@ -1864,9 +2097,9 @@ public class ApartmentCommandService {
                     break;
                 case "level":
                     int level = Integer.parseInt(value);
-                    if (level < 1 || level > configManager.getLevelConfigs().size()) {
+                    if (level < 1 || level > configManager.getLevelCount()) {
                         sender.sendMessage(ChatColor.RED + "Invalid level. Must be between 1 and "
-                                + configManager.getLevelConfigs().size());
+                                + configManager.getLevelCount());
                         return true;
                     }
                     apt.level = level;
@@ -1880,9 +2113,8 @@ public class ApartmentCommandService {
                     }
                     ApartmentRating aptRating = apartmentManager.getApartmentRatings().computeIfAbsent(apartmentId,
                             k -> new ApartmentRating());
-                    aptRating.totalRating = newRating;
-                    aptRating.ratingCount = 1;
-                    aptRating.raters.clear();
+                    aptRating.reset(newRating);
+                    apartmentManager.refreshIndexes(apt);
                     apartmentManager.saveRatings();
                     sender.sendMessage(ChatColor.GREEN + "Set rating for " + apt.displayName + " to "
                             + String.format("%.1f", newRating));
@@ -1896,6 +2128,7 @@ public class ApartmentCommandService {
             return true;
         }
 
+        apartmentManager.refreshIndexes(apt);
         apartmentManager.saveApartments();
         return true;
     }
@@ -1967,6 +2200,7 @@ public class ApartmentCommandService {
                 apartmentManager.loadRatings();
                 apartmentManager.loadGuestBooks();
                 apartmentManager.loadStats();
+                apartmentManager.syncIncomeAccrual();
                 sender.sendMessage(ChatColor.GREEN + "Backup restored: " + name + ". All data reloaded.");
                 return true;
             }
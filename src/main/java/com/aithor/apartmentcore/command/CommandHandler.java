@@ -1,6 +1,8 @@
 package com.aithor.apartmentcore.command;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.cooldown.CooldownService;
+import com.aithor.apartmentcore.cooldown.CooldownType;
 import com.aithor.apartmentcore.manager.ApartmentManager;
 import com.aithor.apartmentcore.manager.AuctionManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
@@ -58,15 +60,13 @@ public class CommandHandler implements TabCompleter {
         }
 
         UUID uuid = player.getUniqueId();
-        Long lastUse = plugin.getCommandCooldowns().get(uuid);
-        long now = System.currentTimeMillis();
-
-        if (lastUse != null && now - lastUse < configManager.getCommandCooldown()) {
+        CooldownService cooldowns = plugin.getCooldownService();
+        if (cooldowns.isActive(CooldownType.COMMAND, uuid)) {
             player.sendMessage(plugin.getMessageManager().getMessage("general.cooldown"));
             return false;
         }
 
-        plugin.getCommandCooldowns().put(uuid, now);
+        cooldowns.start(CooldownType.COMMAND, uuid, configManager.getCommandCooldown());
         return true;
     }
 
@@ -77,8 +77,8 @@ public class CommandHandler implements TabCompleter {
         }
 
         if (args.length == 0) {
-            sender.sendMessage(plugin.getMessageManager().getMessage("general.version_header").replace("%version%",
-                    plugin.getDescription().getVersion()));
+            sender.sendMessage(plugin.getMessageManager().format("general.version_header",
+                    "version", plugin.getDescription().getVersion()));
             
             // Add Edition and License Status in English
             String editionStr = plugin.getEditionManager().getEdition().name();
@@ -161,8 +161,8 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.buy")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "buy apartments"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "buy apartments"));
                     return true;
                 }
                 if (args.length != 2) {
@@ -177,8 +177,8 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.sell")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "sell apartments"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "sell apartments"));
                     return true;
                 }
                 if (args.length < 3) {
@@ -216,8 +216,8 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.buy")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "buy apartments"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "buy apartments"));
                     return true;
                 }
                 if (args.length != 2) {
@@ -291,8 +291,7 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.teleport")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "teleport"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission", "action", "teleport"));
                     return true;
                 }
                 if (args.length != 2) {
@@ -314,8 +313,8 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.rent")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "manage rent"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "manage rent"));
                     return true;
                 }
                 if (args.length < 3) {
@@ -330,8 +329,8 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.tax")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "manage taxes"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "manage taxes"));
                     return true;
                 }
                 if (args.length < 2) {
@@ -388,8 +387,8 @@ public class CommandHandler implements TabCompleter {
                             return true;
                         }
                         if (!sender.hasPermission("apartmentcore.auction.create")) {
-                            sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                                    .replace("%action%", "create auctions"));
+                            sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                                    "action", "create auctions"));
                             return true;
                         }
                         if (args.length != 5) {
@@ -413,8 +412,8 @@ public class CommandHandler implements TabCompleter {
                             return true;
                         }
                         if (!sender.hasPermission("apartmentcore.auction.bid")) {
-                            sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                                    .replace("%action%", "bid"));
+                            sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                                    "action", "bid"));
                             return true;
                         }
                         if (args.length != 4) {
@@ -436,8 +435,8 @@ public class CommandHandler implements TabCompleter {
                             return true;
                         }
                         if (!sender.hasPermission("apartmentcore.auction.cancel")) {
-                            sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                                    .replace("%action%", "cancel auctions"));
+                            sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                                    "action", "cancel auctions"));
                             return true;
                         }
                         if (args.length != 3) {
@@ -447,8 +446,8 @@ public class CommandHandler implements TabCompleter {
                         return am.cancelAuction((Player) sender, args[2]);
                     case "list": {
                         if (!sender.hasPermission("apartmentcore.auction.list")) {
-                            sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                                    .replace("%action%", "view auctions"));
+                            sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                                    "action", "view auctions"));
                             return true;
                         }
                         String filter = args.length > 2 ? args[2].toLowerCase() : "all";
@@ -480,8 +479,8 @@ public class CommandHandler implements TabCompleter {
 
             case "admin":
                 if (!sender.hasPermission("apartmentcore.admin")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "use admin commands"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission",
+                            "action", "use admin commands"));
                     return true;
                 }
                 if (args.length < 2) {
@@ -496,8 +495,7 @@ public class CommandHandler implements TabCompleter {
                     return true;
                 }
                 if (!sender.hasPermission("apartmentcore.gui")) {
-                    sender.sendMessage(plugin.getMessageManager().getMessage("general.no_permission")
-                            .replace("%action%", "use GUI"));
+                    sender.sendMessage(plugin.getMessageManager().format("general.no_permission", "action", "use GUI"));
                     return true;
                 }
                 plugin.getGUIManager().openMainMenu((Player) sender);
@@ -577,7 +575,7 @@ public class CommandHandler implements TabCompleter {
                 case "admin":
                     if (sender.hasPermission("apartmentcore.admin")) {
                         Arrays.asList("create", "remove", "set", "status", "invoice", "teleport", "apartment_list",
-                                "reload", "backup")
+                                "reload", "backup", "placeholders", "ledger", "economy", "prices")
                                 .stream().filter(cmd -> cmd.startsWith(partial)).forEach(completions::add);
                     }
                     break;
@@ -625,16 +623,29 @@ public class CommandHandler implements TabCompleter {
                 case "auction":
                     if (args.length >= 2) {
                         String act = args[1].toLowerCase();
+                        AuctionManager am = plugin.getAuctionManager();
                         switch (act) {
                             case "create":
-                            case "bid":
-                            case "cancel":
                                 apartmentManager.getApartments().keySet().stream()
                                         .filter(id -> id.toLowerCase().startsWith(partial))
                                         .forEach(completions::add);
                                 break;
+                            case "bid":
+                            case "cancel":
+                                // Running auctions only: all for bids, the sender's own for cancel
+                                if (am != null) {
+                                    UUID seller = "cancel".equals(act) && sender instanceof Player
+                                            && !sender.hasPermission("apartmentcore.admin")
+                                                    ? ((Player) sender).getUniqueId()
+                                                    : null;
+                                    am.getAuctionList(seller != null ? "mine" : "all", seller).stream()
+                                            .map(a -> a.apartmentId)
+                                            .filter(id -> id.toLowerCase().startsWith(partial))
+                                            .forEach(completions::add);
+                                }
+                                break;
                             case "list":
-                                Arrays.asList("all", "mine", "ending", "nobids").stream()
+                                Arrays.asList("all", "mine", "bidding", "ending", "nobids").stream()
                                         .filter(s -> s.startsWith(partial))
                                         .forEach(completions::add);
                                 break;
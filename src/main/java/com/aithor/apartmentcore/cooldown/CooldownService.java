@@ -0,0 +1,128 @@
+package com.aithor.apartmentcore.cooldown;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks per-player cooldowns and other short-lived expiries.
+ *
+ * <p>Each cooldown is stored as its expiry timestamp in a concurrent map per
+ * {@link CooldownType}; scoped types use a nested map per player. Checks are
+ * plain map reads and never allocate or lock. Every started cooldown also
+ * schedules its own removal on a {@link TimingWheel}, so memory stays
+ * proportional to the cooldowns that are still running. The wheel is driven
+ * by {@link #tick()}, which the task manager calls once per second.
+ */
+public class CooldownService {
+
+    private static final long WHEEL_TICK_MS = 1000L;
+
+    private final Map<CooldownType, ConcurrentHashMap<UUID, Long>> unscoped = new EnumMap<>(CooldownType.class);
+    private final Map<CooldownType, ConcurrentHashMap<UUID, ConcurrentHashMap<String, Long>>> scoped =
+            new EnumMap<>(CooldownType.class);
+    private final TimingWheel wheel = new TimingWheel(WHEEL_TICK_MS, System.currentTimeMillis());
+
+    public CooldownService() {
+        for (CooldownType type : CooldownType.values()) {
+            if (type.isScoped()) {
+                scoped.put(type, new ConcurrentHashMap<>());
+            } else {
+                unscoped.put(type, new ConcurrentHashMap<>());
+            }
+        }
+    }
+
+    /**
+     * @return milliseconds until the cooldown ends, or 0 if it is not active
+     */
+    public long getRemaining(CooldownType type, UUID playerId) {
+        Long expiresAt = unscoped.get(type).get(playerId);
+        return expiresAt == null ? 0L : Math.max(0L, expiresAt - System.currentTimeMillis());
+    }
+
+    /**
+     * @return milliseconds until the scoped cooldown ends, or 0 if it is not active
+     */
+    public long getRemaining(CooldownType type, UUID playerId, String scope) {
+        ConcurrentHashMap<String, Long> perPlayer = scoped.get(type).get(playerId);
+        if (perPlayer == null) {
+            return 0L;
+        }
+        Long expiresAt = perPlayer.get(scope);
+        return expiresAt == null ? 0L : Math.max(0L, expiresAt - System.currentTimeMillis());
+    }
+
+    public boolean isActive(CooldownType type, UUID playerId) {
+        return getRemaining(type, playerId) > 0;
+    }
+
+    public boolean isActive(CooldownType type, UUID playerId, String scope) {
+        return getRemaining(type, playerId, scope) > 0;
+    }
+
+    /**
+     * Start (or restart) a cooldown lasting the given number of milliseconds
+     */
+    public void start(CooldownType type, UUID playerId, long durationMs) {
+        if (durationMs <= 0) {
+            return;
+        }
+        ConcurrentHashMap<UUID, Long> map = unscoped.get(type);
+        Long expiresAt = System.currentTimeMillis() + durationMs;
+        map.put(playerId, expiresAt);
+        // Only removes the entry if it was not restarted in the meantime
+        wheel.schedule(expiresAt, () -> map.remove(playerId, expiresAt));
+    }
+
+    /**
+     * Start (or restart) a scoped cooldown lasting the given number of milliseconds
+     */
+    public void start(CooldownType type, UUID playerId, String scope, long durationMs) {
+        if (durationMs <= 0) {
+            return;
+        }
+        ConcurrentHashMap<UUID, ConcurrentHashMap<String, Long>> map = scoped.get(type);
+        Long expiresAt = System.currentTimeMillis() + durationMs;
+        // compute() keeps the put atomic with the empty-map cleanup below
+        map.compute(playerId, (id, perPlayer) -> {
+            if (perPlayer == null) {
+                perPlayer = new ConcurrentHashMap<>();
+            }
+            perPlayer.put(scope, expiresAt);
+            return perPlayer;
+        });
+        wheel.schedule(expiresAt, () -> map.computeIfPresent(playerId, (id, perPlayer) -> {
+            perPlayer.remove(scope, expiresAt);
+            return perPlayer.isEmpty() ? null : perPlayer;
+        }));
+    }
+
+    /**
+     * Run an action once the given delay has elapsed (with one-second
+     * resolution), on the thread that drives {@link #tick()}
+     */
+    public void schedule(long delayMs, Runnable action) {
+        wheel.schedule(System.currentTimeMillis() + delayMs, action);
+    }
+
+    /**
+     * Advance the expiry wheel to the current time
+     */
+    public void tick() {
+        wheel.advance(System.currentTimeMillis());
+    }
+
+    /**
+     * @return number of cooldowns and scheduled actions that have not expired yet
+     */
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    public void clear() {
+        unscoped.values().forEach(Map::clear);
+        scoped.values().forEach(Map::clear);
+    }
+}
@@ -0,0 +1,23 @@
+package com.aithor.apartmentcore.cooldown;
+
+/**
+ * Kinds of per-player cooldowns tracked by {@link CooldownService}.
+ * Scoped cooldowns are additionally keyed by a string such as an apartment ID.
+ */
+public enum CooldownType {
+
+    COMMAND(false),
+    GUESTBOOK_LEAVE(false),
+    AUCTION_CREATE(false),
+    APARTMENT_RATING(true);
+
+    private final boolean scoped;
+
+    CooldownType(boolean scoped) {
+        this.scoped = scoped;
+    }
+
+    public boolean isScoped() {
+        return scoped;
+    }
+}
@@ -0,0 +1,135 @@
+package com.aithor.apartmentcore.cooldown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel with three levels of 64 slots.
+ *
+ * <p>Level 0 has one slot per tick, level 1 one slot per 64 ticks and level 2
+ * one slot per 4096 ticks, so with one-second ticks deadlines up to about
+ * three days away are scheduled in O(1). Timers further out are parked in the
+ * last level-2 slot and re-filed when it cascades. Whenever a lower level wraps
+ * around, the matching slot of the level above is emptied and its timers are
+ * re-filed closer to the current tick.
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private static final class Timer {
+        final long deadline;
+        final Runnable action;
+
+        Timer(long deadline, Runnable action) {
+            this.deadline = deadline;
+            this.action = action;
+        }
+    }
+
+    private final long tickMillis;
+    @SuppressWarnings("unchecked")
+    private final List<Timer>[][] wheels = new List[LEVELS][SLOTS];
+    private long currentTick;
+    private int pending;
+
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Run the action once the wheel has advanced past the given time
+     */
+    public synchronized void schedule(long deadlineMillis, Runnable action) {
+        // Round up so an action never fires before its deadline
+        long deadline = (deadlineMillis + tickMillis - 1) / tickMillis;
+        file(new Timer(deadline, action), null);
+        pending++;
+    }
+
+    /**
+     * Advance to the given time and run every action whose deadline has passed.
+     * Actions run on the calling thread after the wheel lock is released.
+     */
+    public void advance(long nowMillis) {
+        List<Runnable> due = new ArrayList<>();
+        synchronized (this) {
+            long target = nowMillis / tickMillis;
+            while (currentTick < target) {
+                currentTick++;
+                int slot0 = (int) (currentTick & MASK);
+                if (slot0 == 0) {
+                    int slot1 = (int) ((currentTick >>> SLOT_BITS) & MASK);
+                    if (slot1 == 0) {
+                        cascade(2, (int) ((currentTick >>> (2 * SLOT_BITS)) & MASK), due);
+                    }
+                    cascade(1, slot1, due);
+                }
+                List<Timer> timers = wheels[0][slot0];
+                if (timers != null) {
+                    wheels[0][slot0] = null;
+                    for (Timer timer : timers) {
+                        due.add(timer.action);
+                    }
+                }
+            }
+            pending -= due.size();
+        }
+        for (Runnable action : due) {
+            action.run();
+        }
+    }
+
+    public synchronized int size() {
+        return pending;
+    }
+
+    private void cascade(int level, int slot, List<Runnable> due) {
+        List<Timer> timers = wheels[level][slot];
+        if (timers == null) {
+            return;
+        }
+        wheels[level][slot] = null;
+        for (Timer timer : timers) {
+            file(timer, due);
+        }
+    }
+
+    private void file(Timer timer, List<Runnable> due) {
+        long delta = timer.deadline - currentTick;
+        int level;
+        int slot;
+        if (delta <= 0) {
+            if (due != null) {
+                due.add(timer.action);
+                return;
+            }
+            // Scheduled in the past: fire on the next tick
+            level = 0;
+            slot = (int) ((currentTick + 1) & MASK);
+        } else if (delta < SLOTS) {
+            level = 0;
+            slot = (int) (timer.deadline & MASK);
+        } else if (delta < (long) SLOTS * SLOTS) {
+            level = 1;
+            slot = (int) ((timer.deadline >>> SLOT_BITS) & MASK);
+        } else if (delta < (long) SLOTS * SLOTS * SLOTS) {
+            level = 2;
+            slot = (int) ((timer.deadline >>> (2 * SLOT_BITS)) & MASK);
+        } else {
+            // Beyond the wheel's horizon: park in the level-2 slot that cascades last
+            level = 2;
+            slot = (int) (((currentTick >>> (2 * SLOT_BITS)) - 1) & MASK);
+        }
+        List<Timer> timers = wheels[level][slot];
+        if (timers == null) {
+            timers = new ArrayList<>(4);
+            wheels[level][slot] = timers;
+        }
+        timers.add(timer);
+    }
+}
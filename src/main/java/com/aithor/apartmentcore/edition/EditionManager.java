@@ -67,9 +67,9 @@ public class EditionManager {
      */
     public int getMaxLevel() {
         if (isPro()) {
-            return plugin.getConfigManager().getLevelConfigs().size();
+            return plugin.getConfigManager().getLevelCount();
         }
-        return Math.min(FREE_MAX_LEVEL, plugin.getConfigManager().getLevelConfigs().size());
+        return Math.min(FREE_MAX_LEVEL, plugin.getConfigManager().getLevelCount());
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.aithor.apartmentcore.gui;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -11,12 +13,15 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.Material;
 
 import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
+import com.aithor.apartmentcore.gui.items.ItemTemplateCache;
+import com.aithor.apartmentcore.gui.model.ViewModelCache;
 import com.aithor.apartmentcore.gui.menus.AchievementGUI;
 import com.aithor.apartmentcore.gui.menus.ApartmentBrowserGUI;
 import com.aithor.apartmentcore.gui.menus.ApartmentDetailsGUI;
@@ -24,12 +29,18 @@ import com.aithor.apartmentcore.gui.menus.ApartmentShopGUI;
 import com.aithor.apartmentcore.gui.menus.ApartmentStatisticsGUI;
 import com.aithor.apartmentcore.gui.menus.AuctionHouseGUI;
 import com.aithor.apartmentcore.gui.menus.GuestbookGUI;
+import com.aithor.apartmentcore.gui.menus.LedgerGUI;
 import com.aithor.apartmentcore.gui.menus.MainMenuGUI;
 import com.aithor.apartmentcore.gui.menus.MyApartmentsGUI;
 import com.aithor.apartmentcore.gui.menus.ResearchGUI;
 import com.aithor.apartmentcore.gui.menus.StatisticsGUI;
 import com.aithor.apartmentcore.gui.menus.TaxManagementGUI;
 import com.aithor.apartmentcore.gui.menus.UpgradeConfirmGUI;
+import com.aithor.apartmentcore.gui.session.ChatInputType;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
+import com.aithor.apartmentcore.gui.session.GUISession;
+import com.aithor.apartmentcore.gui.session.GUISessionRegistry;
+import com.aithor.apartmentcore.gui.session.PendingInput;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 
 /**
@@ -38,20 +49,15 @@ import com.aithor.apartmentcore.gui.utils.GUIUtils;
 public class GUIManager implements Listener {
 
     private final ApartmentCore plugin;
-    private final Map<UUID, GUI> openGUIs;
-    private final Map<Inventory, GUI> inventoryToGUI;
-    private final Map<UUID, String> pendingMarketPriceInputs;
-    private final Map<UUID, String> pendingIconInputs;
-    private final Map<UUID, String> pendingNameInputs;
+    // Open menus and pending chat inputs; read from chat threads
+    private final GUISessionRegistry sessions;
+    private final ViewModelCache viewModels;
     private int refreshTaskId = -1;
 
     public GUIManager(ApartmentCore plugin) {
         this.plugin = plugin;
-        this.openGUIs = new HashMap<>();
-        this.inventoryToGUI = new HashMap<>();
-        this.pendingMarketPriceInputs = new HashMap<>();
-        this.pendingIconInputs = new HashMap<>();
-        this.pendingNameInputs = new HashMap<>();
+        this.sessions = new GUISessionRegistry();
+        this.viewModels = new ViewModelCache();
 
         // Register event listener
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
@@ -70,7 +76,7 @@ public class GUIManager implements Listener {
                 refreshTaskId = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, () -> {
                     if (!plugin.getConfigManager().isGuiEnabled())
                         return;
-                    for (GUI gui : openGUIs.values()) {
+                    for (GUI gui : getOpenGUIs()) {
                         try {
                             gui.refresh();
                         } catch (Throwable ignored) {
@@ -101,6 +107,9 @@ public class GUIManager implements Listener {
      * - Forces an immediate refresh of all open GUIs so new config is reflected
      */
     public void onConfigReloaded() {
+        // Static item templates may depend on menu configuration
+        ItemTemplateCache.invalidate();
+        viewModels.invalidate();
         try {
             if (!plugin.getConfigManager().isGuiEnabled()) {
                 // If GUI was turned off via config, close open GUIs and cancel the task
@@ -117,7 +126,7 @@ public class GUIManager implements Listener {
             scheduleRefreshTask();
 
             // Refresh open GUIs immediately so they reflect updated config values
-            for (GUI gui : openGUIs.values()) {
+            for (GUI gui : getOpenGUIs()) {
                 try {
                     gui.refresh();
                 } catch (Throwable ignored) {
@@ -215,6 +224,19 @@ public class GUIManager implements Listener {
         openGUI(player, gui);
     }
 
+    /**
+     * Open the transaction history of a player or an apartment (admin)
+     * 
+     * @param player          The viewing player
+     * @param targetPlayer    Player whose history is shown, or null
+     * @param targetApartment Apartment whose history is shown when targetPlayer is null
+     * @param label           Name shown in the title
+     */
+    public void openLedger(Player player, UUID targetPlayer, String targetApartment, String label) {
+        LedgerGUI gui = new LedgerGUI(player, plugin, this, targetPlayer, targetApartment, label);
+        openGUI(player, gui);
+    }
+
     /**
      * Open per-apartment statistics GUI
      * 
@@ -278,9 +300,8 @@ public class GUIManager implements Listener {
         // Close any existing GUI synchronously (will remove mappings)
         closeGUI(player);
 
-        // Register mapping immediately so event handlers can resolve this inventory
-        openGUIs.put(player.getUniqueId(), gui);
-        inventoryToGUI.put(gui.getInventory(), gui);
+        // Register immediately so refreshes and close events see this GUI
+        GUISession session = sessions.update(player.getUniqueId(), s -> s.swapGUI(gui));
 
         // Defer the actual opening (inventory display) to the next tick to avoid
         // concurrent inventory modifications
@@ -303,9 +324,9 @@ public class GUIManager implements Listener {
                 t.printStackTrace();
                 GUIUtils.sendMessage(player,
                         "&cAn error occurred while opening the GUI. Check server console for details.");
-                // Clean up mappings on failure
-                openGUIs.remove(player.getUniqueId());
-                inventoryToGUI.remove(gui.getInventory());
+                // Clean up session on failure
+                session.clearGUI(gui);
+                sessions.removeIfIdle(player.getUniqueId());
             }
         });
     }
@@ -316,9 +337,10 @@ public class GUIManager implements Listener {
      * @param player The player
      */
     public void closeGUI(Player player) {
-        GUI gui = openGUIs.remove(player.getUniqueId());
+        GUISession session = sessions.get(player.getUniqueId());
+        GUI gui = session != null ? session.swapGUI(null) : null;
         if (gui != null) {
-            inventoryToGUI.remove(gui.getInventory());
+            sessions.removeIfIdle(player.getUniqueId());
             gui.onClose(player);
             plugin.debug("Closed GUI '" + gui.getTitle() + "' for player " + player.getName());
         }
@@ -331,17 +353,29 @@ public class GUIManager implements Listener {
      * @return The GUI or null if none open
      */
     public GUI getOpenGUI(Player player) {
-        return openGUIs.get(player.getUniqueId());
+        GUISession session = sessions.get(player.getUniqueId());
+        return session != null ? session.getGUI() : null;
+    }
+
+    private List<GUI> getOpenGUIs() {
+        List<GUI> guis = new ArrayList<>();
+        for (GUISession session : sessions.getSessions()) {
+            GUI gui = session.getGUI();
+            if (gui != null) {
+                guis.add(gui);
+            }
+        }
+        return guis;
     }
 
     /**
-     * Get GUI by inventory
+     * Get GUI by inventory (resolved through the inventory's holder)
      * 
      * @param inventory The inventory
      * @return The GUI or null if not found
      */
     public GUI getGUIByInventory(Inventory inventory) {
-        return inventoryToGUI.get(inventory);
+        return GUIHolder.resolve(inventory);
     }
 
     /**
@@ -351,7 +385,7 @@ public class GUIManager implements Listener {
      * @return True if a GUI is open
      */
     public boolean hasGUIOpen(Player player) {
-        return openGUIs.containsKey(player.getUniqueId());
+        return getOpenGUI(player) != null;
     }
 
     /**
@@ -406,13 +440,17 @@ public class GUIManager implements Listener {
         Inventory topInventory = event.getView() != null ? event.getView().getTopInventory() : null;
         GUI gui = topInventory != null ? getGUIByInventory(topInventory) : null;
 
-        if (gui != null) {
-            // Schedule cleanup for next tick to avoid concurrent modification
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                if (getOpenGUI(player) == gui) {
-                    closeGUI(player);
-                }
-            });
+        if (gui == null) {
+            return;
+        }
+
+        // Only clean up if this is still the player's current GUI; when another
+        // GUI replaces it, openGUI has already swapped the session
+        GUISession session = sessions.get(player.getUniqueId());
+        if (session != null && session.clearGUI(gui)) {
+            sessions.removeIfIdle(player.getUniqueId());
+            gui.onClose(player);
+            plugin.debug("Closed GUI '" + gui.getTitle() + "' for player " + player.getName());
         }
     }
 
@@ -435,14 +473,23 @@ public class GUIManager implements Listener {
      * Close all open GUIs (used on plugin disable)
      */
     public void closeAllGUIs() {
-        for (UUID playerId : openGUIs.keySet()) {
-            Player player = plugin.getServer().getPlayer(playerId);
+        for (GUISession session : sessions.getSessions()) {
+            if (session.getGUI() == null) {
+                continue;
+            }
+            Player player = plugin.getServer().getPlayer(session.getPlayerId());
             if (player != null && player.isOnline()) {
                 player.closeInventory();
             }
         }
-        openGUIs.clear();
-        inventoryToGUI.clear();
+        sessions.clear();
+    }
+
+    /**
+     * View models shared between viewers of the same menu
+     */
+    public ViewModelCache getViewModels() {
+        return viewModels;
     }
 
     /**
@@ -453,7 +500,7 @@ public class GUIManager implements Listener {
     public Map<String, Integer> getGUIStats() {
         Map<String, Integer> stats = new HashMap<>();
 
-        for (GUI gui : openGUIs.values()) {
+        for (GUI gui : getOpenGUIs()) {
             String type = gui.getClass().getSimpleName();
             stats.put(type, stats.getOrDefault(type, 0) + 1);
         }
@@ -465,9 +512,7 @@ public class GUIManager implements Listener {
      * Start asking the player for market price input
      */
     public void requestMarketPriceInput(Player player, String apartmentId) {
-        closeGUI(player);
-        player.closeInventory();
-        pendingMarketPriceInputs.put(player.getUniqueId(), apartmentId);
+        awaitChatInput(player, ChatInputType.MARKET_PRICE, apartmentId);
         GUIUtils.sendMessage(player, "&ePlease enter the selling price for &f" + apartmentId + " &ein chat.");
         GUIUtils.sendMessage(player, "&eType '&ccancel&e' to cancel.");
     }
@@ -479,9 +524,7 @@ public class GUIManager implements Listener {
      * @param apartmentId The apartment ID to set the name for
      */
     public void requestNameInput(Player player, String apartmentId) {
-        closeGUI(player);
-        player.closeInventory();
-        pendingNameInputs.put(player.getUniqueId(), apartmentId);
+        awaitChatInput(player, ChatInputType.NAME, apartmentId);
         GUIUtils.sendMessage(player, "&ePlease enter the new display name for the apartment in chat.");
         GUIUtils.sendMessage(player, "&eType '&ccancel&e' to cancel.");
     }
@@ -493,113 +536,145 @@ public class GUIManager implements Listener {
      * @param apartmentId The apartment ID to set the icon for
      */
     public void requestIconInput(Player player, String apartmentId) {
-        closeGUI(player);
-        player.closeInventory();
-        pendingIconInputs.put(player.getUniqueId(), apartmentId);
+        awaitChatInput(player, ChatInputType.ICON, apartmentId);
         GUIUtils.sendMessage(player, "&ePlease enter the material name for the apartment icon.");
         GUIUtils.sendMessage(player, "&eExample: &fDIAMOND_BLOCK, EMERALD, GOLD_INGOT, etc.");
         GUIUtils.sendMessage(player, "&eType '&ccancel&e' to cancel.");
     }
 
+    /**
+     * Close the player's GUI and wait for one chat message, cancelling the
+     * request after gui.input-timeout seconds
+     */
+    private void awaitChatInput(Player player, ChatInputType type, String apartmentId) {
+        closeGUI(player);
+        player.closeInventory();
+
+        long timeoutMs = plugin.getConfigManager().getGuiInputTimeout() * 1000L;
+        PendingInput input = new PendingInput(type, apartmentId, System.currentTimeMillis() + timeoutMs);
+        GUISession session = sessions.update(player.getUniqueId(), s -> s.awaitInput(input));
+
+        plugin.getCooldownService().schedule(timeoutMs, () -> {
+            if (session.expireInput(input)) {
+                sessions.removeIfIdle(session.getPlayerId());
+                if (player.isOnline()) {
+                    GUIUtils.sendMessage(player, "&cInput timed out. " + type.getCancelMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Check whether the player is being asked for chat input
+     */
+    public boolean isAwaitingInput(Player player) {
+        GUISession session = sessions.get(player.getUniqueId());
+        return session != null && session.isAwaitingInput();
+    }
+
     @EventHandler
     public void onPlayerChat(AsyncPlayerChatEvent event) {
         Player player = event.getPlayer();
         UUID uuid = player.getUniqueId();
 
-        // Handle name input
-        if (pendingNameInputs.containsKey(uuid)) {
-            event.setCancelled(true);
-            String apartmentId = pendingNameInputs.remove(uuid);
-            String message = event.getMessage().trim();
+        GUISession session = sessions.get(uuid);
+        if (session == null) {
+            return;
+        }
+        PendingInput input = session.takeInput(System.currentTimeMillis());
+        sessions.removeIfIdle(uuid);
+        if (input == null) {
+            return;
+        }
 
-            if (message.equalsIgnoreCase("cancel")) {
-                GUIUtils.sendMessage(player, "&cName change cancelled.");
-                return;
-            }
+        event.setCancelled(true);
+        String apartmentId = input.getApartmentId();
+        String message = event.getMessage().trim();
 
-            // Run the command synchronously on the next tick
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                plugin.getServer().dispatchCommand(player, "apartmentcore setname " + apartmentId + " " + message);
-            });
+        if (message.equalsIgnoreCase("cancel")) {
+            GUIUtils.sendMessage(player, input.getType().getCancelMessage());
             return;
         }
 
-        if (pendingMarketPriceInputs.containsKey(uuid)) {
-            event.setCancelled(true);
-            String apartmentId = pendingMarketPriceInputs.remove(uuid);
-            String message = event.getMessage().trim();
-
-            if (message.equalsIgnoreCase("cancel")) {
-                GUIUtils.sendMessage(player, "&cMarket listing cancelled.");
-                return;
-            }
+        switch (input.getType()) {
+            case NAME:
+                // Run the command synchronously on the next tick
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    plugin.getServer().dispatchCommand(player, "apartmentcore setname " + apartmentId + " " + message);
+                });
+                break;
 
-            double price;
-            try {
-                price = Double.parseDouble(message);
-                if (price < 0) {
-                    throw new NumberFormatException();
+            case MARKET_PRICE:
+                double price;
+                try {
+                    price = Double.parseDouble(message);
+                    if (price < 0) {
+                        throw new NumberFormatException();
+                    }
+                } catch (NumberFormatException e) {
+                    GUIUtils.sendMessage(player,
+                            "&cInvalid price format! Please enter a valid and positive number.");
+                    GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
+                    return;
                 }
-            } catch (NumberFormatException e) {
-                GUIUtils.sendMessage(player,
-                        "&cInvalid price format! Please enter a valid and positive number.");
-                GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-                return;
-            }
 
-            // Run the command synchronously on the next tick (sync thread)
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                plugin.getServer().dispatchCommand(player, "apartmentcore sell market " + apartmentId + " " + price);
-            });
-        }
+                // Run the command synchronously on the next tick (sync thread)
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    plugin.getServer().dispatchCommand(player, "apartmentcore sell market " + apartmentId + " " + price);
+                });
+                break;
 
-        // Handle icon input
-        if (pendingIconInputs.containsKey(uuid)) {
-            event.setCancelled(true);
-            String apartmentId = pendingIconInputs.remove(uuid);
-            String message = event.getMessage().trim();
+            case ICON:
+                // Validate material
+                Material material;
+                try {
+                    material = Material.valueOf(message.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    GUIUtils.sendMessage(player, "&cInvalid material! &f'" + message + "' &cis not a valid material.");
+                    GUIUtils.sendMessage(player,
+                            "&ePlease enter a valid material name (e.g., DIAMOND_BLOCK, EMERALD, GOLD_INGOT).");
+                    GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
+                    return;
+                }
 
-            if (message.equalsIgnoreCase("cancel")) {
-                GUIUtils.sendMessage(player, "&cIcon change cancelled.");
-                return;
-            }
+                // Apartment state is only touched on the main thread
+                plugin.getServer().getScheduler().runTask(plugin, () -> applyIcon(player, apartmentId, material));
+                break;
+        }
+    }
 
-            // Validate material
-            Material material;
-            try {
-                material = Material.valueOf(message.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                GUIUtils.sendMessage(player, "&cInvalid material! &f'" + message + "' &cis not a valid material.");
-                GUIUtils.sendMessage(player,
-                        "&ePlease enter a valid material name (e.g., DIAMOND_BLOCK, EMERALD, GOLD_INGOT).");
-                GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-                return;
-            }
+    private void applyIcon(Player player, String apartmentId, Material material) {
+        // Update apartment icon
+        Apartment apartment = plugin.getApartmentManager().getApartment(apartmentId);
+        if (apartment == null) {
+            GUIUtils.sendMessage(player, "&cApartment not found!");
+            return;
+        }
 
-            // Update apartment icon
-            Apartment apartment = plugin.getApartmentManager().getApartment(apartmentId);
-            if (apartment == null) {
-                GUIUtils.sendMessage(player, "&cApartment not found!");
-                return;
-            }
+        // Check ownership
+        if (!player.getUniqueId().equals(apartment.owner)) {
+            GUIUtils.sendMessage(player, "&cYou don't own this apartment!");
+            GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
+            return;
+        }
 
-            // Check ownership
-            if (!apartment.owner.equals(player.getUniqueId())) {
-                GUIUtils.sendMessage(player, "&cYou don't own this apartment!");
-                GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-                return;
-            }
+        apartment.icon = material.name();
+        plugin.getApartmentManager().saveApartments();
 
-            apartment.icon = material.name();
-            plugin.getApartmentManager().saveApartments();
+        GUIUtils.sendMessage(player, "&aApartment icon updated to &f" + material.name() + "&a!");
+        GUIUtils.playSound(player, GUIUtils.SUCCESS_SOUND);
 
-            GUIUtils.sendMessage(player, "&aApartment icon updated to &f" + material.name() + "&a!");
-            GUIUtils.playSound(player, GUIUtils.SUCCESS_SOUND);
+        // Reopen the apartment details GUI
+        openApartmentDetails(player, apartmentId);
+    }
 
-            // Reopen the apartment details GUI
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                openApartmentDetails(player, apartmentId);
-            });
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        // Drop any pending chat input; the inventory close event handles the GUI
+        GUISession session = sessions.get(event.getPlayer().getUniqueId());
+        if (session != null) {
+            session.cancelInput();
+            sessions.removeIfIdle(event.getPlayer().getUniqueId());
         }
     }
-}
\ No newline at end of file
+}
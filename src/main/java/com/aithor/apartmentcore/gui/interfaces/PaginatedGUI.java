@@ -1,6 +1,9 @@
 package com.aithor.apartmentcore.gui.interfaces;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -9,9 +12,14 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
 
 import com.aithor.apartmentcore.gui.items.GUIItem;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.items.PagedItemList;
+import com.aithor.apartmentcore.gui.render.AsyncLoader;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 
 /**
  * Abstract class for paginated GUIs
@@ -22,9 +30,15 @@ public abstract class PaginatedGUI implements GUI {
     protected final String title;
     protected final int size;
     protected Inventory inventory;
+    protected final InventoryFrame frame;
     protected int currentPage;
     protected int itemsPerPage;
     protected List<GUIItem> items;
+    private ItemStack borderItem;
+    private AsyncLoader loader;
+    private Plugin prefetchPlugin;
+    private boolean loaded;
+    private boolean loadFailed;
     
     // Navigation slots
     protected static final int PREVIOUS_SLOT = 45;
@@ -37,18 +51,67 @@ public abstract class PaginatedGUI implements GUI {
         this.size = size;
         this.itemsPerPage = itemsPerPage;
         this.currentPage = 0;
-        this.inventory = Bukkit.createInventory(null, size, title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), size, title);
+        this.frame = new InventoryFrame(inventory);
         // Defer loading items until setupInventory / open to avoid calling subclass
         // overrides before subclass fields are initialized.
         this.items = new java.util.ArrayList<>();
     }
     
     /**
-     * Load items to display in this paginated GUI
+     * Load items to display in this paginated GUI. Large sources should
+     * return a {@link PagedItemList} so only the visible page is built.
      * @return List of GUI items
      */
     protected abstract List<GUIItem> loadItems();
     
+    /**
+     * Build items on a worker thread instead of the main thread. Call from the
+     * subclass constructor; the subclass should then override {@link #prepareLoad()}.
+     * @param asyncEnabled Whether loads may currently run off the main thread
+     */
+    protected void enableAsyncLoading(Plugin plugin, BooleanSupplier asyncEnabled) {
+        this.prefetchPlugin = plugin;
+        this.loader = new AsyncLoader(plugin, asyncEnabled,
+                () -> player.isOnline() && player.getOpenInventory().getTopInventory() == inventory);
+    }
+    
+    /**
+     * Materialize the pages next to the visible one a tick after rendering
+     * when the items are a {@link PagedItemList}. Enabled automatically by
+     * {@link #enableAsyncLoading}.
+     */
+    protected void enablePrefetch(Plugin plugin) {
+        this.prefetchPlugin = plugin;
+    }
+    
+    /**
+     * Wrap ordered elements in a list that builds items one page at a time
+     * (keeping the visible page and its neighbours)
+     */
+    protected <T> PagedItemList<T> pagedItems(List<T> elements, Function<T, GUIItem> factory) {
+        return new PagedItemList<>(elements, itemsPerPage, 3, factory);
+    }
+    
+    /**
+     * Capture, on the main thread, a snapshot of everything needed to build the
+     * items and return the step that builds them from it. With async loading
+     * enabled the returned step runs on a worker, so it must not read live
+     * plugin state.
+     * @return The item-building step
+     */
+    protected Supplier<List<GUIItem>> prepareLoad() {
+        List<GUIItem> loadedItems = loadItems();
+        return () -> loadedItems;
+    }
+    
+    /**
+     * @return True until the first async load has been applied
+     */
+    protected boolean isLoading() {
+        return loader != null && !loaded;
+    }
+    
     /**
      * Handle item click
      * @param item The clicked item
@@ -63,10 +126,34 @@ public abstract class PaginatedGUI implements GUI {
     }
     
     protected void setupInventory() {
-        // Load items from subclass now that subclass constructor has completed
-        this.items = loadItems();
-
-        inventory.clear();
+        if (loader == null) {
+            // Load items from subclass now that subclass constructor has completed
+            this.items = loadItems();
+            render();
+            return;
+        }
+        
+        boolean applied = loader.submit(prepareLoad(), loadedItems -> {
+            this.items = loadedItems;
+            this.loaded = true;
+            this.loadFailed = false;
+            render();
+        }, () -> {
+            // Keep the previous items, if any, and replace the loading indicator
+            this.loadFailed = true;
+            render();
+        });
+        if (!applied) {
+            // Keep showing the previous page (or the loading frame) until the worker is done
+            render();
+        }
+    }
+    
+    /**
+     * Draw the current items into the inventory
+     */
+    protected void render() {
+        frame.begin();
         
         // Add border
         addBorder();
@@ -76,21 +163,55 @@ public abstract class PaginatedGUI implements GUI {
         
         // Add navigation
         addNavigation();
+        
+        // Add menu-specific buttons
+        decorate();
+        
+        // Only slots that changed since the last render are written
+        frame.commit();
+        
+        prefetchAdjacentPages();
+    }
+    
+    private void prefetchAdjacentPages() {
+        if (prefetchPlugin == null || !(items instanceof PagedItemList)) {
+            return;
+        }
+        PagedItemList<?> paged = (PagedItemList<?>) items;
+        int page = currentPage;
+        // Next tick, so the click that caused this render is not delayed
+        prefetchPlugin.getServer().getScheduler().runTask(prefetchPlugin, () -> {
+            if (items == paged) {
+                paged.prefetch(page + 1);
+                paged.prefetch(page - 1);
+            }
+        });
+    }
+    
+    /**
+     * Add menu-specific items (filters, action buttons) to the frame being
+     * rendered; called after the border, page items and navigation
+     */
+    protected void decorate() {
+        // Default implementation - override if needed
     }
     
     protected void addBorder() {
-        ItemStack borderItem = new ItemBuilder(Material.GRAY_STAINED_GLASS_PANE).name(" ").build();
+        // Shared template, fetched once per GUI; unchanged slots are skipped by the frame diff
+        if (borderItem == null) {
+            borderItem = new ItemBuilder(Material.GRAY_STAINED_GLASS_PANE).name(" ").template();
+        }
         
         // Top and bottom border
         for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + (size - 9), borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + (size - 9), borderItem);
         }
         
         // Side borders
         for (int i = 9; i < size - 9; i += 9) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + 8, borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + 8, borderItem);
         }
     }
     
@@ -105,7 +226,7 @@ public abstract class PaginatedGUI implements GUI {
             }
             
             GUIItem item = items.get(i);
-            inventory.setItem(slot, item.getItemStack());
+            frame.set(slot, item.getItemStack());
             slot++;
         }
     }
@@ -113,29 +234,37 @@ public abstract class PaginatedGUI implements GUI {
     protected void addNavigation() {
         // Previous page
         if (currentPage > 0) {
-            ItemStack prevItem = new ItemBuilder(Material.ARROW)
+            frame.set(PREVIOUS_SLOT, new ItemBuilder(Material.ARROW)
                     .name(ChatColor.GREEN + "◀ Previous Page")
-                    .lore(ChatColor.GRAY + "Go to page " + currentPage)
-                    .build();
-            inventory.setItem(PREVIOUS_SLOT, prevItem);
+                    .lore(ChatColor.GRAY + "Go to page " + currentPage));
         }
         
         // Next page
         if ((currentPage + 1) * itemsPerPage < items.size()) {
-            ItemStack nextItem = new ItemBuilder(Material.ARROW)
+            frame.set(NEXT_SLOT, new ItemBuilder(Material.ARROW)
                     .name(ChatColor.GREEN + "Next Page ▶")
-                    .lore(ChatColor.GRAY + "Go to page " + (currentPage + 2))
-                    .build();
-            inventory.setItem(NEXT_SLOT, nextItem);
+                    .lore(ChatColor.GRAY + "Go to page " + (currentPage + 2)));
+        }
+        
+        if (loadFailed) {
+            frame.set(INFO_SLOT, new ItemBuilder(Material.BARRIER)
+                    .name(ChatColor.RED + "Failed to load")
+                    .lore(ChatColor.GRAY + "Reopen the menu to try again"));
+            return;
+        }
+        
+        if (isLoading()) {
+            frame.set(INFO_SLOT, new ItemBuilder(Material.CLOCK)
+                    .name(ChatColor.YELLOW + "Loading...")
+                    .lore(ChatColor.GRAY + "Please wait a moment"));
+            return;
         }
         
         // Page info
         int totalPages = Math.max(1, (int) Math.ceil((double) items.size() / itemsPerPage));
-        ItemStack infoItem = new ItemBuilder(Material.BOOK)
+        frame.set(INFO_SLOT, new ItemBuilder(Material.BOOK)
                 .name(ChatColor.YELLOW + "Page " + (currentPage + 1) + "/" + totalPages)
-                .lore(ChatColor.GRAY + "Total items: " + items.size())
-                .build();
-        inventory.setItem(INFO_SLOT, infoItem);
+                .lore(ChatColor.GRAY + "Total items: " + items.size()));
     }
     
     @Override
@@ -191,8 +320,7 @@ public abstract class PaginatedGUI implements GUI {
     
     @Override
     public void refresh() {
-        this.items = loadItems(); // Reload items
-        setupInventory();
+        setupInventory(); // Reloads items and redraws changed slots
     }
     
     @Override
@@ -217,6 +345,9 @@ public abstract class PaginatedGUI implements GUI {
     
     @Override
     public void onClose(Player player) {
-        // Default implementation - override if needed
+        // Drop results of a load still in flight
+        if (loader != null) {
+            loader.cancel();
+        }
     }
 }
\ No newline at end of file
@@ -11,29 +11,49 @@ import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.Bukkit;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
- * Fluent builder for creating ItemStacks with ease
+ * Fluent builder for creating ItemStacks with ease.
+ *
+ * <p>The builder only records a description (material, name, lore, ...) and
+ * creates the ItemStack in {@link #build()}, so a description can be hashed
+ * and compared with {@link #contentHash()} without touching Bukkit item meta.
  */
 public class ItemBuilder {
     
-    private final ItemStack itemStack;
-    private final ItemMeta itemMeta;
+    private final Material material;
+    private final ItemStack base;
+    private int amount;
+    private String name;
+    private List<String> lore;
+    private Map<Enchantment, Integer> enchants;
+    private Set<ItemFlag> flags;
+    private String skullOwner;
+    private Integer modelData;
+    private boolean unbreakable;
     
     public ItemBuilder(Material material) {
-        this.itemStack = new ItemStack(material);
-        this.itemMeta = itemStack.getItemMeta();
+        this(material, 1);
     }
     
     public ItemBuilder(Material material, int amount) {
-        this.itemStack = new ItemStack(material, amount);
-        this.itemMeta = itemStack.getItemMeta();
+        this.material = material;
+        this.base = null;
+        this.amount = amount;
     }
     
     public ItemBuilder(ItemStack itemStack) {
-        this.itemStack = itemStack.clone();
-        this.itemMeta = this.itemStack.getItemMeta();
+        this.material = itemStack.getType();
+        this.base = itemStack.clone();
+        this.amount = itemStack.getAmount();
     }
     
     /**
@@ -42,9 +62,7 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder name(String name) {
-        if (itemMeta != null) {
-            itemMeta.setDisplayName(ChatColor.translateAlternateColorCodes('&', name));
-        }
+        this.name = ChatColor.translateAlternateColorCodes('&', name);
         return this;
     }
     
@@ -54,13 +72,11 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder lore(String... lore) {
-        if (itemMeta != null) {
-            List<String> loreList = new ArrayList<>();
-            for (String line : lore) {
-                loreList.add(ChatColor.translateAlternateColorCodes('&', line));
-            }
-            itemMeta.setLore(loreList);
+        List<String> loreList = new ArrayList<>(lore.length);
+        for (String line : lore) {
+            loreList.add(ChatColor.translateAlternateColorCodes('&', line));
         }
+        this.lore = loreList;
         return this;
     }
     
@@ -70,13 +86,11 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder lore(List<String> lore) {
-        if (itemMeta != null) {
-            List<String> coloredLore = new ArrayList<>();
-            for (String line : lore) {
-                coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
-            }
-            itemMeta.setLore(coloredLore);
+        List<String> coloredLore = new ArrayList<>(lore.size());
+        for (String line : lore) {
+            coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
         }
+        this.lore = coloredLore;
         return this;
     }
     
@@ -86,17 +100,13 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder addLore(String... lines) {
-        if (itemMeta != null) {
-            List<String> lore = itemMeta.getLore();
-            if (lore == null) {
-                lore = new ArrayList<>();
-            }
-            
-            for (String line : lines) {
-                lore.add(ChatColor.translateAlternateColorCodes('&', line));
-            }
-            
-            itemMeta.setLore(lore);
+        if (lore == null) {
+            ItemMeta baseMeta = base != null ? base.getItemMeta() : null;
+            lore = baseMeta != null && baseMeta.getLore() != null ? new ArrayList<>(baseMeta.getLore())
+                    : new ArrayList<>();
+        }
+        for (String line : lines) {
+            lore.add(ChatColor.translateAlternateColorCodes('&', line));
         }
         return this;
     }
@@ -107,7 +117,7 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder amount(int amount) {
-        itemStack.setAmount(Math.max(1, Math.min(64, amount)));
+        this.amount = Math.max(1, Math.min(64, amount));
         return this;
     }
     
@@ -118,9 +128,10 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder enchant(Enchantment enchantment, int level) {
-        if (itemMeta != null) {
-            itemMeta.addEnchant(enchantment, level, true);
+        if (enchants == null) {
+            enchants = new LinkedHashMap<>();
         }
+        enchants.put(enchantment, level);
         return this;
     }
     
@@ -129,12 +140,9 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder glow() {
-        if (itemMeta != null) {
-            // Use a safe enchant across versions (hidden to simulate glow)
-            itemMeta.addEnchant(Enchantment.UNBREAKING, 1, true);
-            itemMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-        }
-        return this;
+        // Use a safe enchant across versions (hidden to simulate glow)
+        enchant(Enchantment.UNBREAKING, 1);
+        return flags(ItemFlag.HIDE_ENCHANTS);
     }
     
     /**
@@ -143,9 +151,10 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder flags(ItemFlag... flags) {
-        if (itemMeta != null) {
-            itemMeta.addItemFlags(flags);
+        if (this.flags == null) {
+            this.flags = EnumSet.noneOf(ItemFlag.class);
         }
+        Collections.addAll(this.flags, flags);
         return this;
     }
     
@@ -154,10 +163,7 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder hideAll() {
-        if (itemMeta != null) {
-            itemMeta.addItemFlags(ItemFlag.values());
-        }
-        return this;
+        return flags(ItemFlag.values());
     }
     
     /**
@@ -166,10 +172,7 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder skull(String owner) {
-        if (itemMeta instanceof SkullMeta meta) {
-            // Prefer owning player API (avoids deprecated setOwner)
-            meta.setOwningPlayer(Bukkit.getOfflinePlayer(owner));
-        }
+        this.skullOwner = owner;
         return this;
     }
     
@@ -179,9 +182,7 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder modelData(int data) {
-        if (itemMeta != null) {
-            itemMeta.setCustomModelData(data);
-        }
+        this.modelData = data;
         return this;
     }
     
@@ -190,11 +191,63 @@ public class ItemBuilder {
      * @return This builder
      */
     public ItemBuilder unbreakable() {
-        if (itemMeta != null) {
-            itemMeta.setUnbreakable(true);
-            itemMeta.addItemFlags(ItemFlag.HIDE_UNBREAKABLE);
+        this.unbreakable = true;
+        return flags(ItemFlag.HIDE_UNBREAKABLE);
+    }
+    
+    /**
+     * Hash of everything this builder would put on the item; equal
+     * descriptions produce equal hashes
+     * @return The content hash
+     */
+    public int contentHash() {
+        return Objects.hash(material, amount, name, lore, enchants, flags, skullOwner, modelData, unbreakable,
+                base != null ? base.hashCode() : 0);
+    }
+
+    /**
+     * Equal when both builders describe the same item (the fields hashed by
+     * {@link #contentHash()})
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ItemBuilder other))
+            return false;
+        return amount == other.amount && unbreakable == other.unbreakable && material == other.material
+                && Objects.equals(name, other.name) && Objects.equals(lore, other.lore)
+                && Objects.equals(enchants, other.enchants) && Objects.equals(flags, other.flags)
+                && Objects.equals(skullOwner, other.skullOwner) && Objects.equals(modelData, other.modelData)
+                && Objects.equals(base, other.base);
+    }
+
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+    
+    /**
+     * Get the shared prebuilt stack for this definition. Use for static items
+     * that many viewers see; dynamic items should use {@link #build()}.
+     * @return The cached ItemStack; must not be modified
+     */
+    public ItemStack template() {
+        if (base != null) {
+            return build();
         }
-        return this;
+        return ItemTemplateCache.get(this);
+    }
+    
+    /**
+     * Immutable key describing this definition, used by {@link ItemTemplateCache}
+     */
+    Object templateKey() {
+        return Arrays.asList(material, amount, name,
+                lore != null ? List.copyOf(lore) : null,
+                enchants != null ? Map.copyOf(enchants) : null,
+                flags != null ? Set.copyOf(flags) : null,
+                skullOwner, modelData, unbreakable);
     }
     
     /**
@@ -202,9 +255,37 @@ public class ItemBuilder {
      * @return The built ItemStack
      */
     public ItemStack build() {
-        if (itemMeta != null) {
-            itemStack.setItemMeta(itemMeta);
+        ItemStack itemStack = base != null ? base.clone() : new ItemStack(material);
+        itemStack.setAmount(amount);
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        if (itemMeta == null) {
+            return itemStack;
         }
+        if (name != null) {
+            itemMeta.setDisplayName(name);
+        }
+        if (lore != null) {
+            itemMeta.setLore(new ArrayList<>(lore));
+        }
+        if (enchants != null) {
+            for (Map.Entry<Enchantment, Integer> entry : enchants.entrySet()) {
+                itemMeta.addEnchant(entry.getKey(), entry.getValue(), true);
+            }
+        }
+        if (flags != null) {
+            itemMeta.addItemFlags(flags.toArray(new ItemFlag[0]));
+        }
+        if (skullOwner != null && itemMeta instanceof SkullMeta meta) {
+            // Prefer owning player API (avoids deprecated setOwner)
+            meta.setOwningPlayer(Bukkit.getOfflinePlayer(skullOwner));
+        }
+        if (modelData != null) {
+            itemMeta.setCustomModelData(modelData);
+        }
+        if (unbreakable) {
+            itemMeta.setUnbreakable(true);
+        }
+        itemStack.setItemMeta(itemMeta);
         return itemStack;
     }
     
@@ -231,6 +312,6 @@ public class ItemBuilder {
         return new ItemBuilder(material)
                 .name(" ")
                 .hideAll()
-                .build();
+                .template();
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.aithor.apartmentcore.gui.items;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Shared cache of prebuilt ItemStacks for static GUI elements (borders,
+ * fillers, help pages, unchanging menu buttons).
+ *
+ * <p>Entries are keyed by the resolved, colour-translated description of an
+ * {@link ItemBuilder}, so every viewer of every menu shares one prebuilt stack
+ * per distinct definition. The stacks are handed out as is and must not be
+ * modified; inventories copy them when they are set. The cache is cleared on
+ * config reload via {@code GUIManager.onConfigReloaded()}.
+ */
+public final class ItemTemplateCache {
+
+    // Safety bound; dynamic items should use build() instead of template()
+    private static final int MAX_TEMPLATES = 1024;
+
+    private static final Map<Object, ItemStack> TEMPLATES = new ConcurrentHashMap<>();
+
+    private ItemTemplateCache() {
+    }
+
+    /**
+     * Get the shared prebuilt stack for the builder's definition, building
+     * and caching it on first use
+     */
+    static ItemStack get(ItemBuilder builder) {
+        Object key = builder.templateKey();
+        ItemStack template = TEMPLATES.get(key);
+        if (template == null) {
+            template = builder.build();
+            if (TEMPLATES.size() >= MAX_TEMPLATES) {
+                TEMPLATES.clear();
+            }
+            ItemStack existing = TEMPLATES.putIfAbsent(key, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Drop all cached templates (called when the configuration is reloaded)
+     */
+    public static void invalidate() {
+        TEMPLATES.clear();
+    }
+
+    public static int size() {
+        return TEMPLATES.size();
+    }
+}
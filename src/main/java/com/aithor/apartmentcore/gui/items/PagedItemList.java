@@ -0,0 +1,91 @@
+package com.aithor.apartmentcore.gui.items;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-only list of GUI items that only materializes the pages it is asked for.
+ *
+ * <p>The list reports the size of the underlying elements, but an element is
+ * only turned into a {@link GUIItem} (and its ItemStack) when an index on its
+ * page is read or the page is {@link #prefetch prefetched}. At most
+ * {@code maxCachedPages} pages are kept; the least recently used page is
+ * dropped first. A paginated menu therefore costs time and memory
+ * proportional to the page size, not to the number of elements.
+ */
+public class PagedItemList<T> extends AbstractList<GUIItem> {
+
+    private final List<T> elements;
+    private final Function<T, GUIItem> factory;
+    private final int pageSize;
+    private final Map<Integer, GUIItem[]> pages;
+
+    /**
+     * @param elements       The ordered elements; must not change while the list is in use
+     * @param pageSize       Number of items materialized together
+     * @param maxCachedPages Number of materialized pages to keep
+     * @param factory        Builds the item for an element
+     */
+    public PagedItemList(List<T> elements, int pageSize, int maxCachedPages, Function<T, GUIItem> factory) {
+        this.elements = elements;
+        this.factory = factory;
+        this.pageSize = Math.max(1, pageSize);
+        int capacity = Math.max(1, maxCachedPages);
+        this.pages = new LinkedHashMap<Integer, GUIItem[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, GUIItem[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized GUIItem get(int index) {
+        if (index < 0 || index >= elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        return page(index / pageSize)[index % pageSize];
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Materialize a page ahead of time; out-of-range pages are ignored
+     */
+    public synchronized void prefetch(int pageIndex) {
+        if (pageIndex >= 0 && pageIndex * pageSize < elements.size()) {
+            page(pageIndex);
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return Number of currently materialized pages
+     */
+    public synchronized int getCachedPages() {
+        return pages.size();
+    }
+
+    private GUIItem[] page(int pageIndex) {
+        GUIItem[] page = pages.get(pageIndex);
+        if (page == null) {
+            int from = pageIndex * pageSize;
+            int to = Math.min(from + pageSize, elements.size());
+            page = new GUIItem[to - from];
+            for (int i = from; i < to; i++) {
+                page[i - from] = factory.apply(elements.get(i));
+            }
+            pages.put(pageIndex, page);
+        }
+        return page;
+    }
+}
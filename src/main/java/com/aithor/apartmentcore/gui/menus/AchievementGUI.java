@@ -15,7 +15,9 @@ import com.aithor.apartmentcore.achievement.PlayerAchievementData;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -32,6 +34,7 @@ public class AchievementGUI implements GUI {
     private final GUIManager guiManager;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
 
     // Slot positions for achievements
     private static final int INCOME_MILLIONAIRE_SLOT = 11;
@@ -49,7 +52,8 @@ public class AchievementGUI implements GUI {
         this.plugin = plugin;
         this.guiManager = guiManager;
         this.title = ChatColor.translateAlternateColorCodes('&', "&6Achievements");
-        this.inventory = Bukkit.createInventory(null, 54, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 54, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -59,7 +63,7 @@ public class AchievementGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
 
         addBorder();
         addSummary();
@@ -69,6 +73,8 @@ public class AchievementGUI implements GUI {
         addAchievementItem(AchievementType.RESEARCH_MASTER, RESEARCH_MASTER_SLOT);
         addAchievementItem(AchievementType.MAX_LEVEL_OWNER, MAX_LEVEL_OWNER_SLOT);
         addBackButton();
+
+        frame.commit();
     }
 
     private void addBorder() {
@@ -76,21 +82,21 @@ public class AchievementGUI implements GUI {
         int rows = Math.max(1, inventory.getSize() / 9);
 
         for (int i = 0; i < 9 && i < inventory.getSize(); i++) {
-            inventory.setItem(i, borderItem);
+            frame.set(i, borderItem);
         }
 
         int bottomStart = (rows - 1) * 9;
         for (int i = bottomStart; i < bottomStart + 9 && i < inventory.getSize(); i++) {
-            inventory.setItem(i, borderItem);
+            frame.set(i, borderItem);
         }
 
         for (int r = 1; r < rows - 1; r++) {
             int leftIndex = r * 9;
             int rightIndex = r * 9 + 8;
             if (leftIndex < inventory.getSize())
-                inventory.setItem(leftIndex, borderItem);
+                frame.set(leftIndex, borderItem);
             if (rightIndex < inventory.getSize())
-                inventory.setItem(rightIndex, borderItem);
+                frame.set(rightIndex, borderItem);
         }
     }
 
@@ -106,7 +112,7 @@ public class AchievementGUI implements GUI {
         String progressBar = GUIUtils.createProgressBar(completed, total, 20);
         String percentage = total > 0 ? String.format("%.0f%%", (completed * 100.0 / total)) : "0%";
 
-        ItemStack item = new ItemBuilder(Material.NETHER_STAR)
+        ItemBuilder item = new ItemBuilder(Material.NETHER_STAR)
                 .name("&6&lAchievement Progress")
                 .lore(
                         "&7Track your apartment milestones",
@@ -116,10 +122,9 @@ public class AchievementGUI implements GUI {
                         "",
                         "&7Complete achievements to earn",
                         "&7rewards and recognition!")
-                .glow()
-                .build();
+                .glow();
 
-        inventory.setItem(SUMMARY_SLOT, item);
+        frame.set(SUMMARY_SLOT, item);
     }
 
     private void addAchievementItem(AchievementType type, int slot) {
@@ -202,21 +207,19 @@ public class AchievementGUI implements GUI {
 
         if (!isEnabled) {
             Material disabledIcon = Material.BARRIER;
-            ItemStack item = new ItemBuilder(disabledIcon)
+            ItemBuilder item = new ItemBuilder(disabledIcon)
                     .name("&c" + name)
-                    .lore(lore)
-                    .build();
-            inventory.setItem(slot, item);
+                    .lore(lore);
+            frame.set(slot, item);
             return;
         }
 
         if (isCompleted) {
-            ItemStack item = new ItemBuilder(icon)
+            ItemBuilder item = new ItemBuilder(icon)
                     .name("&a&l" + name)
                     .lore(lore)
-                    .glow()
-                    .build();
-            inventory.setItem(slot, item);
+                    .glow();
+            frame.set(slot, item);
         } else {
             Material progressIcon = Material.GRAY_DYE;
             if (pct >= 0.75)
@@ -226,11 +229,10 @@ public class AchievementGUI implements GUI {
             else if (pct >= 0.25)
                 progressIcon = Material.ORANGE_DYE;
 
-            ItemStack item = new ItemBuilder(progressIcon)
+            ItemBuilder item = new ItemBuilder(progressIcon)
                     .name("&e" + name)
-                    .lore(lore)
-                    .build();
-            inventory.setItem(slot, item);
+                    .lore(lore);
+            frame.set(slot, item);
         }
     }
 
@@ -289,8 +291,7 @@ public class AchievementGUI implements GUI {
             }
             case MAX_LEVEL_OWNER: {
                 int maxLevelCount = 0;
-                int maxLevel = plugin.getConfigManager().getLevelConfigs().keySet().stream()
-                        .mapToInt(Integer::intValue).max().orElse(5);
+                int maxLevel = plugin.getConfigManager().getMaxConfiguredLevel();
                 for (com.aithor.apartmentcore.model.Apartment a : plugin.getApartmentManager().getApartments()
                         .values()) {
                     if (uuid.equals(a.owner) && a.level >= maxLevel) {
@@ -323,11 +324,10 @@ public class AchievementGUI implements GUI {
     }
 
     private void addBackButton() {
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
     }
 
     @Override
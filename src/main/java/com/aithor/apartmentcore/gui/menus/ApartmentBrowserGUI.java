@@ -8,6 +8,7 @@ import com.aithor.apartmentcore.gui.interfaces.PaginatedGUI;
 import com.aithor.apartmentcore.gui.items.GUIItem;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.manager.ListingIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -17,8 +18,10 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -46,105 +49,104 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
         super(player, ChatColor.DARK_BLUE + "Browse Apartments", 54, 28);
         this.plugin = plugin;
         this.guiManager = guiManager;
+        enablePrefetch(plugin);
     }
 
     @Override
     protected List<GUIItem> loadItems() {
-        List<Apartment> apartments = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> a.owner == null || a.marketListing) // Government + market listings
-                .collect(Collectors.toList());
-
-        // Apply filters
-        apartments = applyFilter(apartments);
+        // Filtering, sorting and cards are shared by every viewer of this filter/sort
+        BrowserModel model = guiManager.getViewModels().get(
+                "browser:" + currentFilter + ":" + currentSort,
+                plugin.getApartmentManager().getDataVersion(),
+                this::buildSharedModel);
+
+        // Cards are built a page at a time; the viewer's own listings get their own decoration
+        return pagedItems(model.apartments, apartment -> player.getUniqueId().equals(apartment.owner)
+                ? createApartmentItem(apartment, true)
+                : model.cards.computeIfAbsent(apartment.id, id -> createApartmentItem(apartment, false)));
+    }
 
-        // Apply sorting
-        apartments = applySort(apartments);
+    /**
+     * Build the viewer-independent ordering for the current filter and sort
+     */
+    private BrowserModel buildSharedModel() {
+        // Government + market listings, already ordered by the manager's index
+        ListingIndex index = plugin.getApartmentManager().getListingIndex();
+        List<Apartment> apartments = currentSort.view(index);
 
-        // Convert to GUI items
-        List<GUIItem> items = new ArrayList<>();
-        for (Apartment apartment : apartments) {
-            items.add(createApartmentItem(apartment));
-        }
-
-        return items;
+        // Apply filters (order is preserved)
+        return new BrowserModel(applyFilter(apartments, index));
     }
 
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addFilterAndSortOptions();
     }
 
     private void addFilterAndSortOptions() {
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
 
         // Filter: All
         Material allMaterial = currentFilter == FilterType.ALL ? Material.LIME_CONCRETE : Material.WHITE_CONCRETE;
-        ItemStack allFilter = new ItemBuilder(allMaterial)
+        ItemBuilder allFilter = new ItemBuilder(allMaterial)
                 .name("&6All Apartments")
                 .lore(
                         "&7Show all available apartments",
                         "",
-                        currentFilter == FilterType.ALL ? "&a✓ Active filter" : "&7Click to activate")
-                .build();
-        inventory.setItem(FILTER_ALL_SLOT, allFilter);
+                        currentFilter == FilterType.ALL ? "&a✓ Active filter" : "&7Click to activate");
+        frame.set(FILTER_ALL_SLOT, allFilter);
         // Filter: Cheap (under median price)
         Material cheapMaterial = currentFilter == FilterType.CHEAP ? Material.LIME_CONCRETE : Material.YELLOW_CONCRETE;
-        ItemStack cheapFilter = new ItemBuilder(cheapMaterial)
+        ItemBuilder cheapFilter = new ItemBuilder(cheapMaterial)
                 .name("&6Budget Friendly")
                 .lore(
                         "&7Show cheaper apartments",
                         "&7(Below median price)",
                         "",
-                        currentFilter == FilterType.CHEAP ? "&a✓ Active filter" : "&7Click to activate")
-                .build();
-        inventory.setItem(FILTER_CHEAP_SLOT, cheapFilter);
+                        currentFilter == FilterType.CHEAP ? "&a✓ Active filter" : "&7Click to activate");
+        frame.set(FILTER_CHEAP_SLOT, cheapFilter);
 
         // Filter: Expensive (above median price)
         Material expensiveMaterial = currentFilter == FilterType.EXPENSIVE ? Material.LIME_CONCRETE
                 : Material.ORANGE_CONCRETE;
-        ItemStack expensiveFilter = new ItemBuilder(expensiveMaterial)
+        ItemBuilder expensiveFilter = new ItemBuilder(expensiveMaterial)
                 .name("&6Premium Properties")
                 .lore(
                         "&7Show luxury apartments",
                         "&7(Above median price)",
                         "",
-                        currentFilter == FilterType.EXPENSIVE ? "&a✓ Active filter" : "&7Click to activate")
-                .build();
-        inventory.setItem(FILTER_EXPENSIVE_SLOT, expensiveFilter);
+                        currentFilter == FilterType.EXPENSIVE ? "&a✓ Active filter" : "&7Click to activate");
+        frame.set(FILTER_EXPENSIVE_SLOT, expensiveFilter);
 
         // Filter: Top Rated
         Material ratedMaterial = currentFilter == FilterType.TOP_RATED ? Material.LIME_CONCRETE : Material.GOLD_BLOCK;
-        ItemStack ratedFilter = new ItemBuilder(ratedMaterial)
+        ItemBuilder ratedFilter = new ItemBuilder(ratedMaterial)
                 .name("&6Top Rated")
                 .lore(
                         "&7Show highly rated apartments",
                         "&7(Rating 4.0+ stars)",
                         "",
-                        currentFilter == FilterType.TOP_RATED ? "&a✓ Active filter" : "&7Click to activate")
-                .build();
-        inventory.setItem(FILTER_RATED_SLOT, ratedFilter);
+                        currentFilter == FilterType.TOP_RATED ? "&a✓ Active filter" : "&7Click to activate");
+        frame.set(FILTER_RATED_SLOT, ratedFilter);
 
         // Filter: High Level
         Material levelMaterial = currentFilter == FilterType.HIGH_LEVEL ? Material.LIME_CONCRETE
                 : Material.DIAMOND_BLOCK;
-        ItemStack levelFilter = new ItemBuilder(levelMaterial)
+        ItemBuilder levelFilter = new ItemBuilder(levelMaterial)
                 .name("&6High Level")
                 .lore(
                         "&7Show level 3+ apartments",
                         "&7(Better income potential)",
                         "",
-                        currentFilter == FilterType.HIGH_LEVEL ? "&a✓ Active filter" : "&7Click to activate")
-                .build();
-        inventory.setItem(FILTER_LEVEL_SLOT, levelFilter);
+                        currentFilter == FilterType.HIGH_LEVEL ? "&a✓ Active filter" : "&7Click to activate");
+        frame.set(FILTER_LEVEL_SLOT, levelFilter);
 
         // Sort options
-        ItemStack sortItem = new ItemBuilder(Material.HOPPER)
+        ItemBuilder sortItem = new ItemBuilder(Material.HOPPER)
                 .name("&6Sort: " + currentSort.getDisplayName())
                 .lore(
                         "&7Current sorting method",
@@ -155,37 +157,22 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
                         "&7• Rating: High to Low",
                         "&7• Level: High to Low",
                         "",
-                        "&a▶ Click to change")
-                .build();
-        inventory.setItem(SORT_SLOT, sortItem);
-    }
-
-    private double getEffectivePrice(Apartment a) {
-        return (a.marketListing && a.owner != null) ? a.marketPrice : a.price;
+                        "&a▶ Click to change");
+        frame.set(SORT_SLOT, sortItem);
     }
 
-    private List<Apartment> applyFilter(List<Apartment> apartments) {
+    private List<Apartment> applyFilter(List<Apartment> apartments, ListingIndex index) {
         switch (currentFilter) {
             case CHEAP:
-                double medianPrice = apartments.stream()
-                        .mapToDouble(this::getEffectivePrice)
-                        .sorted()
-                        .skip(apartments.size() / 2)
-                        .findFirst()
-                        .orElse(0);
+                double medianPrice = index.getMedianEffectivePrice();
                 return apartments.stream()
-                        .filter(a -> getEffectivePrice(a) <= medianPrice)
+                        .filter(a -> ListingIndex.getEffectivePrice(a) <= medianPrice)
                         .collect(Collectors.toList());
 
             case EXPENSIVE:
-                double medianPrice2 = apartments.stream()
-                        .mapToDouble(this::getEffectivePrice)
-                        .sorted()
-                        .skip(apartments.size() / 2)
-                        .findFirst()
-                        .orElse(0);
+                double medianPrice2 = index.getMedianEffectivePrice();
                 return apartments.stream()
-                        .filter(a -> getEffectivePrice(a) > medianPrice2)
+                        .filter(a -> ListingIndex.getEffectivePrice(a) > medianPrice2)
                         .collect(Collectors.toList());
 
             case TOP_RATED:
@@ -206,40 +193,7 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
         }
     }
 
-    private List<Apartment> applySort(List<Apartment> apartments) {
-        switch (currentSort) {
-            case PRICE_LOW:
-                return apartments.stream()
-                        .sorted(Comparator.comparingDouble(this::getEffectivePrice))
-                        .collect(Collectors.toList());
-
-            case PRICE_HIGH:
-                return apartments.stream()
-                        .sorted(Comparator.comparingDouble((Apartment a) -> getEffectivePrice(a)).reversed())
-                        .collect(Collectors.toList());
-
-            case RATING:
-                return apartments.stream()
-                        .sorted((a1, a2) -> {
-                            ApartmentRating r1 = plugin.getApartmentManager().getRating(a1.id);
-                            ApartmentRating r2 = plugin.getApartmentManager().getRating(a2.id);
-                            double rating1 = r1 != null ? r1.getAverageRating() : 0;
-                            double rating2 = r2 != null ? r2.getAverageRating() : 0;
-                            return Double.compare(rating2, rating1);
-                        })
-                        .collect(Collectors.toList());
-
-            case LEVEL:
-                return apartments.stream()
-                        .sorted(Comparator.comparingInt((Apartment a) -> a.level).reversed())
-                        .collect(Collectors.toList());
-
-            default:
-                return apartments;
-        }
-    }
-
-    private GUIItem createApartmentItem(Apartment apartment) {
+    private GUIItem createApartmentItem(Apartment apartment, boolean ownListing) {
         ApartmentRating rating = plugin.getApartmentManager().getRating(apartment.id);
         double avgRating = rating != null ? rating.getAverageRating() : 0;
         String ratingDisplay = rating != null && rating.ratingCount > 0
@@ -299,6 +253,13 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
 
         // Property details
         lore.add("&e💰 Price: &f" + plugin.getConfigManager().formatMoney(displayPrice));
+        double fairPrice = plugin.getPriceHistoryManager().getFairPrice(apartment);
+        if (fairPrice > 0) {
+            // Within 10% of the median recent sale counts as fair
+            String verdict = displayPrice < fairPrice * 0.9 ? "&a(below)"
+                    : displayPrice > fairPrice * 1.1 ? "&c(above)" : "&e(fair)";
+            lore.add("&e⚖ Fair price: &f" + plugin.getConfigManager().formatMoney(fairPrice) + " " + verdict);
+        }
         lore.add("&e📊 Level: &f" + apartment.level + "/5");
         lore.add("&e🏢 Floor: &f" + apartment.floor);
         lore.add("&e📏 Height: &f" + apartment.height);
@@ -307,13 +268,11 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
         lore.add(incomeLine);
 
         if (isMarketListing && plugin.getResearchManager() != null && apartment.owner != null) {
-            com.aithor.apartmentcore.research.PlayerResearchData data = plugin.getResearchManager()
-                    .getPlayerData(apartment.owner);
-            int totalTiers = 0;
+            // From the resident summary; browsing must not load every seller's profile
+            int totalTiers = plugin.getResearchManager().getTotalCompletedTiers(apartment.owner);
             int maxTotalTiers = 0;
             for (com.aithor.apartmentcore.research.ResearchType rt : com.aithor.apartmentcore.research.ResearchType
                     .values()) {
-                totalTiers += data.getCompletedTier(rt);
                 maxTotalTiers += rt.getMaxTier();
             }
             if (totalTiers > 0) {
@@ -325,11 +284,16 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
         lore.add("");
 
         // Actions
-        lore.add("&a▶ Left-click to view details");
-        if (isMarketListing) {
-            lore.add("&a▶ Right-click to buy from seller");
+        if (ownListing) {
+            lore.add("&6👑 This is your listing");
+            lore.add("&a▶ Left-click to view details");
         } else {
-            lore.add("&a▶ Right-click to buy instantly");
+            lore.add("&a▶ Left-click to view details");
+            if (isMarketListing) {
+                lore.add("&a▶ Right-click to buy from seller");
+            } else {
+                lore.add("&a▶ Right-click to buy instantly");
+            }
         }
         lore.add("&a▶ Shift+click to teleport & preview");
 
@@ -445,25 +409,45 @@ public class ApartmentBrowserGUI extends PaginatedGUI {
     }
 
     private enum SortType {
-        PRICE_LOW("Price: Low to High"),
-        PRICE_HIGH("Price: High to Low"),
-        RATING("Rating: High to Low"),
-        LEVEL("Level: High to Low");
+        PRICE_LOW("Price: Low to High", ListingIndex.SortKey.EFFECTIVE_PRICE, false),
+        PRICE_HIGH("Price: High to Low", ListingIndex.SortKey.EFFECTIVE_PRICE, true),
+        RATING("Rating: High to Low", ListingIndex.SortKey.RATING, true),
+        LEVEL("Level: High to Low", ListingIndex.SortKey.LEVEL, true);
 
         private final String displayName;
+        private final ListingIndex.SortKey key;
+        private final boolean descending;
 
-        SortType(String displayName) {
+        SortType(String displayName, ListingIndex.SortKey key, boolean descending) {
             this.displayName = displayName;
+            this.key = key;
+            this.descending = descending;
         }
 
         public String getDisplayName() {
             return displayName;
         }
 
+        public List<Apartment> view(ListingIndex index) {
+            return index.getOrdered(key, descending);
+        }
+
         public SortType next() {
             SortType[] values = values();
             return values[(ordinal() + 1) % values.length];
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Shared ordering of the listed apartments for one filter/sort, plus the
+     * cards built so far by any viewer
+     */
+    private static final class BrowserModel {
+        final List<Apartment> apartments;
+        final Map<String, GUIItem> cards = new ConcurrentHashMap<>();
+
+        BrowserModel(List<Apartment> apartments) {
+            this.apartments = Collections.unmodifiableList(apartments);
+        }
+    }
+}
@@ -9,7 +9,9 @@ import com.aithor.apartmentcore.model.TaxStatus;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -33,6 +35,7 @@ public class ApartmentDetailsGUI implements GUI {
     private final String apartmentId;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
 
     // Slot positions
     private static final int BACK_SLOT = 0;
@@ -58,7 +61,8 @@ public class ApartmentDetailsGUI implements GUI {
         this.guiManager = guiManager;
         this.apartmentId = apartmentId;
         this.title = ChatColor.DARK_PURPLE + "Apartment Details";
-        this.inventory = Bukkit.createInventory(null, 45, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 45, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -68,22 +72,24 @@ public class ApartmentDetailsGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
 
         Apartment apartment = plugin.getApartmentManager().getApartment(apartmentId);
         if (apartment == null) {
             // Apartment not found
-            ItemStack errorItem = new ItemBuilder(Material.BARRIER)
+            ItemBuilder errorItem = new ItemBuilder(Material.BARRIER)
                     .name("&cApartment Not Found")
-                    .lore("&7The requested apartment could not be found")
-                    .build();
-            inventory.setItem(22, errorItem);
+                    .lore("&7The requested apartment could not be found");
+            frame.set(22, errorItem);
+            frame.commit();
             return;
         }
 
         addBorder();
         addApartmentInfo(apartment);
         addActionButtons(apartment);
+
+        frame.commit();
     }
 
     private void addBorder() {
@@ -92,7 +98,7 @@ public class ApartmentDetailsGUI implements GUI {
         // Add border around the GUI
         int[] borderSlots = { 0, 1, 2, 3, 5, 6, 7, 8, 9, 17, 18, 26, 27, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44 };
         for (int slot : borderSlots) {
-            inventory.setItem(slot, borderItem);
+            frame.set(slot, borderItem);
         }
     }
 
@@ -123,7 +129,7 @@ public class ApartmentDetailsGUI implements GUI {
         lore.add("&e💰 Financial Information:");
         lore.add("&7• Price: &a" + plugin.getConfigManager().formatMoney(apartment.price));
         if (apartment.owner != null) {
-            lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apartment.pendingIncome));
+            lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apartment.getPendingIncome()));
             lore.add("&7• Tax Arrears: &c" + plugin.getConfigManager().formatMoney(apartment.getTotalUnpaid()));
         }
         lore.add("");
@@ -180,19 +186,17 @@ public class ApartmentDetailsGUI implements GUI {
         // Determine material based on status
         Material material = getMaterialForStatus(taxStatus, apartment.owner != null);
 
-        ItemStack infoItem = new ItemBuilder(material)
+        ItemBuilder infoItem = new ItemBuilder(material)
                 .name("&6🏠 " + apartment.displayName)
-                .lore(lore)
-                .build();
+                .lore(lore);
 
-        inventory.setItem(APARTMENT_INFO_SLOT, infoItem);
+        frame.set(APARTMENT_INFO_SLOT, infoItem);
 
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back")
-                .lore("&7Return to previous menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to previous menu");
+        frame.set(BACK_SLOT, backItem);
     }
 
     private void addActionButtons(Apartment apartment) {
@@ -201,26 +205,25 @@ public class ApartmentDetailsGUI implements GUI {
 
         // Teleport (available to owners or for preview if has permission)
         if (isOwner || player.hasPermission("apartmentcore.preview")) {
-            ItemStack teleportItem = new ItemBuilder(Material.ENDER_PEARL)
+            ItemBuilder teleportItem = new ItemBuilder(Material.ENDER_PEARL)
                     .name("&a🚪 Teleport")
                     .lore(
                             isOwner ? "&7Teleport to your apartment" : "&7Preview this apartment",
                             "",
                             "&a▶ Click to teleport")
-                    .glow()
-                    .build();
-            inventory.setItem(TELEPORT_SLOT, teleportItem);
+                    .glow();
+            frame.set(TELEPORT_SLOT, teleportItem);
         }
 
         // Claim Income (owners only)
         if (isOwner) {
-            boolean hasIncome = apartment.pendingIncome > 0;
+            boolean hasIncome = apartment.getPendingIncome() > 0;
             ItemBuilder claimItemBuilder = new ItemBuilder(hasIncome ? Material.EMERALD : Material.GRAY_DYE)
                     .name("&a💰 Claim Income")
                     .lore(
                             "&7Claim pending rental income",
                             "",
-                            "&7Amount: &a" + plugin.getConfigManager().formatMoney(apartment.pendingIncome),
+                            "&7Amount: &a" + plugin.getConfigManager().formatMoney(apartment.getPendingIncome()),
                             "",
                             hasIncome ? "&a▶ Click to claim" : "&7No income to claim");
 
@@ -228,7 +231,7 @@ public class ApartmentDetailsGUI implements GUI {
                 claimItemBuilder.glow();
             }
 
-            inventory.setItem(CLAIM_INCOME_SLOT, claimItemBuilder.build());
+            frame.set(CLAIM_INCOME_SLOT, claimItemBuilder.build());
         }
 
         // Buy (non-owners, if available - government sale)
@@ -236,7 +239,7 @@ public class ApartmentDetailsGUI implements GUI {
             boolean canAfford = plugin.getEconomy().has(player, apartment.price);
             Material buyMaterial = canAfford ? Material.GOLD_BLOCK : Material.RED_CONCRETE;
 
-            ItemStack buyItem = new ItemBuilder(buyMaterial)
+            ItemBuilder buyItem = new ItemBuilder(buyMaterial)
                     .name("&a🛒 Purchase Apartment")
                     .lore(
                             "&7Buy this apartment",
@@ -246,9 +249,8 @@ public class ApartmentDetailsGUI implements GUI {
                                     + plugin.getConfigManager().formatMoney(plugin.getEconomy().getBalance(player)),
                             "",
                             canAfford ? "&a▶ Click to purchase" : "&cInsufficient funds")
-                    .glow()
-                    .build();
-            inventory.setItem(BUY_SLOT, buyItem);
+                    .glow();
+            frame.set(BUY_SLOT, buyItem);
         }
 
         // Market Buy (non-owners, if listed on market)
@@ -259,7 +261,7 @@ public class ApartmentDetailsGUI implements GUI {
                     : "Unknown";
             Material buyMaterial = canAfford ? Material.GOLD_BLOCK : Material.RED_CONCRETE;
 
-            ItemStack marketBuyItem = new ItemBuilder(buyMaterial)
+            ItemBuilder marketBuyItem = new ItemBuilder(buyMaterial)
                     .name("&a🛒 Buy from Market")
                     .lore(
                             "&7Purchase this apartment from",
@@ -271,9 +273,8 @@ public class ApartmentDetailsGUI implements GUI {
                                     + plugin.getConfigManager().formatMoney(plugin.getEconomy().getBalance(player)),
                             "",
                             canAfford ? "&a▶ Click to purchase" : "&cInsufficient funds")
-                    .glow()
-                    .build();
-            inventory.setItem(BUY_SLOT, marketBuyItem);
+                    .glow();
+            frame.set(BUY_SLOT, marketBuyItem);
         }
 
         // Upgrade (owners only, if not max level)
@@ -284,7 +285,7 @@ public class ApartmentDetailsGUI implements GUI {
                     long remainingMillis = apartment.upgradeCompleteAt - System.currentTimeMillis();
                     String timeStr = remainingMillis > 0 ? formatTime(remainingMillis) : "Completing...";
 
-                    ItemStack upgradingItem = new ItemBuilder(Material.CLOCK)
+                    ItemBuilder upgradingItem = new ItemBuilder(Material.CLOCK)
                             .name("&e⏳ Upgrading...")
                             .lore(
                                     "&7Level " + apartment.level + " ➔ " + (apartment.level + 1),
@@ -292,14 +293,13 @@ public class ApartmentDetailsGUI implements GUI {
                                     "&7Time Remaining: &f" + timeStr,
                                     "",
                                     "&c✘ Please wait")
-                            .glow()
-                            .build();
-                    inventory.setItem(UPGRADE_SLOT, upgradingItem);
+                            .glow();
+                    frame.set(UPGRADE_SLOT, upgradingItem);
                 } else {
                     boolean canAffordUpgrade = plugin.getEconomy().has(player, nextLevel.upgradeCost);
                     Material upgradeMaterial = canAffordUpgrade ? Material.DIAMOND : Material.RED_CONCRETE;
 
-                    ItemStack upgradeItem = new ItemBuilder(upgradeMaterial)
+                    ItemBuilder upgradeItem = new ItemBuilder(upgradeMaterial)
                             .name("&a🔨 Upgrade Apartment")
                             .lore(
                                     "&7Upgrade to level " + (apartment.level + 1),
@@ -316,9 +316,8 @@ public class ApartmentDetailsGUI implements GUI {
                                                             apartment.level + 1)),
                                     "",
                                     canAffordUpgrade ? "&a▶ Click to upgrade" : "&cInsufficient funds")
-                            .glow()
-                            .build();
-                    inventory.setItem(UPGRADE_SLOT, upgradeItem);
+                            .glow();
+                    frame.set(UPGRADE_SLOT, upgradeItem);
                 }
             }
         }
@@ -326,35 +325,33 @@ public class ApartmentDetailsGUI implements GUI {
         // Management options (owners only)
         if (isOwner) {
             // Set Name
-            ItemStack setNameItem = new ItemBuilder(Material.NAME_TAG)
+            ItemBuilder setNameItem = new ItemBuilder(Material.NAME_TAG)
                     .name("&a📝 Set Display Name")
                     .lore(
                             "&7Change the apartment's display name",
                             "",
                             "&7Current: &f" + apartment.displayName,
                             "",
-                            "&a▶ Click to change")
-                    .build();
-            inventory.setItem(SET_NAME_SLOT, setNameItem);
+                            "&a▶ Click to change");
+            frame.set(SET_NAME_SLOT, setNameItem);
 
             // Set Welcome Message
             String welcomePreview = apartment.welcomeMessage.length() > 30
                     ? apartment.welcomeMessage.substring(0, 27) + "..."
                     : apartment.welcomeMessage;
 
-            ItemStack setWelcomeItem = new ItemBuilder(Material.PAPER)
+            ItemBuilder setWelcomeItem = new ItemBuilder(Material.PAPER)
                     .name("&a💬 Set Welcome Message")
                     .lore(
                             "&7Set a welcome message for visitors",
                             "",
                             "&7Current: &f" + (apartment.welcomeMessage.isEmpty() ? "None" : welcomePreview),
                             "",
-                            "&a▶ Click to change")
-                    .build();
-            inventory.setItem(SET_WELCOME_SLOT, setWelcomeItem);
+                            "&a▶ Click to change");
+            frame.set(SET_WELCOME_SLOT, setWelcomeItem);
 
             // Set Teleport Location
-            ItemStack setTeleportItem = new ItemBuilder(Material.COMPASS)
+            ItemBuilder setTeleportItem = new ItemBuilder(Material.COMPASS)
                     .name("&a📍 Set Teleport Location")
                     .lore(
                             "&7Set custom teleport location",
@@ -362,15 +359,14 @@ public class ApartmentDetailsGUI implements GUI {
                             "&7Status: "
                                     + (apartment.hasCustomTeleport ? "&aCustom location set" : "&7Using region center"),
                             "",
-                            "&a▶ Click to set at current location")
-                    .build();
-            inventory.setItem(SET_TELEPORT_SLOT, setTeleportItem);
+                            "&a▶ Click to set at current location");
+            frame.set(SET_TELEPORT_SLOT, setTeleportItem);
 
             // Quick Sell
             double sellPrice = apartment.price * plugin.getConfigManager().getSellPercentage();
             boolean canSell = apartment.getTotalUnpaid() <= 0; // Can't sell with unpaid taxes
 
-            ItemStack quickSellItem = new ItemBuilder(canSell ? Material.RED_CONCRETE : Material.BARRIER)
+            ItemBuilder quickSellItem = new ItemBuilder(canSell ? Material.RED_CONCRETE : Material.BARRIER)
                     .name("&c⚡ Quick Sell")
                     .lore(
                             "&7Sell apartment back to the government",
@@ -380,15 +376,14 @@ public class ApartmentDetailsGUI implements GUI {
                             "&7(" + String.format("%.0f%%", plugin.getConfigManager().getSellPercentage() * 100)
                                     + " of purchase price)",
                             "",
-                            canSell ? "&c▶ Click to quick sell" : "&cCannot sell with unpaid taxes")
-                    .build();
-            inventory.setItem(QUICK_SELL_SLOT, quickSellItem);
+                            canSell ? "&c▶ Click to quick sell" : "&cCannot sell with unpaid taxes");
+            frame.set(QUICK_SELL_SLOT, quickSellItem);
 
             // Market Sell
             boolean canMarketSell = canSell && !apartment.upgradeInProgress;
             if (apartment.marketListing) {
                 // Already listed - show cancel option
-                ItemStack cancelListingItem = new ItemBuilder(Material.ORANGE_CONCRETE)
+                ItemBuilder cancelListingItem = new ItemBuilder(Material.ORANGE_CONCRETE)
                         .name("&6📢 Listed on Market")
                         .lore(
                                 "&7Your apartment is listed on the market",
@@ -396,11 +391,10 @@ public class ApartmentDetailsGUI implements GUI {
                                 "&7Listed Price: &a" + plugin.getConfigManager().formatMoney(apartment.marketPrice),
                                 "",
                                 "&c▶ Click to cancel listing")
-                        .glow()
-                        .build();
-                inventory.setItem(MARKET_SELL_SLOT, cancelListingItem);
+                        .glow();
+                frame.set(MARKET_SELL_SLOT, cancelListingItem);
             } else {
-                ItemStack marketSellItem = new ItemBuilder(canMarketSell ? Material.YELLOW_CONCRETE : Material.BARRIER)
+                ItemBuilder marketSellItem = new ItemBuilder(canMarketSell ? Material.YELLOW_CONCRETE : Material.BARRIER)
                         .name("&e📢 Market Sell")
                         .lore(
                                 "&7List apartment on the market",
@@ -411,49 +405,45 @@ public class ApartmentDetailsGUI implements GUI {
                                 "",
                                 canMarketSell ? "&e▶ Click to list on market"
                                         : (!canSell ? "&cCannot sell with unpaid taxes"
-                                                : "&cCannot list while upgrading"))
-                        .build();
-                inventory.setItem(MARKET_SELL_SLOT, marketSellItem);
+                                                : "&cCannot list while upgrading"));
+                frame.set(MARKET_SELL_SLOT, marketSellItem);
             }
 
             // Change Icon
             String currentIcon = apartment.icon != null ? apartment.icon : "Default (based on status)";
-            ItemStack changeIconItem = new ItemBuilder(Material.PAINTING)
+            ItemBuilder changeIconItem = new ItemBuilder(Material.PAINTING)
                     .name("&a🎨 Change Icon")
                     .lore(
                             "&7Change the apartment's icon in GUIs",
                             "",
                             "&7Current Icon: &f" + currentIcon,
                             "",
-                            "&a▶ Click to change")
-                    .build();
-            inventory.setItem(CHANGE_ICON_SLOT, changeIconItem);
+                            "&a▶ Click to change");
+            frame.set(CHANGE_ICON_SLOT, changeIconItem);
         }
 
         // Guestbook (everyone can view, owners can manage)
         var guestbook = plugin.getApartmentManager().getGuestBooks().get(apartmentId);
         int messageCount = guestbook != null ? guestbook.size() : 0;
 
-        ItemStack guestbookItem = new ItemBuilder(Material.WRITABLE_BOOK)
+        ItemBuilder guestbookItem = new ItemBuilder(Material.WRITABLE_BOOK)
                 .name("&a📖 Guestbook")
                 .lore(
                         "&7View or manage the guestbook",
                         "",
                         "&7Messages: &f" + messageCount + "&7/" + plugin.getConfigManager().getGuestBookMaxMessages(),
                         "",
-                        "&a▶ Click to open")
-                .build();
-        inventory.setItem(GUESTBOOK_SLOT, guestbookItem);
+                        "&a▶ Click to open");
+        frame.set(GUESTBOOK_SLOT, guestbookItem);
 
         // Statistics
-        ItemStack statsItem = new ItemBuilder(Material.BOOK)
+        ItemBuilder statsItem = new ItemBuilder(Material.BOOK)
                 .name("&a📊 Statistics")
                 .lore(
                         "&7View detailed statistics",
                         "",
-                        "&a▶ Click to view")
-                .build();
-        inventory.setItem(STATISTICS_SLOT, statsItem);
+                        "&a▶ Click to view");
+        frame.set(STATISTICS_SLOT, statsItem);
 
         // Tax Information (owners only)
         if (isOwner) {
@@ -461,7 +451,7 @@ public class ApartmentDetailsGUI implements GUI {
                     ? apartment.taxInvoices.stream().filter(inv -> !inv.isPaid()).count()
                     : 0;
 
-            ItemStack taxItem = new ItemBuilder(Material.GOLD_INGOT)
+            ItemBuilder taxItem = new ItemBuilder(Material.GOLD_INGOT)
                     .name("&a💰 Tax Information")
                     .lore(
                             "&7View tax details and payment options",
@@ -469,22 +459,20 @@ public class ApartmentDetailsGUI implements GUI {
                             "&7Active Invoices: &f" + activeInvoices,
                             "&7Total Due: &c" + plugin.getConfigManager().formatMoney(apartment.getTotalUnpaid()),
                             "",
-                            "&a▶ Click for details")
-                    .build();
-            inventory.setItem(TAX_INFO_SLOT, taxItem);
+                            "&a▶ Click for details");
+            frame.set(TAX_INFO_SLOT, taxItem);
         }
 
         // Rate Apartment (non-owners only)
         if (!isOwner && apartment.owner != null) {
-            ItemStack rateItem = new ItemBuilder(Material.NETHER_STAR)
+            ItemBuilder rateItem = new ItemBuilder(Material.NETHER_STAR)
                     .name("&a⭐ Rate Apartment")
                     .lore(
                             "&7Rate this apartment (0-10)",
                             "",
                             "&a▶ Click to rate")
-                    .glow()
-                    .build();
-            inventory.setItem(RATE_SLOT, rateItem);
+                    .glow();
+            frame.set(RATE_SLOT, rateItem);
         }
     }
 
@@ -632,7 +620,7 @@ public class ApartmentDetailsGUI implements GUI {
     }
 
     private void handleClaimIncome(Apartment apartment) {
-        if (apartment.pendingIncome <= 0) {
+        if (apartment.getPendingIncome() <= 0) {
             GUIUtils.sendMessage(player, "&cNo income to claim!");
             GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
             return;
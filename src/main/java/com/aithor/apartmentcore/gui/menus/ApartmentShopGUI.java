@@ -5,10 +5,12 @@ import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 import com.aithor.apartmentcore.shop.ApartmentShopData;
 import com.aithor.apartmentcore.shop.ApartmentShopManager;
 import com.aithor.apartmentcore.shop.ShopItem;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -32,6 +34,7 @@ public class ApartmentShopGUI implements GUI {
     private final String apartmentId;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
 
     // Slot positions for shop items
     private static final int PREMIUM_KITCHEN_SLOT = 10;
@@ -56,7 +59,8 @@ public class ApartmentShopGUI implements GUI {
         String apartmentName = apartment != null ? apartment.displayName : apartmentId;
 
         this.title = ChatColor.GOLD + "🛍️ " + apartmentName + " - Shop";
-        this.inventory = Bukkit.createInventory(null, 45, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 45, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -66,7 +70,7 @@ public class ApartmentShopGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
 
         // Add decorative border
         addBorder();
@@ -80,6 +84,8 @@ public class ApartmentShopGUI implements GUI {
         // Add stats and navigation
         addStats();
         addBackButton();
+
+        frame.commit();
     }
 
     private void addBorder() {
@@ -87,14 +93,14 @@ public class ApartmentShopGUI implements GUI {
 
         // Top and bottom border
         for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + 36, borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + 36, borderItem);
         }
 
         // Side borders
         for (int i = 9; i < 36; i += 9) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + 8, borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + 8, borderItem);
         }
     }
 
@@ -119,7 +125,7 @@ public class ApartmentShopGUI implements GUI {
                 .glow()
                 .build();
 
-        inventory.setItem(INFO_SLOT, item);
+        frame.set(INFO_SLOT, item);
     }
 
     private void addShopItems() {
@@ -215,7 +221,7 @@ public class ApartmentShopGUI implements GUI {
             builder.glow();
         }
 
-        inventory.setItem(slot, builder.build());
+        frame.set(slot, builder.build());
     }
 
     private void addStats() {
@@ -272,7 +278,7 @@ public class ApartmentShopGUI implements GUI {
                 .glow()
                 .build();
 
-        inventory.setItem(STATS_SLOT, item);
+        frame.set(STATS_SLOT, item);
     }
 
     private void addBackButton() {
@@ -281,7 +287,7 @@ public class ApartmentShopGUI implements GUI {
                 .lore("&7Click to go back")
                 .build();
 
-        inventory.setItem(BACK_SLOT, item);
+        frame.set(BACK_SLOT, item);
     }
 
     private int getActiveUpgradeCount(ApartmentShopData shopData) {
@@ -9,12 +9,16 @@ import com.aithor.apartmentcore.model.TaxInvoice;
 import com.aithor.apartmentcore.model.TaxStatus;
 import com.aithor.apartmentcore.research.ResearchManager;
 import com.aithor.apartmentcore.shop.ApartmentShopData;
+import com.aithor.apartmentcore.shop.ApartmentShopManager;
 import com.aithor.apartmentcore.shop.ShopItem;
 import com.aithor.apartmentcore.manager.ConfigManager;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.AsyncLoader;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -24,7 +28,10 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Per-apartment detailed statistics GUI — displays all stat panels:
@@ -38,6 +45,9 @@ public class ApartmentStatisticsGUI implements GUI {
     private final String apartmentId;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
+    private final AsyncLoader loader;
+    private boolean loaded;
 
     // Navigation slots (top row)
     private static final int BACK_SLOT = 0;
@@ -54,6 +64,7 @@ public class ApartmentStatisticsGUI implements GUI {
     private static final int STATUS_SLOT = 48;
     private static final int RATING_SLOT = 49;
     private static final int GUESTBOOK_SLOT = 50;
+    private static final int LOADING_SLOT = 31;
 
     public ApartmentStatisticsGUI(Player player, ApartmentCore plugin, GUIManager guiManager, String apartmentId) {
         this.player = player;
@@ -61,7 +72,10 @@ public class ApartmentStatisticsGUI implements GUI {
         this.guiManager = guiManager;
         this.apartmentId = apartmentId;
         this.title = ChatColor.DARK_AQUA + "Apartment Statistics";
-        this.inventory = Bukkit.createInventory(null, 54, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 54, this.title);
+        this.frame = new InventoryFrame(inventory);
+        this.loader = new AsyncLoader(plugin, plugin.getConfigManager()::isPerformanceUseAsync,
+                () -> player.isOnline() && player.getOpenInventory().getTopInventory() == inventory);
     }
 
     // =====================================================================
@@ -75,26 +89,69 @@ public class ApartmentStatisticsGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
-
         Apartment apt = plugin.getApartmentManager().getApartment(apartmentId);
         if (apt == null) {
-            ItemStack errorItem = new ItemBuilder(Material.BARRIER)
+            loader.cancel();
+            frame.begin();
+            ItemBuilder errorItem = new ItemBuilder(Material.BARRIER)
                     .name("&cApartment Not Found")
-                    .lore("&7The requested apartment could not be found")
-                    .build();
-            inventory.setItem(22, errorItem);
+                    .lore("&7The requested apartment could not be found");
+            frame.set(22, errorItem);
+            frame.commit();
             return;
         }
 
+        // Read everything on the main thread, format the sections on a worker
+        Snapshot snapshot = new Snapshot(plugin, apt);
+        boolean applied = loader.submit(() -> buildSections(snapshot), this::render, this::renderLoadFailure);
+        if (!applied && !loaded) {
+            frame.begin();
+            addBorder();
+            addNavigation();
+            frame.set(LOADING_SLOT, new ItemBuilder(Material.CLOCK)
+                    .name("&eLoading statistics...")
+                    .lore("&7Please wait a moment"));
+            frame.commit();
+        }
+    }
+
+    /**
+     * Replace the loading indicator when the sections could not be built; a
+     * failed refresh keeps the sections already shown
+     */
+    private void renderLoadFailure() {
+        if (loaded) {
+            return;
+        }
+        frame.begin();
         addBorder();
         addNavigation();
-        addBaseStats(apt);
-        addShopBuffStats(apt);
-        addResearchBuffStats(apt);
-        addFinalMathStats(apt);
-        addOtherStats(apt);
-        addStatusAndMeta(apt);
+        frame.set(LOADING_SLOT, new ItemBuilder(Material.BARRIER)
+                .name("&cFailed to load statistics")
+                .lore("&7Reopen the menu to try again"));
+        frame.commit();
+    }
+
+    private Map<Integer, ItemBuilder> buildSections(Snapshot snapshot) {
+        Map<Integer, ItemBuilder> sections = new LinkedHashMap<>();
+        addBaseStats(snapshot, sections);
+        addShopBuffStats(snapshot, sections);
+        addResearchBuffStats(snapshot, sections);
+        addFinalMathStats(snapshot, sections);
+        addOtherStats(snapshot, sections);
+        addStatusAndMeta(snapshot, sections);
+        return sections;
+    }
+
+    private void render(Map<Integer, ItemBuilder> sections) {
+        loaded = true;
+        frame.begin();
+        addBorder();
+        addNavigation();
+        for (Map.Entry<Integer, ItemBuilder> section : sections.entrySet()) {
+            frame.set(section.getKey(), section.getValue());
+        }
+        frame.commit();
     }
 
     // =====================================================================
@@ -105,65 +162,63 @@ public class ApartmentStatisticsGUI implements GUI {
         ItemStack border = ItemBuilder.filler(Material.GRAY_STAINED_GLASS_PANE);
         // Top row
         for (int i = 0; i <= 8; i++)
-            inventory.setItem(i, border);
+            frame.set(i, border);
         // Bottom row
         for (int i = 45; i <= 53; i++)
-            inventory.setItem(i, border);
+            frame.set(i, border);
         // Left & right columns
         for (int i = 0; i < 6; i++) {
-            inventory.setItem(i * 9, border);
-            inventory.setItem(i * 9 + 8, border);
+            frame.set(i * 9, border);
+            frame.set(i * 9 + 8, border);
         }
     }
 
     private void addNavigation() {
         // Back button
-        ItemStack back = new ItemBuilder(Material.ARROW)
+        ItemBuilder back = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Statistics Overview")
-                .lore("&7Return to the global statistics")
-                .build();
-        inventory.setItem(BACK_SLOT, back);
+                .lore("&7Return to the global statistics");
+        frame.set(BACK_SLOT, back);
 
         // Shortcut to Apartment Details
-        ItemStack details = new ItemBuilder(Material.NETHER_STAR)
+        ItemBuilder details = new ItemBuilder(Material.NETHER_STAR)
                 .name("&a📋 Open Apartment Details")
                 .lore("&7View management & actions for this apartment", "", "&a▶ Click to open")
-                .glow()
-                .build();
-        inventory.setItem(OPEN_DETAILS_SLOT, details);
+                .glow();
+        frame.set(OPEN_DETAILS_SLOT, details);
     }
 
     // =====================================================================
     // Section 1 — Base Apartment Statistics
     // =====================================================================
 
-    private void addBaseStats(Apartment apt) {
-        LevelConfig cfg = plugin.getConfigManager().getLevelConfig(apt.level);
+    private void addBaseStats(Snapshot s, Map<Integer, ItemBuilder> sections) {
+        LevelConfig cfg = s.levelConfig;
 
         List<String> lore = new ArrayList<>();
         lore.add("&8▸ Base apartment attributes from level config");
         lore.add("");
         lore.add("&e📋 Identity:");
-        lore.add("&7• Apartment ID: &f" + apt.id);
-        lore.add("&7• Display Name: &f" + apt.displayName);
-        lore.add("&7• Level: &f" + apt.level + " &7/ 5");
-        lore.add("&7• Purchase Price: &f" + plugin.getConfigManager().formatMoney(apt.price));
-        lore.add("&7• Floor: &f" + apt.floor);
-        lore.add("&7• Height: &f" + apt.height);
+        lore.add("&7• Apartment ID: &f" + s.id);
+        lore.add("&7• Display Name: &f" + s.displayName);
+        lore.add("&7• Level: &f" + s.level + " &7/ 5");
+        lore.add("&7• Purchase Price: &f" + plugin.getConfigManager().formatMoney(s.price));
+        lore.add("&7• Floor: &f" + s.floor);
+        lore.add("&7• Height: &f" + s.height);
         lore.add("");
         lore.add("&e💰 Base Income (per cycle):");
         if (cfg != null) {
-            lore.add("&7• Min Income: &a" + plugin.getConfigManager().formatMoney(apt.getMinIncome(plugin.getConfigManager(), apt.level)));
-            lore.add("&7• Max Income: &a" + plugin.getConfigManager().formatMoney(apt.getMaxIncome(plugin.getConfigManager(), apt.level)));
+            lore.add("&7• Min Income: &a" + plugin.getConfigManager().formatMoney(s.minIncome));
+            lore.add("&7• Max Income: &a" + plugin.getConfigManager().formatMoney(s.maxIncome));
             lore.add("&7• Income Capacity: &b" + plugin.getConfigManager().formatMoney(cfg.incomeCapacity));
         } else {
-            lore.add("&c• Level config not found (level: " + apt.level + ")");
+            lore.add("&c• Level config not found (level: " + s.level + ")");
         }
         lore.add("");
         lore.add("&e🧾 Base Tax:");
         if (cfg != null) {
             lore.add("&7• Tax Rate: &c" + String.format("%.1f%%", cfg.taxPercentage));
-            double baseTaxAmt = apt.price * (cfg.taxPercentage / 100.0);
+            double baseTaxAmt = s.price * (cfg.taxPercentage / 100.0);
             lore.add("&7• Tax per Cycle: &c" + plugin.getConfigManager().formatMoney(baseTaxAmt));
         } else {
             lore.add("&c• Level config not found");
@@ -171,33 +226,28 @@ public class ApartmentStatisticsGUI implements GUI {
         lore.add("");
         lore.add("&7These are raw values before any buffs are applied.");
 
-        ItemStack item = new ItemBuilder(Material.BOOK)
+        ItemBuilder item = new ItemBuilder(Material.BOOK)
                 .name("&b📊 Section 1: Base Apartment Stats")
-                .lore(lore)
-                .build();
-        inventory.setItem(BASE_STATS_SLOT, item);
+                .lore(lore);
+        sections.put(BASE_STATS_SLOT, item);
     }
 
     // =====================================================================
     // Section 2 — Shop Buff Statistics
     // =====================================================================
 
-    private void addShopBuffStats(Apartment apt) {
-        ApartmentShopData shopData = plugin.getShopManager() != null
-                ? plugin.getShopManager().getShopData(apt.id)
-                : null;
-
+    private void addShopBuffStats(Snapshot s, Map<Integer, ItemBuilder> sections) {
         List<String> lore = new ArrayList<>();
         lore.add("&8▸ Buffs applied via the apartment shop");
         lore.add("");
 
-        if (shopData == null || plugin.getShopManager() == null) {
+        if (!s.shopAvailable) {
             lore.add("&cShop system is unavailable.");
         } else {
             lore.add("&e🛒 Shop Upgrades:");
 
             for (ShopItem shopItem : ShopItem.values()) {
-                int tier = shopData.getTier(shopItem);
+                int tier = s.shopTiers.getOrDefault(shopItem, 0);
                 String tierText = tier == 0 ? "&8Not purchased" : "&aT" + tier + " &7/ &aT" + shopItem.getMaxTier();
                 String buffText = tier == 0 ? "" : " &7(" + shopItem.getBuffDescription(tier) + ")";
                 lore.add("&7• " + shopItem.getDisplayName() + ": " + tierText + buffText);
@@ -206,12 +256,12 @@ public class ApartmentStatisticsGUI implements GUI {
             lore.add("");
             lore.add("&e📈 Total Shop Buffs:");
 
-            double incomeBonus = plugin.getShopManager().getIncomeBonusPercentage(apt.id);
-            double baseBonus = plugin.getShopManager().getBaseIncomeBonus(apt.id);
-            double taxReduct = plugin.getShopManager().getTaxReductionPercentage(apt.id);
-            double incomeSpeed = plugin.getShopManager().getIncomeSpeedBonus(apt.id);
-            int maxMsgs = plugin.getShopManager().getMaxMessagesBonus(apt.id);
-            double capacityBonus = plugin.getShopManager().getIncomeCapacityBonusPercentage(apt.id);
+            double incomeBonus = s.shopIncomeBonus;
+            double baseBonus = s.shopFlatBonus;
+            double taxReduct = s.shopTaxReduction;
+            double incomeSpeed = s.shopIncomeSpeed;
+            int maxMsgs = s.shopMaxMessages;
+            double capacityBonus = s.shopCapacityBonus;
 
             lore.add("&7• Income % Bonus: "
                     + (incomeBonus > 0 ? "&a+" + String.format("%.1f%%", incomeBonus) : "&8None"));
@@ -222,38 +272,34 @@ public class ApartmentStatisticsGUI implements GUI {
             lore.add("&7• Extra Guestbook Msgs: " + (maxMsgs > 0 ? "&a+" + maxMsgs : "&8None"));
             lore.add("&7• Income Capacity: "
                     + (capacityBonus > 0 ? "&a+" + String.format("%.1f%%", capacityBonus) : "&8None"));
-            lore.add("&7• Total Invested: &e" + plugin.getConfigManager().formatMoney(shopData.getTotalMoneySpent()));
+            lore.add("&7• Total Invested: &e" + plugin.getConfigManager().formatMoney(s.shopMoneySpent));
         }
 
-        ItemStack item = new ItemBuilder(Material.EMERALD)
+        ItemBuilder item = new ItemBuilder(Material.EMERALD)
                 .name("&a🛒 Section 2: Shop Buff Stats")
-                .lore(lore)
-                .build();
-        inventory.setItem(SHOP_BUFF_SLOT, item);
+                .lore(lore);
+        sections.put(SHOP_BUFF_SLOT, item);
     }
 
     // =====================================================================
     // Section 3 — Research Buff Statistics
     // =====================================================================
 
-    private void addResearchBuffStats(Apartment apt) {
+    private void addResearchBuffStats(Snapshot s, Map<Integer, ItemBuilder> sections) {
         List<String> lore = new ArrayList<>();
         lore.add("&8▸ Permanent player-level research buffs");
         lore.add("");
 
-        if (apt.owner == null || plugin.getResearchManager() == null) {
+        if (!s.researchAvailable) {
             lore.add("&7• No owner or research system unavailable.");
         } else {
-            ResearchManager rm = plugin.getResearchManager();
-            java.util.UUID ownerId = apt.owner;
-
-            double capitalGrowth = rm.getIncomeAmountBonus(ownerId);
-            double revenueAccel = rm.getIncomeIntervalReduction(ownerId);
-            double taxEfficiency = rm.getTaxReduction(ownerId);
-            int expansionSlots = rm.getExtraOwnershipSlots(ownerId);
-            double vaultExpansion = rm.getIncomeCapacityBonus(ownerId);
-            double auctionFee = rm.getAuctionFeeReduction(ownerId);
-            double auctionComm = rm.getAuctionCommissionReduction(ownerId);
+            double capitalGrowth = s.capitalGrowth;
+            double revenueAccel = s.revenueAcceleration;
+            double taxEfficiency = s.taxEfficiency;
+            int expansionSlots = s.expansionSlots;
+            double vaultExpansion = s.vaultExpansion;
+            double auctionFee = s.auctionFeeReduction;
+            double auctionComm = s.auctionCommissionReduction;
 
             lore.add("&e🔬 Research Buffs (owner-level):");
             lore.add("&7• Capital Growth Strategy: " + formatResearchBuff(capitalGrowth, "%", true));
@@ -274,46 +320,36 @@ public class ApartmentStatisticsGUI implements GUI {
                     : "&8Not researched"));
         }
 
-        ItemStack item = new ItemBuilder(Material.EXPERIENCE_BOTTLE)
+        ItemBuilder item = new ItemBuilder(Material.EXPERIENCE_BOTTLE)
                 .name("&d🔬 Section 3: Research Buff Stats")
-                .lore(lore)
-                .build();
-        inventory.setItem(RESEARCH_BUFF_SLOT, item);
+                .lore(lore);
+        sections.put(RESEARCH_BUFF_SLOT, item);
     }
 
     // =====================================================================
     // Section 4 — Final Calculation (after all buffs)
     // =====================================================================
 
-    private void addFinalMathStats(Apartment apt) {
+    private void addFinalMathStats(Snapshot s, Map<Integer, ItemBuilder> sections) {
         List<String> lore = new ArrayList<>();
         lore.add("&8▸ Final income & tax after applying all buffs");
         lore.add("");
 
-        LevelConfig cfg = plugin.getConfigManager().getLevelConfig(apt.level);
+        LevelConfig cfg = s.levelConfig;
         if (cfg == null) {
             lore.add("&cLevel config not found — cannot calculate final stats.");
         } else {
             // --- Income calculation ---
-            double baseMin = apt.getMinIncome(plugin.getConfigManager(), apt.level);
-            double baseMax = apt.getMaxIncome(plugin.getConfigManager(), apt.level);
+            double baseMin = s.minIncome;
+            double baseMax = s.maxIncome;
             double baseAvg = (baseMin + baseMax) / 2.0;
 
-            double shopFlatBonus = plugin.getShopManager() != null ? plugin.getShopManager().getBaseIncomeBonus(apt.id)
-                    : 0;
-            double shopPctBonus = plugin.getShopManager() != null
-                    ? plugin.getShopManager().getIncomeBonusPercentage(apt.id)
-                    : 0;
-            double shopSpeedTickDiff = plugin.getShopManager() != null
-                    ? plugin.getShopManager().getIncomeSpeedBonus(apt.id)
-                    : 0;
-
-            double capitalGrowth = (apt.owner != null && plugin.getResearchManager() != null)
-                    ? plugin.getResearchManager().getIncomeAmountBonus(apt.owner)
-                    : 0;
-            double revenueAccel = (apt.owner != null && plugin.getResearchManager() != null)
-                    ? plugin.getResearchManager().getIncomeIntervalReduction(apt.owner)
-                    : 0;
+            double shopFlatBonus = s.shopFlatBonus;
+            double shopPctBonus = s.shopIncomeBonus;
+            double shopSpeedTickDiff = s.shopIncomeSpeed;
+
+            double capitalGrowth = s.capitalGrowth;
+            double revenueAccel = s.revenueAcceleration;
 
             // Replicate same formula as Apartment#getHourlyIncomeWithShopBuffs
             double incomeAfterFlat = baseAvg + shopFlatBonus;
@@ -321,7 +357,7 @@ public class ApartmentStatisticsGUI implements GUI {
                     : incomeAfterFlat;
 
             double incomeAfterShopSpeed = incomeAfterShopPct;
-            long baseInterval = plugin.getConfigManager().getIncomeGenerationInterval();
+            long baseInterval = s.incomeInterval;
             if (shopSpeedTickDiff > 0 && shopSpeedTickDiff < baseInterval) {
                 incomeAfterShopSpeed *= ((double) baseInterval / (baseInterval - shopSpeedTickDiff));
             }
@@ -335,50 +371,41 @@ public class ApartmentStatisticsGUI implements GUI {
 
             // Income capacity
             double baseCapacity = cfg.incomeCapacity;
-            double vaultPct = (apt.owner != null && plugin.getResearchManager() != null)
-                    ? plugin.getResearchManager().getIncomeCapacityBonus(apt.owner)
-                    : 0;
-            double shopVaultPct = plugin.getShopManager() != null
-                    ? plugin.getShopManager().getIncomeCapacityBonusPercentage(apt.id)
-                    : 0;
+            double vaultPct = s.vaultExpansion;
+            double shopVaultPct = s.shopCapacityBonus;
             double finalCapacity = (vaultPct > 0 || shopVaultPct > 0)
                     ? baseCapacity * (1.0 + ((vaultPct + shopVaultPct) / 100.0))
                     : baseCapacity;
 
             // --- Tax calculation ---
             // Mirror Apartment#computeBaseTaxAmount: respect the active tax-calculation-method.
-            ConfigManager.TaxCalculationMethod taxMethod =
-                    plugin.getConfigManager().getTaxCalculationMethod();
+            ConfigManager.TaxCalculationMethod taxMethod = s.taxMethod;
 
             double baseTaxRate = cfg.taxPercentage / 100.0;
 
             // Determine which base value is used and build a human-readable label for the GUI
             boolean usingIncomeBased = taxMethod == ConfigManager.TaxCalculationMethod.INCOME_BASED
-                    && apt.lastGeneratedIncome > 0;
+                    && s.lastGeneratedIncome > 0;
             boolean incomeFallback = taxMethod == ConfigManager.TaxCalculationMethod.INCOME_BASED
-                    && apt.lastGeneratedIncome <= 0;
+                    && s.lastGeneratedIncome <= 0;
 
             double taxBase;
             String taxBaseLabel;
             if (usingIncomeBased) {
-                taxBase = apt.lastGeneratedIncome;
+                taxBase = s.lastGeneratedIncome;
                 taxBaseLabel = "&7  Base: &flast income ("
                         + plugin.getConfigManager().formatMoney(taxBase) + ")";
             } else {
                 // price-based (or income-based fallback when no income recorded yet)
-                taxBase = apt.price;
+                taxBase = s.price;
                 taxBaseLabel = "&7  Base: &fprice ("
                         + plugin.getConfigManager().formatMoney(taxBase) + ")"
                         + (incomeFallback ? " &e(income-based fallback)" : "");
             }
 
             double baseTaxAmt = taxBase * baseTaxRate;
-            double shopTaxReduct = plugin.getShopManager() != null
-                    ? plugin.getShopManager().getTaxReductionPercentage(apt.id)
-                    : 0;
-            double resTaxReduct = (apt.owner != null && plugin.getResearchManager() != null)
-                    ? plugin.getResearchManager().getTaxReduction(apt.owner)
-                    : 0;
+            double shopTaxReduct = s.shopTaxReduction;
+            double resTaxReduct = s.taxEfficiency;
             double taxAfterShop = shopTaxReduct > 0 ? baseTaxAmt * (1.0 - shopTaxReduct / 100.0) : baseTaxAmt;
             double finalTax = resTaxReduct > 0 ? taxAfterShop * (1.0 - resTaxReduct / 100.0) : taxAfterShop;
             finalTax = Math.max(0, finalTax);
@@ -435,11 +462,10 @@ public class ApartmentStatisticsGUI implements GUI {
             lore.add(netColor + "  ▶ Net Income: &f&l" + plugin.getConfigManager().formatMoney(net));
         }
 
-        ItemStack item = new ItemBuilder(Material.GOLD_INGOT)
+        ItemBuilder item = new ItemBuilder(Material.GOLD_INGOT)
                 .name("&6📐 Section 4: Final Calculation")
-                .lore(lore)
-                .build();
-        inventory.setItem(FINAL_MATH_SLOT, item);
+                .lore(lore);
+        sections.put(FINAL_MATH_SLOT, item);
     }
 
 
@@ -447,44 +473,30 @@ public class ApartmentStatisticsGUI implements GUI {
     // Section 5 — Other / Lifetime Statistics
     // =====================================================================
 
-    private void addOtherStats(Apartment apt) {
-        long now = System.currentTimeMillis();
-        ApartmentStats stats = plugin.getApartmentManager().getStats(apt.id);
-        if (stats == null)
-            stats = new ApartmentStats();
-
-        double totalUnpaid = apt.getTotalUnpaid();
-        long unpaidCount = apt.taxInvoices == null ? 0 : apt.taxInvoices.stream().filter(inv -> !inv.isPaid()).count();
-        long oldestDays = 0;
-        if (apt.taxInvoices != null) {
-            oldestDays = apt.taxInvoices.stream().filter(inv -> !inv.isPaid())
-                    .mapToLong(inv -> inv.daysSinceCreated(now))
-                    .max().orElse(0);
-        }
+    private void addOtherStats(Snapshot s, Map<Integer, ItemBuilder> sections) {
+        double totalUnpaid = s.totalUnpaid;
+        long unpaidCount = s.unpaidCount;
+        long oldestDays = s.oldestUnpaidDays;
 
         // Pending income vs capacity
-        LevelConfig cfg = plugin.getConfigManager().getLevelConfig(apt.level);
+        LevelConfig cfg = s.levelConfig;
         double capacity = cfg != null ? cfg.incomeCapacity : 0;
-        double vaultPct = (apt.owner != null && plugin.getResearchManager() != null)
-                ? plugin.getResearchManager().getIncomeCapacityBonus(apt.owner)
-                : 0;
-        double shopVaultPct = plugin.getShopManager() != null
-                ? plugin.getShopManager().getIncomeCapacityBonusPercentage(apt.id)
-                : 0;
+        double vaultPct = s.vaultExpansion;
+        double shopVaultPct = s.shopCapacityBonus;
         double finalCap = (vaultPct > 0 || shopVaultPct > 0) ? capacity * (1.0 + ((vaultPct + shopVaultPct) / 100.0))
                 : capacity;
-        double fillPct = finalCap > 0 ? (apt.pendingIncome / finalCap) * 100.0 : 0;
+        double fillPct = finalCap > 0 ? (s.pendingIncome / finalCap) * 100.0 : 0;
 
         List<String> lore = new ArrayList<>();
         lore.add("&8▸ Lifetime & current financial statistics");
         lore.add("");
         lore.add("&e📈 Lifetime Earnings:");
-        lore.add("&7• Total Income Generated: &a" + plugin.getConfigManager().formatMoney(stats.totalIncomeGenerated));
-        lore.add("&7• Total Tax Paid: &c" + plugin.getConfigManager().formatMoney(stats.totalTaxPaid));
-        lore.add("&7• Ownership Age: &f" + stats.ownershipAgeDays + " day(s)");
+        lore.add("&7• Total Income Generated: &a" + plugin.getConfigManager().formatMoney(s.totalIncomeGenerated));
+        lore.add("&7• Total Tax Paid: &c" + plugin.getConfigManager().formatMoney(s.totalTaxPaid));
+        lore.add("&7• Ownership Age: &f" + s.ownershipAgeDays + " day(s)");
         lore.add("");
         lore.add("&e💰 Current Financial:");
-        lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apt.pendingIncome)
+        lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(s.pendingIncome)
                 + " &7(" + String.format("%.1f%%", Math.min(fillPct, 100.0)) + " full)");
         lore.add("&7• Income Capacity: &b" + plugin.getConfigManager().formatMoney(finalCap));
         lore.add("&7• Outstanding Taxes: &c" + plugin.getConfigManager().formatMoney(totalUnpaid));
@@ -492,33 +504,30 @@ public class ApartmentStatisticsGUI implements GUI {
                 + (unpaidCount > 0 ? " &7(Oldest: &f" + oldestDays + "d&7)" : ""));
         lore.add("");
         lore.add("&e🏠 Apartment Status:");
-        lore.add("&7• Auto-Pay Taxes: " + (apt.autoTaxPayment ? "&aEnabled" : "&cDisabled"));
+        lore.add("&7• Auto-Pay Taxes: " + (s.autoTaxPayment ? "&aEnabled" : "&cDisabled"));
         lore.add("&7• Market Listed: "
-                + (apt.marketListing ? "&aYes — &f" + plugin.getConfigManager().formatMoney(apt.marketPrice) : "&7No"));
-        lore.add("&7• Upgrade In Progress: " + (apt.upgradeInProgress ? "&eYes" : "&7No"));
+                + (s.marketListing ? "&aYes — &f" + plugin.getConfigManager().formatMoney(s.marketPrice) : "&7No"));
+        lore.add("&7• Upgrade In Progress: " + (s.upgradeInProgress ? "&eYes" : "&7No"));
         lore.add("");
-        ApartmentRating rating = plugin.getApartmentManager().getRating(apartmentId);
-        if (rating != null && rating.ratingCount > 0) {
+        if (s.ratingCount > 0) {
             lore.add("&7• Community Rating: &f"
-                    + String.format("%.1f⭐ (%d reviews)", rating.getAverageRating(), rating.ratingCount));
+                    + String.format("%.1f⭐ (%d reviews)", s.averageRating, s.ratingCount));
         } else {
             lore.add("&7• Community Rating: &8No ratings yet");
         }
 
-        ItemStack item = new ItemBuilder(Material.WRITABLE_BOOK)
+        ItemBuilder item = new ItemBuilder(Material.WRITABLE_BOOK)
                 .name("&e📋 Section 5: Other Statistics")
-                .lore(lore)
-                .build();
-        inventory.setItem(OTHER_STATS_SLOT, item);
+                .lore(lore);
+        sections.put(OTHER_STATS_SLOT, item);
     }
 
     // =====================================================================
     // Status & Meta (bottom row)
     // =====================================================================
 
-    private void addStatusAndMeta(Apartment apt) {
-        long now = System.currentTimeMillis();
-        TaxStatus status = apt.computeTaxStatus(now);
+    private void addStatusAndMeta(Snapshot s, Map<Integer, ItemBuilder> sections) {
+        TaxStatus status = s.status;
 
         // Status card
         Material statusMat;
@@ -551,37 +560,32 @@ public class ApartmentStatisticsGUI implements GUI {
                 statusMat = Material.STONE;
                 statusTitle = "&7Unknown";
         }
-        inventory.setItem(STATUS_SLOT, new ItemBuilder(statusMat)
+        sections.put(STATUS_SLOT, new ItemBuilder(statusMat)
                 .name("&6🏠 Status: " + statusTitle)
-                .lore(statusLore)
-                .build());
+                .lore(statusLore));
 
         // Rating card
-        ApartmentRating rating = plugin.getApartmentManager().getRating(apartmentId);
-        String ratingDisplay = (rating != null && rating.ratingCount > 0)
-                ? String.format("&f%.1f⭐ &7(%d reviews)", rating.getAverageRating(), rating.ratingCount)
+        String ratingDisplay = s.ratingCount > 0
+                ? String.format("&f%.1f⭐ &7(%d reviews)", s.averageRating, s.ratingCount)
                 : "&7No ratings yet";
-        inventory.setItem(RATING_SLOT, new ItemBuilder(Material.NETHER_STAR)
+        sections.put(RATING_SLOT, new ItemBuilder(Material.NETHER_STAR)
                 .name("&6⭐ Community Rating")
                 .lore(
                         ratingDisplay,
                         "",
                         "&7Rate via command:",
-                        "&f/apartmentcore rate " + apartmentId + " <0-10>")
-                .build());
+                        "&f/apartmentcore rate " + apartmentId + " <0-10>"));
 
         // Guestbook card
-        var guestbook = plugin.getApartmentManager().getGuestBooks().get(apartmentId);
-        int messageCount = guestbook != null ? guestbook.size() : 0;
-        inventory.setItem(GUESTBOOK_SLOT, new ItemBuilder(Material.WRITABLE_BOOK)
+        int messageCount = s.guestbookMessages;
+        sections.put(GUESTBOOK_SLOT, new ItemBuilder(Material.WRITABLE_BOOK)
                 .name("&6📖 Guestbook")
                 .lore(
                         "&7View or manage the guestbook",
                         "",
-                        "&7Messages: &f" + messageCount + "&7/" + plugin.getConfigManager().getGuestBookMaxMessages(),
+                        "&7Messages: &f" + messageCount + "&7/" + s.guestbookMaxMessages,
                         "",
-                        "&a▶ Click to open")
-                .build());
+                        "&a▶ Click to open"));
     }
 
     // =====================================================================
@@ -648,7 +652,8 @@ public class ApartmentStatisticsGUI implements GUI {
 
     @Override
     public void onClose(Player player) {
-        // Nothing special
+        // Drop results of a load still in flight
+        loader.cancel();
     }
 
     // =====================================================================
@@ -668,4 +673,151 @@ public class ApartmentStatisticsGUI implements GUI {
         }
         return "&a" + prefix + String.format("%.0f", value) + unit + " &7(active)";
     }
-}
\ No newline at end of file
+
+    /**
+     * Everything the sections display, copied on the main thread so the
+     * worker never reads live apartment, shop or research state
+     */
+    private static final class Snapshot {
+        final String id;
+        final String displayName;
+        final int level;
+        final double price;
+        final int floor;
+        final int height;
+        final double lastGeneratedIncome;
+        final double pendingIncome;
+        final boolean autoTaxPayment;
+        final boolean marketListing;
+        final double marketPrice;
+        final boolean upgradeInProgress;
+        final TaxStatus status;
+        final double totalUnpaid;
+        final long unpaidCount;
+        final long oldestUnpaidDays;
+
+        final LevelConfig levelConfig;
+        final double minIncome;
+        final double maxIncome;
+        final long incomeInterval;
+        final ConfigManager.TaxCalculationMethod taxMethod;
+
+        final boolean shopAvailable;
+        final Map<ShopItem, Integer> shopTiers;
+        final double shopIncomeBonus;
+        final double shopFlatBonus;
+        final double shopTaxReduction;
+        final double shopIncomeSpeed;
+        final int shopMaxMessages;
+        final double shopCapacityBonus;
+        final double shopMoneySpent;
+
+        final boolean researchAvailable;
+        final double capitalGrowth;
+        final double revenueAcceleration;
+        final double taxEfficiency;
+        final int expansionSlots;
+        final double vaultExpansion;
+        final double auctionFeeReduction;
+        final double auctionCommissionReduction;
+
+        final double totalIncomeGenerated;
+        final double totalTaxPaid;
+        final int ownershipAgeDays;
+        final double averageRating;
+        final int ratingCount;
+        final int guestbookMessages;
+        final int guestbookMaxMessages;
+
+        Snapshot(ApartmentCore plugin, Apartment apt) {
+            long now = System.currentTimeMillis();
+            ConfigManager config = plugin.getConfigManager();
+            this.id = apt.id;
+            this.displayName = apt.displayName;
+            this.level = apt.level;
+            this.price = apt.price;
+            this.floor = apt.floor;
+            this.height = apt.height;
+            this.lastGeneratedIncome = apt.lastGeneratedIncome;
+            this.pendingIncome = apt.getPendingIncome();
+            this.autoTaxPayment = apt.autoTaxPayment;
+            this.marketListing = apt.marketListing;
+            this.marketPrice = apt.marketPrice;
+            this.upgradeInProgress = apt.upgradeInProgress;
+            this.status = apt.computeTaxStatus(now);
+            this.totalUnpaid = apt.getTotalUnpaid();
+            long unpaid = 0;
+            long oldest = 0;
+            if (apt.taxInvoices != null) {
+                for (TaxInvoice inv : apt.taxInvoices) {
+                    if (!inv.isPaid()) {
+                        unpaid++;
+                        oldest = Math.max(oldest, inv.daysSinceCreated(now));
+                    }
+                }
+            }
+            this.unpaidCount = unpaid;
+            this.oldestUnpaidDays = oldest;
+
+            this.levelConfig = config.getLevelConfig(apt.level);
+            this.minIncome = apt.getMinIncome(config, apt.level);
+            this.maxIncome = apt.getMaxIncome(config, apt.level);
+            this.incomeInterval = config.getIncomeGenerationInterval();
+            this.taxMethod = config.getTaxCalculationMethod();
+
+            ApartmentShopManager shop = plugin.getShopManager();
+            this.shopAvailable = shop != null;
+            if (shop != null) {
+                ApartmentShopData shopData = shop.getShopData(apt.id);
+                this.shopTiers = shopData.getPurchasedTiers();
+                this.shopIncomeBonus = shop.getIncomeBonusPercentage(apt.id);
+                this.shopFlatBonus = shop.getBaseIncomeBonus(apt.id);
+                this.shopTaxReduction = shop.getTaxReductionPercentage(apt.id);
+                this.shopIncomeSpeed = shop.getIncomeSpeedBonus(apt.id);
+                this.shopMaxMessages = shop.getMaxMessagesBonus(apt.id);
+                this.shopCapacityBonus = shop.getIncomeCapacityBonusPercentage(apt.id);
+                this.shopMoneySpent = shopData.getTotalMoneySpent();
+            } else {
+                this.shopTiers = Collections.emptyMap();
+                this.shopIncomeBonus = 0;
+                this.shopFlatBonus = 0;
+                this.shopTaxReduction = 0;
+                this.shopIncomeSpeed = 0;
+                this.shopMaxMessages = 0;
+                this.shopCapacityBonus = 0;
+                this.shopMoneySpent = 0;
+            }
+
+            ResearchManager rm = plugin.getResearchManager();
+            this.researchAvailable = apt.owner != null && rm != null;
+            if (researchAvailable) {
+                this.capitalGrowth = rm.getIncomeAmountBonus(apt.owner);
+                this.revenueAcceleration = rm.getIncomeIntervalReduction(apt.owner);
+                this.taxEfficiency = rm.getTaxReduction(apt.owner);
+                this.expansionSlots = rm.getExtraOwnershipSlots(apt.owner);
+                this.vaultExpansion = rm.getIncomeCapacityBonus(apt.owner);
+                this.auctionFeeReduction = rm.getAuctionFeeReduction(apt.owner);
+                this.auctionCommissionReduction = rm.getAuctionCommissionReduction(apt.owner);
+            } else {
+                this.capitalGrowth = 0;
+                this.revenueAcceleration = 0;
+                this.taxEfficiency = 0;
+                this.expansionSlots = 0;
+                this.vaultExpansion = 0;
+                this.auctionFeeReduction = 0;
+                this.auctionCommissionReduction = 0;
+            }
+
+            ApartmentStats stats = plugin.getApartmentManager().getStats(apt.id);
+            this.totalIncomeGenerated = stats != null ? stats.totalIncomeGenerated : 0;
+            this.totalTaxPaid = stats != null ? stats.totalTaxPaid : 0;
+            this.ownershipAgeDays = stats != null ? stats.ownershipAgeDays : 0;
+            ApartmentRating rating = plugin.getApartmentManager().getRating(apt.id);
+            this.averageRating = rating != null ? rating.getAverageRating() : 0;
+            this.ratingCount = rating != null ? rating.ratingCount : 0;
+            List<?> guestbook = plugin.getApartmentManager().getGuestBooks().get(apt.id);
+            this.guestbookMessages = guestbook != null ? guestbook.size() : 0;
+            this.guestbookMaxMessages = config.getGuestBookMaxMessages();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.PaginatedGUI;
 import com.aithor.apartmentcore.gui.items.GUIItem;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.items.PagedItemList;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -19,8 +20,10 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -49,47 +52,67 @@ public class AuctionHouseGUI extends PaginatedGUI {
         this.plugin = plugin;
         this.guiManager = guiManager;
         this.auctionManager = plugin.getAuctionManager();
+        enableAsyncLoading(plugin, plugin.getConfigManager()::isPerformanceUseAsync);
     }
     
     @Override
     protected List<GUIItem> loadItems() {
+        return prepareLoad().get();
+    }
+    
+    @Override
+    protected Supplier<List<GUIItem>> prepareLoad() {
+        List<AuctionRow> rows = applyFilter(getSharedRows());
+        Viewer viewer = new Viewer(player.getUniqueId(), System.currentTimeMillis(),
+                plugin.getEconomy().getBalance(player), player.hasPermission("apartmentcore.auction.bid"));
+        int page = currentPage;
+        return () -> buildItems(rows, viewer, page);
+    }
+    
+    /**
+     * Active auctions ordered by end time (soonest first), shared by every
+     * viewer. Only the viewer-independent filters get their own model; the
+     * time- and owner-based filters are cut per viewer.
+     */
+    private List<AuctionRow> getSharedRows() {
         if (auctionManager == null) {
             return new ArrayList<>();
         }
-        
-        List<ApartmentAuction> auctions = auctionManager.getActiveAuctions().values().stream()
-                .filter(auction -> auction.isActive())
-                .collect(Collectors.toList());
-        
-        // Apply filter
-        auctions = applyFilter(auctions);
-        
-        // Sort by ending time (soonest first)
-        auctions = auctions.stream()
-                .sorted(Comparator.comparingLong(ApartmentAuction::getRemainingTime))
-                .collect(Collectors.toList());
-        
-        List<GUIItem> items = new ArrayList<>();
-        for (ApartmentAuction auction : auctions) {
-            items.add(createAuctionItem(auction));
-        }
-        
+        boolean noBids = currentFilter == AuctionFilter.NO_BIDS;
+        // Both counters only grow, so their sum changes whenever either data set does
+        long version = auctionManager.getDataVersion() + plugin.getApartmentManager().getDataVersion();
+        return guiManager.getViewModels().get(noBids ? "auction:NO_BIDS" : "auction:ALL", version, () -> {
+            // The manager's views are already sorted by end time
+            List<AuctionRow> rows = new ArrayList<>();
+            for (ApartmentAuction auction : auctionManager.getAuctionList(noBids ? "nobids" : "all", null)) {
+                rows.add(captureRow(auction));
+            }
+            return Collections.unmodifiableList(rows);
+        });
+    }
+    
+    /**
+     * Wrap the rows so cards with this viewer's decoration are built a page
+     * at a time, building the requested page right away; safe to run off the
+     * main thread
+     */
+    private List<GUIItem> buildItems(List<AuctionRow> rows, Viewer viewer, int page) {
+        PagedItemList<AuctionRow> items = pagedItems(rows, row -> createAuctionItem(row, viewer));
+        items.prefetch(page);
         return items;
     }
     
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addActionButtons();
     }
     
     private void addActionButtons() {
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
         
         // Create Auction
         boolean canCreate = player.hasPermission("apartmentcore.auction.create");
@@ -111,21 +134,18 @@ public class AuctionHouseGUI extends PaginatedGUI {
             createLore.add("&cNo permission to create auctions");
         }
         
-        ItemStack createItem = new ItemBuilder(createMaterial)
+        ItemBuilder createItem = new ItemBuilder(createMaterial)
                 .name("&a🔨 Create Auction")
-                .lore(createLore)
-                .build();
-        inventory.setItem(CREATE_AUCTION_SLOT, createItem);
+                .lore(createLore);
+        frame.set(CREATE_AUCTION_SLOT, createItem);
         
         // My Auctions
         int myAuctionCount = 0;
         if (auctionManager != null) {
-            myAuctionCount = (int) auctionManager.getActiveAuctions().values().stream()
-                    .filter(a -> a.ownerId.equals(player.getUniqueId()))
-                    .count();
+            myAuctionCount = auctionManager.getAuctionCountBySeller(player.getUniqueId());
         }
         
-        ItemStack myAuctionsItem = new ItemBuilder(Material.PLAYER_HEAD)
+        ItemBuilder myAuctionsItem = new ItemBuilder(Material.PLAYER_HEAD)
                 .name("&a👤 My Auctions")
                 .lore(
                     "&7View and manage your auctions",
@@ -134,87 +154,103 @@ public class AuctionHouseGUI extends PaginatedGUI {
                     "",
                     "&a▶ Click to view"
                 )
-                .skull(player.getName())
-                .build();
-        inventory.setItem(MY_AUCTIONS_SLOT, myAuctionsItem);
+                .skull(player.getName());
+        frame.set(MY_AUCTIONS_SLOT, myAuctionsItem);
         
         // Filter buttons
         addFilterButtons();
         
         // Refresh button
-        ItemStack refreshItem = new ItemBuilder(Material.CLOCK)
+        ItemBuilder refreshItem = new ItemBuilder(Material.CLOCK)
                 .name("&a🔄 Refresh")
                 .lore(
                     "&7Refresh auction listings",
                     "",
                     "&a▶ Click to refresh"
-                )
-                .build();
-        inventory.setItem(REFRESH_SLOT, refreshItem);
+                );
+        frame.set(REFRESH_SLOT, refreshItem);
     }
     
     private void addFilterButtons() {
         // Filter: All
         Material allMaterial = currentFilter == AuctionFilter.ALL ? Material.LIME_CONCRETE : Material.WHITE_CONCRETE;
-        ItemStack allFilter = new ItemBuilder(allMaterial)
+        ItemBuilder allFilter = new ItemBuilder(allMaterial)
                 .name("&6All Auctions")
                 .lore(
                     "&7Show all active auctions",
                     "",
                     currentFilter == AuctionFilter.ALL ? "&a✓ Active filter" : "&7Click to activate"
-                )
-                .build();
-        inventory.setItem(FILTER_ALL_SLOT, allFilter);
+                );
+        frame.set(FILTER_ALL_SLOT, allFilter);
         
         // Filter: Ending Soon
         Material endingMaterial = currentFilter == AuctionFilter.ENDING_SOON ? Material.LIME_CONCRETE : Material.ORANGE_CONCRETE;
-        ItemStack endingFilter = new ItemBuilder(endingMaterial)
+        ItemBuilder endingFilter = new ItemBuilder(endingMaterial)
                 .name("&6Ending Soon")
                 .lore(
                     "&7Show auctions ending within 1 hour",
                     "",
                     currentFilter == AuctionFilter.ENDING_SOON ? "&a✓ Active filter" : "&7Click to activate"
-                )
-                .build();
-        inventory.setItem(FILTER_ENDING_SLOT, endingFilter);
+                );
+        frame.set(FILTER_ENDING_SLOT, endingFilter);
         
         // Filter: No Bids
         Material noBidsMaterial = currentFilter == AuctionFilter.NO_BIDS ? Material.LIME_CONCRETE : Material.YELLOW_CONCRETE;
-        ItemStack noBidsFilter = new ItemBuilder(noBidsMaterial)
+        ItemBuilder noBidsFilter = new ItemBuilder(noBidsMaterial)
                 .name("&6No Bids Yet")
                 .lore(
                     "&7Show auctions with no bids",
                     "",
                     currentFilter == AuctionFilter.NO_BIDS ? "&a✓ Active filter" : "&7Click to activate"
-                )
-                .build();
-        inventory.setItem(FILTER_NO_BIDS_SLOT, noBidsFilter);
+                );
+        frame.set(FILTER_NO_BIDS_SLOT, noBidsFilter);
     }
     
-    private List<ApartmentAuction> applyFilter(List<ApartmentAuction> auctions) {
+    private List<AuctionRow> applyFilter(List<AuctionRow> rows) {
+        long now = System.currentTimeMillis();
         switch (currentFilter) {
-            case ENDING_SOON:
-                return auctions.stream()
-                        .filter(a -> a.getRemainingTime() < 3600000) // Less than 1 hour
-                        .collect(Collectors.toList());
-            case NO_BIDS:
-                return auctions.stream()
-                        .filter(a -> a.totalBids == 0)
-                        .collect(Collectors.toList());
-            case MY_AUCTIONS:
-                return auctions.stream()
-                        .filter(a -> a.ownerId.equals(player.getUniqueId()))
-                        .collect(Collectors.toList());
+            case ENDING_SOON: {
+                // Rows are sorted by end time, so this is a prefix
+                int end = 0;
+                while (end < rows.size() && rows.get(end).endTime - now < 3600000) { // Less than 1 hour
+                    end++;
+                }
+                return rows.subList(0, end);
+            }
+            case MY_AUCTIONS: {
+                // From the seller index instead of scanning every row
+                List<AuctionRow> mine = new ArrayList<>();
+                if (auctionManager != null) {
+                    for (ApartmentAuction auction : auctionManager.getAuctionList("mine", player.getUniqueId())) {
+                        mine.add(captureRow(auction));
+                    }
+                }
+                return mine;
+            }
             default:
-                return auctions;
+                // ALL and NO_BIDS are already shared models
+                return rows;
         }
     }
     
-    private GUIItem createAuctionItem(ApartmentAuction auction) {
+    private AuctionRow captureRow(ApartmentAuction auction) {
         Apartment apartment = plugin.getApartmentManager().getApartment(auction.apartmentId);
-        String apartmentName = apartment != null ? apartment.displayName : auction.apartmentId;
+        LevelConfig levelConfig = apartment != null ? plugin.getConfigManager().getLevelConfig(apartment.level) : null;
+        ApartmentRating rating = apartment != null ? plugin.getApartmentManager().getRating(apartment.id) : null;
+        // Calculate next bid amount
+        double nextBidAmount = auction.totalBids == 0 ? 
+                auction.startingBid : 
+                auction.currentBid + plugin.getConfigManager().getAuctionMinBidIncrement();
+        return new AuctionRow(auction, apartment, nextBidAmount,
+                levelConfig != null ? apartment.getMinIncome(plugin.getConfigManager(), apartment.level) : -1,
+                levelConfig != null ? apartment.getMaxIncome(plugin.getConfigManager(), apartment.level) : -1,
+                rating);
+    }
+    
+    private GUIItem createAuctionItem(AuctionRow auction, Viewer viewer) {
+        String apartmentName = auction.apartmentName;
         
-        long remainingTime = auction.getRemainingTime();
+        long remainingTime = Math.max(0, auction.endTime - viewer.now);
         String timeDisplay = GUIUtils.formatTime(remainingTime);
         
         // Determine urgency color
@@ -228,15 +264,9 @@ public class AuctionHouseGUI extends PaginatedGUI {
         }
         
         // Check if player can bid
-        boolean canBid = !auction.ownerId.equals(player.getUniqueId()) && 
-                        player.hasPermission("apartmentcore.auction.bid");
-        
-        // Calculate next bid amount
-        double nextBidAmount = auction.totalBids == 0 ? 
-                auction.startingBid : 
-                auction.currentBid + plugin.getConfigManager().getAuctionMinBidIncrement();
-        
-        boolean canAfford = plugin.getEconomy().has(player, nextBidAmount);
+        boolean canBid = !auction.ownerId.equals(viewer.id) && viewer.canBid;
+        double nextBidAmount = auction.nextBidAmount;
+        boolean canAfford = viewer.balance >= nextBidAmount;
         
         List<String> lore = new ArrayList<>();
         lore.add("&7Apartment: &f" + apartmentName);
@@ -249,7 +279,7 @@ public class AuctionHouseGUI extends PaginatedGUI {
         lore.add("&7• Total Bids: &f" + auction.totalBids);
         
         if (auction.currentBidderId != null) {
-            boolean isCurrentBidder = auction.currentBidderId.equals(player.getUniqueId());
+            boolean isCurrentBidder = auction.currentBidderId.equals(viewer.id);
             lore.add("&7• Current Bidder: " + (isCurrentBidder ? "&a" + auction.currentBidderName + " (You!)" : "&f" + auction.currentBidderName));
         }
         
@@ -257,28 +287,26 @@ public class AuctionHouseGUI extends PaginatedGUI {
         lore.add("&e⏰ Time Information:");
         lore.add("&7• Time Remaining: " + timeColor + timeDisplay);
         
-        if (apartment != null) {
+        if (auction.hasApartment) {
             lore.add("");
             lore.add("&e🏠 Apartment Details:");
-            lore.add("&7• Level: &f" + apartment.level + "/5");
-            lore.add("&7• Floor: &f" + apartment.floor);
-            lore.add("&7• Height: &f" + apartment.height);
+            lore.add("&7• Level: &f" + auction.level + "/5");
+            lore.add("&7• Floor: &f" + auction.floor);
+            lore.add("&7• Height: &f" + auction.height);
             
-            LevelConfig levelConfig = plugin.getConfigManager().getLevelConfig(apartment.level);
-            if (levelConfig != null) {
-                lore.add("&7• Income: &a" + plugin.getConfigManager().formatMoney(apartment.getMinIncome(plugin.getConfigManager(), apartment.level)) + 
-                         " &7- &a" + plugin.getConfigManager().formatMoney(apartment.getMaxIncome(plugin.getConfigManager(), apartment.level)) + "/hour");
+            if (auction.minIncome >= 0) {
+                lore.add("&7• Income: &a" + plugin.getConfigManager().formatMoney(auction.minIncome) + 
+                         " &7- &a" + plugin.getConfigManager().formatMoney(auction.maxIncome) + "/hour");
             }
             
-            ApartmentRating rating = plugin.getApartmentManager().getRating(apartment.id);
-            if (rating != null && rating.ratingCount > 0) {
-                lore.add("&7• Rating: &f" + String.format("%.1f⭐ (%d reviews)", rating.getAverageRating(), rating.ratingCount));
+            if (auction.ratingCount > 0) {
+                lore.add("&7• Rating: &f" + String.format("%.1f⭐ (%d reviews)", auction.averageRating, auction.ratingCount));
             }
         }
         
         lore.add("");
         
-        if (auction.ownerId.equals(player.getUniqueId())) {
+        if (auction.ownerId.equals(viewer.id)) {
             // Owner's auction
             lore.add("&6👑 This is your auction");
             lore.add("&a▶ Left-click to view details");
@@ -294,9 +322,9 @@ public class AuctionHouseGUI extends PaginatedGUI {
         
         // Choose material based on status
         Material material;
-        if (auction.ownerId.equals(player.getUniqueId())) {
+        if (auction.ownerId.equals(viewer.id)) {
             material = Material.GOLD_BLOCK; // Owner's auction
-        } else if (auction.currentBidderId != null && auction.currentBidderId.equals(player.getUniqueId())) {
+        } else if (auction.currentBidderId != null && auction.currentBidderId.equals(viewer.id)) {
             material = Material.EMERALD_BLOCK; // Player is winning
         } else if (remainingTime < 600000) {
             material = Material.RED_CONCRETE; // Ending soon
@@ -310,7 +338,7 @@ public class AuctionHouseGUI extends PaginatedGUI {
                 .glow()
                 .build();
         
-        return new GUIItem(item, auction.apartmentId, auction);
+        return new GUIItem(item, auction.apartmentId, auction.auction);
     }
     
     @Override
@@ -415,18 +443,8 @@ public class AuctionHouseGUI extends PaginatedGUI {
         
         player.closeInventory();
         
-        if (!plugin.getEconomy().has(player, nextBidAmount)) {
-            GUIUtils.sendMessage(player, "&cInsufficient funds! Need: " + plugin.getConfigManager().formatMoney(nextBidAmount));
-            GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-            return;
-        }
-        
-        // Place the bid
-        boolean success = auctionManager.placeBid(player, auction.apartmentId, nextBidAmount);
-        if (!success) {
-            GUIUtils.sendMessage(player, "&cFailed to place bid! The auction may have ended or been outbid.");
-            GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-        }
+        // Funds are checked when the bid is processed; the outcome is sent to the player
+        auctionManager.placeBid(player, auction.apartmentId, nextBidAmount);
     }
     
     private void handleCancelAuction(ApartmentAuction auction) {
@@ -484,4 +502,73 @@ public class AuctionHouseGUI extends PaginatedGUI {
     private enum AuctionFilter {
         ALL, ENDING_SOON, NO_BIDS, MY_AUCTIONS
     }
-}
\ No newline at end of file
+    
+    /**
+     * Viewer-independent values of an auction card, copied on the main thread
+     * and shared between viewers
+     */
+    private static final class AuctionRow {
+        final ApartmentAuction auction;
+        final String apartmentId;
+        final UUID ownerId;
+        final String ownerName;
+        final double startingBid;
+        final double currentBid;
+        final UUID currentBidderId;
+        final String currentBidderName;
+        final int totalBids;
+        final long endTime;
+        final double nextBidAmount;
+        final String apartmentName;
+        final boolean hasApartment;
+        final int level;
+        final int floor;
+        final int height;
+        // -1 when the level has no config
+        final double minIncome;
+        final double maxIncome;
+        final double averageRating;
+        final int ratingCount;
+        
+        AuctionRow(ApartmentAuction auction, Apartment apartment, double nextBidAmount,
+                double minIncome, double maxIncome, ApartmentRating rating) {
+            this.auction = auction;
+            this.apartmentId = auction.apartmentId;
+            this.ownerId = auction.ownerId;
+            this.ownerName = auction.ownerName;
+            this.startingBid = auction.startingBid;
+            this.currentBid = auction.currentBid;
+            this.currentBidderId = auction.currentBidderId;
+            this.currentBidderName = auction.currentBidderName;
+            this.totalBids = auction.totalBids;
+            this.endTime = auction.endTime;
+            this.nextBidAmount = nextBidAmount;
+            this.apartmentName = apartment != null ? apartment.displayName : auction.apartmentId;
+            this.hasApartment = apartment != null;
+            this.level = apartment != null ? apartment.level : 0;
+            this.floor = apartment != null ? apartment.floor : 0;
+            this.height = apartment != null ? apartment.height : 0;
+            this.minIncome = minIncome;
+            this.maxIncome = maxIncome;
+            this.averageRating = rating != null ? rating.getAverageRating() : 0;
+            this.ratingCount = rating != null ? rating.ratingCount : 0;
+        }
+    }
+    
+    /**
+     * Per-viewer values used to decorate the shared cards
+     */
+    private static final class Viewer {
+        final UUID id;
+        final long now;
+        final double balance;
+        final boolean canBid;
+        
+        Viewer(UUID id, long now, double balance, boolean canBid) {
+            this.id = id;
+            this.now = now;
+            this.balance = balance;
+            this.canBid = canBid;
+        }
+    }
+}
@@ -66,8 +66,7 @@ public class GuestbookGUI extends PaginatedGUI {
     }
     
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addActionButtons();
     }
     
@@ -80,11 +79,10 @@ public class GuestbookGUI extends PaginatedGUI {
         boolean isOwner = apartment.owner != null && apartment.owner.equals(player.getUniqueId());
         
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back")
-                .lore("&7Return to apartment details")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to apartment details");
+        frame.set(BACK_SLOT, backItem);
         
         // Leave Message button
         boolean canLeaveMessage = !isOwner; // Usually visitors leave messages
@@ -108,11 +106,10 @@ public class GuestbookGUI extends PaginatedGUI {
             leaveLore.add("&7in their own guestbooks");
         }
         
-        ItemStack leaveItem = new ItemBuilder(leaveMaterial)
+        ItemBuilder leaveItem = new ItemBuilder(leaveMaterial)
                 .name("&a✏️ Leave Message")
-                .lore(leaveLore)
-                .build();
-        inventory.setItem(LEAVE_MESSAGE_SLOT, leaveItem);
+                .lore(leaveLore);
+        frame.set(LEAVE_MESSAGE_SLOT, leaveItem);
         
         // Clear All button (owners only)
         if (isOwner) {
@@ -120,7 +117,7 @@ public class GuestbookGUI extends PaginatedGUI {
             int messageCount = entries != null ? entries.size() : 0;
             
             Material clearMaterial = messageCount > 0 ? Material.RED_CONCRETE : Material.GRAY_CONCRETE;
-            ItemStack clearItem = new ItemBuilder(clearMaterial)
+            ItemBuilder clearItem = new ItemBuilder(clearMaterial)
                     .name("&c🗑️ Clear All Messages")
                     .lore(
                         "&7Clear all messages from the guestbook",
@@ -128,9 +125,8 @@ public class GuestbookGUI extends PaginatedGUI {
                         "&7Current Messages: &f" + messageCount,
                         "",
                         messageCount > 0 ? "&c▶ Click to clear (requires confirmation)" : "&7No messages to clear"
-                    )
-                    .build();
-            inventory.setItem(CLEAR_ALL_SLOT, clearItem);
+                    );
+            frame.set(CLEAR_ALL_SLOT, clearItem);
         }
         
         // Guestbook Info
@@ -142,7 +138,7 @@ public class GuestbookGUI extends PaginatedGUI {
         double usagePercent = (double) currentMessages / maxMessages * 100;
         String usageBar = GUIUtils.createProgressBar(currentMessages, maxMessages, 10);
         
-        ItemStack infoItem = new ItemBuilder(Material.BOOK)
+        ItemBuilder infoItem = new ItemBuilder(Material.BOOK)
                 .name("&6📊 Guestbook Information")
                 .lore(
                     "&7Information about this guestbook",
@@ -157,9 +153,8 @@ public class GuestbookGUI extends PaginatedGUI {
                     "",
                     "&7When full, oldest messages are automatically",
                     "&7removed to make room for new ones."
-                )
-                .build();
-        inventory.setItem(GUESTBOOK_INFO_SLOT, infoItem);
+                );
+        frame.set(GUESTBOOK_INFO_SLOT, infoItem);
     }
     
     private GUIItem createMessageItem(GuestBookEntry entry, int messageNumber) {
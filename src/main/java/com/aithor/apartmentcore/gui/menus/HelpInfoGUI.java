@@ -12,7 +12,9 @@ import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 
 /**
  * Help & Information GUI - Provides helpful information about the plugin
@@ -24,6 +26,7 @@ public class HelpInfoGUI implements GUI {
     private final GUIManager guiManager;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
 
     // Slot positions
     private static final int COMMANDS_SLOT = 11;
@@ -38,7 +41,8 @@ public class HelpInfoGUI implements GUI {
         this.plugin = plugin;
         this.guiManager = guiManager;
         this.title = ChatColor.DARK_GREEN + "Help & Information";
-        this.inventory = Bukkit.createInventory(null, 45, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 45, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -48,7 +52,7 @@ public class HelpInfoGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
 
         // Add decorative border
         addBorder();
@@ -63,6 +67,8 @@ public class HelpInfoGUI implements GUI {
 
         // Add title item
         addTitleItem();
+
+        frame.commit();
     }
 
     private void addBorder() {
@@ -70,29 +76,28 @@ public class HelpInfoGUI implements GUI {
 
         // Top and bottom border
         for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + 36, borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + 36, borderItem);
         }
 
         // Side borders
         for (int i = 9; i < 36; i += 9) {
-            inventory.setItem(i, borderItem);
-            inventory.setItem(i + 8, borderItem);
+            frame.set(i, borderItem);
+            frame.set(i + 8, borderItem);
         }
     }
 
     private void addTitleItem() {
-        ItemStack titleItem = new ItemBuilder(Material.ENCHANTED_BOOK)
+        ItemBuilder titleItem = new ItemBuilder(Material.ENCHANTED_BOOK)
                 .name("&6&lApartmentCore Help Center")
                 .lore(
                     "&7Welcome to the help center!",
                     "&7Click on any section below to learn more.",
                     "",
                     "&e💡 Tip: &7Use &f/apartmentcore help &7for command help!"
-                )
-                .build();
+                );
 
-        inventory.setItem(4, titleItem);
+        frame.set(4, titleItem);
     }
 
     private void addCommands() {
@@ -116,9 +121,9 @@ public class HelpInfoGUI implements GUI {
                     "&a▶ Click to view more commands"
                 )
                 .glow()
-                .build();
+                .template();
 
-        inventory.setItem(COMMANDS_SLOT, item);
+        frame.set(COMMANDS_SLOT, item);
     }
 
     private void addFAQ() {
@@ -146,9 +151,9 @@ public class HelpInfoGUI implements GUI {
                     "&a▶ Click for more help"
                 )
                 .glow()
-                .build();
+                .template();
 
-        inventory.setItem(FAQ_SLOT, item);
+        frame.set(FAQ_SLOT, item);
     }
 
     private void addFeatures() {
@@ -177,9 +182,9 @@ public class HelpInfoGUI implements GUI {
                     "&a▶ Click to learn more"
                 )
                 .glow()
-                .build();
+                .template();
 
-        inventory.setItem(FEATURES_SLOT, item);
+        frame.set(FEATURES_SLOT, item);
     }
 
     private void addSupport() {
@@ -205,9 +210,9 @@ public class HelpInfoGUI implements GUI {
                     "&a▶ Click for contact information"
                 )
                 .glow()
-                .build();
+                .template();
 
-        inventory.setItem(SUPPORT_SLOT, item);
+        frame.set(SUPPORT_SLOT, item);
     }
 
     private void addVersion() {
@@ -233,9 +238,9 @@ public class HelpInfoGUI implements GUI {
                     "&a▶ Click for more details"
                 )
                 .glow()
-                .build();
+                .template();
 
-        inventory.setItem(VERSION_SLOT, item);
+        frame.set(VERSION_SLOT, item);
     }
 
     private void addBackButton() {
@@ -246,9 +251,9 @@ public class HelpInfoGUI implements GUI {
                     "",
                     "&a▶ Click to go back"
                 )
-                .build();
+                .template();
 
-        inventory.setItem(BACK_SLOT, item);
+        frame.set(BACK_SLOT, item);
     }
 
     @Override
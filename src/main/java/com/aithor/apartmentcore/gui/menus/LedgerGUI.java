@@ -0,0 +1,183 @@
+package com.aithor.apartmentcore.gui.menus;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.gui.GUIManager;
+import com.aithor.apartmentcore.gui.interfaces.PaginatedGUI;
+import com.aithor.apartmentcore.gui.items.GUIItem;
+import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.ledger.LedgerPage;
+import com.aithor.apartmentcore.ledger.LedgerRecord;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+
+import java.text.SimpleDateFormat;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Admin view of a player's or an apartment's transaction history, newest first.
+ * Only the records of the shown page are read from the ledger.
+ */
+public class LedgerGUI extends PaginatedGUI {
+
+    private final ApartmentCore plugin;
+    private final GUIManager guiManager;
+    private final UUID targetPlayer;
+    private final String targetApartment;
+    private final String label;
+
+    private static final int CLOSE_SLOT = 0;
+    private static final int SUMMARY_SLOT = 4;
+
+    // Shown for slots of a page that is still being read
+    private static final GUIItem PENDING = new GUIItem(new ItemBuilder(Material.GRAY_STAINED_GLASS_PANE)
+            .name("&7Loading...")
+            .build(), "ledger_pending");
+
+    /**
+     * @param targetPlayer    Player whose history is shown, or null
+     * @param targetApartment Apartment whose history is shown (used when targetPlayer is null)
+     * @param label           Name shown in the title
+     */
+    public LedgerGUI(Player player, ApartmentCore plugin, GUIManager guiManager,
+            UUID targetPlayer, String targetApartment, String label) {
+        super(player, ChatColor.DARK_GREEN + "Ledger: " + label, 54, 28);
+        this.plugin = plugin;
+        this.guiManager = guiManager;
+        this.targetPlayer = targetPlayer;
+        this.targetApartment = targetApartment;
+        this.label = label;
+        // Always async: pages are read from disk by the ledger thread
+        enableAsyncLoading(plugin, () -> true);
+    }
+
+    @Override
+    protected List<GUIItem> loadItems() {
+        return prepareLoad().get();
+    }
+
+    @Override
+    protected Supplier<List<GUIItem>> prepareLoad() {
+        int page = currentPage;
+        int offset = page * itemsPerPage;
+        return () -> {
+            LedgerPage result = (targetPlayer != null
+                    ? plugin.getLedger().queryPlayer(targetPlayer, offset, itemsPerPage)
+                    : plugin.getLedger().queryApartment(targetApartment, offset, itemsPerPage)).join();
+            List<GUIItem> cards = new ArrayList<>(result.records.size());
+            for (LedgerRecord record : result.records) {
+                cards.add(createCard(record));
+            }
+            return new PageItems(cards, offset, result.total);
+        };
+    }
+
+    private GUIItem createCard(LedgerRecord record) {
+        Material material;
+        switch (record.type) {
+            case PURCHASE:
+            case MARKET_SALE:
+            case AUCTION_SALE:
+                material = Material.EMERALD;
+                break;
+            case SALE:
+            case REFUND:
+            case ACHIEVEMENT_REWARD:
+                material = Material.GOLD_INGOT;
+                break;
+            case TAX_INVOICE:
+            case TAX_PAYMENT:
+                material = Material.PAPER;
+                break;
+            case BID:
+                material = Material.GOLDEN_HORSE_ARMOR;
+                break;
+            default:
+                material = Material.BOOK;
+        }
+
+        List<String> lore = new ArrayList<>();
+        lore.add("&7Time: &f" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(record.time)));
+        lore.add("&7Amount: &a" + plugin.getConfigManager().formatMoney(record.amount));
+        if (record.playerId != null) {
+            lore.add("&7Player: &f" + (record.playerName != null ? record.playerName : record.playerId));
+        }
+        if (record.counterpartyId != null) {
+            lore.add("&7Counterparty: &f"
+                    + (record.counterpartyName != null ? record.counterpartyName : record.counterpartyId));
+        }
+        if (record.apartmentId != null) {
+            lore.add("&7Apartment: &f" + record.apartmentId);
+        }
+        if (!record.details.isEmpty()) {
+            lore.add("");
+            lore.add("&8" + record.details);
+        }
+
+        return new GUIItem(new ItemBuilder(material)
+                .name("&e" + record.type.getDisplayName())
+                .lore(lore)
+                .build(), "ledger_record", record);
+    }
+
+    @Override
+    protected void decorate() {
+        frame.set(CLOSE_SLOT, new ItemBuilder(Material.BARRIER)
+                .name("&cClose")
+                .lore("&7Close the ledger"));
+
+        frame.set(SUMMARY_SLOT, new ItemBuilder(Material.WRITABLE_BOOK)
+                .name("&6📒 " + label)
+                .lore(
+                        "&7Records: &f" + (isLoading() ? "..." : String.valueOf(items.size())),
+                        "&7Newest first"));
+    }
+
+    @Override
+    protected void handleItemClick(GUIItem item, InventoryClickEvent event) {
+        // Records are read-only
+    }
+
+    @Override
+    public void handleClick(InventoryClickEvent event) {
+        if (event.getSlot() == CLOSE_SLOT) {
+            event.setCancelled(true);
+            guiManager.closeGUI(player);
+            player.closeInventory();
+            return;
+        }
+        super.handleClick(event);
+    }
+
+    /**
+     * Item list sized to the whole history that only holds the current page
+     */
+    private static final class PageItems extends AbstractList<GUIItem> {
+        private final List<GUIItem> page;
+        private final int offset;
+        private final int total;
+
+        PageItems(List<GUIItem> page, int offset, int total) {
+            this.page = page;
+            this.offset = offset;
+            this.total = total;
+        }
+
+        @Override
+        public GUIItem get(int index) {
+            int local = index - offset;
+            return local >= 0 && local < page.size() ? page.get(local) : PENDING;
+        }
+
+        @Override
+        public int size() {
+            return total;
+        }
+    }
+}
@@ -13,7 +13,9 @@ import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.config.MainMenuConfig;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,6 +36,7 @@ public class MainMenuGUI implements GUI {
     private final MainMenuConfig menuConfig;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
     private final Map<Integer, String> slotMap = new HashMap<>();
 
     public MainMenuGUI(Player player, ApartmentCore plugin, GUIManager guiManager) {
@@ -42,7 +45,8 @@ public class MainMenuGUI implements GUI {
         this.guiManager = guiManager;
         this.menuConfig = plugin.getMainMenuConfig();
         this.title = ChatColor.translateAlternateColorCodes('&', menuConfig.getTitle());
-        this.inventory = Bukkit.createInventory(null, menuConfig.getSize(), this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), menuConfig.getSize(), this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -54,7 +58,7 @@ public class MainMenuGUI implements GUI {
     // ── Inventory setup ──────────────────────────────────────────
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
         slotMap.clear();
 
 
@@ -78,6 +82,8 @@ public class MainMenuGUI implements GUI {
                 addConfigItem(key, placeholders, false);
             }
         }
+
+        frame.commit();
     }
 
 
@@ -104,10 +110,14 @@ public class MainMenuGUI implements GUI {
         boolean glow = !disabled && menuConfig.getItemGlow(key);
 
         // Resolve placeholders in name and lore
-        name = replacePlaceholders(name, placeholders);
+        String resolvedName = replacePlaceholders(name, placeholders);
+        boolean shared = resolvedName.equals(name) && material != Material.PLAYER_HEAD;
+        name = resolvedName;
         List<String> resolvedLore = new ArrayList<>();
         for (String line : lore) {
-            resolvedLore.add(replacePlaceholders(line, placeholders));
+            String resolved = replacePlaceholders(line, placeholders);
+            shared &= resolved.equals(line);
+            resolvedLore.add(resolved);
         }
 
         ItemBuilder builder = new ItemBuilder(material)
@@ -125,9 +135,10 @@ public class MainMenuGUI implements GUI {
             builder.glow();
         }
 
-        ItemStack item = builder.build();
+        // Items without per-player content are shared across viewers
+        ItemStack item = shared ? builder.template() : builder.build();
         for (int slot : slots) {
-            inventory.setItem(slot, item);
+            frame.set(slot, item);
             slotMap.put(slot, key);
         }
     }
@@ -163,7 +174,7 @@ public class MainMenuGUI implements GUI {
                 builder.glow();
             ItemStack item = builder.build();
             for (int slot : slots) {
-                inventory.setItem(slot, item);
+                frame.set(slot, item);
                 slotMap.put(slot, "tax_management");
             }
         } else {
@@ -200,7 +211,7 @@ public class MainMenuGUI implements GUI {
 
         double totalPendingIncome = plugin.getApartmentManager().getApartments().values().stream()
                 .filter(a -> player.getUniqueId().equals(a.owner))
-                .mapToDouble(a -> a.pendingIncome)
+                .mapToDouble(a -> a.getPendingIncome())
                 .sum();
 
         long availableCount = plugin.getApartmentManager().getApartments().values().stream()
@@ -255,7 +266,7 @@ public class MainMenuGUI implements GUI {
 
         // Auction
         if (plugin.getAuctionManager() != null && plugin.getConfigManager().isAuctionEnabled()) {
-            map.put("{active_auctions}", String.valueOf(plugin.getAuctionManager().getActiveAuctions().size()));
+            map.put("{active_auctions}", String.valueOf(plugin.getAuctionManager().getAuctionCount()));
             map.put("{auction_commission}",
                     String.format("%.1f%%", plugin.getConfigManager().getAuctionCommission() * 100));
         } else {
@@ -2,6 +2,7 @@ package com.aithor.apartmentcore.gui.menus;
 
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.model.ClaimResult;
 import com.aithor.apartmentcore.model.ApartmentRating;
 import com.aithor.apartmentcore.model.TaxStatus;
 import com.aithor.apartmentcore.gui.GUIManager;
@@ -57,36 +58,33 @@ public class MyApartmentsGUI extends PaginatedGUI {
     }
 
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addActionButtons();
     }
 
     private void addActionButtons() {
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
 
         // Claim all income button
         double totalPendingIncome = plugin.getApartmentManager().getApartments().values().stream()
                 .filter(a -> player.getUniqueId().equals(a.owner))
-                .mapToDouble(a -> a.pendingIncome)
+                .mapToDouble(a -> a.getPendingIncome())
                 .sum();
 
         Material claimMaterial = totalPendingIncome > 0 ? Material.EMERALD_BLOCK : Material.GRAY_CONCRETE;
-        ItemStack claimAllItem = new ItemBuilder(claimMaterial)
+        ItemBuilder claimAllItem = new ItemBuilder(claimMaterial)
                 .name("&a💰 Claim All Income")
                 .lore(
                         "&7Claim income from all apartments",
                         "",
                         "&7Total Pending: &a" + plugin.getConfigManager().formatMoney(totalPendingIncome),
                         "",
-                        totalPendingIncome > 0 ? "&a▶ Click to claim all" : "&7No income to claim")
-                .build();
-        inventory.setItem(CLAIM_ALL_SLOT, claimAllItem);
+                        totalPendingIncome > 0 ? "&a▶ Click to claim all" : "&7No income to claim");
+        frame.set(CLAIM_ALL_SLOT, claimAllItem);
 
         // Pay all taxes button
         double totalUnpaidTaxes = plugin.getApartmentManager().getApartments().values().stream()
@@ -95,18 +93,17 @@ public class MyApartmentsGUI extends PaginatedGUI {
                 .sum();
 
         Material taxMaterial = totalUnpaidTaxes > 0 ? Material.RED_CONCRETE : Material.GREEN_CONCRETE;
-        ItemStack payAllTaxesItem = new ItemBuilder(taxMaterial)
+        ItemBuilder payAllTaxesItem = new ItemBuilder(taxMaterial)
                 .name("&c📋 Pay All Taxes")
                 .lore(
                         "&7Pay all outstanding tax bills",
                         "",
                         "&7Total Due: &c" + plugin.getConfigManager().formatMoney(totalUnpaidTaxes),
                         "&7Your Balance: &a"
-                                + plugin.getConfigManager().formatMoney(plugin.getEconomy().getBalance(player)),
+                                + plugin.getConfigManager().formatMoney(plugin.getEconomyGateway().getBalance(player)),
                         "",
-                        totalUnpaidTaxes > 0 ? "&a▶ Click to pay all" : "&7No taxes due")
-                .build();
-        inventory.setItem(PAY_ALL_TAXES_SLOT, payAllTaxesItem);
+                        totalUnpaidTaxes > 0 ? "&a▶ Click to pay all" : "&7No taxes due");
+        frame.set(PAY_ALL_TAXES_SLOT, payAllTaxesItem);
 
         // Auto-pay toggle
         boolean hasAutoPayEnabled = plugin.getApartmentManager().getApartments().values().stream()
@@ -114,7 +111,7 @@ public class MyApartmentsGUI extends PaginatedGUI {
                 .anyMatch(a -> a.autoTaxPayment);
 
         Material autoPayMaterial = hasAutoPayEnabled ? Material.LIME_CONCRETE : Material.RED_CONCRETE;
-        ItemStack autoPayItem = new ItemBuilder(autoPayMaterial)
+        ItemBuilder autoPayItem = new ItemBuilder(autoPayMaterial)
                 .name("&6⚙️ Auto-Pay Taxes")
                 .lore(
                         "&7Toggle auto-payment for all apartments",
@@ -123,9 +120,8 @@ public class MyApartmentsGUI extends PaginatedGUI {
                         "&7Auto-pay will attempt to pay taxes",
                         "&7automatically when they are due",
                         "",
-                        "&a▶ Click to toggle")
-                .build();
-        inventory.setItem(TOGGLE_AUTO_PAY_SLOT, autoPayItem);
+                        "&a▶ Click to toggle");
+        frame.set(TOGGLE_AUTO_PAY_SLOT, autoPayItem);
     }
 
     private GUIItem createApartmentItem(Apartment apartment) {
@@ -193,23 +189,17 @@ public class MyApartmentsGUI extends PaginatedGUI {
             }
         }
 
-        long intervalMs = Math.max(1000L, plugin.getConfigManager().getIncomeGenerationInterval() * 50L);
-        long lastGen = plugin.getLastIncomeGenerationTime();
         boolean canGenerateIncome = apartment.canGenerateIncome(now);
         String nextIncomeDisplay;
         if (!canGenerateIncome) {
             // Income is blocked due to tax status — don't show a countdown
             nextIncomeDisplay = null;
-        } else if (lastGen <= 0) {
-            // Task hasn't fired yet since startup — show full interval
-            nextIncomeDisplay = GUIUtils.formatTime(intervalMs);
         } else {
-            long nextIncomeMs = lastGen + intervalMs;
-            long remainingMs = nextIncomeMs - now;
+            long remainingMs = plugin.getApartmentManager().getNextIncomeAt(apartment, now) - now;
             nextIncomeDisplay = remainingMs > 0 ? GUIUtils.formatTime(remainingMs) : "Soon...";
         }
 
-        // Tax countdown — use real-time milliseconds, consistent with tickTaxInvoices()
+        // Tax countdown — use real-time milliseconds, consistent with generateTaxInvoices()
         long taxIntervalMs = Math.max(1000L, plugin.getConfigManager().getTaxGenerationInterval() * 50L);
         String nextTaxDisplay;
         if (apartment.lastInvoiceAt <= 0) {
@@ -250,7 +240,7 @@ public class MyApartmentsGUI extends PaginatedGUI {
         lore.add("&7Height: &f" + apartment.height);
         lore.add("");
         lore.add("&e💰 Financial Info:");
-        lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apartment.pendingIncome) +
+        lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apartment.getPendingIncome()) +
                 " &7/ &a" + plugin.getConfigManager().formatMoney(capacity));
         if (!canGenerateIncome) {
             // Income is blocked — show status-specific warning message
@@ -386,32 +376,21 @@ public class MyApartmentsGUI extends PaginatedGUI {
     private void handleClaimAll() {
         player.closeInventory();
 
-        // Calculate total income to claim
-        double totalIncome = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> player.getUniqueId().equals(a.owner))
-                .mapToDouble(a -> a.pendingIncome)
-                .sum();
-
-        if (totalIncome <= 0) {
+        // Claim income from all apartments with a single deposit
+        ClaimResult claim = plugin.getApartmentManager().claimAllIncome(player.getUniqueId());
+        if (claim.status == ClaimResult.Status.NOTHING) {
             GUIUtils.sendMessage(player, "&cNo income to claim!");
             GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
             return;
         }
-
-        // Claim income from all apartments
-        int claimedCount = 0;
-        for (Apartment apartment : plugin.getApartmentManager().getApartments().values()) {
-            if (player.getUniqueId().equals(apartment.owner) && apartment.pendingIncome > 0) {
-                plugin.getEconomy().depositPlayer(player, apartment.pendingIncome);
-                apartment.pendingIncome = 0;
-                claimedCount++;
-            }
+        if (claim.status == ClaimResult.Status.FAILED) {
+            GUIUtils.sendMessage(player, "&cFailed to deposit your income, please try again later.");
+            GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
+            return;
         }
 
-        plugin.getApartmentManager().saveApartments();
-
-        GUIUtils.sendMessage(player, "&aClaimed &f" + plugin.getConfigManager().formatMoney(totalIncome) +
-                " &afrom &f" + claimedCount + " &aapartments!");
+        GUIUtils.sendMessage(player, "&aClaimed &f" + plugin.getConfigManager().formatMoney(claim.amount) +
+                " &afrom &f" + claim.apartments + " &aapartments!");
         GUIUtils.playSound(player, GUIUtils.SUCCESS_SOUND);
     }
 
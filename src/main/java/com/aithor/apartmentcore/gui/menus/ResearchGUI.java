@@ -4,10 +4,12 @@ import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 import com.aithor.apartmentcore.research.PlayerResearchData;
 import com.aithor.apartmentcore.research.ResearchManager;
 import com.aithor.apartmentcore.research.ResearchType;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -31,6 +33,8 @@ public class ResearchGUI implements GUI {
     private final GUIManager guiManager;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
+    private ItemStack borderItem;
 
     // Slot positions for research items (row 2 and row 3)
     private static final int REVENUE_ACCELERATION_SLOT = 10;
@@ -50,7 +54,8 @@ public class ResearchGUI implements GUI {
         this.plugin = plugin;
         this.guiManager = guiManager;
         this.title = ChatColor.translateAlternateColorCodes('&', "&8Research Center");
-        this.inventory = Bukkit.createInventory(null, 54, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 54, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -60,31 +65,36 @@ public class ResearchGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
         addBorder();
         addInfoItem();
         addResearchItems();
         addActiveResearchDisplay();
         addBackButton();
+
+        frame.commit();
     }
 
     private void addBorder() {
-        ItemStack borderItem = ItemBuilder.filler(Material.PURPLE_STAINED_GLASS_PANE);
+        // Shared template, fetched once per GUI; unchanged slots are skipped by the frame diff
+        if (borderItem == null) {
+            borderItem = ItemBuilder.filler(Material.PURPLE_STAINED_GLASS_PANE);
+        }
         int rows = inventory.getSize() / 9;
 
         // Top border
         for (int i = 0; i < 9; i++) {
-            inventory.setItem(i, borderItem);
+            frame.set(i, borderItem);
         }
         // Bottom border
         int bottomStart = (rows - 1) * 9;
         for (int i = bottomStart; i < bottomStart + 9; i++) {
-            inventory.setItem(i, borderItem);
+            frame.set(i, borderItem);
         }
         // Side borders
         for (int r = 1; r < rows - 1; r++) {
-            inventory.setItem(r * 9, borderItem);
-            inventory.setItem(r * 9 + 8, borderItem);
+            frame.set(r * 9, borderItem);
+            frame.set(r * 9 + 8, borderItem);
         }
     }
 
@@ -138,13 +148,12 @@ public class ResearchGUI implements GUI {
             lore.add("&7 No active buffs yet. Start researching!");
         }
 
-        ItemStack item = new ItemBuilder(Material.ENCHANTING_TABLE)
+        ItemBuilder item = new ItemBuilder(Material.ENCHANTING_TABLE)
                 .name("&d Research Center")
                 .lore(lore)
-                .glow()
-                .build();
+                .glow();
 
-        inventory.setItem(INFO_SLOT, item);
+        frame.set(INFO_SLOT, item);
     }
 
     private void addResearchItems() {
@@ -254,7 +263,7 @@ public class ResearchGUI implements GUI {
             builder.glow();
         }
 
-        inventory.setItem(slot, builder.build());
+        frame.set(slot, builder);
     }
 
     private void addActiveResearchDisplay() {
@@ -278,13 +287,12 @@ public class ResearchGUI implements GUI {
             lore.add("&7 Time Remaining: &f" + GUIUtils.formatTime(remaining));
             lore.add("&7 Total Duration: &f" + GUIUtils.formatTime(total));
 
-            ItemStack item = new ItemBuilder(Material.BREWING_STAND)
+            ItemBuilder item = new ItemBuilder(Material.BREWING_STAND)
                     .name("&e Active Research")
                     .lore(lore)
-                    .glow()
-                    .build();
+                    .glow();
 
-            inventory.setItem(ACTIVE_RESEARCH_SLOT, item);
+            frame.set(ACTIVE_RESEARCH_SLOT, item);
         } else {
             ItemStack item = new ItemBuilder(Material.GLASS_BOTTLE)
                     .name("&7 No Active Research")
@@ -292,9 +300,9 @@ public class ResearchGUI implements GUI {
                             "&7You are not researching anything.",
                             "",
                             "&7Click a research above to start!")
-                    .build();
+                    .template();
 
-            inventory.setItem(ACTIVE_RESEARCH_SLOT, item);
+            frame.set(ACTIVE_RESEARCH_SLOT, item);
         }
     }
 
@@ -302,9 +310,9 @@ public class ResearchGUI implements GUI {
         ItemStack item = new ItemBuilder(Material.ARROW)
                 .name("&c Back to Main Menu")
                 .lore("&7Click to go back")
-                .build();
+                .template();
 
-        inventory.setItem(BACK_SLOT, item);
+        frame.set(BACK_SLOT, item);
     }
 
     private String getBuffDescription(ResearchType type, int tier) {
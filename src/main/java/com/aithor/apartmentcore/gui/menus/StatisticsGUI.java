@@ -2,6 +2,7 @@ package com.aithor.apartmentcore.gui.menus;
 
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.model.ClaimResult;
 import com.aithor.apartmentcore.model.ApartmentRating;
 import com.aithor.apartmentcore.model.ApartmentStats;
 import com.aithor.apartmentcore.model.TaxInvoice;
@@ -10,6 +11,7 @@ import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.PaginatedGUI;
 import com.aithor.apartmentcore.gui.items.GUIItem;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.items.PagedItemList;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -20,7 +22,7 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * Player statistics overview GUI
@@ -29,6 +31,8 @@ public class StatisticsGUI extends PaginatedGUI {
 
     private final ApartmentCore plugin;
     private final GUIManager guiManager;
+    // Totals for the header, captured together with the item rows
+    private Summary summary;
 
     // Header/action slots (top border row)
     private static final int BACK_SLOT = 0;
@@ -40,135 +44,127 @@ public class StatisticsGUI extends PaginatedGUI {
         super(player, ChatColor.DARK_AQUA + "Statistics Overview", 54, 28);
         this.plugin = plugin;
         this.guiManager = guiManager;
+        enableAsyncLoading(plugin, plugin.getConfigManager()::isPerformanceUseAsync);
     }
 
     @Override
     protected List<GUIItem> loadItems() {
-        // List all owned apartments, sorted by display name
-        List<Apartment> apartments = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> player.getUniqueId().equals(a.owner))
-                .sorted(Comparator.comparing(a -> a.displayName))
-                .collect(Collectors.toList());
+        return buildItems(captureRows(), currentPage);
+    }
 
-        List<GUIItem> items = new ArrayList<>();
+    @Override
+    protected Supplier<List<GUIItem>> prepareLoad() {
+        List<Row> rows = captureRows();
+        summary = new Summary(rows);
+        int page = currentPage;
+        return () -> buildItems(rows, page);
+    }
 
+    /**
+     * Copy the values shown for each owned apartment (main thread)
+     */
+    private List<Row> captureRows() {
         long now = System.currentTimeMillis();
-        for (Apartment apt : apartments) {
-            TaxStatus status = apt.computeTaxStatus(now);
-            double unpaid = apt.getTotalUnpaid();
-            ApartmentStats stats = plugin.getApartmentManager().getStats(apt.id);
-            if (stats == null) stats = new ApartmentStats();
-            ApartmentRating rating = plugin.getApartmentManager().getRating(apt.id);
-
-            // Determine card material by status
-            Material material;
-            switch (status) {
-                case ACTIVE:
-                    material = Material.EMERALD_BLOCK;
-                    break;
-                case OVERDUE:
-                    material = Material.GOLD_BLOCK;
-                    break;
-                case INACTIVE:
-                    material = Material.RED_CONCRETE;
-                    break;
-                case REPOSSESSION:
-                    material = Material.BARRIER;
-                    break;
-                default:
-                    material = Material.STONE;
+        List<Row> rows = new ArrayList<>();
+        for (Apartment apt : plugin.getApartmentManager().getApartments().values()) {
+            if (player.getUniqueId().equals(apt.owner)) {
+                rows.add(new Row(apt, now,
+                        plugin.getApartmentManager().getStats(apt.id),
+                        plugin.getApartmentManager().getRating(apt.id)));
             }
-
-            String ratingDisplay = rating != null && rating.ratingCount > 0
-                    ? String.format("%.1f⭐ (%d reviews)", rating.getAverageRating(), rating.ratingCount)
-                    : "No ratings yet";
-
-            // Build lore lines
-            List<String> lore = new ArrayList<>();
-            lore.add("&7ID: &f" + apt.id);
-            lore.add("&7Level: &f" + apt.level + "/5");
-            lore.add("");
-            lore.add("&e📈 Stats:");
-            lore.add("&7• Ownership Age: &f" + stats.ownershipAgeDays + " days");
-            lore.add("&7• Total Income: &a" + plugin.getConfigManager().formatMoney(stats.totalIncomeGenerated));
-            lore.add("&7• Total Tax Paid: &c" + plugin.getConfigManager().formatMoney(stats.totalTaxPaid));
-            lore.add("");
-            lore.add("&e💰 Financial:");
-            lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(apt.pendingIncome));
-            lore.add("&7• Outstanding Taxes: &c" + plugin.getConfigManager().formatMoney(unpaid));
-            lore.add("");
-            lore.add("&e📊 Status: &f" + status.name());
-            lore.add("&e⭐ Rating: &f" + ratingDisplay);
-            lore.add("");
-            lore.add("&a▶ Click to view apartment statistics");
-
-            ItemStack item = new ItemBuilder(material)
-                    .name("&6📊 " + apt.displayName)
-                    .lore(lore)
-                    .build();
-
-            items.add(new GUIItem(item, "stats_apartment_" + apt.id, apt));
         }
+        return rows;
+    }
 
+    /**
+     * Sort the captured rows; cards are built a page at a time and the
+     * requested page is built right away (safe to run off the main thread)
+     */
+    private List<GUIItem> buildItems(List<Row> rows, int page) {
+        // List all owned apartments, sorted by display name
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(r -> r.displayName));
+
+        PagedItemList<Row> items = pagedItems(sorted, this::createCard);
+        items.prefetch(page);
         return items;
     }
 
+    private GUIItem createCard(Row row) {
+        // Determine card material by status
+        Material material;
+        switch (row.status) {
+            case ACTIVE:
+                material = Material.EMERALD_BLOCK;
+                break;
+            case OVERDUE:
+                material = Material.GOLD_BLOCK;
+                break;
+            case INACTIVE:
+                material = Material.RED_CONCRETE;
+                break;
+            case REPOSSESSION:
+                material = Material.BARRIER;
+                break;
+            default:
+                material = Material.STONE;
+        }
+
+        String ratingDisplay = row.ratingCount > 0
+                ? String.format("%.1f⭐ (%d reviews)", row.averageRating, row.ratingCount)
+                : "No ratings yet";
+
+        // Build lore lines
+        List<String> lore = new ArrayList<>();
+        lore.add("&7ID: &f" + row.id);
+        lore.add("&7Level: &f" + row.level + "/5");
+        lore.add("");
+        lore.add("&e📈 Stats:");
+        lore.add("&7• Ownership Age: &f" + row.ownershipAgeDays + " days");
+        lore.add("&7• Total Income: &a" + plugin.getConfigManager().formatMoney(row.totalIncomeGenerated));
+        lore.add("&7• Total Tax Paid: &c" + plugin.getConfigManager().formatMoney(row.totalTaxPaid));
+        lore.add("");
+        lore.add("&e💰 Financial:");
+        lore.add("&7• Pending Income: &a" + plugin.getConfigManager().formatMoney(row.pendingIncome));
+        lore.add("&7• Outstanding Taxes: &c" + plugin.getConfigManager().formatMoney(row.unpaid));
+        lore.add("");
+        lore.add("&e📊 Status: &f" + row.status.name());
+        lore.add("&e⭐ Rating: &f" + ratingDisplay);
+        lore.add("");
+        lore.add("&a▶ Click to view apartment statistics");
+
+        ItemStack item = new ItemBuilder(material)
+                .name("&6📊 " + row.displayName)
+                .lore(lore)
+                .build();
+
+        return new GUIItem(item, "stats_apartment_" + row.id, row.apartment);
+    }
+
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addHeaderAndActions();
     }
 
     private void addHeaderAndActions() {
         // Back to Main Menu
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
-
-        // Aggregate calculations
-        double totalPendingIncome = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> player.getUniqueId().equals(a.owner))
-                .mapToDouble(a -> a.pendingIncome)
-                .sum();
-
-        double totalUnpaidTaxes = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> player.getUniqueId().equals(a.owner))
-                .mapToDouble(Apartment::getTotalUnpaid)
-                .sum();
-
-        long ownedCount = plugin.getApartmentManager().getApartments().values().stream()
-                .filter(a -> player.getUniqueId().equals(a.owner))
-                .count();
-
-        // Sum stats
-        double totalIncomeGenerated = 0.0;
-        double totalTaxPaid = 0.0;
-        for (Apartment a : plugin.getApartmentManager().getApartments().values()) {
-            if (!player.getUniqueId().equals(a.owner)) continue;
-            ApartmentStats st = plugin.getApartmentManager().getStats(a.id);
-            if (st != null) {
-                totalIncomeGenerated += st.totalIncomeGenerated;
-                totalTaxPaid += st.totalTaxPaid;
-            }
-        }
-
-        // Average rating
-        double sumAvg = 0.0;
-        int ratedCount = 0;
-        for (Apartment a : plugin.getApartmentManager().getApartments().values()) {
-            if (!player.getUniqueId().equals(a.owner)) continue;
-            ApartmentRating r = plugin.getApartmentManager().getRating(a.id);
-            if (r != null && r.ratingCount > 0) {
-                sumAvg += r.getAverageRating();
-                ratedCount++;
-            }
-        }
-        String avgRatingStr = ratedCount > 0 ? String.format("%.1f⭐", (sumAvg / ratedCount)) : "N/A";
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
+
+        // Aggregates come from the same snapshot as the cards
+        Summary totals = summary != null ? summary : new Summary(captureRows());
+        double totalPendingIncome = totals.totalPendingIncome;
+        double totalUnpaidTaxes = totals.totalUnpaidTaxes;
+        long ownedCount = totals.ownedCount;
+        double totalIncomeGenerated = totals.totalIncomeGenerated;
+        double totalTaxPaid = totals.totalTaxPaid;
+        String avgRatingStr = totals.ratedCount > 0
+                ? String.format("%.1f⭐", (totals.sumAverageRating / totals.ratedCount)) : "N/A";
 
         // Summary card
-        ItemStack summary = new ItemBuilder(Material.BOOK)
+        ItemBuilder summary = new ItemBuilder(Material.BOOK)
                 .name("&6📊 Your Statistics")
                 .lore(
                         "&7Version: &f" + plugin.getDescription().getVersion(),
@@ -180,13 +176,12 @@ public class StatisticsGUI extends PaginatedGUI {
                         "&7• Total Tax Paid: &c" + plugin.getConfigManager().formatMoney(totalTaxPaid),
                         "&7• Outstanding Taxes: &c" + plugin.getConfigManager().formatMoney(totalUnpaidTaxes),
                         "&7• Avg Rating: &f" + avgRatingStr
-                )
-                .build();
-        inventory.setItem(SUMMARY_SLOT, summary);
+                );
+        frame.set(SUMMARY_SLOT, summary);
 
         // Claim all income
         Material claimMaterial = totalPendingIncome > 0 ? Material.EMERALD_BLOCK : Material.GRAY_CONCRETE;
-        ItemStack claimAllItem = new ItemBuilder(claimMaterial)
+        ItemBuilder claimAllItem = new ItemBuilder(claimMaterial)
                 .name("&a💰 Claim All Income")
                 .lore(
                         "&7Claim income from all apartments",
@@ -194,25 +189,24 @@ public class StatisticsGUI extends PaginatedGUI {
                         "&7Total Pending: &a" + plugin.getConfigManager().formatMoney(totalPendingIncome),
                         "",
                         totalPendingIncome > 0 ? "&a▶ Click to claim all" : "&7No income to claim"
-                )
-                .build();
-        inventory.setItem(CLAIM_ALL_SLOT, claimAllItem);
+                );
+        frame.set(CLAIM_ALL_SLOT, claimAllItem);
 
         // Pay all taxes
-        boolean canAfford = plugin.getEconomy().has(player, totalUnpaidTaxes);
+        double balance = plugin.getEconomyGateway().getBalance(player);
+        boolean canAfford = balance >= totalUnpaidTaxes;
         Material payMat = totalUnpaidTaxes > 0 ? (canAfford ? Material.GOLD_BLOCK : Material.RED_CONCRETE) : Material.GRAY_CONCRETE;
-        ItemStack payAllTaxesItem = new ItemBuilder(payMat)
+        ItemBuilder payAllTaxesItem = new ItemBuilder(payMat)
                 .name("&a💳 Pay All Taxes")
                 .lore(
                         "&7Pay all outstanding tax bills",
                         "",
                         "&7Total Due: &c" + plugin.getConfigManager().formatMoney(totalUnpaidTaxes),
-                        "&7Your Balance: &a" + plugin.getConfigManager().formatMoney(plugin.getEconomy().getBalance(player)),
+                        "&7Your Balance: &a" + plugin.getConfigManager().formatMoney(balance),
                         "",
                         totalUnpaidTaxes > 0 ? (canAfford ? "&a▶ Click to pay all" : "&cInsufficient funds") : "&7No taxes due"
-                )
-                .build();
-        inventory.setItem(PAY_ALL_TAXES_SLOT, payAllTaxesItem);
+                );
+        frame.set(PAY_ALL_TAXES_SLOT, payAllTaxesItem);
     }
 
     @Override
@@ -234,53 +228,19 @@ public class StatisticsGUI extends PaginatedGUI {
         }
 
         if (slot == CLAIM_ALL_SLOT) {
-            // Re-use existing flow
             player.closeInventory();
-            // Calculate total income to claim
-            double totalIncome = plugin.getApartmentManager().getApartments().values().stream()
-                    .filter(a -> player.getUniqueId().equals(a.owner))
-                    .mapToDouble(a -> a.pendingIncome)
-                    .sum();
-
-            if (totalIncome <= 0) {
+            ClaimResult claim = plugin.getApartmentManager().claimAllIncome(player.getUniqueId());
+            if (claim.status == ClaimResult.Status.NOTHING) {
                 GUIUtils.sendMessage(player, "&cNo income to claim!");
                 GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
-                return;
-            }
-
-            int claimedCount = 0;
-            for (Apartment apartment : plugin.getApartmentManager().getApartments().values()) {
-                if (player.getUniqueId().equals(apartment.owner) && apartment.pendingIncome > 0) {
-                    plugin.getEconomy().depositPlayer(player, apartment.pendingIncome);
-
-                    // Update stats
-                    ApartmentStats s = plugin.getApartmentManager().getStats(apartment.id);
-                    s.totalIncomeGenerated += apartment.pendingIncome;
-
-                    apartment.pendingIncome = 0;
-                    claimedCount++;
-                }
-            }
-
-            plugin.getApartmentManager().saveApartments();
-            plugin.getApartmentManager().saveStats();
-
-            // Track income achievement
-            if (plugin.getAchievementManager() != null) {
-                double totalInc = 0;
-                for (Apartment a : plugin.getApartmentManager().getApartments().values()) {
-                    if (player.getUniqueId().equals(a.owner)) {
-                        ApartmentStats st2 = plugin.getApartmentManager().getStats(a.id);
-                        if (st2 != null) totalInc += st2.totalIncomeGenerated;
-                    }
-                }
-                plugin.getAchievementManager().setProgress(player.getUniqueId(),
-                        com.aithor.apartmentcore.achievement.AchievementType.INCOME_MILLIONAIRE, totalInc);
+            } else if (claim.status == ClaimResult.Status.FAILED) {
+                GUIUtils.sendMessage(player, "&cFailed to deposit your income, please try again later.");
+                GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
+            } else {
+                GUIUtils.sendMessage(player, "&aClaimed &f" + plugin.getConfigManager().formatMoney(claim.amount) +
+                        " &afrom &f" + claim.apartments + " &aapartments!");
+                GUIUtils.playSound(player, GUIUtils.SUCCESS_SOUND);
             }
-
-            GUIUtils.sendMessage(player, "&aClaimed &f" + plugin.getConfigManager().formatMoney(totalIncome) +
-                    " &afrom &f" + claimedCount + " &aapartments!");
-            GUIUtils.playSound(player, GUIUtils.SUCCESS_SOUND);
             return;
         }
 
@@ -293,4 +253,61 @@ public class StatisticsGUI extends PaginatedGUI {
         // Delegate to pagination and item handling
         super.handleClick(event);
     }
-}
\ No newline at end of file
+
+    /**
+     * Values of one owned apartment, copied on the main thread
+     */
+    private static final class Row {
+        final Apartment apartment;
+        final String id;
+        final String displayName;
+        final int level;
+        final TaxStatus status;
+        final double unpaid;
+        final double pendingIncome;
+        final double totalIncomeGenerated;
+        final double totalTaxPaid;
+        final int ownershipAgeDays;
+        final double averageRating;
+        final int ratingCount;
+
+        Row(Apartment apt, long now, ApartmentStats stats, ApartmentRating rating) {
+            this.apartment = apt;
+            this.id = apt.id;
+            this.displayName = apt.displayName;
+            this.level = apt.level;
+            this.status = apt.computeTaxStatus(now);
+            this.unpaid = apt.getTotalUnpaid();
+            this.pendingIncome = apt.getPendingIncome();
+            this.totalIncomeGenerated = stats != null ? stats.totalIncomeGenerated : 0.0;
+            this.totalTaxPaid = stats != null ? stats.totalTaxPaid : 0.0;
+            this.ownershipAgeDays = stats != null ? stats.ownershipAgeDays : 0;
+            this.averageRating = rating != null ? rating.getAverageRating() : 0.0;
+            this.ratingCount = rating != null ? rating.ratingCount : 0;
+        }
+    }
+
+    private static final class Summary {
+        final long ownedCount;
+        double totalPendingIncome;
+        double totalUnpaidTaxes;
+        double totalIncomeGenerated;
+        double totalTaxPaid;
+        double sumAverageRating;
+        int ratedCount;
+
+        Summary(List<Row> rows) {
+            this.ownedCount = rows.size();
+            for (Row row : rows) {
+                totalPendingIncome += row.pendingIncome;
+                totalUnpaidTaxes += row.unpaid;
+                totalIncomeGenerated += row.totalIncomeGenerated;
+                totalTaxPaid += row.totalTaxPaid;
+                if (row.ratingCount > 0) {
+                    sumAverageRating += row.averageRating;
+                    ratedCount++;
+                }
+            }
+        }
+    }
+}
@@ -73,18 +73,16 @@ public class TaxManagementGUI extends PaginatedGUI {
     }
 
     @Override
-    protected void setupInventory() {
-        super.setupInventory();
+    protected void decorate() {
         addActionButtons();
     }
 
     private void addActionButtons() {
         // Back button
-        ItemStack backItem = new ItemBuilder(Material.ARROW)
+        ItemBuilder backItem = new ItemBuilder(Material.ARROW)
                 .name("&c◀ Back to Main Menu")
-                .lore("&7Return to the main menu")
-                .build();
-        inventory.setItem(BACK_SLOT, backItem);
+                .lore("&7Return to the main menu");
+        frame.set(BACK_SLOT, backItem);
 
         // Calculate totals
         double totalUnpaid = plugin.getApartmentManager().getApartments().values().stream()
@@ -92,25 +90,25 @@ public class TaxManagementGUI extends PaginatedGUI {
                 .mapToDouble(a -> a.getTotalUnpaid())
                 .sum();
 
-        boolean canAfford = plugin.getEconomy().has(player, totalUnpaid);
+        double balance = plugin.getEconomyGateway().getBalance(player);
+        boolean canAfford = balance >= totalUnpaid;
 
         // Pay All button
         Material payAllMaterial = totalUnpaid > 0 ? (canAfford ? Material.EMERALD_BLOCK : Material.RED_CONCRETE)
                 : Material.GRAY_CONCRETE;
-        ItemStack payAllItem = new ItemBuilder(payAllMaterial)
+        ItemBuilder payAllItem = new ItemBuilder(payAllMaterial)
                 .name("&a💳 Pay All Taxes")
                 .lore(
                         "&7Pay all outstanding tax bills",
                         "",
                         "&7Total Due: &c" + plugin.getConfigManager().formatMoney(totalUnpaid),
                         "&7Your Balance: &a"
-                                + plugin.getConfigManager().formatMoney(plugin.getEconomy().getBalance(player)),
+                                + plugin.getConfigManager().formatMoney(balance),
                         "",
                         totalUnpaid > 0 ? (canAfford ? "&a▶ Click to pay all" : "&cInsufficient funds")
                                 : "&7No taxes due")
-                .glow()
-                .build();
-        inventory.setItem(PAY_ALL_SLOT, payAllItem);
+                .glow();
+        frame.set(PAY_ALL_SLOT, payAllItem);
 
         // Auto-pay toggle
         boolean isProActive = plugin.getEditionManager().isProActive();
@@ -165,7 +163,7 @@ public class TaxManagementGUI extends PaginatedGUI {
                             "&a▶ Click to toggle all apartments")
                     .build();
         }
-        inventory.setItem(AUTO_PAY_TOGGLE_SLOT, autoPayItem);
+        frame.set(AUTO_PAY_TOGGLE_SLOT, autoPayItem);
 
         // Tax Information
         long overdueCount = plugin.getApartmentManager().getApartments().values().stream()
@@ -227,11 +225,10 @@ public class TaxManagementGUI extends PaginatedGUI {
             taxInfoLore.add("&7of the apartment's &epurchase price&7.");
         }
 
-        ItemStack taxInfoItem = new ItemBuilder(Material.BOOK)
+        ItemBuilder taxInfoItem = new ItemBuilder(Material.BOOK)
                 .name("&6📊 Tax Overview")
-                .lore(taxInfoLore)
-                .build();
-        inventory.setItem(TAX_INFO_SLOT, taxInfoItem);
+                .lore(taxInfoLore);
+        frame.set(TAX_INFO_SLOT, taxInfoItem);
     }
 
     private GUIItem createApartmentTaxItem(Apartment apartment) {
@@ -499,7 +496,7 @@ public class TaxManagementGUI extends PaginatedGUI {
             return;
         }
 
-        if (!plugin.getEconomy().has(player, invoice.amount)) {
+        if (!plugin.getEconomyGateway().has(player, invoice.amount)) {
             GUIUtils.sendMessage(player,
                     "&cInsufficient funds! Need: " + plugin.getConfigManager().formatMoney(invoice.amount));
             GUIUtils.playSound(player, GUIUtils.ERROR_SOUND);
@@ -507,26 +504,17 @@ public class TaxManagementGUI extends PaginatedGUI {
         }
 
         // Pay the invoice
-        plugin.getEconomy().withdrawPlayer(player, invoice.amount);
+        plugin.getEconomyGateway().withdraw(player, invoice.amount);
         invoice.paidAt = System.currentTimeMillis();
         apartment.lastTaxPayment = System.currentTimeMillis();
+        plugin.getApartmentManager().refreshIndexes(apartment);
 
         // Update stats
         ApartmentStats stats = plugin.getApartmentManager().getStats(apartment.id);
         stats.totalTaxPaid += invoice.amount;
 
         // Track tax achievement
-        if (plugin.getAchievementManager() != null) {
-            double totalTax = 0;
-            for (com.aithor.apartmentcore.model.Apartment a : plugin.getApartmentManager().getApartments().values()) {
-                if (player.getUniqueId().equals(a.owner)) {
-                    ApartmentStats s = plugin.getApartmentManager().getStats(a.id);
-                    if (s != null) totalTax += s.totalTaxPaid;
-                }
-            }
-            plugin.getAchievementManager().setProgress(player.getUniqueId(),
-                    com.aithor.apartmentcore.achievement.AchievementType.TAX_CONTRIBUTOR, totalTax);
-        }
+        plugin.getApartmentManager().trackTaxAchievement(player.getUniqueId(), invoice.amount);
 
         // Clear inactive flags if this was the last unpaid invoice
         if (apartment.getTotalUnpaid() <= 0) {
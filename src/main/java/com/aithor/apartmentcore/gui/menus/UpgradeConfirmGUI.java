@@ -4,9 +4,11 @@ import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.gui.GUIManager;
 import com.aithor.apartmentcore.gui.interfaces.GUI;
 import com.aithor.apartmentcore.gui.items.ItemBuilder;
+import com.aithor.apartmentcore.gui.render.InventoryFrame;
 import com.aithor.apartmentcore.gui.utils.GUIUtils;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.LevelConfig;
+import com.aithor.apartmentcore.gui.session.GUIHolder;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -22,6 +24,7 @@ public class UpgradeConfirmGUI implements GUI {
     private final String apartmentId;
     private final String title;
     private final Inventory inventory;
+    private final InventoryFrame frame;
 
     private static final int CONFIRM_SLOT = 11;
     private static final int CANCEL_SLOT = 15;
@@ -33,7 +36,8 @@ public class UpgradeConfirmGUI implements GUI {
         this.guiManager = guiManager;
         this.apartmentId = apartmentId;
         this.title = ChatColor.GOLD + "Confirm Upgrade";
-        this.inventory = Bukkit.createInventory(null, 27, this.title);
+        this.inventory = Bukkit.createInventory(new GUIHolder(this), 27, this.title);
+        this.frame = new InventoryFrame(inventory);
     }
 
     @Override
@@ -43,19 +47,21 @@ public class UpgradeConfirmGUI implements GUI {
     }
 
     private void setupInventory() {
-        inventory.clear();
+        frame.begin();
 
         Apartment apt = plugin.getApartmentManager().getApartment(apartmentId);
-        int maxLevel = plugin.getConfigManager().getLevelConfigs().keySet().stream()
-                .mapToInt(Integer::intValue).max().orElse(5);
+        int maxLevel = plugin.getConfigManager().getMaxConfiguredLevel();
         if (apt == null || apt.level >= maxLevel) {
             player.closeInventory();
+            frame.commit();
             return;
         }
 
         LevelConfig levelConfig = plugin.getConfigManager().getLevelConfig(apt.level + 1);
-        if (levelConfig == null)
+        if (levelConfig == null) {
+            frame.commit();
             return;
+        }
 
         long duration = levelConfig.upgradeDuration; // in ticks
         String durationStr = duration <= 0 ? "Instant" : formatTicks(duration);
@@ -63,11 +69,11 @@ public class UpgradeConfirmGUI implements GUI {
         // Fill background
         ItemStack filler = ItemBuilder.filler(Material.GRAY_STAINED_GLASS_PANE);
         for (int i = 0; i < 27; i++) {
-            inventory.setItem(i, filler);
+            frame.set(i, filler);
         }
 
         // Info item
-        ItemStack infoItem = new ItemBuilder(Material.DIAMOND)
+        ItemBuilder infoItem = new ItemBuilder(Material.DIAMOND)
                 .name("&bUpgrade Information")
                 .lore(
                         "&7Apartment: &f" + apt.displayName,
@@ -79,23 +85,22 @@ public class UpgradeConfirmGUI implements GUI {
                         "",
                         "&7New Income: &a" + plugin.getConfigManager().formatMoney(apt.getMinIncome(plugin.getConfigManager(), apt.level + 1)) +
                                 " &7- &a" + plugin.getConfigManager().formatMoney(apt.getMaxIncome(plugin.getConfigManager(), apt.level + 1)))
-                .glow()
-                .build();
-        inventory.setItem(INFO_SLOT, infoItem);
+                .glow();
+        frame.set(INFO_SLOT, infoItem);
 
         // Confirm
-        ItemStack confirmItem = new ItemBuilder(Material.EMERALD_BLOCK)
+        ItemBuilder confirmItem = new ItemBuilder(Material.EMERALD_BLOCK)
                 .name("&a&lCONFIRM")
-                .lore("&7Click to start the upgrade process.")
-                .build();
-        inventory.setItem(CONFIRM_SLOT, confirmItem);
+                .lore("&7Click to start the upgrade process.");
+        frame.set(CONFIRM_SLOT, confirmItem);
 
         // Cancel
-        ItemStack cancelItem = new ItemBuilder(Material.REDSTONE_BLOCK)
+        ItemBuilder cancelItem = new ItemBuilder(Material.REDSTONE_BLOCK)
                 .name("&c&lCANCEL")
-                .lore("&7Click to return to apartment details.")
-                .build();
-        inventory.setItem(CANCEL_SLOT, cancelItem);
+                .lore("&7Click to return to apartment details.");
+        frame.set(CANCEL_SLOT, cancelItem);
+
+        frame.commit();
     }
 
     private String formatTicks(long ticks) {
@@ -0,0 +1,72 @@
+package com.aithor.apartmentcore.gui.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * View models shared by every viewer of a menu.
+ *
+ * <p>Models are keyed by menu, filter and sort (e.g. {@code "browser:CHEAP:PRICE_LOW"})
+ * and stamped with the data version they were computed from. The first
+ * viewer computes a model; later viewers and auto-refreshes reuse it until
+ * the version changes. Entries also expire after {@link #MAX_AGE_MS}, which
+ * bounds staleness of values that have no version stamp (player names,
+ * research tiers). Models must be immutable once published; per-viewer
+ * decoration belongs in the menu, not in the model.
+ */
+public class ViewModelCache {
+
+    private static final long MAX_AGE_MS = 30_000L;
+
+    private static final class Entry {
+        final long version;
+        final long createdAt;
+        final Object model;
+
+        Entry(long version, long createdAt, Object model) {
+            this.version = version;
+            this.createdAt = createdAt;
+            this.model = model;
+        }
+    }
+
+    private final Map<String, Entry> models = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Get the shared model for the key, computing it if the cached one was
+     * built from another data version or has expired
+     * @param version Current version of the data the model is derived from
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, long version, Supplier<T> compute) {
+        long now = System.currentTimeMillis();
+        Entry entry = models.get(key);
+        if (entry != null && entry.version == version && now - entry.createdAt < MAX_AGE_MS) {
+            hits.increment();
+            return (T) entry.model;
+        }
+        misses.increment();
+        T model = compute.get();
+        models.put(key, new Entry(version, now, model));
+        return model;
+    }
+
+    /**
+     * Drop every model (e.g. after a config reload changed formatting)
+     */
+    public void invalidate() {
+        models.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
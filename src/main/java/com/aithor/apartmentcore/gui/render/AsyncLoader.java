@@ -0,0 +1,112 @@
+package com.aithor.apartmentcore.gui.render;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Runs a menu's data preparation off the main thread.
+ *
+ * <p>The caller captures a read snapshot on the main thread and passes a
+ * {@link Supplier} that turns it into a render model; the supplier runs on a
+ * Bukkit async worker and the model is handed back to {@code apply} on the
+ * main thread. Every {@link #submit} supersedes the previous one, and results
+ * are dropped if a newer load was submitted, the loader was cancelled, or the
+ * menu is no longer shown when they arrive. If building the model throws,
+ * {@code onFailure} runs on the main thread instead so the menu can replace
+ * its loading state.
+ *
+ * <p>With {@code performance.use-async} disabled the load runs synchronously.
+ */
+public class AsyncLoader {
+
+    private final Plugin plugin;
+    private final BooleanSupplier asyncEnabled;
+    private final BooleanSupplier stillShown;
+    // Only touched on the main thread
+    private long generation;
+    private boolean pending;
+
+    /**
+     * @param asyncEnabled whether loads may run on a worker
+     * @param stillShown   whether results should still be applied (checked on the main thread)
+     */
+    public AsyncLoader(Plugin plugin, BooleanSupplier asyncEnabled, BooleanSupplier stillShown) {
+        this.plugin = plugin;
+        this.asyncEnabled = asyncEnabled;
+        this.stillShown = stillShown;
+    }
+
+    /**
+     * Build a model from a snapshot and apply it on the main thread.
+     * Must be called from the main thread.
+     * @param onFailure runs on the main thread instead of {@code apply} if the load threw
+     * @return true if the load finished before returning (synchronous load)
+     */
+    public <T> boolean submit(Supplier<T> load, Consumer<T> apply, Runnable onFailure) {
+        long token = ++generation;
+        if (!asyncEnabled.getAsBoolean()) {
+            pending = false;
+            T model;
+            try {
+                model = load.get();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to prepare menu data", e);
+                onFailure.run();
+                return true;
+            }
+            apply.accept(model);
+            return true;
+        }
+
+        pending = true;
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            T model = null;
+            boolean failed = false;
+            try {
+                model = load.get();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to prepare menu data", e);
+                failed = true;
+            }
+            T result = model;
+            boolean loadFailed = failed;
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                if (token != generation) {
+                    return; // Superseded by a newer load or cancelled
+                }
+                pending = false;
+                if (!stillShown.getAsBoolean()) {
+                    return;
+                }
+                if (loadFailed) {
+                    onFailure.run();
+                } else {
+                    apply.accept(result);
+                }
+            });
+        });
+        return false;
+    }
+
+    /**
+     * Drop any load in flight (e.g. when the menu is closed)
+     */
+    public void cancel() {
+        generation++;
+        pending = false;
+    }
+
+    /**
+     * @return true while a submitted load has not been applied yet
+     */
+    public boolean isPending() {
+        return pending;
+    }
+}
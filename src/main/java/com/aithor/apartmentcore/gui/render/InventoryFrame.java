@@ -0,0 +1,117 @@
+package com.aithor.apartmentcore.gui.render;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import com.aithor.apartmentcore.gui.items.ItemBuilder;
+
+/**
+ * Diffing render target for a GUI inventory.
+ *
+ * <p>A menu redraws by calling {@link #begin()}, describing every slot with
+ * {@link #set(int, ItemBuilder)} or {@link #set(int, ItemStack)}, and then
+ * {@link #commit()}. The frame compares each slot's content with the one
+ * committed last time (hash first, then {@code equals}) and only builds and
+ * writes the slots that changed, so an auto-refresh of an unchanged menu
+ * touches no items at all. Builders are only turned into {@link ItemStack}s
+ * for changed slots, and must not be modified after they are set.
+ *
+ * <p>Writes made while no frame is open go straight to the inventory, which
+ * keeps one-off slot updates from click handlers in sync with the diff state.
+ */
+public class InventoryFrame {
+
+    private final Inventory inventory;
+    private final Object[] pending;
+    private final int[] committedHashes;
+    private final Object[] committed;
+    private boolean open;
+    private boolean fullRedraw = true;
+
+    public InventoryFrame(Inventory inventory) {
+        this.inventory = inventory;
+        this.pending = new Object[inventory.getSize()];
+        this.committedHashes = new int[inventory.getSize()];
+        this.committed = new Object[inventory.getSize()];
+    }
+
+    /**
+     * Start describing a new frame; slots not set before {@link #commit()} end up empty
+     */
+    public void begin() {
+        Arrays.fill(pending, null);
+        open = true;
+    }
+
+    public void set(int slot, ItemBuilder builder) {
+        if (slot < 0 || slot >= pending.length)
+            return;
+        if (open) {
+            pending[slot] = builder;
+        } else {
+            write(slot, builder, hashOf(builder));
+        }
+    }
+
+    public void set(int slot, ItemStack item) {
+        if (slot < 0 || slot >= pending.length)
+            return;
+        if (open) {
+            pending[slot] = item;
+        } else {
+            write(slot, item, hashOf(item));
+        }
+    }
+
+    /**
+     * Write the slots whose content changed since the last commit
+     * @return the number of slots written
+     */
+    public int commit() {
+        open = false;
+        int written = 0;
+        for (int slot = 0; slot < pending.length; slot++) {
+            Object content = pending[slot];
+            int hash = hashOf(content);
+            // Equal hashes may still collide; confirm with equals
+            if (fullRedraw || hash != committedHashes[slot] || !Objects.equals(content, committed[slot])) {
+                write(slot, content, hash);
+                written++;
+            }
+            pending[slot] = null;
+        }
+        fullRedraw = false;
+        return written;
+    }
+
+    /**
+     * Force every slot to be written on the next commit (e.g. after the
+     * inventory was modified outside this frame)
+     */
+    public void invalidate() {
+        fullRedraw = true;
+    }
+
+    private void write(int slot, Object content, int hash) {
+        ItemStack item;
+        if (content instanceof ItemBuilder builder) {
+            item = builder.build();
+        } else {
+            item = (ItemStack) content;
+        }
+        inventory.setItem(slot, item);
+        committedHashes[slot] = hash;
+        committed[slot] = content;
+    }
+
+    private static int hashOf(Object content) {
+        if (content == null)
+            return 0;
+        int hash = content instanceof ItemBuilder builder ? builder.contentHash() : content.hashCode();
+        // Reserve 0 for empty slots
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aithor.apartmentcore.gui.session;
+
+/**
+ * Kinds of chat input a GUI can ask a player for
+ */
+public enum ChatInputType {
+    MARKET_PRICE("&cMarket listing cancelled."),
+    NAME("&cName change cancelled."),
+    ICON("&cIcon change cancelled.");
+
+    private final String cancelMessage;
+
+    ChatInputType(String cancelMessage) {
+        this.cancelMessage = cancelMessage;
+    }
+
+    public String getCancelMessage() {
+        return cancelMessage;
+    }
+}
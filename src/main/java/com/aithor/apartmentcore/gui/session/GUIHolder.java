@@ -0,0 +1,38 @@
+package com.aithor.apartmentcore.gui.session;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import com.aithor.apartmentcore.gui.interfaces.GUI;
+
+/**
+ * Inventory holder that ties a GUI inventory to its menu, so events resolve
+ * the menu with {@link Inventory#getHolder()} instead of a map lookup
+ */
+public class GUIHolder implements InventoryHolder {
+
+    private final GUI gui;
+
+    public GUIHolder(GUI gui) {
+        this.gui = gui;
+    }
+
+    public GUI getGUI() {
+        return gui;
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return gui.getInventory();
+    }
+
+    /**
+     * @return The menu owning the inventory, or null if it is not a GUI inventory
+     */
+    public static GUI resolve(Inventory inventory) {
+        if (inventory != null && inventory.getHolder() instanceof GUIHolder) {
+            return ((GUIHolder) inventory.getHolder()).getGUI();
+        }
+        return null;
+    }
+}
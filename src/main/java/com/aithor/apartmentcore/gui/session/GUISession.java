@@ -0,0 +1,89 @@
+package com.aithor.apartmentcore.gui.session;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.aithor.apartmentcore.gui.interfaces.GUI;
+
+/**
+ * Per-player GUI state: the open menu and the pending chat input.
+ *
+ * <p>Chat input follows a small state machine: a request moves the session
+ * from idle to awaiting (replacing any earlier request), and exactly one of
+ * {@link #takeInput}, {@link #expireInput} or {@link #cancelInput} moves it
+ * back to idle. Every transition is a single atomic operation, so a chat
+ * thread and the main thread can never both consume the same request.
+ */
+public class GUISession {
+
+    private final UUID playerId;
+    private final AtomicReference<GUI> openGUI = new AtomicReference<>();
+    private final AtomicReference<PendingInput> pendingInput = new AtomicReference<>();
+
+    public GUISession(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public GUI getGUI() {
+        return openGUI.get();
+    }
+
+    /**
+     * Set the open menu
+     * @return The previously open menu, or null
+     */
+    public GUI swapGUI(GUI gui) {
+        return openGUI.getAndSet(gui);
+    }
+
+    /**
+     * Clear the open menu only if it is still the given one
+     * @return True if the menu was cleared
+     */
+    public boolean clearGUI(GUI expected) {
+        return openGUI.compareAndSet(expected, null);
+    }
+
+    /**
+     * Start waiting for chat input, replacing any earlier request
+     */
+    public void awaitInput(PendingInput input) {
+        pendingInput.set(input);
+    }
+
+    /**
+     * Claim the pending input for a chat message
+     * @return The request, or null if none is pending or it has expired
+     */
+    public PendingInput takeInput(long now) {
+        PendingInput input = pendingInput.getAndSet(null);
+        return input != null && !input.isExpired(now) ? input : null;
+    }
+
+    /**
+     * Drop the request if it is still the given one (timeout)
+     * @return True if the request was still pending
+     */
+    public boolean expireInput(PendingInput expected) {
+        return pendingInput.compareAndSet(expected, null);
+    }
+
+    public void cancelInput() {
+        pendingInput.set(null);
+    }
+
+    public boolean isAwaitingInput() {
+        return pendingInput.get() != null;
+    }
+
+    /**
+     * @return True if the session holds no state and can be discarded
+     */
+    public boolean isIdle() {
+        return openGUI.get() == null && pendingInput.get() == null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.aithor.apartmentcore.gui.session;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent registry of {@link GUISession}s, safe to read from chat threads.
+ * Sessions are created on demand and dropped again once idle.
+ */
+public class GUISessionRegistry {
+
+    private final Map<UUID, GUISession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * @return The player's session, or null if they have none
+     */
+    public GUISession get(UUID playerId) {
+        return sessions.get(playerId);
+    }
+
+    /**
+     * Create the session if needed and change it in the same atomic step, so
+     * a concurrent {@link #removeIfIdle} cannot drop it before the change
+     * makes it non-idle
+     *
+     * @return The session
+     */
+    public GUISession update(UUID playerId, Consumer<GUISession> change) {
+        return sessions.compute(playerId, (id, session) -> {
+            GUISession target = session != null ? session : new GUISession(id);
+            change.accept(target);
+            return target;
+        });
+    }
+
+    /**
+     * Drop the session if it holds no open menu or pending input
+     */
+    public void removeIfIdle(UUID playerId) {
+        sessions.computeIfPresent(playerId, (id, session) -> session.isIdle() ? null : session);
+    }
+
+    public GUISession remove(UUID playerId) {
+        return sessions.remove(playerId);
+    }
+
+    public Collection<GUISession> getSessions() {
+        return sessions.values();
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package com.aithor.apartmentcore.gui.session;
+
+/**
+ * An outstanding request for chat input; immutable so it can be handed
+ * between the main thread and chat threads
+ */
+public final class PendingInput {
+
+    private final ChatInputType type;
+    private final String apartmentId;
+    private final long expiresAt;
+
+    public PendingInput(ChatInputType type, String apartmentId, long expiresAt) {
+        this.type = type;
+        this.apartmentId = apartmentId;
+        this.expiresAt = expiresAt;
+    }
+
+    public ChatInputType getType() {
+        return type;
+    }
+
+    public String getApartmentId() {
+        return apartmentId;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.aithor.apartmentcore.ledger;
+
+import java.util.List;
+
+/**
+ * A page of history, newest first, with the total number of matching records
+ */
+public class LedgerPage {
+
+    public final List<LedgerRecord> records;
+    public final int total;
+
+    public LedgerPage(List<LedgerRecord> records, int total) {
+        this.records = records;
+        this.total = total;
+    }
+}
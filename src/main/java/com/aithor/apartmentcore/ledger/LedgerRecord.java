@@ -0,0 +1,79 @@
+package com.aithor.apartmentcore.ledger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * One immutable ledger entry. The acting player, the counterparty (seller,
+ * outbid player, ...) and the apartment are all indexed, so a market sale
+ * shows up in the history of both players and of the apartment.
+ */
+public class LedgerRecord {
+
+    public final long time;
+    public final TransactionType type;
+    public final UUID playerId;
+    public final String playerName;
+    public final UUID counterpartyId;
+    public final String counterpartyName;
+    public final String apartmentId;
+    public final double amount;
+    public final String details;
+
+    public LedgerRecord(long time, TransactionType type, UUID playerId, String playerName,
+            UUID counterpartyId, String counterpartyName, String apartmentId, double amount, String details) {
+        this.time = time;
+        this.type = type;
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.counterpartyId = counterpartyId;
+        this.counterpartyName = counterpartyName;
+        this.apartmentId = apartmentId;
+        this.amount = amount;
+        this.details = details;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(time);
+        out.writeUTF(type.name());
+        out.writeUTF(playerId != null ? playerId.toString() : "");
+        out.writeUTF(playerName != null ? playerName : "");
+        out.writeUTF(counterpartyId != null ? counterpartyId.toString() : "");
+        out.writeUTF(counterpartyName != null ? counterpartyName : "");
+        out.writeUTF(apartmentId != null ? apartmentId : "");
+        out.writeDouble(amount);
+        out.writeUTF(details != null ? details : "");
+    }
+
+    static LedgerRecord read(DataInputStream in) throws IOException {
+        long time = in.readLong();
+        TransactionType type = TransactionType.valueOf(in.readUTF());
+        UUID playerId = toUuid(in.readUTF());
+        String playerName = emptyToNull(in.readUTF());
+        UUID counterpartyId = toUuid(in.readUTF());
+        String counterpartyName = emptyToNull(in.readUTF());
+        String apartmentId = emptyToNull(in.readUTF());
+        double amount = in.readDouble();
+        String details = in.readUTF();
+        return new LedgerRecord(time, type, playerId, playerName, counterpartyId, counterpartyName,
+                apartmentId, amount, details);
+    }
+
+    private static UUID toUuid(String s) {
+        return s.isEmpty() ? null : UUID.fromString(s);
+    }
+
+    private static String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
+
+    static String playerKey(UUID playerId) {
+        return "player:" + playerId;
+    }
+
+    static String apartmentKey(String apartmentId) {
+        return "apartment:" + apartmentId.toLowerCase();
+    }
+}
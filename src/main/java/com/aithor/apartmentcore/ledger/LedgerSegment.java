@@ -0,0 +1,244 @@
+package com.aithor.apartmentcore.ledger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One append-only ledger file ({@code segment-NNNNNN.dat}) and its index.
+ *
+ * <p>Records are stored as {@code [int length][payload]}. While a segment is
+ * active, the byte offsets of its records are kept in memory per index key.
+ * When it is sealed they are written to {@code segment-NNNNNN.idx}: one int
+ * array of offsets per key, followed by a summary (key, count, array position)
+ * and the summary's position as the last 8 bytes. Loading a sealed segment
+ * only reads the summary; a key's offsets are read on demand.
+ */
+class LedgerSegment {
+
+    /**
+     * Where a key's offsets live in a segment's index
+     */
+    static class KeyRef {
+        int count;
+        // Position of the offsets array in the .idx file, or -1 while the segment is active
+        long indexPos;
+
+        KeyRef(int count, long indexPos) {
+            this.count = count;
+            this.indexPos = indexPos;
+        }
+    }
+
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    final int number;
+    final File dataFile;
+    final File indexFile;
+    int recordCount;
+    long size;
+    // Active segment only: key -> record offsets in append order
+    private final Map<String, int[]> offsets = new HashMap<>();
+    private final Map<String, Integer> offsetCounts = new HashMap<>();
+
+    LedgerSegment(File dir, int number) {
+        this.number = number;
+        this.dataFile = new File(dir, String.format("segment-%06d.dat", number));
+        this.indexFile = new File(dir, String.format("segment-%06d.idx", number));
+    }
+
+    void addOffset(String key, int offset) {
+        int count = offsetCounts.getOrDefault(key, 0);
+        int[] arr = offsets.get(key);
+        if (arr == null) {
+            arr = new int[4];
+        } else if (count == arr.length) {
+            arr = Arrays.copyOf(arr, count * 2);
+        }
+        arr[count] = offset;
+        offsets.put(key, arr);
+        offsetCounts.put(key, count + 1);
+    }
+
+    /**
+     * @return The in-memory offsets of an active segment
+     */
+    int[] getOffsets(String key) {
+        int[] arr = offsets.get(key);
+        return arr != null ? Arrays.copyOf(arr, offsetCounts.get(key)) : new int[0];
+    }
+
+    Map<String, Integer> getKeyCounts() {
+        return offsetCounts;
+    }
+
+    /**
+     * Rebuild the in-memory index by reading every record. A torn record at
+     * the end (crash during append) or one that cannot be decoded is cut off
+     * together with everything after it.
+     *
+     * @return The number of bytes cut off
+     */
+    long scan() throws IOException {
+        offsets.clear();
+        offsetCounts.clear();
+        recordCount = 0;
+        long good = 0;
+        if (dataFile.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dataFile)))) {
+                while (true) {
+                    int len;
+                    try {
+                        len = in.readInt();
+                    } catch (EOFException eof) {
+                        break;
+                    }
+                    if (len <= 0 || len > MAX_RECORD_BYTES) {
+                        break;
+                    }
+                    byte[] payload = new byte[len];
+                    try {
+                        in.readFully(payload);
+                    } catch (EOFException eof) {
+                        break;
+                    }
+                    LedgerRecord record;
+                    try {
+                        record = LedgerRecord.read(new DataInputStream(new ByteArrayInputStream(payload)));
+                    } catch (IOException | RuntimeException e) {
+                        // e.g. a transaction type this version does not know
+                        break;
+                    }
+                    for (String key : TransactionLedger.keysOf(record)) {
+                        addOffset(key, (int) good);
+                    }
+                    recordCount++;
+                    good += 4 + len;
+                }
+            }
+        }
+        long cut = dataFile.exists() ? dataFile.length() - good : 0;
+        if (cut > 0) {
+            try (RandomAccessFile raf = new RandomAccessFile(dataFile, "rw")) {
+                raf.setLength(good);
+            }
+        }
+        size = good;
+        return cut;
+    }
+
+    /**
+     * Write the sealed index file. It is written next to the segment and moved
+     * into place, so a crash never leaves a partial index behind.
+     * @return Per-key count and array position, as read back by {@link #readSummary}
+     */
+    Map<String, KeyRef> writeIndex() throws IOException {
+        Map<String, KeyRef> summary = new LinkedHashMap<>();
+        File tmp = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+        FileOutputStream file = new FileOutputStream(tmp);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            for (Map.Entry<String, Integer> e : offsetCounts.entrySet()) {
+                summary.put(e.getKey(), new KeyRef(e.getValue(), out.size()));
+                int[] arr = offsets.get(e.getKey());
+                for (int i = 0; i < e.getValue(); i++) {
+                    out.writeInt(arr[i]);
+                }
+            }
+            long summaryPos = out.size();
+            out.writeInt(summary.size());
+            for (Map.Entry<String, KeyRef> e : summary.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().count);
+                out.writeLong(e.getValue().indexPos);
+            }
+            out.writeLong(summaryPos);
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        offsets.clear();
+        offsetCounts.clear();
+        return summary;
+    }
+
+    /**
+     * Read only the summary of a sealed index
+     * @throws IOException If the index is unreadable or inconsistent
+     */
+    Map<String, KeyRef> readSummary() throws IOException {
+        Map<String, KeyRef> summary = new HashMap<>();
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "r")) {
+            long length = raf.length();
+            if (length < 12) {
+                throw new IOException("Index " + indexFile.getName() + " is truncated");
+            }
+            raf.seek(length - 8);
+            long summaryPos = raf.readLong();
+            if (summaryPos < 0 || summaryPos > length - 12) {
+                throw new IOException("Index " + indexFile.getName() + " has an invalid summary position");
+            }
+            raf.seek(summaryPos);
+            int keys = raf.readInt();
+            if (keys < 0) {
+                throw new IOException("Index " + indexFile.getName() + " has an invalid key count");
+            }
+            for (int i = 0; i < keys; i++) {
+                String key = raf.readUTF();
+                int count = raf.readInt();
+                long pos = raf.readLong();
+                if (count < 0 || pos < 0 || pos + count * 4L > summaryPos) {
+                    throw new IOException("Index " + indexFile.getName() + " points outside its offsets");
+                }
+                summary.put(key, new KeyRef(count, pos));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Read one key's offsets from a sealed index
+     */
+    int[] readOffsets(KeyRef ref) throws IOException {
+        int[] result = new int[ref.count];
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "r")) {
+            raf.seek(ref.indexPos);
+            byte[] raw = new byte[ref.count * 4];
+            raf.readFully(raw);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+            for (int i = 0; i < ref.count; i++) {
+                result[i] = in.readInt();
+            }
+        }
+        return result;
+    }
+
+    static LedgerRecord readAt(RandomAccessFile raf, int offset) throws IOException {
+        raf.seek(offset);
+        int len = raf.readInt();
+        byte[] payload = new byte[len];
+        raf.readFully(payload);
+        return LedgerRecord.read(new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+
+    static byte[] encode(LedgerRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        record.write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,328 @@
+package com.aithor.apartmentcore.ledger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.manager.ConfigManager;
+
+/**
+ * Structured, append-only history of money movements.
+ *
+ * <p>Records go into numbered segment files in {@code plugins/ApartmentCore/ledger}.
+ * A sparse in-memory index maps each player and apartment to the segments
+ * that contain it (with a count per segment); the record offsets themselves
+ * stay in each segment's index file. A history page is served newest first
+ * by skipping whole segments by count and reading only the requested records.
+ *
+ * <p>All file access happens on one ledger thread: {@link #record} returns
+ * immediately and queries complete a future.
+ */
+public class TransactionLedger {
+
+    private final ApartmentCore plugin;
+    private final ConfigManager config;
+    private final File dir;
+    private final ExecutorService executor;
+
+    // Ledger thread only
+    private final TreeMap<Integer, LedgerSegment> segments = new TreeMap<>();
+    private final Map<String, TreeMap<Integer, LedgerSegment.KeyRef>> keyIndex = new HashMap<>();
+    private LedgerSegment active;
+    private DataOutputStream out;
+    private boolean ready;
+
+    public TransactionLedger(ApartmentCore plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.dir = new File(plugin.getDataFolder(), "ledger");
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ApartmentCore-Ledger");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Open the segments and rebuild the sparse index (runs on the ledger thread)
+     */
+    public void load() {
+        if (!config.isLedgerEnabled()) {
+            return;
+        }
+        submit(this::open);
+    }
+
+    public void record(TransactionType type, UUID playerId, String playerName, String apartmentId,
+            double amount, String details) {
+        record(type, playerId, playerName, null, null, apartmentId, amount, details);
+    }
+
+    public void record(TransactionType type, UUID playerId, String playerName, UUID counterpartyId,
+            String counterpartyName, String apartmentId, double amount, String details) {
+        if (!config.isLedgerEnabled()) {
+            return;
+        }
+        LedgerRecord record = new LedgerRecord(System.currentTimeMillis(), type, playerId, playerName,
+                counterpartyId, counterpartyName, apartmentId, amount, details);
+        submit(() -> append(record));
+    }
+
+    /**
+     * History of a player, newest first
+     */
+    public CompletableFuture<LedgerPage> queryPlayer(UUID playerId, int offset, int limit) {
+        return query(LedgerRecord.playerKey(playerId), offset, limit);
+    }
+
+    /**
+     * History of an apartment, newest first
+     */
+    public CompletableFuture<LedgerPage> queryApartment(String apartmentId, int offset, int limit) {
+        return query(LedgerRecord.apartmentKey(apartmentId), offset, limit);
+    }
+
+    /**
+     * Finish pending writes and close the active segment (plugin disable)
+     */
+    public void close() {
+        submit(() -> {
+            closeStream();
+            ready = false;
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static List<String> keysOf(LedgerRecord record) {
+        List<String> keys = new ArrayList<>(3);
+        if (record.playerId != null) {
+            keys.add(LedgerRecord.playerKey(record.playerId));
+        }
+        if (record.counterpartyId != null && !record.counterpartyId.equals(record.playerId)) {
+            keys.add(LedgerRecord.playerKey(record.counterpartyId));
+        }
+        if (record.apartmentId != null) {
+            keys.add(LedgerRecord.apartmentKey(record.apartmentId));
+        }
+        return keys;
+    }
+
+    private CompletableFuture<LedgerPage> query(String key, int offset, int limit) {
+        CompletableFuture<LedgerPage> future = new CompletableFuture<>();
+        if (!config.isLedgerEnabled()) {
+            future.complete(new LedgerPage(Collections.emptyList(), 0));
+            return future;
+        }
+        boolean queued = submit(() -> {
+            try {
+                future.complete(read(key, Math.max(0, offset), Math.max(1, limit)));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        if (!queued) {
+            future.complete(new LedgerPage(Collections.emptyList(), 0));
+        }
+        return future;
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // ---- Ledger thread ----
+
+    private void open() {
+        try {
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            File[] files = dir.listFiles((d, name) -> name.startsWith("segment-") && name.endsWith(".dat"));
+            if (files != null) {
+                Arrays.sort(files);
+                for (File file : files) {
+                    int number = Integer.parseInt(file.getName().substring(8, 14));
+                    segments.put(number, new LedgerSegment(dir, number));
+                }
+            }
+
+            for (LedgerSegment segment : segments.values()) {
+                boolean last = segment.number == segments.lastKey();
+                if (!last && segment.indexFile.exists()) {
+                    try {
+                        indexSealed(segment, segment.readSummary());
+                        continue;
+                    } catch (IOException e) {
+                        plugin.getLogger().warning("Rebuilding ledger index " + segment.indexFile.getName()
+                                + ": " + e.getMessage());
+                    }
+                }
+                // Active segment, or a sealed one whose index is missing or unreadable
+                long cut = segment.scan();
+                if (cut > 0) {
+                    plugin.getLogger().warning("Cut " + cut + " unreadable byte(s) off the end of ledger segment "
+                            + segment.dataFile.getName());
+                }
+                if (last) {
+                    active = segment;
+                    for (Map.Entry<String, Integer> e : segment.getKeyCounts().entrySet()) {
+                        keyIndex.computeIfAbsent(e.getKey(), k -> new TreeMap<>())
+                                .put(segment.number, new LedgerSegment.KeyRef(e.getValue(), -1));
+                    }
+                } else {
+                    indexSealed(segment, segment.writeIndex());
+                }
+            }
+
+            if (active != null) {
+                out = openStream(active);
+            }
+            ready = true;
+            plugin.debug("Ledger loaded: " + segments.size() + " segment(s), " + keyIndex.size() + " indexed keys");
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load transaction ledger", e);
+        }
+    }
+
+    private void indexSealed(LedgerSegment segment, Map<String, LedgerSegment.KeyRef> summary) {
+        for (Map.Entry<String, LedgerSegment.KeyRef> e : summary.entrySet()) {
+            keyIndex.computeIfAbsent(e.getKey(), k -> new TreeMap<>()).put(segment.number, e.getValue());
+        }
+    }
+
+    private void append(LedgerRecord record) {
+        if (!ready) {
+            return;
+        }
+        try {
+            if (active == null || active.recordCount >= config.getLedgerSegmentRecords()) {
+                roll();
+            }
+            byte[] payload = LedgerSegment.encode(record);
+            int offset = (int) active.size;
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.flush();
+            active.size += 4 + payload.length;
+            active.recordCount++;
+
+            for (String key : keysOf(record)) {
+                active.addOffset(key, offset);
+                keyIndex.computeIfAbsent(key, k -> new TreeMap<>())
+                        .computeIfAbsent(active.number, n -> new LedgerSegment.KeyRef(0, -1)).count++;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to append to transaction ledger", e);
+        }
+    }
+
+    /**
+     * Seal the active segment and start the next one
+     */
+    private void roll() throws IOException {
+        int next = 1;
+        if (active != null) {
+            closeStream();
+            indexSealed(active, active.writeIndex());
+            next = active.number + 1;
+        }
+        active = new LedgerSegment(dir, next);
+        segments.put(next, active);
+        out = openStream(active);
+        pruneSegments();
+    }
+
+    /**
+     * Delete the oldest segments beyond ledger.max-segments
+     */
+    private void pruneSegments() {
+        int max = config.getLedgerMaxSegments();
+        while (max > 0 && segments.size() > max) {
+            LedgerSegment oldest = segments.pollFirstEntry().getValue();
+            keyIndex.values().removeIf(refs -> {
+                refs.remove(oldest.number);
+                return refs.isEmpty();
+            });
+            oldest.dataFile.delete();
+            oldest.indexFile.delete();
+            plugin.debug("Deleted ledger segment " + oldest.number);
+        }
+    }
+
+    private LedgerPage read(String key, int offset, int limit) throws IOException {
+        TreeMap<Integer, LedgerSegment.KeyRef> refs = keyIndex.get(key);
+        if (refs == null) {
+            return new LedgerPage(Collections.emptyList(), 0);
+        }
+
+        int total = 0;
+        for (LedgerSegment.KeyRef ref : refs.values()) {
+            total += ref.count;
+        }
+
+        List<LedgerRecord> records = new ArrayList<>(limit);
+        int skip = offset;
+        for (Map.Entry<Integer, LedgerSegment.KeyRef> e : refs.descendingMap().entrySet()) {
+            LedgerSegment.KeyRef ref = e.getValue();
+            if (skip >= ref.count) {
+                skip -= ref.count;
+                continue;
+            }
+            LedgerSegment segment = segments.get(e.getKey());
+            int[] offsets = ref.indexPos < 0 ? segment.getOffsets(key) : segment.readOffsets(ref);
+            try (RandomAccessFile raf = new RandomAccessFile(segment.dataFile, "r")) {
+                for (int i = offsets.length - 1 - skip; i >= 0 && records.size() < limit; i--) {
+                    records.add(LedgerSegment.readAt(raf, offsets[i]));
+                }
+            }
+            skip = 0;
+            if (records.size() >= limit) {
+                break;
+            }
+        }
+        return new LedgerPage(records, total);
+    }
+
+    private DataOutputStream openStream(LedgerSegment segment) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segment.dataFile, true)));
+    }
+
+    private void closeStream() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.aithor.apartmentcore.ledger;
+
+/**
+ * Kinds of money movements recorded in the {@link TransactionLedger}.
+ * Records store the enum name, so constants may be added but not renamed.
+ */
+public enum TransactionType {
+
+    PURCHASE("Purchase"),
+    SALE("Sale"),
+    MARKET_SALE("Market Sale"),
+    AUCTION_SALE("Auction Sale"),
+    BID("Bid"),
+    REFUND("Refund"),
+    TAX_INVOICE("Tax Invoice"),
+    TAX_PAYMENT("Tax Payment"),
+    SHOP_PURCHASE("Shop Purchase"),
+    RESEARCH_SPEND("Research"),
+    ACHIEVEMENT_REWARD("Achievement Reward");
+
+    private final String displayName;
+
+    TransactionType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,203 @@
+package com.aithor.apartmentcore.manager;
+
+import com.aithor.apartmentcore.model.Apartment;
+import com.aithor.apartmentcore.model.TaxStatus;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar copy of the apartment state read by the periodic ticks
+ * (enabled with {@code performance.hot-store}).
+ *
+ * <p>Every apartment occupies a dense slot; removal moves the last slot into
+ * the hole so scans never skip gaps. The ticks scan these primitive columns
+ * sequentially to find the few apartments that actually need work, and only
+ * then touch the {@link Apartment} objects. The income tick also takes the
+ * level and pending income of its candidates from the columns. The objects
+ * remain the source of truth: callers must {@link #sync(Apartment)} after
+ * changing an apartment's owner, level, pending income, invoices or upgrade
+ * state outside the ticks.
+ */
+public class ApartmentHotStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> slotById = new HashMap<>();
+    private Apartment[] views = new Apartment[INITIAL_CAPACITY];
+    private boolean[] owned = new boolean[INITIAL_CAPACITY];
+    private long[] lastInvoiceAt = new long[INITIAL_CAPACITY];
+    private long[] upgradeCompleteAt = new long[INITIAL_CAPACITY];
+    private long[] oldestUnpaidAt = new long[INITIAL_CAPACITY];
+    private int[] level = new int[INITIAL_CAPACITY];
+    private double[] pendingIncome = new double[INITIAL_CAPACITY];
+    // Set on sync so the next tax scan visits the apartment once (e.g. to clear inactive flags)
+    private boolean[] dirty = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Copy the hot fields of the apartment into its slot, allocating one if
+     * needed, and make sure the next tax scan visits it.
+     */
+    public synchronized void sync(Apartment apt) {
+        dirty[slotFor(apt)] = true;
+    }
+
+    /**
+     * Copy the hot fields after a tick processed the apartment; unlike
+     * {@link #sync(Apartment)} this does not schedule another visit.
+     */
+    public synchronized void syncAfterTick(Apartment apt) {
+        slotFor(apt);
+    }
+
+    public synchronized void remove(String apartmentId) {
+        Integer slot = slotById.remove(apartmentId);
+        if (slot == null) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            views[slot] = views[last];
+            owned[slot] = owned[last];
+            lastInvoiceAt[slot] = lastInvoiceAt[last];
+            upgradeCompleteAt[slot] = upgradeCompleteAt[last];
+            oldestUnpaidAt[slot] = oldestUnpaidAt[last];
+            level[slot] = level[last];
+            pendingIncome[slot] = pendingIncome[last];
+            dirty[slot] = dirty[last];
+            slotById.put(views[slot].id, slot);
+        }
+        views[last] = null;
+    }
+
+    public synchronized void rebuild(Collection<Apartment> apartments) {
+        slotById.clear();
+        Arrays.fill(views, 0, size, null);
+        size = 0;
+        ensureCapacity(apartments.size());
+        for (Apartment apt : apartments) {
+            slotById.put(apt.id, size);
+            write(size, apt);
+            dirty[size++] = true;
+        }
+    }
+
+    /**
+     * Collect apartments whose timed upgrade has finished
+     */
+    public synchronized void collectCompletedUpgrades(long now, List<Apartment> out) {
+        for (int i = 0; i < size; i++) {
+            long completeAt = upgradeCompleteAt[i];
+            if (completeAt > 0 && now >= completeAt) {
+                out.add(views[i]);
+            }
+        }
+    }
+
+    /**
+     * Collect owned apartments whose tax tick can change something: a new
+     * invoice is due, unpaid invoices need reminders or auto-payment, or the
+     * apartment was modified since the last scan.
+     */
+    public synchronized void collectTaxCandidates(long now, long invoiceIntervalMs, List<Apartment> out) {
+        for (int i = 0; i < size; i++) {
+            if (!owned[i]) {
+                continue;
+            }
+            if (dirty[i] || oldestUnpaidAt[i] != Long.MAX_VALUE || lastInvoiceAt[i] == 0L
+                    || now - lastInvoiceAt[i] >= invoiceIntervalMs) {
+                dirty[i] = false;
+                out.add(views[i]);
+            }
+        }
+    }
+
+    /**
+     * Collect owned apartments whose tax status allows income generation,
+     * together with their level and pending income
+     */
+    public synchronized void collectIncomeCandidates(long now, long taxDayMs, IncomeBatch out) {
+        for (int i = 0; i < size; i++) {
+            if (owned[i] && TaxStatus.fromUnpaidSince(oldestUnpaidAt[i], now, taxDayMs) == TaxStatus.ACTIVE) {
+                out.add(views[i], level[i], pendingIncome[i]);
+            }
+        }
+    }
+
+    /**
+     * Store the pending income the income tick credited to an apartment
+     */
+    public synchronized void setPendingIncome(String apartmentId, double value) {
+        Integer slot = slotById.get(apartmentId);
+        if (slot != null) {
+            pendingIncome[slot] = value;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int slotFor(Apartment apt) {
+        Integer slot = slotById.get(apt.id);
+        if (slot == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slotById.put(apt.id, slot);
+        }
+        write(slot, apt);
+        return slot;
+    }
+
+    private void write(int slot, Apartment apt) {
+        views[slot] = apt;
+        owned[slot] = apt.owner != null;
+        lastInvoiceAt[slot] = apt.lastInvoiceAt;
+        upgradeCompleteAt[slot] = apt.upgradeInProgress ? apt.upgradeCompleteAt : 0L;
+        oldestUnpaidAt[slot] = apt.getOldestUnpaidCreatedAt();
+        level[slot] = apt.level;
+        pendingIncome[slot] = apt.pendingIncome;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= views.length) {
+            return;
+        }
+        int capacity = Math.max(required, views.length * 2);
+        views = Arrays.copyOf(views, capacity);
+        owned = Arrays.copyOf(owned, capacity);
+        lastInvoiceAt = Arrays.copyOf(lastInvoiceAt, capacity);
+        upgradeCompleteAt = Arrays.copyOf(upgradeCompleteAt, capacity);
+        oldestUnpaidAt = Arrays.copyOf(oldestUnpaidAt, capacity);
+        level = Arrays.copyOf(level, capacity);
+        pendingIncome = Arrays.copyOf(pendingIncome, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+    }
+
+    /**
+     * Income tick candidates in parallel arrays, so the tick reads level and
+     * pending income without touching the apartment objects
+     */
+    public static class IncomeBatch {
+        public Apartment[] apartments = new Apartment[INITIAL_CAPACITY];
+        public int[] levels = new int[INITIAL_CAPACITY];
+        public double[] pendingIncome = new double[INITIAL_CAPACITY];
+        public int size;
+
+        public void add(Apartment apt, int level, double pending) {
+            if (size == apartments.length) {
+                int capacity = size * 2;
+                apartments = Arrays.copyOf(apartments, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+                pendingIncome = Arrays.copyOf(pendingIncome, capacity);
+            }
+            apartments[size] = apt;
+            levels[size] = level;
+            pendingIncome[size++] = pending;
+        }
+    }
+}
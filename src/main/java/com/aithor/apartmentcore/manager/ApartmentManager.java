@@ -1,19 +1,26 @@
 package com.aithor.apartmentcore.manager;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.achievement.AchievementEvent;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.ApartmentRating;
 import com.aithor.apartmentcore.model.ApartmentStats;
+import com.aithor.apartmentcore.model.ClaimResult;
 import com.aithor.apartmentcore.model.GuestBookEntry;
+import com.aithor.apartmentcore.model.IncomeProfile;
 import com.aithor.apartmentcore.model.TaxInvoice;
 import com.aithor.apartmentcore.model.TaxStatus;
+import com.aithor.apartmentcore.notification.NotificationType;
 
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
@@ -42,10 +49,18 @@ public class ApartmentManager {
 
     private final Map<String, Apartment> apartments;
     private final Map<String, ApartmentRating> apartmentRatings;
-    private final Map<UUID, Map<String, Long>> playerRatingCooldowns;
     private final Map<String, List<GuestBookEntry>> guestBooks;
     private final Map<String, ApartmentStats> apartmentStats;
 
+    // Sorted indexes over government-owned and market-listed apartments
+    private final ListingIndex listingIndex;
+
+    // Bumped whenever an apartment is re-indexed; lets caches detect changes
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    // Columnar tick state (null unless performance.hot-store is enabled)
+    private volatile ApartmentHotStore hotStore;
+
     // Cached lists for performance
     private final java.util.concurrent.ConcurrentHashMap<String, CachedList> listCache;
 
@@ -69,10 +84,10 @@ public class ApartmentManager {
 
         this.apartments = new ConcurrentHashMap<>();
         this.apartmentRatings = new ConcurrentHashMap<>();
-        this.playerRatingCooldowns = new ConcurrentHashMap<>();
         this.guestBooks = new ConcurrentHashMap<>();
         this.apartmentStats = new ConcurrentHashMap<>();
         this.listCache = new ConcurrentHashMap<>();
+        this.listingIndex = new ListingIndex();
 
         if (worldGuard == null) {
             plugin.getLogger().severe("WorldGuard not found! Disabling plugin...");
@@ -85,8 +100,10 @@ public class ApartmentManager {
      */
     public void loadApartments() {
         ConfigurationSection section = dataManager.getDataConfig().getConfigurationSection("apartments");
-        if (section == null)
+        if (section == null) {
+            rebuildIndexes();
             return;
+        }
 
         for (String id : section.getKeys(false)) {
             try {
@@ -132,6 +149,8 @@ public class ApartmentManager {
 
                 // Restore last-generated-income (for income-based tax; 0 = no income yet)
                 apt.lastGeneratedIncome = aptSection.getDouble("last-generated-income", 0.0);
+                // Lazy accrual checkpoint (0 = never settled in lazy mode)
+                apt.incomeSettledAt = aptSection.getLong("income-settled-at", 0L);
 
                 // Load new tax system data (optional for backward-compatibility)
                 try {
@@ -188,8 +207,7 @@ public class ApartmentManager {
                                 int lvl = Integer.parseInt(lvlStr);
                                 ConfigurationSection lvlSec = incomesSection.getConfigurationSection(lvlStr);
                                 if (lvlSec != null) {
-                                    apt.customMinIncomes.put(lvl, lvlSec.getDouble("min"));
-                                    apt.customMaxIncomes.put(lvl, lvlSec.getDouble("max"));
+                                    apt.setCustomIncome(lvl, lvlSec.getDouble("min"), lvlSec.getDouble("max"));
                                 }
                             } catch (NumberFormatException ignored) {}
                         }
@@ -203,6 +221,7 @@ public class ApartmentManager {
         }
 
         plugin.debug("Loaded " + apartments.size() + " apartments from storage");
+        rebuildIndexes();
 
         // Restore the last-tax-run timestamp.
         // New format stores epoch-ms (e.g. 1_700_000_000_000L).
@@ -224,12 +243,20 @@ public class ApartmentManager {
     }
 
     /**
-     * Load apartment ratings
+     * Load apartment ratings from ratings.yml, migrating the legacy per-rater
+     * section of apartments.yml on first start.
      */
     public void loadRatings() {
-        ConfigurationSection section = dataManager.getDataConfig().getConfigurationSection("ratings");
-        if (section == null)
+        ConfigurationSection section = dataManager.getRatingsConfig().getConfigurationSection("ratings");
+        boolean legacy = false;
+        if (section == null) {
+            section = dataManager.getDataConfig().getConfigurationSection("ratings");
+            legacy = section != null;
+        }
+        if (section == null) {
+            rebuildIndexes();
             return;
+        }
 
         for (String apartmentId : section.getKeys(false)) {
             ConfigurationSection ratingSection = section.getConfigurationSection(apartmentId);
@@ -237,23 +264,46 @@ public class ApartmentManager {
                 continue;
 
             ApartmentRating rating = new ApartmentRating();
-            rating.totalRating = ratingSection.getDouble("total", 0);
-            rating.ratingCount = ratingSection.getInt("count", 0);
 
-            ConfigurationSection ratersSection = ratingSection.getConfigurationSection("raters");
-            if (ratersSection != null) {
-                for (String uuid : ratersSection.getKeys(false)) {
+            if (legacy) {
+                ConfigurationSection ratersSection = ratingSection.getConfigurationSection("raters");
+                if (ratersSection != null) {
+                    for (String uuid : ratersSection.getKeys(false)) {
+                        try {
+                            rating.raters.put(UUID.fromString(uuid),
+                                    (int) Math.round(ratersSection.getDouble(uuid) * 10));
+                        } catch (IllegalArgumentException e) {
+                            plugin.getLogger().warning(
+                                    String.format("Invalid UUID in ratings for apartment %s: %s", apartmentId, uuid));
+                        }
+                    }
+                }
+            } else {
+                String encoded = ratingSection.getString("raters", "");
+                if (!encoded.isEmpty()) {
                     try {
-                        rating.raters.put(UUID.fromString(uuid), ratersSection.getDouble(uuid));
+                        rating.raters.putAll(Base64.getDecoder().decode(encoded));
                     } catch (IllegalArgumentException e) {
                         plugin.getLogger().warning(
-                                String.format("Invalid UUID in ratings for apartment %s: %s", apartmentId, uuid));
+                                String.format("Invalid rater data for apartment %s: %s", apartmentId, e.getMessage()));
                     }
                 }
             }
 
+            // Running sums are stored explicitly; admin overrides have no raters
+            rating.totalRating = ratingSection.getDouble("total", 0);
+            rating.ratingCount = ratingSection.getInt("count", 0);
+
             apartmentRatings.put(apartmentId, rating);
         }
+
+        if (legacy) {
+            saveRatings();
+            dataManager.getDataConfig().set("ratings", null);
+            dataManager.saveDataFile();
+            plugin.log("Migrated " + apartmentRatings.size() + " apartment ratings to ratings.yml");
+        }
+        rebuildIndexes();
     }
 
     /**
@@ -347,6 +397,8 @@ public class ApartmentManager {
             dataManager.getDataConfig().set(path + "last-tax-payment", apt.lastTaxPayment);
             dataManager.getDataConfig().set(path + "pending-income", apt.pendingIncome);
             dataManager.getDataConfig().set(path + "last-generated-income", apt.lastGeneratedIncome);
+            dataManager.getDataConfig().set(path + "income-settled-at",
+                    configManager.isLazyIncomeAccrual() ? apt.incomeSettledAt : null);
             dataManager.getDataConfig().set(path + "inactive", apt.inactive);
             dataManager.getDataConfig().set(path + "penalty", apt.penalty);
             dataManager.getDataConfig().set(path + "inactive-since", apt.inactiveSince);
@@ -378,12 +430,13 @@ public class ApartmentManager {
             dataManager.getDataConfig().set(path + "market-listed-at", apt.marketListedAt);
 
             // Save custom incomes
-            if (apt.customMinIncomes != null && !apt.customMinIncomes.isEmpty()) {
+            if (apt.getCustomIncomeLevelBound() > 0) {
                 String ciPath = path + "custom-incomes.";
-                for (Map.Entry<Integer, Double> entry : apt.customMinIncomes.entrySet()) {
-                    int lvl = entry.getKey();
-                    dataManager.getDataConfig().set(ciPath + lvl + ".min", entry.getValue());
-                    dataManager.getDataConfig().set(ciPath + lvl + ".max", apt.customMaxIncomes.getOrDefault(lvl, entry.getValue()));
+                for (int lvl = 0; lvl < apt.getCustomIncomeLevelBound(); lvl++) {
+                    if (!apt.hasCustomIncome(lvl))
+                        continue;
+                    dataManager.getDataConfig().set(ciPath + lvl + ".min", apt.getMinIncome(configManager, lvl));
+                    dataManager.getDataConfig().set(ciPath + lvl + ".max", apt.getMaxIncome(configManager, lvl));
                 }
             } else {
                  dataManager.getDataConfig().set(path + "custom-incomes", null);
@@ -408,27 +461,28 @@ public class ApartmentManager {
     }
 
     /**
-     * Save apartment ratings
+     * Save apartment ratings to ratings.yml. Raters are encoded as one
+     * Base64 blob per apartment (17 bytes per rater) instead of a YAML key each.
      */
     public void saveRatings() {
-        if (dataManager.getDataConfig() == null)
+        if (dataManager.getRatingsConfig() == null)
             return;
 
-        dataManager.getDataConfig().set("ratings", null);
+        dataManager.getRatingsConfig().set("ratings", null);
 
         for (Map.Entry<String, ApartmentRating> entry : apartmentRatings.entrySet()) {
             String path = "ratings." + entry.getKey() + ".";
             ApartmentRating rating = entry.getValue();
 
-            dataManager.getDataConfig().set(path + "total", rating.totalRating);
-            dataManager.getDataConfig().set(path + "count", rating.ratingCount);
-
-            for (Map.Entry<UUID, Double> rater : rating.raters.entrySet()) {
-                dataManager.getDataConfig().set(path + "raters." + rater.getKey().toString(), rater.getValue());
+            dataManager.getRatingsConfig().set(path + "total", rating.totalRating);
+            dataManager.getRatingsConfig().set(path + "count", rating.ratingCount);
+            if (rating.raters.size() > 0) {
+                dataManager.getRatingsConfig().set(path + "raters",
+                        Base64.getEncoder().encodeToString(rating.raters.toBytes()));
             }
         }
 
-        dataManager.saveDataFile();
+        dataManager.saveRatingsFile();
     }
 
     /**
@@ -482,41 +536,37 @@ public class ApartmentManager {
      */
     public void generateIncome() {
         long now = System.currentTimeMillis();
-        for (Apartment apt : apartments.values()) {
-            if (apt.owner == null || !apt.canGenerateIncome(now))
-                continue;
-
-            // --- Income Capacity Check ---
-            double baseCapacity = configManager.getIncomeCapacity(apt.level);
 
-            // Research Buffs
-            double researchBonusPercentage = 0.0;
-            if (plugin.getResearchManager() != null) {
-                researchBonusPercentage = plugin.getResearchManager().getIncomeCapacityBonus(apt.owner);
+        // With the hot store, the column scan drops unowned apartments and those
+        // whose tax status blocks income, and supplies level and pending income
+        ApartmentHotStore store = hotStore;
+        ApartmentHotStore.IncomeBatch candidates = new ApartmentHotStore.IncomeBatch();
+        if (store != null) {
+            store.collectIncomeCandidates(now, configManager.getTaxGenerationInterval() * 50L, candidates);
+        } else {
+            for (Apartment apt : apartments.values()) {
+                if (apt.owner != null && apt.canGenerateIncome(now)) {
+                    candidates.add(apt, apt.level, apt.pendingIncome);
+                }
             }
+        }
 
-            // Shop Buffs
-            double shopBonusPercentage = 0.0;
-            if (plugin.getShopManager() != null) {
-                shopBonusPercentage = plugin.getShopManager().getIncomeCapacityBonusPercentage(apt.id);
-            }
+        for (int i = 0; i < candidates.size; i++) {
+            Apartment apt = candidates.apartments[i];
+            double pending = candidates.pendingIncome[i];
 
-            double capacity = baseCapacity * (1.0 + ((researchBonusPercentage + shopBonusPercentage) / 100.0));
-
-            if (apt.pendingIncome >= capacity) {
-                // Vault is full; skip generation and notify player once per cycle
-                org.bukkit.OfflinePlayer offlinePlayer = org.bukkit.Bukkit.getOfflinePlayer(apt.owner);
-                if (offlinePlayer.isOnline()) {
-                    org.bukkit.entity.Player player = offlinePlayer.getPlayer();
-                    if (player != null) {
-                        String message = plugin.getMessageManager().getMessage("notifications.income_capacity_full")
-                                .replace("%apartment%", apt.displayName)
-                                .replace("%capacity%", configManager.formatMoney(capacity));
-                        player.sendMessage(message);
-                    }
-                }
+            // --- Income Capacity Check ---
+            double capacity = getIncomeCapacity(apt, candidates.levels[i]);
+
+            if (pending >= capacity) {
+                // Vault is full; skip generation and add it to the owner's digest
+                plugin.getNotificationManager().notify(apt.owner, NotificationType.CAPACITY_FULL,
+                        plugin.getMessageManager().format("notifications.income_capacity_full",
+                                "apartment", apt.displayName,
+                                "capacity", configManager.formatMoney(capacity)),
+                        0);
                 plugin.debug("Income capacity full for apartment " + apt.id +
-                        " (" + configManager.formatMoney(apt.pendingIncome) + " / "
+                        " (" + configManager.formatMoney(pending) + " / "
                         + configManager.formatMoney(capacity) + ")");
                 continue;
             }
@@ -525,10 +575,13 @@ public class ApartmentManager {
             double income = apt.getHourlyIncomeWithShopBuffs(configManager, plugin);
 
             // Clamp income so it never exceeds remaining capacity space
-            double remaining = capacity - apt.pendingIncome;
+            double remaining = capacity - pending;
             income = Math.min(income, remaining);
 
             apt.pendingIncome += income;
+            if (store != null) {
+                store.setPendingIncome(apt.id, apt.pendingIncome);
+            }
 
             // Track the raw income amount for income-based tax calculation
             apt.lastGeneratedIncome = income;
@@ -538,44 +591,27 @@ public class ApartmentManager {
             stats.totalIncomeGenerated += income;
 
             // Track income achievement
-            if (plugin.getAchievementManager() != null) {
-                double totalIncome = 0;
-                for (Apartment a : apartments.values()) {
-                    if (apt.owner.equals(a.owner)) {
-                        ApartmentStats s = getStats(a.id);
-                        if (s != null)
-                            totalIncome += s.totalIncomeGenerated;
-                    }
-                }
-                plugin.getAchievementManager().setProgress(apt.owner,
-                        com.aithor.apartmentcore.achievement.AchievementType.INCOME_MILLIONAIRE, totalIncome);
-            }
+            trackIncomeAchievement(apt.owner, income);
 
-            // Send notification to player if online
-            org.bukkit.OfflinePlayer offlinePlayer = org.bukkit.Bukkit.getOfflinePlayer(apt.owner);
-            if (offlinePlayer.isOnline()) {
-                org.bukkit.entity.Player player = offlinePlayer.getPlayer();
-                if (player != null) {
-                    String message;
-                    boolean hasIncomeBuffs = plugin.getShopManager().hasActiveIncomeBuffs(apt.id);
-
-                    if (hasIncomeBuffs) {
-                        double flatBuff = plugin.getShopManager().getTotalFlatIncomeBonus(apt.id);
-                        double percentageBuff = plugin.getShopManager().getTotalPercentageIncomeBonus(apt.id);
-
-                        message = plugin.getMessageManager().getMessage("notifications.rent_generated_with_buff")
-                                .replace("%amount%", configManager.formatMoney(income))
-                                .replace("%apartment%", apt.displayName)
-                                .replace("%flat_buff%", configManager.formatMoney(flatBuff))
-                                .replace("%percentage_buff%", String.format("%.1f", percentageBuff));
-                    } else {
-                        message = plugin.getMessageManager().getMessage("notifications.rent_generated")
-                                .replace("%amount%", configManager.formatMoney(income))
-                                .replace("%apartment%", apt.displayName);
-                    }
-                    player.sendMessage(message);
-                }
+            // Add to the owner's digest; sent once per player when the tick is flushed
+            String message;
+            boolean hasIncomeBuffs = plugin.getShopManager().hasActiveIncomeBuffs(apt.id);
+
+            if (hasIncomeBuffs) {
+                double flatBuff = plugin.getShopManager().getTotalFlatIncomeBonus(apt.id);
+                double percentageBuff = plugin.getShopManager().getTotalPercentageIncomeBonus(apt.id);
+
+                message = plugin.getMessageManager().format("notifications.rent_generated_with_buff",
+                        "amount", configManager.formatMoney(income),
+                        "apartment", apt.displayName,
+                        "flat_buff", configManager.formatMoney(flatBuff),
+                        "percentage_buff", String.format("%.1f", percentageBuff));
+            } else {
+                message = plugin.getMessageManager().format("notifications.rent_generated",
+                        "amount", configManager.formatMoney(income),
+                        "apartment", apt.displayName);
             }
+            plugin.getNotificationManager().notify(apt.owner, NotificationType.RENT, message, income);
 
             plugin.debug("Generated " + configManager.formatMoney(income) + " income for apartment " + apt.id +
                     " [" + configManager.formatMoney(apt.pendingIncome) + " / " + configManager.formatMoney(capacity)
@@ -583,6 +619,187 @@ public class ApartmentManager {
         }
     }
 
+    /**
+     * Income capacity of an apartment's level with research and shop buffs
+     */
+    public double getIncomeCapacity(Apartment apt) {
+        return getIncomeCapacity(apt, apt.level);
+    }
+
+    private double getIncomeCapacity(Apartment apt, int level) {
+        double baseCapacity = configManager.getIncomeCapacity(level);
+
+        // Research Buffs
+        double researchBonusPercentage = 0.0;
+        if (apt.owner != null && plugin.getResearchManager() != null) {
+            researchBonusPercentage = plugin.getResearchManager().getIncomeCapacityBonus(apt.owner);
+        }
+
+        // Shop Buffs
+        double shopBonusPercentage = 0.0;
+        if (plugin.getShopManager() != null) {
+            shopBonusPercentage = plugin.getShopManager().getIncomeCapacityBonusPercentage(apt.id);
+        }
+
+        return baseCapacity * (1.0 + ((researchBonusPercentage + shopBonusPercentage) / 100.0));
+    }
+
+    private void trackIncomeAchievement(UUID owner, double amount) {
+        if (plugin.getAchievementManager() == null)
+            return;
+        plugin.getAchievementManager().post(new AchievementEvent.IncomeGenerated(owner, amount));
+    }
+
+    /**
+     * Add tax an owner paid to their TAX_CONTRIBUTOR progress
+     */
+    public void trackTaxAchievement(UUID owner, double amount) {
+        if (plugin.getAchievementManager() == null)
+            return;
+        plugin.getAchievementManager().post(new AchievementEvent.TaxPaid(owner, amount));
+    }
+
+    /**
+     * Compile the lazy accrual profile of an apartment from its current state
+     * 
+     * @return null in tick mode or while the apartment has no owner
+     */
+    public IncomeProfile compileIncomeProfile(Apartment apt) {
+        if (!configManager.isLazyIncomeAccrual() || apt.owner == null)
+            return null;
+        return buildIncomeProfile(apt);
+    }
+
+    private IncomeProfile buildIncomeProfile(Apartment apt) {
+        long intervalMs = Math.max(1000L, configManager.getIncomeGenerationInterval() * 50L);
+        long stopsAt = TaxStatus.incomeStopsAt(apt.getOldestUnpaidCreatedAt(),
+                configManager.getTaxGenerationInterval() * 50L);
+        return new IncomeProfile(apt.getExpectedIncomeWithShopBuffs(configManager, plugin), intervalMs,
+                getIncomeCapacity(apt), stopsAt);
+    }
+
+    /**
+     * Materialize an apartment's lazily accrued income and recompile its
+     * profile from the current state. Called on every status change (through
+     * {@link #refreshIndexes(Apartment)}) and before income is claimed or
+     * discarded. Does nothing in tick mode.
+     * 
+     * @return The apartment's pending income after settling
+     */
+    public double settleIncome(Apartment apt) {
+        if (!configManager.isLazyIncomeAccrual())
+            return apt.pendingIncome;
+        IncomeProfile profile = apt.getIncomeProfile();
+        double accrued = apt.settleIncome(System.currentTimeMillis());
+        if (accrued > 0 && apt.owner != null) {
+            // Track the per-interval amount for income-based tax calculation
+            apt.lastGeneratedIncome = profile.incomePerInterval;
+            getStats(apt.id).totalIncomeGenerated += accrued;
+            trackIncomeAchievement(apt.owner, accrued);
+            plugin.debug("Settled " + configManager.formatMoney(accrued) + " income for apartment " + apt.id);
+        }
+        apt.setIncomeProfile(compileIncomeProfile(apt));
+        return apt.pendingIncome;
+    }
+
+    /**
+     * Settle all apartments of an owner (their research buffs changed)
+     */
+    public void settleOwnerIncome(UUID owner) {
+        if (!configManager.isLazyIncomeAccrual())
+            return;
+        for (Apartment apt : apartments.values()) {
+            if (owner.equals(apt.owner)) {
+                settleIncome(apt);
+            }
+        }
+    }
+
+    /**
+     * Pay out the pending income of every apartment an owner has with a single
+     * deposit. Pending income is cleared only if the deposit went through.
+     */
+    public ClaimResult claimAllIncome(UUID owner) {
+        List<Apartment> claimed = new ArrayList<>();
+        EconomyGateway.Batch payout = plugin.getEconomyGateway().batch();
+        double total = 0;
+        for (Apartment apt : apartments.values()) {
+            if (owner.equals(apt.owner) && settleIncome(apt) > 0) {
+                payout.credit(owner, apt.pendingIncome, null);
+                claimed.add(apt);
+                total += apt.pendingIncome;
+            }
+        }
+        if (claimed.isEmpty())
+            return ClaimResult.nothing();
+
+        if (!payout.commit().isCredited(owner))
+            return ClaimResult.failed(total, claimed.size());
+
+        for (Apartment apt : claimed) {
+            getStats(apt.id).totalIncomeGenerated += apt.pendingIncome;
+            apt.pendingIncome = 0;
+            refreshIndexes(apt);
+        }
+        saveApartments();
+        saveStats();
+        trackIncomeAchievement(owner, total);
+        return ClaimResult.claimed(total, claimed.size());
+    }
+
+    /**
+     * Bring every apartment in line with the configured accrual mode after
+     * loading: lazy mode settles from the stored checkpoint and compiles
+     * profiles, tick mode materializes anything a previous lazy run left
+     * unsettled. Runs once the shop and research managers exist, so profiles
+     * include their buffs.
+     */
+    public void syncIncomeAccrual() {
+        long now = System.currentTimeMillis();
+        boolean lazy = configManager.isLazyIncomeAccrual();
+        int settled = 0;
+        for (Apartment apt : apartments.values()) {
+            if (lazy) {
+                if (apt.incomeSettledAt <= 0) {
+                    apt.incomeSettledAt = now;
+                }
+                if (apt.getIncomeProfile() == null) {
+                    apt.setIncomeProfile(compileIncomeProfile(apt));
+                }
+                settleIncome(apt);
+                settled++;
+            } else if (apt.incomeSettledAt > 0) {
+                // Switched back to tick mode: pay out what accrued under lazy mode
+                if (apt.owner != null) {
+                    if (apt.getIncomeProfile() == null) {
+                        apt.setIncomeProfile(buildIncomeProfile(apt));
+                    }
+                    apt.settleIncome(now);
+                }
+                apt.setIncomeProfile(null);
+                apt.incomeSettledAt = 0L;
+                settled++;
+            }
+        }
+        if (settled > 0) {
+            plugin.debug("Synchronized income accrual (" + (lazy ? "lazy" : "tick") + ") for " + settled
+                    + " apartments");
+        }
+    }
+
+    /**
+     * When an apartment next receives income: the next interval boundary
+     * after its last settlement in lazy mode, the next income task run in
+     * tick mode
+     */
+    public long getNextIncomeAt(Apartment apt, long now) {
+        long intervalMs = Math.max(1000L, configManager.getIncomeGenerationInterval() * 50L);
+        long last = configManager.isLazyIncomeAccrual() ? apt.incomeSettledAt : plugin.getLastIncomeGenerationTime();
+        if (last <= 0 || last > now)
+            return now + intervalMs;
+        return last + ((now - last) / intervalMs + 1) * intervalMs;
+    }
+
     /**
      * Process daily updates for all apartments (e.g., taxes, age)
      */
@@ -785,7 +1002,7 @@ public class ApartmentManager {
         if (filter == null || filter.equals("all")) {
             displayList = new ArrayList<>(apartments.values());
         } else if (filter.equals("sale")) {
-            displayList = apartments.values().stream()
+            displayList = listingIndex.getOrdered(ListingIndex.SortKey.PRICE, false).stream()
                     .filter(a -> a.owner == null)
                     .collect(Collectors.toList());
         } else if (filter.equals("mine") && playerUuid != null) {
@@ -812,7 +1029,116 @@ public class ApartmentManager {
         return displayList;
     }
 
+    /**
+     * Refresh the listing index and hot store entries of an apartment. Must be
+     * called after changing its owner, price, market listing, level, rating,
+     * invoices or upgrade state.
+     */
+    public void refreshIndexes(Apartment apt) {
+        if (apt == null)
+            return;
+        if (!apartments.containsKey(apt.id)) {
+            refreshIndexes(apt.id);
+            return;
+        }
+        settleIncome(apt);
+        ApartmentRating rating = apartmentRatings.get(apt.id);
+        listingIndex.update(apt, rating != null ? rating.getAverageRating() : 0);
+        ApartmentHotStore store = hotStore;
+        if (store != null) {
+            store.sync(apt);
+        }
+        dataVersion.incrementAndGet();
+    }
+
+    public void refreshIndexes(String apartmentId) {
+        Apartment apt = apartments.get(apartmentId);
+        if (apt != null) {
+            refreshIndexes(apt);
+            return;
+        }
+        listingIndex.remove(apartmentId);
+        ApartmentHotStore store = hotStore;
+        if (store != null) {
+            store.remove(apartmentId);
+        }
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * Copy the tick state back into the hot store after a tick processed the
+     * apartment
+     */
+    public void refreshHotState(Apartment apt) {
+        settleIncome(apt);
+        ApartmentHotStore store = hotStore;
+        if (store != null) {
+            store.syncAfterTick(apt);
+        }
+    }
+
+    /**
+     * Rebuild all indexes from scratch (after loading or restoring data). The
+     * hot store is created or dropped here so reloads pick up the setting.
+     */
+    public void rebuildIndexes() {
+        listingIndex.clear();
+        for (Apartment apt : apartments.values()) {
+            ApartmentRating rating = apartmentRatings.get(apt.id);
+            listingIndex.update(apt, rating != null ? rating.getAverageRating() : 0);
+        }
+
+        if (configManager.isPerformanceHotStore()) {
+            ApartmentHotStore store = hotStore != null ? hotStore : new ApartmentHotStore();
+            store.rebuild(apartments.values());
+            hotStore = store;
+        } else {
+            hotStore = null;
+        }
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * Counter that changes whenever apartment data is re-indexed
+     */
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    /**
+     * Apartments the tax tick should process
+     */
+    public Collection<Apartment> getTaxTickCandidates(long now) {
+        ApartmentHotStore store = hotStore;
+        if (store == null)
+            return apartments.values();
+        List<Apartment> candidates = new ArrayList<>();
+        store.collectTaxCandidates(now, Math.max(1000L, configManager.getTaxGenerationInterval() * 50L),
+                candidates);
+        return candidates;
+    }
+
+    /**
+     * Apartments the upgrade check should inspect
+     */
+    public Collection<Apartment> getUpgradeCandidates(long now) {
+        ApartmentHotStore store = hotStore;
+        if (store == null)
+            return apartments.values();
+        List<Apartment> candidates = new ArrayList<>();
+        store.collectCompletedUpgrades(now, candidates);
+        return candidates;
+    }
+
     // Getters
+    public ListingIndex getListingIndex() {
+        return listingIndex;
+    }
+
+    public ApartmentHotStore getHotStore() {
+        return hotStore;
+    }
+
     public Map<String, Apartment> getApartments() {
         return apartments;
     }
@@ -821,10 +1147,6 @@ public class ApartmentManager {
         return apartmentRatings;
     }
 
-    public Map<UUID, Map<String, Long>> getPlayerRatingCooldowns() {
-        return playerRatingCooldowns;
-    }
-
     public Map<String, List<GuestBookEntry>> getGuestBooks() {
         return guestBooks;
     }
@@ -0,0 +1,326 @@
+package com.aithor.apartmentcore.manager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.util.RingBuffer;
+
+/**
+ * Writes log entries to the plugin log file from a single background thread.
+ *
+ * <p>Callers only enqueue into a lock-free {@link RingBuffer}; the writer
+ * thread formats entries, keeps one writer open, and flushes when a batch is
+ * full or the flush interval has passed. While the queue is empty it sleeps
+ * until the next entry arrives or a pending flush is due. When the file exceeds
+ * {@code logging.max-log-size} it is rotated on the writer thread and the
+ * rotated file is gzip-compressed on a separate thread. If the queue is full,
+ * entries are dropped (and counted) or the caller waits, depending on
+ * {@code logging.overflow-policy}.
+ */
+public class AsyncLogWriter {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter ROTATED_NAME = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final long FULL_QUEUE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final class Entry {
+        final long time;
+        final String level;
+        final String message;
+
+        Entry(long time, String level, String message) {
+            this.time = time;
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private final ApartmentCore plugin;
+    private final ConfigManager config;
+    private final File logFile;
+    private final File logsDir;
+    private final RingBuffer<Entry> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService compressor;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+
+    // Writer thread only
+    private BufferedWriter out;
+    private long fileSize;
+
+    public AsyncLogWriter(ApartmentCore plugin, ConfigManager config, File logFile, File logsDir) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logFile = logFile;
+        this.logsDir = logsDir;
+        this.queue = new RingBuffer<>(config.getLogQueueSize());
+        this.compressor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ApartmentCore-LogCompressor");
+            t.setDaemon(true);
+            return t;
+        });
+        this.thread = new Thread(this::run, "ApartmentCore-LogWriter");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queue an entry; never performs file I/O on the calling thread
+     */
+    public void append(String level, String message) {
+        Entry entry = new Entry(System.currentTimeMillis(), level, message);
+        while (!queue.offer(entry)) {
+            if (!running || !config.isLogOverflowBlock()) {
+                dropped.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(FULL_QUEUE_PARK_NANOS);
+        }
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Write everything still queued, close the file and stop the threads
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        compressor.shutdown();
+        try {
+            compressor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void run() {
+        int pending = 0;
+        long lastFlush = System.currentTimeMillis();
+        long reportedDrops = 0;
+
+        while (true) {
+            Entry entry = queue.poll();
+            if (entry != null) {
+                write(entry);
+                if (++pending >= config.getLogFlushBatchSize()) {
+                    flush();
+                    pending = 0;
+                    lastFlush = System.currentTimeMillis();
+                }
+                continue;
+            }
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                write(new Entry(System.currentTimeMillis(), "WARN",
+                        "Dropped " + (drops - reportedDrops) + " log entries (log queue full)"));
+                reportedDrops = drops;
+                pending++;
+            }
+
+            if (!running) {
+                break;
+            }
+            long now = System.currentTimeMillis();
+            if (pending > 0 && now - lastFlush >= config.getLogFlushInterval()) {
+                flush();
+                pending = 0;
+                lastFlush = now;
+            }
+
+            // Announce the sleep before the last look at the queue, so an
+            // append racing with it either is seen here or unparks us
+            idle = true;
+            if (queue.isEmpty() && running) {
+                if (pending > 0) {
+                    long waitMs = Math.max(1L, lastFlush + config.getLogFlushInterval() - now);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitMs));
+                } else {
+                    LockSupport.park();
+                }
+            }
+            idle = false;
+        }
+
+        flush();
+        closeWriter();
+    }
+
+    private void write(Entry entry) {
+        String line = "[" + TIMESTAMP.format(toLocal(entry.time)) + "] [" + entry.level + "] "
+                + entry.message + System.lineSeparator();
+        try {
+            if (out == null) {
+                openWriter();
+            }
+            out.write(line);
+            fileSize += utf8Length(line);
+            if (fileSize >= config.getMaxLogSize() * 1024L * 1024L) {
+                rotate();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to write to log file", e);
+            closeWriter();
+        }
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to write to log file", e);
+            closeWriter();
+        }
+    }
+
+    private void openWriter() throws IOException {
+        out = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileSize = logFile.length();
+    }
+
+    private void closeWriter() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+
+    /**
+     * Move the current log aside and hand it to the compressor
+     */
+    private void rotate() {
+        flush();
+        closeWriter();
+        try {
+            String timestamp = ROTATED_NAME.format(LocalDateTime.now());
+            File backupFile = new File(logsDir, "apartmentcore_" + timestamp + ".log");
+            Files.move(logFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            try {
+                compressor.execute(() -> {
+                    if (config.isCompressOldLogs()) {
+                        compress(backupFile);
+                    }
+                    if (config.isKeepOldLogs()) {
+                        cleanupOldLogs();
+                    }
+                });
+            } catch (RejectedExecutionException ignored) {
+                // Shutting down; the rotated file is left uncompressed
+            }
+
+            write(new Entry(System.currentTimeMillis(), "INFO", "Log file rotated to: " + backupFile.getName()));
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to rotate log file", e);
+        }
+    }
+
+    private void compress(File file) {
+        File gzFile = new File(file.getParentFile(), file.getName() + ".gz");
+        try (InputStream in = Files.newInputStream(file.toPath());
+             OutputStream gz = new GZIPOutputStream(Files.newOutputStream(gzFile.toPath()))) {
+            in.transferTo(gz);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to compress rotated log " + file.getName(), e);
+            gzFile.delete();
+            return;
+        }
+        file.delete();
+    }
+
+    /**
+     * Clean up old log files, keeping only the specified maximum number
+     */
+    private void cleanupOldLogs() {
+        try {
+            File[] logFiles = logsDir.listFiles((dir, name) -> name.startsWith("apartmentcore_")
+                    && (name.endsWith(".log") || name.endsWith(".log.gz")));
+            if (logFiles == null || logFiles.length <= config.getMaxOldLogs()) {
+                return;
+            }
+
+            // Sort by last modified (oldest first)
+            Arrays.sort(logFiles, Comparator.comparingLong(File::lastModified));
+
+            // Delete oldest files
+            int filesToDelete = logFiles.length - config.getMaxOldLogs();
+            for (int i = 0; i < filesToDelete; i++) {
+                if (logFiles[i].delete()) {
+                    plugin.getLogger().info("Deleted old log file: " + logFiles[i].getName());
+                }
+            }
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to cleanup old log files", e);
+        }
+    }
+
+    /**
+     * Size of the text in the log file's encoding, without encoding it
+     */
+    private static int utf8Length(String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -1,29 +1,59 @@
 package com.aithor.apartmentcore.manager;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.achievement.AchievementEvent;
+import com.aithor.apartmentcore.cooldown.CooldownType;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.ApartmentAuction;
+import com.aithor.apartmentcore.model.BidResult;
+import com.aithor.apartmentcore.model.PriceStats;
+import com.aithor.apartmentcore.transaction.TransactionCoordinator;
+import com.aithor.apartmentcore.transaction.TransactionIntent;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.economy.EconomyResponse;
 
 /**
- * Manages apartment auctions
+ * Manages apartment auctions.
+ *
+ * <p>Auctions are kept in an end-time queue: a one-shot timer is armed for the
+ * earliest deadline, ends the auctions that are due and re-arms itself. A late
+ * bid that extends an auction queues its new deadline; the old queue entry is
+ * dropped when it comes up. Listings are served from views sorted by end time
+ * and from indexes by seller, highest bidder and bid count, all maintained on
+ * the main thread.
+ *
+ * <p>Bids may be submitted from any thread. Each auction has its own bid
+ * queue; the main thread drains the queues on the next tick and processes the
+ * bids of one auction strictly in order, charging only the highest valid bid
+ * of a burst.
  */
 public class AuctionManager {
     private final ApartmentCore plugin;
@@ -33,7 +63,50 @@ public class AuctionManager {
     private final DataManager dataManager;
 
     private final Map<String, ApartmentAuction> activeAuctions;
-    private final Map<UUID, Long> auctionCooldowns;
+    // Bumped whenever auctions are loaded or saved; stamps shared GUI view models
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    // Main thread only
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparingLong(d -> d.endTime));
+    private final Map<UUID, Set<String>> bySeller = new HashMap<>();
+    private final Map<UUID, Set<String>> byBidder = new HashMap<>();
+    private final TreeMap<Integer, Set<String>> byBidCount = new TreeMap<>();
+    private List<ApartmentAuction> endingFirst = Collections.emptyList();
+    private List<ApartmentAuction> noBidsEndingFirst = Collections.emptyList();
+    private boolean viewsStale = true;
+    private BukkitTask deadlineTask;
+    private long deadlineTaskDue = Long.MAX_VALUE;
+    private boolean timerRunning;
+
+    // Bids waiting for the main thread, one queue per auction
+    private final Map<String, Queue<PendingBid>> bidQueues = new ConcurrentHashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private static final class PendingBid {
+        final UUID bidderId;
+        final String bidderName;
+        final double amount;
+        final CompletableFuture<BidResult> result = new CompletableFuture<>();
+
+        PendingBid(UUID bidderId, String bidderName, double amount) {
+            this.bidderId = bidderId;
+            this.bidderName = bidderName;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Queue entry; stale once its auction is gone or has a different end time
+     */
+    private static final class Deadline {
+        final String apartmentId;
+        final long endTime;
+
+        Deadline(String apartmentId, long endTime) {
+            this.apartmentId = apartmentId;
+            this.endTime = endTime;
+        }
+    }
 
     public AuctionManager(ApartmentCore plugin, ApartmentManager apartmentManager,
                           Economy economy, ConfigManager configManager, DataManager dataManager) {
@@ -43,7 +116,17 @@ public class AuctionManager {
         this.configManager = configManager;
         this.dataManager = dataManager;
         this.activeAuctions = new ConcurrentHashMap<>();
-        this.auctionCooldowns = new ConcurrentHashMap<>();
+
+        TransactionCoordinator transactions = plugin.getTransactionCoordinator();
+        if (transactions != null) {
+            // A bid was applied if the saved auction holds it; otherwise the bidder is refunded
+            transactions.registerRecovery(TransactionIntent.Kind.AUCTION_BID, intent -> {
+                ApartmentAuction auction = activeAuctions.get(intent.apartmentId);
+                TransactionIntent.Step charge = intent.getSteps().get(0);
+                return auction != null && charge.playerId.equals(auction.currentBidderId)
+                        && auction.currentBid == -charge.amount;
+            });
+        }
     }
 
     /**
@@ -63,15 +146,17 @@ public class AuctionManager {
                 Map<String, Object> data = auctionSection.getValues(false);
                 ApartmentAuction auction = ApartmentAuction.deserialize(data);
 
-                // Only load active auctions
-                if (auction.isActive()) {
-                    activeAuctions.put(apartmentId, auction);
+                // Load every unfinished auction; ones that ended while the server was
+                // offline are due right away and settled by the deadline timer
+                if (auction.active && !auction.ended) {
+                    addAuction(apartmentId, auction);
                 }
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load auction for apartment " + apartmentId + ": " + e.getMessage());
             }
         }
 
+        dataVersion.incrementAndGet();
         plugin.debug("Loaded " + activeAuctions.size() + " active auctions");
     }
 
@@ -79,6 +164,8 @@ public class AuctionManager {
      * Save auctions to storage
      */
     public void saveAuctions() {
+        // Every auction mutation is followed by a save
+        dataVersion.incrementAndGet();
         if (dataManager.getDataConfig() == null) return;
 
         dataManager.getDataConfig().set("auctions", null);
@@ -122,9 +209,7 @@ public class AuctionManager {
 
         // Check cooldown
         UUID playerId = player.getUniqueId();
-        long cooldown = configManager.getAuctionCooldown() * 1000L;
-        long lastAuction = auctionCooldowns.getOrDefault(playerId, 0L);
-        if (System.currentTimeMillis() - lastAuction < cooldown) {
+        if (plugin.getCooldownService().isActive(CooldownType.AUCTION_CREATE, playerId)) {
             player.sendMessage(ChatColor.RED + "You must wait before creating another auction!");
             return false;
         }
@@ -171,8 +256,9 @@ public class AuctionManager {
         // Create auction
         ApartmentAuction auction = new ApartmentAuction(apartmentId, player.getUniqueId(),
             player.getName(), startingBid, durationHours);
-        activeAuctions.put(apartmentId, auction);
-        auctionCooldowns.put(playerId, System.currentTimeMillis());
+        addAuction(apartmentId, auction);
+        plugin.getCooldownService().start(CooldownType.AUCTION_CREATE, playerId,
+                configManager.getAuctionCooldown() * 1000L);
 
         saveAuctions();
 
@@ -193,60 +279,200 @@ public class AuctionManager {
     }
 
     /**
-     * Place a bid on auction
+     * Place a bid on auction for an online player; the outcome is sent to the
+     * player once the bid was processed
+     *
+     * @return false if there is no auction to bid on
      */
     public boolean placeBid(Player player, String apartmentId, double bidAmount) {
-        ApartmentAuction auction = activeAuctions.get(apartmentId);
-        if (auction == null) {
+        if (!activeAuctions.containsKey(apartmentId)) {
             player.sendMessage(ChatColor.RED + "No active auction found for this apartment!");
             return false;
         }
 
-        if (!auction.isActive()) {
-            player.sendMessage(ChatColor.RED + "This auction has ended!");
-            return false;
+        UUID playerId = player.getUniqueId();
+        submitBid(playerId, player.getName(), apartmentId, bidAmount).thenAccept(result -> {
+            Player bidder = Bukkit.getPlayer(playerId);
+            if (bidder == null) {
+                return;
+            }
+            switch (result.status) {
+                case ACCEPTED:
+                    bidder.sendMessage(ChatColor.GREEN + "Bid placed successfully! Your bid: " +
+                        configManager.formatMoney(result.amount));
+                    if (result.extended) {
+                        bidder.sendMessage(ChatColor.YELLOW + "Auction extended due to late bid!");
+                    }
+                    break;
+                case OUTBID:
+                    bidder.sendMessage(ChatColor.YELLOW + "Your bid of " + configManager.formatMoney(result.amount) +
+                        " was outbid by " + configManager.formatMoney(result.highestBid) +
+                        " before it was placed. You were not charged.");
+                    break;
+                default:
+                    bidder.sendMessage(ChatColor.RED + result.message);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Queue a bid; safe to call from any thread. Bids on the same auction are
+     * processed in submission order on the main thread, bids on different
+     * auctions independently.
+     *
+     * @return Completes on the main thread once the bid was processed
+     */
+    public CompletableFuture<BidResult> submitBid(UUID bidderId, String bidderName, String apartmentId, double amount) {
+        PendingBid bid = new PendingBid(bidderId, bidderName, amount);
+        bidQueues.computeIfAbsent(apartmentId, k -> new ConcurrentLinkedQueue<>()).add(bid);
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTask(plugin, this::drainBids);
+            } catch (RuntimeException e) {
+                // Plugin is disabled
+                drainScheduled.set(false);
+                rejectPendingBids();
+            }
         }
+        return bid.result;
+    }
 
-        if (auction.ownerId.equals(player.getUniqueId())) {
-            player.sendMessage(ChatColor.RED + "You cannot bid on your own auction!");
-            return false;
+    /**
+     * Process every queued bid, one auction at a time
+     */
+    private void drainBids() {
+        drainScheduled.set(false);
+        for (Map.Entry<String, Queue<PendingBid>> entry : bidQueues.entrySet()) {
+            List<PendingBid> batch = new ArrayList<>();
+            PendingBid bid;
+            while ((bid = entry.getValue().poll()) != null) {
+                batch.add(bid);
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                processBids(entry.getKey(), batch);
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Error while processing bids for " + entry.getKey() + ": " + e.getMessage());
+                for (PendingBid failed : batch) {
+                    failed.result.complete(BidResult.rejected(failed.amount, "Bid failed. Please try again."));
+                }
+            }
+        }
+    }
+
+    /**
+     * Complete the bids still queued as rejected (plugin disable)
+     */
+    private void rejectPendingBids() {
+        for (Queue<PendingBid> queue : bidQueues.values()) {
+            PendingBid bid;
+            while ((bid = queue.poll()) != null) {
+                bid.result.complete(BidResult.rejected(bid.amount, "The auction house is closed."));
+            }
+        }
+    }
+
+    /**
+     * Validate a batch of bids on one auction in order, then charge only the
+     * highest valid one: the others were outbid within the batch and never
+     * touch the economy. Balances are read once per distinct bidder. If the
+     * charge fails, the next highest is tried.
+     */
+    private void processBids(String apartmentId, List<PendingBid> batch) {
+        ApartmentAuction auction = activeAuctions.get(apartmentId);
+        List<PendingBid> valid = new ArrayList<>();
+        double highest = auction != null ? auction.currentBid : 0;
+        UUID highestBidder = auction != null ? auction.currentBidderId : null;
+        int bidCount = auction != null ? auction.totalBids : 0;
+        Map<UUID, Double> balances = new HashMap<>();
+        for (PendingBid bid : batch) {
+            String error = validateBid(auction, bid, highest, highestBidder, bidCount, balances);
+            if (error != null) {
+                bid.result.complete(BidResult.rejected(bid.amount, error));
+                continue;
+            }
+            valid.add(bid);
+            highest = bid.amount;
+            highestBidder = bid.bidderId;
+            bidCount++;
+        }
+
+        while (!valid.isEmpty()) {
+            PendingBid winner = valid.remove(valid.size() - 1);
+            String error = chargeBid(apartmentId, auction, winner, valid.size());
+            if (error == null) {
+                for (PendingBid outbid : valid) {
+                    outbid.result.complete(BidResult.outbid(outbid.amount, winner.amount));
+                }
+                return;
+            }
+            winner.result.complete(BidResult.rejected(winner.amount, error));
+        }
+    }
+
+    /**
+     * @param balances Balances already read in this batch, by bidder
+     * @return Why the bid cannot be placed on top of the given highest bid, or null
+     */
+    private String validateBid(ApartmentAuction auction, PendingBid bid, double highest, UUID highestBidder,
+            int bidCount, Map<UUID, Double> balances) {
+        if (auction == null) {
+            return "No active auction found for this apartment!";
+        }
+        if (!auction.isActive()) {
+            return "This auction has ended!";
+        }
+        if (auction.ownerId.equals(bid.bidderId)) {
+            return "You cannot bid on your own auction!";
         }
 
         // Check minimum bid or increment
         double minIncrement = configManager.getAuctionMinBidIncrement();
-        double requiredBid = (auction.totalBids == 0 || auction.currentBidderId == null)
-                ? Math.max(auction.startingBid, auction.currentBid)
-                : auction.currentBid + minIncrement;
-        if (bidAmount < requiredBid) {
-            player.sendMessage(ChatColor.RED + "Bid must be at least " + configManager.formatMoney(requiredBid));
-            return false;
+        double requiredBid = (bidCount == 0 || highestBidder == null)
+                ? Math.max(auction.startingBid, highest)
+                : highest + minIncrement;
+        if (bid.amount < requiredBid) {
+            return "Bid must be at least " + configManager.formatMoney(requiredBid);
         }
 
-        if (!economy.has(player, bidAmount)) {
-            player.sendMessage(ChatColor.RED + "You don't have enough money! Need: " + configManager.formatMoney(bidAmount));
-            return false;
+        double balance = balances.computeIfAbsent(bid.bidderId,
+                id -> plugin.getEconomyGateway().getBalance(Bukkit.getOfflinePlayer(id)));
+        if (balance < bid.amount) {
+            return "You don't have enough money! Need: " + configManager.formatMoney(bid.amount);
         }
+        return null;
+    }
 
-        // Withdraw new bid amount first to avoid losing the current state if it fails
-        EconomyResponse withResp = economy.withdrawPlayer(player, bidAmount);
-        if (withResp == null || !withResp.transactionSuccess()) {
-            player.sendMessage(ChatColor.RED + "Payment failed" +
-                    (withResp != null && withResp.errorMessage != null ? ": " + withResp.errorMessage : "."));
-            return false;
+    /**
+     * Charge the winning bid of a batch, refund the previous highest bidder and
+     * update the auction
+     *
+     * @param outbidInBatch Valid bids of the same batch placed before this one
+     * @return null on success, otherwise the message for the bidder
+     */
+    private String chargeBid(String apartmentId, ApartmentAuction auction, PendingBid bid, int outbidInBatch) {
+        // Withdraw the new bid first, then refund the previous bidder; if either
+        // step fails the other is reversed and the auction is left unchanged
+        TransactionCoordinator transactions = plugin.getTransactionCoordinator();
+        TransactionIntent payment = transactions.begin(TransactionIntent.Kind.AUCTION_BID,
+                "bid:" + apartmentId + ":" + auction.startTime + ":" + (auction.totalBids + outbidInBatch + 1),
+                apartmentId)
+                .withdraw(bid.bidderId, bid.amount);
+        if (auction.currentBidderId != null) {
+            payment.deposit(auction.currentBidderId, auction.currentBid);
+        }
+        if (!transactions.execute(payment)) {
+            return "Payment failed" + (payment.getFailure() != null ? ": " + payment.getFailure() : ".");
         }
 
-        // Refund previous bidder (if any)
         if (auction.currentBidderId != null) {
             OfflinePlayer previousBidder = Bukkit.getOfflinePlayer(auction.currentBidderId);
-            EconomyResponse depResp = economy.depositPlayer(previousBidder, auction.currentBid);
-            if (depResp == null || !depResp.transactionSuccess()) {
-                plugin.getLogger().warning("Failed to refund previous bidder " + previousBidder.getName() +
-                        " for apartment " + apartmentId + ": " + (depResp != null ? depResp.errorMessage : "unknown"));
-                if (previousBidder.isOnline()) {
-                    previousBidder.getPlayer().sendMessage(ChatColor.RED +
-                            "System failed to refund your previous bid. Please contact an admin.");
-                }
-            } else if (previousBidder.isOnline()) {
+            plugin.getLedger().record(TransactionType.REFUND, auction.currentBidderId, previousBidder.getName(),
+                    bid.bidderId, bid.bidderName, apartmentId, auction.currentBid, "Outbid");
+            if (previousBidder.isOnline()) {
                 Apartment apt = apartmentManager.getApartment(apartmentId);
                 String aptName = apt != null ? apt.displayName : apartmentId;
                 previousBidder.getPlayer().sendMessage(ChatColor.YELLOW +
@@ -256,32 +482,41 @@ public class AuctionManager {
         }
 
         // Update auction
-        auction.placeBid(player.getUniqueId(), player.getName(), bidAmount);
-        saveAuctions();
-
-        player.sendMessage(ChatColor.GREEN + "Bid placed successfully! Your bid: " +
-            configManager.formatMoney(bidAmount));
-
-        // Notify owner
-        OfflinePlayer owner = Bukkit.getOfflinePlayer(auction.ownerId);
-        if (owner.isOnline()) {
-            owner.getPlayer().sendMessage(ChatColor.GREEN + "New bid on your auction: " +
-                configManager.formatMoney(bidAmount) + " by " + player.getName());
-        }
+        untrack(apartmentId, auction);
+        auction.placeBid(bid.bidderId, bid.bidderName, bid.amount);
+        auction.totalBids += outbidInBatch; // bids outbid within the same batch still count
+        track(apartmentId, auction);
 
         // Extend auction if bid placed in last minutes
         long remainingTime = auction.getRemainingTime();
         long extendThreshold = configManager.getAuctionExtendThreshold() * 60L * 1000L; // minutes to ms
+        boolean extended = false;
         if (remainingTime < extendThreshold) {
             long extension = configManager.getAuctionExtendTime() * 60L * 1000L; // minutes to ms
             long maxDurationMs = configManager.getAuctionMaxDuration() * 60L * 60L * 1000L;
-            auction.endTime = Math.min(auction.endTime + extension, auction.startTime + maxDurationMs);
+            long newEnd = Math.min(auction.endTime + extension, auction.startTime + maxDurationMs);
+            if (newEnd != auction.endTime) {
+                auction.endTime = newEnd;
+                schedule(apartmentId, auction);
+                extended = true;
+            }
+        }
 
-            player.sendMessage(ChatColor.YELLOW + "Auction extended due to late bid!");
+        saveAuctions();
+        transactions.complete(payment);
+
+        // Notify owner
+        OfflinePlayer owner = Bukkit.getOfflinePlayer(auction.ownerId);
+        if (owner.isOnline()) {
+            owner.getPlayer().sendMessage(ChatColor.GREEN + "New bid on your auction: " +
+                configManager.formatMoney(bid.amount) + " by " + bid.bidderName);
         }
 
-        plugin.logTransaction(player.getName() + " bid " + bidAmount + " on apartment " + apartmentId);
-        return true;
+        plugin.logTransaction(bid.bidderName + " bid " + bid.amount + " on apartment " + apartmentId);
+        plugin.getLedger().record(TransactionType.BID, bid.bidderId, bid.bidderName,
+                apartmentId, bid.amount, "Auction bid");
+        bid.result.complete(BidResult.accepted(bid.amount, extended));
+        return null;
     }
 
     /**
@@ -304,14 +539,18 @@ public class AuctionManager {
             return false;
         }
 
+        // Remove the auction first so the refund can only ever be paid once
+        removeAuction(apartmentId);
+        saveAuctions();
+
         // Refund current bidder if any
         if (auction.currentBidderId != null) {
             OfflinePlayer currentBidder = Bukkit.getOfflinePlayer(auction.currentBidderId);
-            EconomyResponse depResp = economy.depositPlayer(currentBidder, auction.currentBid);
+            boolean refunded = refundCancelledBid(apartmentId, auction, "Auction cancelled");
             if (currentBidder.isOnline()) {
                 Apartment apt = apartmentManager.getApartment(apartmentId);
                 String aptName = apt != null ? apt.displayName : apartmentId;
-                if (depResp == null || !depResp.transactionSuccess()) {
+                if (!refunded) {
                     currentBidder.getPlayer().sendMessage(ChatColor.RED +
                             "Refund failed for cancelled auction of " + aptName + ". Please contact an admin.");
                 } else {
@@ -322,37 +561,128 @@ public class AuctionManager {
             }
         }
 
-        activeAuctions.remove(apartmentId);
-        saveAuctions();
-
         player.sendMessage(ChatColor.GREEN + "Auction cancelled successfully!");
         plugin.logAdminAction(player.getName() + " cancelled auction for apartment " + apartmentId);
         return true;
     }
 
     /**
-     * Process ended auctions
+     * End every auction whose deadline has passed and re-arm the timer
      */
     public void processEndedAuctions() {
-        List<String> toRemove = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        List<String> ended = new ArrayList<>();
+        Deadline next;
+        while ((next = deadlines.peek()) != null && next.endTime <= now) {
+            deadlines.poll();
+            ApartmentAuction auction = activeAuctions.get(next.apartmentId);
+            if (auction == null || auction.endTime != next.endTime) {
+                continue; // removed, or extended by a late bid
+            }
+            try {
+                processAuctionEnd(next.apartmentId, auction);
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Error while ending auction for " + next.apartmentId + ": " + e.getMessage());
+            }
+            ended.add(next.apartmentId);
+        }
 
-        for (Map.Entry<String, ApartmentAuction> entry : activeAuctions.entrySet()) {
-            String apartmentId = entry.getKey();
-            ApartmentAuction auction = entry.getValue();
+        for (String apartmentId : ended) {
+            removeAuction(apartmentId);
+        }
+
+        if (!ended.isEmpty()) {
+            saveAuctions();
+        }
+        armDeadlineTimer();
+    }
 
-            if (auction.hasEnded() && !auction.ended) {
-                processAuctionEnd(apartmentId, auction);
-                toRemove.add(apartmentId);
+    /**
+     * Start ending auctions at their deadlines (auctions already due end on the next tick)
+     */
+    public void startDeadlineTimer() {
+        timerRunning = true;
+        armDeadlineTimer();
+    }
+
+    /**
+     * Stop the deadline timer and reject bids that were not processed yet
+     */
+    public void shutdown() {
+        timerRunning = false;
+        if (deadlineTask != null) {
+            deadlineTask.cancel();
+            deadlineTask = null;
+        }
+        deadlineTaskDue = Long.MAX_VALUE;
+        rejectPendingBids();
+    }
+
+    /**
+     * Arm the one-shot timer for the earliest queued deadline, unless it is
+     * already armed for that time or earlier
+     */
+    private void armDeadlineTimer() {
+        Deadline next = deadlines.peek();
+        if (!timerRunning || next == null) {
+            return;
+        }
+        if (deadlineTask != null) {
+            if (deadlineTaskDue <= next.endTime) {
+                return;
             }
+            deadlineTask.cancel();
+        }
+        long delayTicks = Math.max(1L, (next.endTime - System.currentTimeMillis() + 49L) / 50L);
+        deadlineTaskDue = next.endTime;
+        deadlineTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            deadlineTask = null;
+            deadlineTaskDue = Long.MAX_VALUE;
+            processEndedAuctions();
+        }, delayTicks);
+    }
+
+    private void addAuction(String apartmentId, ApartmentAuction auction) {
+        activeAuctions.put(apartmentId, auction);
+        track(apartmentId, auction);
+        schedule(apartmentId, auction);
+    }
+
+    private ApartmentAuction removeAuction(String apartmentId) {
+        ApartmentAuction auction = activeAuctions.remove(apartmentId);
+        if (auction != null) {
+            untrack(apartmentId, auction);
         }
+        return auction;
+    }
+
+    private void schedule(String apartmentId, ApartmentAuction auction) {
+        deadlines.add(new Deadline(apartmentId, auction.endTime));
+        armDeadlineTimer();
+    }
 
-        // Remove ended auctions
-        for (String apartmentId : toRemove) {
-            activeAuctions.remove(apartmentId);
+    private void track(String apartmentId, ApartmentAuction auction) {
+        bySeller.computeIfAbsent(auction.ownerId, k -> new HashSet<>()).add(apartmentId);
+        if (auction.currentBidderId != null) {
+            byBidder.computeIfAbsent(auction.currentBidderId, k -> new HashSet<>()).add(apartmentId);
         }
+        byBidCount.computeIfAbsent(auction.totalBids, k -> new HashSet<>()).add(apartmentId);
+        viewsStale = true;
+    }
 
-        if (!toRemove.isEmpty()) {
-            saveAuctions();
+    private void untrack(String apartmentId, ApartmentAuction auction) {
+        removeFromIndex(bySeller, auction.ownerId, apartmentId);
+        if (auction.currentBidderId != null) {
+            removeFromIndex(byBidder, auction.currentBidderId, apartmentId);
+        }
+        removeFromIndex(byBidCount, auction.totalBids, apartmentId);
+        viewsStale = true;
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<String>> index, K key, String apartmentId) {
+        Set<String> ids = index.get(key);
+        if (ids != null && ids.remove(apartmentId) && ids.isEmpty()) {
+            index.remove(key);
         }
     }
 
@@ -375,6 +705,8 @@ public class AuctionManager {
                 apartmentManager.removeOwnerUuidFromRegion(apt, auction.ownerId);
             } catch (Throwable ignored) {}
 
+            // Income accrued so far belongs to the seller
+            apartmentManager.settleIncome(apt);
             apt.owner = auction.currentBidderId;
             apt.lastTaxPayment = System.currentTimeMillis();
             apt.inactive = false;
@@ -399,18 +731,30 @@ public class AuctionManager {
             }
             double commission = auction.currentBid * commissionRate;
             double sellerAmount = auction.currentBid - commission;
-            EconomyResponse sellerResp = economy.depositPlayer(owner, sellerAmount);
-            if (sellerResp == null || !sellerResp.transactionSuccess()) {
+            // Keyed by the auction, so an auction processed again after a crash pays only once
+            TransactionIntent payout = plugin.getTransactionCoordinator().begin(TransactionIntent.Kind.AUCTION_SETTLE,
+                    "auction:" + apartmentId + ":" + auction.startTime, apartmentId)
+                    .deposit(auction.ownerId, sellerAmount);
+            boolean paid = plugin.getTransactionCoordinator().execute(payout);
+            if (!paid) {
                 plugin.getLogger().severe("Failed to pay seller for auction " + apartmentId + ": " +
-                        (sellerResp != null ? sellerResp.errorMessage : "unknown"));
+                        payout.getFailure() + " (retried on next start)");
             }
 
             // Reset apartment ratings and stats for new owner
             apartmentManager.getApartmentRatings().remove(apartmentId);
             apartmentManager.getGuestBooks().remove(apartmentId);
             apartmentManager.removeStats(apartmentId);
+            apartmentManager.refreshIndexes(apt);
 
             apartmentManager.saveApartments();
+            if (paid) {
+                plugin.getTransactionCoordinator().complete(payout);
+            }
+            plugin.getPriceHistoryManager().record(apt, auction.currentBid, PriceStats.Source.AUCTION);
+            if (paid && plugin.getAchievementManager() != null) {
+                plugin.getAchievementManager().post(new AchievementEvent.ApartmentSold(auction.ownerId, sellerAmount));
+            }
 
             // Notify participants
             if (winner.isOnline()) {
@@ -435,6 +779,9 @@ public class AuctionManager {
 
             plugin.logTransaction("Auction ended: " + apartmentId + " sold to " +
                 auction.currentBidderName + " for " + auction.currentBid);
+            plugin.getLedger().record(TransactionType.AUCTION_SALE, auction.currentBidderId,
+                auction.currentBidderName, auction.ownerId, owner.getName(), apartmentId, auction.currentBid,
+                "Won auction (seller received " + configManager.formatMoney(sellerAmount) + ")");
 
         } else {
             // No bids - return to owner
@@ -454,6 +801,13 @@ public class AuctionManager {
         return activeAuctions.get(apartmentId);
     }
 
+    /**
+     * Version of the auction data, changed by every saved mutation
+     */
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
     /**
      * Get all active auctions
      */
@@ -461,35 +815,90 @@ public class AuctionManager {
         return new HashMap<>(activeAuctions);
     }
 
+    public int getAuctionCount() {
+        return activeAuctions.size();
+    }
+
+    public int getAuctionCountBySeller(UUID sellerId) {
+        Set<String> ids = sellerId != null ? bySeller.get(sellerId) : null;
+        return ids != null ? ids.size() : 0;
+    }
+
     /**
-     * Get auctions by filter
+     * Get auctions by filter (all, mine, bidding, ending, nobids), soonest
+     * ending first. Auctions past their deadline are left out.
      */
     public List<ApartmentAuction> getAuctionList(String filter, UUID playerUuid) {
-        return activeAuctions.values().stream()
-            .filter(auction -> {
-                if (filter == null) return auction.isActive();
-                switch (filter.toLowerCase()) {
-                    case "mine":
-                        return playerUuid != null && auction.ownerId.equals(playerUuid);
-                    case "ending":
-                        return auction.getRemainingTime() < 3_600_000L; // Less than 1 hour
-                    case "nobids":
-                        return auction.totalBids == 0;
-                    default:
-                        return auction.isActive();
+        refreshViews();
+        long now = System.currentTimeMillis();
+        switch (filter == null ? "all" : filter.toLowerCase()) {
+            case "mine":
+                return sortedByEnd(playerUuid != null ? bySeller.get(playerUuid) : null, now);
+            case "bidding":
+                return sortedByEnd(playerUuid != null ? byBidder.get(playerUuid) : null, now);
+            case "ending":
+                return endingBetween(endingFirst, now, now + 3_600_000L); // Less than 1 hour
+            case "nobids":
+                return endingBetween(noBidsEndingFirst, now, Long.MAX_VALUE);
+            default:
+                return endingBetween(endingFirst, now, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Rebuild the sorted views after auctions were added, removed, bid on or extended
+     */
+    private void refreshViews() {
+        if (!viewsStale) {
+            return;
+        }
+        endingFirst = Collections.unmodifiableList(sortedByEnd(activeAuctions.keySet(), Long.MIN_VALUE));
+        noBidsEndingFirst = Collections.unmodifiableList(sortedByEnd(byBidCount.get(0), Long.MIN_VALUE));
+        viewsStale = false;
+    }
+
+    private List<ApartmentAuction> sortedByEnd(Collection<String> apartmentIds, long endsAfter) {
+        List<ApartmentAuction> result = new ArrayList<>();
+        if (apartmentIds != null) {
+            for (String id : apartmentIds) {
+                ApartmentAuction auction = activeAuctions.get(id);
+                if (auction != null && auction.endTime > endsAfter) {
+                    result.add(auction);
                 }
-            })
-            .sorted(Comparator.comparingLong(ApartmentAuction::getRemainingTime))
-            .collect(Collectors.toList());
+            }
+        }
+        result.sort(Comparator.comparingLong(a -> a.endTime));
+        return result;
+    }
+
+    /**
+     * Auctions of a view (sorted by end time) ending after {@code from} and before {@code to}
+     */
+    private static List<ApartmentAuction> endingBetween(List<ApartmentAuction> view, long from, long to) {
+        int start = firstEndingAtOrAfter(view, from + 1);
+        int end = to == Long.MAX_VALUE ? view.size() : firstEndingAtOrAfter(view, to);
+        return view.subList(start, Math.max(start, end));
+    }
+
+    private static int firstEndingAtOrAfter(List<ApartmentAuction> view, long time) {
+        int lo = 0;
+        int hi = view.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (view.get(mid).endTime < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
     }
 
     /**
      * Check remaining cooldown for a player in milliseconds
      */
     public long getAuctionCooldown(UUID playerId) {
-        long cooldown = configManager.getAuctionCooldown() * 1000L;
-        long lastAuction = auctionCooldowns.getOrDefault(playerId, 0L);
-        return Math.max(0, cooldown - (System.currentTimeMillis() - lastAuction));
+        return plugin.getCooldownService().getRemaining(CooldownType.AUCTION_CREATE, playerId);
     }
 
     /**
@@ -503,10 +912,13 @@ public class AuctionManager {
             return false;
         }
 
+        removeAuction(apartmentId);
+        saveAuctions();
+
         // Refund current bidder if any
         if (auction.currentBidderId != null) {
             OfflinePlayer currentBidder = Bukkit.getOfflinePlayer(auction.currentBidderId);
-            economy.depositPlayer(currentBidder, auction.currentBid);
+            refundCancelledBid(apartmentId, auction, "Auction cancelled by admin");
 
             if (currentBidder.isOnline()) {
                 Apartment apt = apartmentManager.getApartment(apartmentId);
@@ -526,12 +938,28 @@ public class AuctionManager {
                     "Your auction for " + aptName + " has been cancelled by an admin.");
         }
 
-        activeAuctions.remove(apartmentId);
-        saveAuctions();
         plugin.logAdminAction("Admin cancelled auction for apartment " + apartmentId);
         return true;
     }
 
+    /**
+     * Refund the highest bid of a removed auction. A refund that fails stays
+     * pending and is retried on the next start.
+     */
+    private boolean refundCancelledBid(String apartmentId, ApartmentAuction auction, String details) {
+        TransactionCoordinator transactions = plugin.getTransactionCoordinator();
+        TransactionIntent refund = transactions.begin(TransactionIntent.Kind.AUCTION_CANCEL,
+                "cancel:" + apartmentId + ":" + auction.startTime, apartmentId)
+                .deposit(auction.currentBidderId, auction.currentBid);
+        if (!transactions.execute(refund)) {
+            return false;
+        }
+        transactions.complete(refund);
+        plugin.getLedger().record(TransactionType.REFUND, auction.currentBidderId,
+                Bukkit.getOfflinePlayer(auction.currentBidderId).getName(), apartmentId, auction.currentBid, details);
+        return true;
+    }
+
     /**
      * Force-end an auction immediately, transferring ownership if there is a winner.
      * Returns true if an active auction existed and was force-ended.
@@ -547,8 +975,9 @@ public class AuctionManager {
         } catch (Throwable t) {
             plugin.getLogger().warning("Error while force-ending auction for " + apartmentId + ": " + t.getMessage());
         } finally {
-            activeAuctions.remove(apartmentId);
+            removeAuction(apartmentId);
             saveAuctions();
+            armDeadlineTimer();
         }
 
         plugin.logAdminAction("Admin force-ended auction for apartment " + apartmentId);
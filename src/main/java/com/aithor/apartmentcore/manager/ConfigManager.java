@@ -29,11 +29,15 @@ public class ConfigManager {
     private boolean autoSaveEnabled;
     private int autoSaveInterval;
     private double sellPercentage;
+    private long economySlowCallThreshold;
     private int inactiveGracePeriod;
     private long commandCooldown;
     private boolean backupEnabled;
     private int maxBackups;
     private Map<Integer, LevelConfig> levelConfigs;
+    // Dense copy of levelConfigs indexed by level number, for hot-path lookups
+    private volatile LevelConfig[] levelTable = new LevelConfig[0];
+    private int maxConfiguredLevel = 5;
 
     // GuestBook settings
     private int guestBookMaxMessages;
@@ -47,6 +51,28 @@ public class ConfigManager {
     private int maxLogSize;
     private boolean keepOldLogs;
     private int maxOldLogs;
+    private boolean compressOldLogs;
+    private int logQueueSize;
+    private boolean logOverflowBlock;
+    private long logFlushInterval;
+    private int logFlushBatchSize;
+
+    // Ledger settings
+    private boolean ledgerEnabled;
+    private int ledgerSegmentRecords;
+    private int ledgerMaxSegments;
+
+    // Transaction journal settings
+    private long transactionSyncInterval;
+    private int transactionRetentionHours;
+
+    // Price history settings
+    private int priceHistoryRecentSales;
+    private int priceHistoryMinSamples;
+
+    // Player profile settings
+    private int profileIdleMinutes;
+    private int profileFlushInterval;
 
     // Auction settings
     private boolean auctionEnabled;
@@ -65,13 +91,25 @@ public class ConfigManager {
     private int auctionExtendThreshold;
     private int auctionExtendTime;
 
+    // PlaceholderAPI settings
+    private long placeholderCacheTtl;
+    private int leaderboardRefreshInterval;
+    private int leaderboardSize;
+
     // GUI settings
     private boolean guiEnabled;
     private int guiRefreshInterval;
     private boolean guiSounds;
+    private int guiInputTimeout;
+
+    // Notification settings
+    private String notificationChannel;
+    private boolean notificationQueueOffline;
+    private Map<String, Integer> notificationRateLimits = new HashMap<>();
 
     // Performance settings
     private boolean performanceUseAsync;
+    private boolean performanceHotStore;
 
     // WorldGuard settings
     private boolean wgAutoAddOwner;
@@ -87,6 +125,7 @@ public class ConfigManager {
 
     // Income settings
     private int incomeGenerationInterval;
+    private boolean lazyIncomeAccrual;
 
     /**
      * Tax calculation method options.
@@ -126,6 +165,7 @@ public class ConfigManager {
         autoSaveEnabled = config.getBoolean("auto-save.enabled", true);
         autoSaveInterval = config.getInt("auto-save.interval-minutes", 10);
         sellPercentage = config.getDouble("economy.sell-percentage", 70) / 100.0;
+        economySlowCallThreshold = Math.max(1L, config.getLong("economy.slow-call-threshold-ms", 50L));
         inactiveGracePeriod = config.getInt("settings.inactive-grace-period", 3);
         commandCooldown = config.getLong("security.command-cooldown", 1000);
         backupEnabled = config.getBoolean("backup.enabled", true);
@@ -143,6 +183,28 @@ public class ConfigManager {
         maxLogSize = config.getInt("logging.max-log-size", 10);
         keepOldLogs = config.getBoolean("logging.keep-old-logs", true);
         maxOldLogs = config.getInt("logging.max-old-logs", 10);
+        compressOldLogs = config.getBoolean("logging.compress-old-logs", true);
+        logQueueSize = Math.max(64, config.getInt("logging.queue-size", 8192));
+        logOverflowBlock = "block".equalsIgnoreCase(config.getString("logging.overflow-policy", "drop"));
+        logFlushInterval = Math.max(50L, config.getLong("logging.flush-interval-ms", 1000L));
+        logFlushBatchSize = Math.max(1, config.getInt("logging.flush-batch-size", 256));
+
+        // Load Ledger settings
+        ledgerEnabled = config.getBoolean("ledger.enabled", true);
+        ledgerSegmentRecords = Math.max(100, config.getInt("ledger.segment-records", 10000));
+        ledgerMaxSegments = Math.max(0, config.getInt("ledger.max-segments", 0));
+
+        // Load Transaction journal settings
+        transactionSyncInterval = Math.max(50L, config.getLong("transactions.sync-interval-ms", 1000L));
+        transactionRetentionHours = Math.max(1, config.getInt("transactions.retention-hours", 72));
+
+        // Load Price history settings
+        priceHistoryRecentSales = Math.max(1, config.getInt("price-history.recent-sales", 20));
+        priceHistoryMinSamples = Math.max(1, config.getInt("price-history.min-samples", 3));
+
+        // Load Player profile settings
+        profileIdleMinutes = Math.max(1, config.getInt("profiles.idle-minutes", 10));
+        profileFlushInterval = Math.max(5, config.getInt("profiles.flush-interval", 60));
 
         // Load level configurations
         levelConfigs.clear();
@@ -162,6 +224,7 @@ public class ConfigManager {
                 }
             }
         }
+        rebuildLevelTable();
 
         // Load auction settings (gracefully handle when missing)
         auctionEnabled = config.getBoolean("auction.enabled", false);
@@ -177,13 +240,32 @@ public class ConfigManager {
         auctionExtendThreshold = config.getInt("auction.extend-threshold-minutes", 5);
         auctionExtendTime = config.getInt("auction.extend-time-minutes", 10);
 
+        // Load PlaceholderAPI settings
+        placeholderCacheTtl = Math.max(0L, config.getLong("placeholderapi.cache-ttl", 1000L));
+        leaderboardRefreshInterval = Math.max(5, config.getInt("placeholderapi.leaderboard-refresh-interval", 60));
+        leaderboardSize = Math.max(1, config.getInt("placeholderapi.leaderboard-size", 10));
+
         // Load GUI settings
         guiEnabled = config.getBoolean("gui.enabled", true);
         guiRefreshInterval = config.getInt("gui.refresh-interval", 30);
         guiSounds = config.getBoolean("gui.sounds", true);
+        guiInputTimeout = Math.max(5, config.getInt("gui.input-timeout", 60));
+
+        // Load Notification settings
+        notificationChannel = config.getString("notifications.channel", "chat").toLowerCase();
+        notificationQueueOffline = config.getBoolean("notifications.queue-offline", true);
+        Map<String, Integer> rateLimits = new HashMap<>();
+        ConfigurationSection rateSection = config.getConfigurationSection("notifications.rate-limit");
+        if (rateSection != null) {
+            for (String key : rateSection.getKeys(false)) {
+                rateLimits.put(key, Math.max(0, rateSection.getInt(key)));
+            }
+        }
+        notificationRateLimits = rateLimits;
 
         // Load Performance settings
         performanceUseAsync = config.getBoolean("performance.use-async", true);
+        performanceHotStore = config.getBoolean("performance.hot-store", false);
 
         // Load WorldGuard settings
         wgAutoAddOwner = config.getBoolean("worldguard.auto-add-owner", true);
@@ -214,6 +296,12 @@ public class ConfigManager {
 
         // Load income settings
         incomeGenerationInterval = config.getInt("settings.income-generation-interval", 24000);
+        String accrualRaw = config.getString("settings.income-accrual-mode", "tick");
+        lazyIncomeAccrual = "lazy".equalsIgnoreCase(accrualRaw != null ? accrualRaw.trim() : "");
+        if (!lazyIncomeAccrual && !"tick".equalsIgnoreCase(accrualRaw != null ? accrualRaw.trim() : "")) {
+            plugin.getLogger().warning("[ApartmentCore] Invalid settings.income-accrual-mode '" + accrualRaw
+                    + "'. Valid values: 'tick', 'lazy'. Defaulting to 'tick'.");
+        }
 
         plugin.debug("Configuration loaded successfully");
 
@@ -246,7 +334,37 @@ public class ConfigManager {
      * Get level configuration for a specific level
      */
     public LevelConfig getLevelConfig(int level) {
-        return levelConfigs.get(level);
+        LevelConfig[] table = levelTable;
+        return level >= 0 && level < table.length ? table[level] : null;
+    }
+
+    /**
+     * Highest level defined in levels.yml (5 if none are defined)
+     */
+    public int getMaxConfiguredLevel() {
+        return maxConfiguredLevel;
+    }
+
+    /**
+     * Number of levels defined in levels.yml
+     */
+    public int getLevelCount() {
+        return levelConfigs.size();
+    }
+
+    private void rebuildLevelTable() {
+        int max = 0;
+        for (int level : levelConfigs.keySet()) {
+            max = Math.max(max, level);
+        }
+        LevelConfig[] table = new LevelConfig[max + 1];
+        for (Map.Entry<Integer, LevelConfig> entry : levelConfigs.entrySet()) {
+            if (entry.getKey() >= 0) {
+                table[entry.getKey()] = entry.getValue();
+            }
+        }
+        maxConfiguredLevel = levelConfigs.isEmpty() ? 5 : max;
+        levelTable = table;
     }
 
     /**
@@ -254,7 +372,7 @@ public class ConfigManager {
      * Falls back to level * 10,000 if config is not set.
      */
     public double getIncomeCapacity(int level) {
-        LevelConfig cfg = levelConfigs.get(level);
+        LevelConfig cfg = getLevelConfig(level);
         if (cfg != null && cfg.incomeCapacity > 0) {
             return cfg.incomeCapacity;
         }
@@ -282,6 +400,10 @@ public class ConfigManager {
         return sellPercentage;
     }
 
+    public long getEconomySlowCallThreshold() {
+        return economySlowCallThreshold;
+    }
+
     public int getInactiveGracePeriod() {
         return inactiveGracePeriod;
     }
@@ -340,6 +462,66 @@ public class ConfigManager {
         return maxOldLogs;
     }
 
+    public boolean isCompressOldLogs() {
+        return compressOldLogs;
+    }
+
+    public int getLogQueueSize() {
+        return logQueueSize;
+    }
+
+    public boolean isLogOverflowBlock() {
+        return logOverflowBlock;
+    }
+
+    public long getLogFlushInterval() {
+        return logFlushInterval;
+    }
+
+    public int getLogFlushBatchSize() {
+        return logFlushBatchSize;
+    }
+
+    // Ledger getters
+    public boolean isLedgerEnabled() {
+        return ledgerEnabled;
+    }
+
+    public int getLedgerSegmentRecords() {
+        return ledgerSegmentRecords;
+    }
+
+    public int getLedgerMaxSegments() {
+        return ledgerMaxSegments;
+    }
+
+    // Transaction journal getters
+    public long getTransactionSyncInterval() {
+        return transactionSyncInterval;
+    }
+
+    public int getTransactionRetentionHours() {
+        return transactionRetentionHours;
+    }
+
+    // Price history getters
+    public int getPriceHistoryRecentSales() {
+        return priceHistoryRecentSales;
+    }
+
+    public int getPriceHistoryMinSamples() {
+        return priceHistoryMinSamples;
+    }
+
+    // Player profile getters
+    public int getProfileIdleMinutes() {
+        return profileIdleMinutes;
+    }
+
+    public int getProfileFlushInterval() {
+        return profileFlushInterval;
+    }
+
     // Auction getters
     public boolean isAuctionEnabled() {
         return auctionEnabled;
@@ -402,11 +584,48 @@ public class ConfigManager {
         return guiSounds;
     }
 
+    public int getGuiInputTimeout() {
+        return guiInputTimeout;
+    }
+
+    // Notification getters
+    public String getNotificationChannel() {
+        return notificationChannel;
+    }
+
+    public boolean isNotificationQueueOffline() {
+        return notificationQueueOffline;
+    }
+
+    /**
+     * @return Minimum seconds between digests of this type for one player
+     */
+    public int getNotificationRateLimit(com.aithor.apartmentcore.notification.NotificationType type) {
+        return notificationRateLimits.getOrDefault(type.getRateLimitKey(), 0);
+    }
+
+    // PlaceholderAPI getters
+    public long getPlaceholderCacheTtl() {
+        return placeholderCacheTtl;
+    }
+
+    public int getLeaderboardRefreshInterval() {
+        return leaderboardRefreshInterval;
+    }
+
+    public int getLeaderboardSize() {
+        return leaderboardSize;
+    }
+
     // Performance getters
     public boolean isPerformanceUseAsync() {
         return performanceUseAsync;
     }
 
+    public boolean isPerformanceHotStore() {
+        return performanceHotStore;
+    }
+
     // WorldGuard getters
     public boolean isWgAutoAddOwner() {
         return wgAutoAddOwner;
@@ -459,6 +678,14 @@ public class ConfigManager {
         return incomeGenerationInterval;
     }
 
+    /**
+     * Whether pending income is computed on read from each apartment's last
+     * settlement instead of being added by the periodic income task.
+     */
+    public boolean isLazyIncomeAccrual() {
+        return lazyIncomeAccrual;
+    }
+
     // External Shop configuration file (shop.yml)
     private File shopConfigFile;
     private FileConfiguration shopConfig;
@@ -28,6 +28,8 @@ public class DataManager {
     private File guestBookFile;
     private FileConfiguration statsConfig;
     private File statsFile;
+    private FileConfiguration ratingsConfig;
+    private File ratingsFile;
 
     public DataManager(ApartmentCore plugin, ConfigManager configManager) {
         this.plugin = plugin;
@@ -35,6 +37,7 @@ public class DataManager {
         setupBackupSystem();
         loadGuestBookFile(); // Initialize guestbook file
         loadStatsFile(); // Initialize stats file
+        loadRatingsFile(); // Initialize ratings file
     }
 
     /**
@@ -115,6 +118,27 @@ public class DataManager {
         }
     }
 
+    /**
+     * Load the ratings data file.
+     */
+    public void loadRatingsFile() {
+        try {
+            File dataDir = new File(plugin.getDataFolder(), "data");
+            if (!dataDir.exists()) {
+                dataDir.mkdirs();
+            }
+            ratingsFile = new File(dataDir, "ratings.yml");
+            if (!ratingsFile.exists()) {
+                ratingsFile.createNewFile();
+                plugin.debug("Created new ratings.yml file");
+            }
+            ratingsConfig = YamlConfiguration.loadConfiguration(ratingsFile);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not create ratings.yml: " + e.getMessage());
+            ratingsConfig = new YamlConfiguration();
+        }
+    }
+
     /**
      * Save data file
      */
@@ -164,6 +188,22 @@ public class DataManager {
         }
     }
 
+    /**
+     * Save the ratings data file.
+     */
+    public void saveRatingsFile() {
+        if (ratingsConfig == null || ratingsFile == null) {
+            plugin.debug("Cannot save ratings data - not initialized");
+            return;
+        }
+        try {
+            ratingsConfig.save(ratingsFile);
+            plugin.debug("Ratings file saved successfully.");
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not save ratings.yml: " + e.getMessage());
+        }
+    }
+
     /**
      * Setup backup system
      */
@@ -197,6 +237,13 @@ public class DataManager {
                 plugin.debug("Created backup: " + backupName);
             }
 
+            // Ratings live in their own file; keep a companion copy under the same name
+            if (ratingsFile != null && ratingsFile.exists()) {
+                File ratingsBackup = getRatingsBackupFile(backupName);
+                ratingsBackup.getParentFile().mkdirs();
+                Files.copy(ratingsFile.toPath(), ratingsBackup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
             // Clean old backups after creating new one
             cleanOldBackups();
         } catch (IOException e) {
@@ -216,6 +263,7 @@ public class DataManager {
                 if (backups[i].delete()) {
                     plugin.debug("Deleted old backup: " + backups[i].getName());
                 }
+                getRatingsBackupFile(backups[i].getName()).delete();
             }
         }
     }
@@ -236,8 +284,18 @@ public class DataManager {
             // Restore from backup
             Files.copy(backupFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 
+            // Backups made before ratings moved to ratings.yml have no companion;
+            // their ratings are migrated from apartments.yml on the next load
+            File ratingsBackup = getRatingsBackupFile(backupName);
+            if (ratingsBackup.exists()) {
+                Files.copy(ratingsBackup.toPath(), ratingsFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(ratingsFile.toPath());
+            }
+
             // Reload data
             loadDataFile();
+            loadRatingsFile();
 
             return true;
         } catch (IOException e) {
@@ -246,6 +304,10 @@ public class DataManager {
         }
     }
 
+    private File getRatingsBackupFile(String backupName) {
+        return new File(new File(backupFolder, "ratings"), backupName);
+    }
+
     // Getters
     public FileConfiguration getDataConfig() {
         return dataConfig;
@@ -259,6 +321,10 @@ public class DataManager {
         return statsConfig;
     }
 
+    public FileConfiguration getRatingsConfig() {
+        return ratingsConfig;
+    }
+
     public File getDataFile() {
         return dataFile;
     }
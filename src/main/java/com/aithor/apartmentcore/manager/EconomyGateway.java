@@ -0,0 +1,281 @@
+package com.aithor.apartmentcore.manager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import com.aithor.apartmentcore.ApartmentCore;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+
+/**
+ * Entry point for Vault calls on the hot paths (tax auto-pay, rent claims,
+ * tax payments).
+ *
+ * <p>Many economy plugins hit a database on every call. A {@link Batch}
+ * collects the debits and credits of one owner within a tick and settles them
+ * with one balance lookup and a single net withdrawal or deposit, then applies
+ * the result back to each entry. Every call is timed; calls slower than
+ * {@code economy.slow-call-threshold-ms} are counted and logged at most once a
+ * minute.
+ */
+public class EconomyGateway {
+
+    public enum Operation {
+        BALANCE, HAS, WITHDRAW, DEPOSIT
+    }
+
+    /**
+     * Latency counters of one operation
+     */
+    public static final class CallStats {
+        public final Operation operation;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        CallStats(Operation operation) {
+            this.operation = operation;
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getSlowCalls() {
+            return slowCalls.sum();
+        }
+
+        public double getAverageMillis() {
+            long n = calls.sum();
+            return n > 0 ? totalNanos.sum() / (double) n / 1_000_000.0 : 0;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+
+    private static final long SLOW_WARNING_INTERVAL_MS = 60_000L;
+
+    private final ApartmentCore plugin;
+    private final Economy economy;
+    private final ConfigManager config;
+    private final Map<Operation, CallStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong lastSlowWarning = new AtomicLong();
+
+    public EconomyGateway(ApartmentCore plugin, Economy economy, ConfigManager config) {
+        this.plugin = plugin;
+        this.economy = economy;
+        this.config = config;
+        for (Operation op : Operation.values()) {
+            stats.put(op, new CallStats(op));
+        }
+    }
+
+    public double getBalance(OfflinePlayer player) {
+        return timed(Operation.BALANCE, () -> economy.getBalance(player));
+    }
+
+    public boolean has(OfflinePlayer player, double amount) {
+        return timed(Operation.HAS, () -> economy.has(player, amount));
+    }
+
+    public EconomyResponse withdraw(OfflinePlayer player, double amount) {
+        return timed(Operation.WITHDRAW, () -> economy.withdrawPlayer(player, amount));
+    }
+
+    public EconomyResponse deposit(OfflinePlayer player, double amount) {
+        return timed(Operation.DEPOSIT, () -> economy.depositPlayer(player, amount));
+    }
+
+    /**
+     * Start collecting debits and credits (main thread only)
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public Collection<CallStats> getStatistics() {
+        return stats.values();
+    }
+
+    private <T> T timed(Operation op, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            record(op, System.nanoTime() - start);
+        }
+    }
+
+    private void record(Operation op, long nanos) {
+        CallStats s = stats.get(op);
+        s.calls.increment();
+        s.totalNanos.add(nanos);
+        s.maxNanos.accumulateAndGet(nanos, Math::max);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (millis < config.getEconomySlowCallThreshold()) {
+            return;
+        }
+        s.slowCalls.increment();
+        long now = System.currentTimeMillis();
+        long last = lastSlowWarning.get();
+        if (now - last >= SLOW_WARNING_INTERVAL_MS && lastSlowWarning.compareAndSet(last, now)) {
+            plugin.getLogger().warning("Slow economy call: " + op + " took " + millis + " ms ("
+                    + s.getSlowCalls() + " slow " + op + " calls so far)");
+        }
+    }
+
+    private static final class Entry {
+        final double amount;
+        final long order;
+        final Runnable onApplied;
+
+        Entry(double amount, long order, Runnable onApplied) {
+            this.amount = amount;
+            this.order = order;
+            this.onApplied = onApplied;
+        }
+    }
+
+    private static final class OwnerEntries {
+        final List<Entry> debits = new ArrayList<>();
+        final List<Entry> credits = new ArrayList<>();
+    }
+
+    /**
+     * Per-owner outcome of {@link Batch#commit()}
+     */
+    public static final class BatchResult {
+        private final Set<UUID> debited = new LinkedHashSet<>();
+        private final Set<UUID> settled = new LinkedHashSet<>();
+
+        /**
+         * Owners for whom at least one debit was taken
+         */
+        public Set<UUID> getDebited() {
+            return debited;
+        }
+
+        /**
+         * Whether the owner's transfer went through, so their credits were paid
+         */
+        public boolean isCredited(UUID owner) {
+            return settled.contains(owner);
+        }
+    }
+
+    /**
+     * Debits and credits for one or more owners, settled together by
+     * {@link #commit()}
+     */
+    public class Batch {
+        private final Map<UUID, OwnerEntries> owners = new LinkedHashMap<>();
+
+        /**
+         * Queue a payment that is taken only if the owner can afford it. Debits
+         * are taken in {@code order} (e.g. invoice creation time) and stop at the
+         * first one the balance no longer covers.
+         *
+         * @param onApplied Runs after the money was taken
+         */
+        public void debit(UUID owner, double amount, long order, Runnable onApplied) {
+            owners.computeIfAbsent(owner, k -> new OwnerEntries()).debits.add(new Entry(amount, order, onApplied));
+        }
+
+        /**
+         * Queue a payout
+         *
+         * @param onApplied Runs after the money was paid; may be null
+         */
+        public void credit(UUID owner, double amount, Runnable onApplied) {
+            owners.computeIfAbsent(owner, k -> new OwnerEntries()).credits.add(new Entry(amount, 0L, onApplied));
+        }
+
+        public boolean isEmpty() {
+            return owners.isEmpty();
+        }
+
+        /**
+         * Settle every owner with one net transfer
+         */
+        public BatchResult commit() {
+            BatchResult result = new BatchResult();
+            for (Map.Entry<UUID, OwnerEntries> e : owners.entrySet()) {
+                try {
+                    settle(e.getKey(), e.getValue(), result);
+                } catch (RuntimeException ex) {
+                    plugin.getLogger().warning("Batched economy transfer for " + e.getKey() + " failed: "
+                            + ex.getMessage());
+                }
+            }
+            owners.clear();
+            return result;
+        }
+
+        private void settle(UUID ownerId, OwnerEntries entries, BatchResult result) {
+            OfflinePlayer player = Bukkit.getOfflinePlayer(ownerId);
+
+            double credits = 0;
+            for (Entry credit : entries.credits) {
+                credits += credit.amount;
+            }
+
+            // Credits of the same batch count towards the debits
+            List<Entry> taken = new ArrayList<>();
+            double debits = 0;
+            if (!entries.debits.isEmpty()) {
+                entries.debits.sort(Comparator.comparingLong(d -> d.order));
+                double available = getBalance(player) + credits;
+                for (Entry debit : entries.debits) {
+                    if (debits + debit.amount > available) {
+                        break;
+                    }
+                    debits += debit.amount;
+                    taken.add(debit);
+                }
+            }
+
+            double net = credits - debits;
+            if (net != 0) {
+                EconomyResponse response = net > 0 ? deposit(player, net) : withdraw(player, -net);
+                if (response == null || !response.transactionSuccess()) {
+                    plugin.getLogger().warning("Batched economy transfer of " + net + " for " + ownerId
+                            + " failed: " + (response != null ? response.errorMessage : "unknown"));
+                    return;
+                }
+            }
+
+            result.settled.add(ownerId);
+            if (!taken.isEmpty()) {
+                result.debited.add(ownerId);
+            }
+            for (Entry debit : taken) {
+                debit.onApplied.run();
+            }
+            for (Entry credit : entries.credits) {
+                if (credit.onApplied != null) {
+                    credit.onApplied.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.aithor.apartmentcore.manager;
+
+import com.aithor.apartmentcore.model.Apartment;
+import com.aithor.apartmentcore.model.ApartmentRating;
+import com.aithor.apartmentcore.model.ApartmentStats;
+
+import org.bukkit.Bukkit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-wide player rankings served by the top/rank placeholders.
+ *
+ * <p>All boards are rebuilt together by one scheduled task into immutable
+ * snapshots (parallel arrays plus a rank lookup), which are published with a
+ * single volatile write. Readers never lock and every lookup is an array or
+ * map read.
+ */
+public class LeaderboardManager {
+
+    public enum Metric {
+        INCOME_GENERATED("income_generated"),   // sum of income generated by owned apartments
+        TAX_PAID("tax_paid"),                   // sum of tax paid for owned apartments
+        APARTMENTS_OWNED("apartments_owned"),   // number of owned apartments
+        LEVEL("level"),                         // sum of owned apartment levels
+        RATING("rating");                       // average rating of owned, rated apartments
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public static Metric fromKey(String key) {
+            for (Metric metric : values()) {
+                if (metric.key.equalsIgnoreCase(key)) {
+                    return metric;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Immutable ranking for one metric; index 0 is rank 1
+     */
+    public static final class Board {
+        private final String[] names;
+        private final String[] values;
+        private final Map<UUID, Integer> ranks;
+
+        Board(String[] names, String[] values, Map<UUID, Integer> ranks) {
+            this.names = names;
+            this.values = values;
+            this.ranks = ranks;
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * @return player name at the 1-based position, or null if out of range
+         */
+        public String getName(int position) {
+            return position >= 1 && position <= names.length ? names[position - 1] : null;
+        }
+
+        /**
+         * @return formatted value at the 1-based position, or null if out of range
+         */
+        public String getValue(int position) {
+            return position >= 1 && position <= values.length ? values[position - 1] : null;
+        }
+
+        /**
+         * @return 1-based rank of the player, or 0 if unranked
+         */
+        public int getRank(UUID playerId) {
+            Integer rank = ranks.get(playerId);
+            return rank != null ? rank : 0;
+        }
+    }
+
+    private static final Board EMPTY = new Board(new String[0], new String[0], Collections.emptyMap());
+
+    private final ApartmentManager apartmentManager;
+    private final ConfigManager configManager;
+    private volatile Board[] boards;
+
+    public LeaderboardManager(ApartmentManager apartmentManager, ConfigManager configManager) {
+        this.apartmentManager = apartmentManager;
+        this.configManager = configManager;
+        Board[] initial = new Board[Metric.values().length];
+        Arrays.fill(initial, EMPTY);
+        this.boards = initial;
+    }
+
+    public Board getBoard(Metric metric) {
+        return boards[metric.ordinal()];
+    }
+
+    /**
+     * Recompute every board from the current apartment data and publish the
+     * new snapshots
+     */
+    public void recompute() {
+        Map<UUID, double[]> totals = new HashMap<>();
+        int fields = Metric.values().length;
+        // Extra slot counts rated apartments for the rating average
+        int ratedSlot = fields;
+        for (Apartment apt : apartmentManager.getApartments().values()) {
+            UUID owner = apt.owner;
+            if (owner == null)
+                continue;
+            double[] row = totals.computeIfAbsent(owner, k -> new double[fields + 1]);
+            ApartmentStats stats = apartmentManager.getApartmentStats().get(apt.id);
+            if (stats != null) {
+                row[Metric.INCOME_GENERATED.ordinal()] += stats.totalIncomeGenerated;
+                row[Metric.TAX_PAID.ordinal()] += stats.totalTaxPaid;
+            }
+            row[Metric.APARTMENTS_OWNED.ordinal()]++;
+            row[Metric.LEVEL.ordinal()] += apt.level;
+            ApartmentRating rating = apartmentManager.getRating(apt.id);
+            if (rating != null && rating.ratingCount > 0) {
+                row[Metric.RATING.ordinal()] += rating.getAverageRating();
+                row[ratedSlot]++;
+            }
+        }
+
+        UUID[] players = totals.keySet().toArray(new UUID[0]);
+        Map<UUID, String> names = new HashMap<>();
+        int limit = configManager.getLeaderboardSize();
+        Board[] next = new Board[fields];
+        for (Metric metric : Metric.values()) {
+            int column = metric.ordinal();
+            UUID[] order = Arrays.stream(players)
+                    .filter(p -> metric != Metric.RATING || totals.get(p)[ratedSlot] > 0)
+                    .toArray(UUID[]::new);
+            Map<UUID, Double> scoreOf = new HashMap<>();
+            for (UUID p : order) {
+                double[] row = totals.get(p);
+                scoreOf.put(p, metric == Metric.RATING ? row[column] / row[ratedSlot] : row[column]);
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(scoreOf.get(b), scoreOf.get(a)));
+
+            Map<UUID, Integer> ranks = new HashMap<>(order.length * 2);
+            int shown = Math.min(limit, order.length);
+            String[] boardNames = new String[shown];
+            String[] boardValues = new String[shown];
+            for (int i = 0; i < order.length; i++) {
+                ranks.put(order[i], i + 1);
+                if (i < shown) {
+                    boardNames[i] = names.computeIfAbsent(order[i], this::resolveName);
+                    boardValues[i] = format(metric, scoreOf.get(order[i]));
+                }
+            }
+            next[column] = new Board(boardNames, boardValues, Collections.unmodifiableMap(ranks));
+        }
+        boards = next;
+    }
+
+    private String resolveName(UUID playerId) {
+        String name = Bukkit.getOfflinePlayer(playerId).getName();
+        return name != null ? name : "Unknown";
+    }
+
+    private String format(Metric metric, double score) {
+        return switch (metric) {
+            case INCOME_GENERATED, TAX_PAID -> configManager.formatMoney(score);
+            case RATING -> String.format("%.1f", score);
+            default -> String.valueOf((long) score);
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package com.aithor.apartmentcore.manager;
+
+import com.aithor.apartmentcore.model.Apartment;
+import com.aithor.apartmentcore.util.RunningMedian;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Sorted secondary indexes over apartments that are for sale (government owned)
+ * or listed on the player market.
+ *
+ * <p>Each listed apartment is represented by an immutable snapshot of its sort
+ * keys so that the tree sets stay consistent even when the live
+ * {@link Apartment} fields change; callers must re-index an apartment after
+ * mutating its owner, price, market listing, level or rating. Updates cost
+ * O(log n) and ordered views are cached until the next mutation.
+ */
+public class ListingIndex {
+
+    public enum SortKey {
+        PRICE,
+        EFFECTIVE_PRICE,
+        LEVEL,
+        RATING
+    }
+
+    private static final class Entry {
+        final Apartment apartment;
+        final String id;
+        final double price;
+        final double effectivePrice;
+        final int level;
+        final double rating;
+
+        Entry(Apartment apartment, double rating) {
+            this.apartment = apartment;
+            this.id = apartment.id;
+            this.price = apartment.price;
+            this.effectivePrice = getEffectivePrice(apartment);
+            this.level = apartment.level;
+            this.rating = rating;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<SortKey, NavigableSet<Entry>> indexes = new EnumMap<>(SortKey.class);
+    private final Map<SortKey, List<Apartment>> ascendingViews = new EnumMap<>(SortKey.class);
+    private final Map<SortKey, List<Apartment>> descendingViews = new EnumMap<>(SortKey.class);
+    private final RunningMedian effectivePriceMedian = new RunningMedian();
+
+    public ListingIndex() {
+        Comparator<Entry> byId = Comparator.comparing(e -> e.id);
+        indexes.put(SortKey.PRICE, new TreeSet<>(
+                Comparator.comparingDouble((Entry e) -> e.price).thenComparing(byId)));
+        indexes.put(SortKey.EFFECTIVE_PRICE, new TreeSet<>(
+                Comparator.comparingDouble((Entry e) -> e.effectivePrice).thenComparing(byId)));
+        indexes.put(SortKey.LEVEL, new TreeSet<>(
+                Comparator.comparingInt((Entry e) -> e.level).thenComparing(byId)));
+        indexes.put(SortKey.RATING, new TreeSet<>(
+                Comparator.comparingDouble((Entry e) -> e.rating).thenComparing(byId)));
+    }
+
+    /**
+     * Price a buyer pays: the market price for player listings, the base price otherwise
+     */
+    public static double getEffectivePrice(Apartment apartment) {
+        return (apartment.marketListing && apartment.owner != null) ? apartment.marketPrice : apartment.price;
+    }
+
+    /**
+     * Whether the apartment belongs in the browser (government property or market listing)
+     */
+    public static boolean isListed(Apartment apartment) {
+        return apartment.owner == null || apartment.marketListing;
+    }
+
+    /**
+     * Insert, refresh or drop the apartment depending on its current state
+     */
+    public synchronized void update(Apartment apartment, double rating) {
+        removeEntry(apartment.id);
+        if (isListed(apartment)) {
+            Entry entry = new Entry(apartment, rating);
+            entries.put(entry.id, entry);
+            for (NavigableSet<Entry> index : indexes.values()) {
+                index.add(entry);
+            }
+            effectivePriceMedian.add(entry.effectivePrice);
+        }
+        invalidateViews();
+    }
+
+    public synchronized void remove(String apartmentId) {
+        if (removeEntry(apartmentId)) {
+            invalidateViews();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        for (NavigableSet<Entry> index : indexes.values()) {
+            index.clear();
+        }
+        effectivePriceMedian.clear();
+        invalidateViews();
+    }
+
+    /**
+     * Listed apartments ordered by the given key. The returned list is an
+     * unmodifiable snapshot shared between callers until the next update.
+     */
+    public synchronized List<Apartment> getOrdered(SortKey key, boolean descending) {
+        Map<SortKey, List<Apartment>> views = descending ? descendingViews : ascendingViews;
+        List<Apartment> view = views.get(key);
+        if (view == null) {
+            NavigableSet<Entry> index = descending ? indexes.get(key).descendingSet() : indexes.get(key);
+            List<Apartment> list = new ArrayList<>(index.size());
+            for (Entry entry : index) {
+                list.add(entry.apartment);
+            }
+            view = Collections.unmodifiableList(list);
+            views.put(key, view);
+        }
+        return view;
+    }
+
+    /**
+     * Median effective price of all listed apartments, or 0 when nothing is listed
+     */
+    public synchronized double getMedianEffectivePrice() {
+        return effectivePriceMedian.getMedian(0);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean removeEntry(String apartmentId) {
+        Entry old = entries.remove(apartmentId);
+        if (old == null) {
+            return false;
+        }
+        for (NavigableSet<Entry> index : indexes.values()) {
+            index.remove(old);
+        }
+        effectivePriceMedian.remove(old.effectivePrice);
+        return true;
+    }
+
+    private void invalidateViews() {
+        ascendingViews.clear();
+        descendingViews.clear();
+    }
+}
@@ -2,26 +2,23 @@ package com.aithor.apartmentcore.manager;
 
 import com.aithor.apartmentcore.ApartmentCore;
 
-import java.io.*;
-import java.nio.file.*;
-import java.text.SimpleDateFormat;
-import java.util.*;
+import java.io.File;
 import java.util.logging.Level;
 
 /**
- * Manages custom file logging with rotation and cleanup
+ * Manages custom file logging with rotation and cleanup.
+ * File I/O is done by an {@link AsyncLogWriter} off the calling thread.
  */
 public class LoggerManager {
     private final ApartmentCore plugin;
     private final ConfigManager config;
-    private final SimpleDateFormat timestampFormat;
     private File logFile;
     private File logsDir;
+    private volatile AsyncLogWriter writer;
 
     public LoggerManager(ApartmentCore plugin, ConfigManager config) {
         this.plugin = plugin;
         this.config = config;
-        this.timestampFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
         initializeLogging();
     }
@@ -44,6 +41,8 @@ public class LoggerManager {
                 logFile.getParentFile().mkdirs();
             }
 
+            writer = new AsyncLogWriter(plugin, config, logFile, logsDir);
+
             // Log initialization
             log("INFO", "LoggerManager initialized. Log file: " + logFile.getAbsolutePath());
 
@@ -60,25 +59,11 @@ public class LoggerManager {
     }
 
     /**
-     * Log a message with specific level
+     * Log a message with specific level; the write happens on the log writer thread
      */
     public void log(String level, String message) {
-        try {
-            String timestamp = timestampFormat.format(new Date());
-            String logEntry = String.format("[%s] [%s] %s%n", timestamp, level, message);
-
-            // Check if rotation is needed
-            checkRotation();
-
-            // Write to file
-            try (FileWriter fw = new FileWriter(logFile, true);
-                 BufferedWriter bw = new BufferedWriter(fw);
-                 PrintWriter out = new PrintWriter(bw)) {
-                out.print(logEntry);
-            }
-
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to write to log file", e);
+        if (writer != null) {
+            writer.append(level, message);
         }
     }
 
@@ -101,64 +86,12 @@ public class LoggerManager {
     }
 
     /**
-     * Check if log rotation is needed and perform it
-     */
-    private void checkRotation() {
-        if (!logFile.exists()) return;
-
-        long fileSizeMB = logFile.length() / (1024 * 1024);
-        if (fileSizeMB >= config.getMaxLogSize()) {
-            rotateLogFile();
-        }
-    }
-
-    /**
-     * Rotate the log file
-     */
-    private void rotateLogFile() {
-        try {
-            // Create backup filename with timestamp
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-            File backupFile = new File(logsDir, "apartmentcore_" + timestamp + ".log");
-
-            // Move current log to backup
-            Files.move(logFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-
-            // Clean up old logs if needed
-            if (config.isKeepOldLogs()) {
-                cleanupOldLogs();
-            }
-
-            log("INFO", "Log file rotated to: " + backupFile.getName());
-
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to rotate log file", e);
-        }
-    }
-
-    /**
-     * Clean up old log files, keeping only the specified maximum number
+     * Write out queued entries and close the log file (plugin disable)
      */
-    private void cleanupOldLogs() {
-        try {
-            File[] logFiles = logsDir.listFiles((dir, name) -> name.startsWith("apartmentcore_") && name.endsWith(".log"));
-            if (logFiles == null || logFiles.length <= config.getMaxOldLogs()) {
-                return;
-            }
-
-            // Sort by last modified (oldest first)
-            Arrays.sort(logFiles, Comparator.comparingLong(File::lastModified));
-
-            // Delete oldest files
-            int filesToDelete = logFiles.length - config.getMaxOldLogs();
-            for (int i = 0; i < filesToDelete; i++) {
-                if (logFiles[i].delete()) {
-                    plugin.getLogger().info("Deleted old log file: " + logFiles[i].getName());
-                }
-            }
-
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to cleanup old log files", e);
+    public void close() {
+        if (writer != null) {
+            writer.close();
+            writer = null;
         }
     }
 
@@ -5,6 +5,8 @@ import com.aithor.apartmentcore.ApartmentCore;
 import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.ChatColor;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -15,6 +17,9 @@ public class MessageManager {
     private final ApartmentCore plugin;
     private FileConfiguration messageConfig;
     private File messagesFile;
+    // Compiled at load/reload and swapped whole; read from any thread. Missing
+    // paths are cached too, as their "Missing message" placeholder
+    private volatile Map<String, MessageTemplate> templates;
 
     public MessageManager(ApartmentCore plugin) {
         this.plugin = plugin;
@@ -71,6 +76,33 @@ public class MessageManager {
                 messageConfig.options().copyDefaults(true);
             }
         } catch (Throwable ignored) {}
+
+        compileTemplates();
+    }
+
+    /**
+     * Parse every message once with the prefix and colours applied
+     */
+    private void compileTemplates() {
+        String prefix = messageConfig.getString("messages.prefix", "&6[ApartmentCore]&r ");
+        boolean useColors = messageConfig.getBoolean("messages.use-colors", true);
+
+        Map<String, MessageTemplate> compiled = new ConcurrentHashMap<>();
+        for (String path : messageConfig.getKeys(true)) {
+            if (messageConfig.isString(path)) {
+                compiled.put(path, MessageTemplate.compile(colorize(messageConfig.getString(path), prefix, useColors)));
+            }
+        }
+        templates = compiled;
+        plugin.debug("Compiled " + compiled.size() + " message templates");
+    }
+
+    private static String colorize(String message, String prefix, boolean useColors) {
+        String out = message.replace("{prefix}", prefix);
+        if (useColors) {
+            return ChatColor.translateAlternateColorCodes('&', out);
+        }
+        return out.replaceAll("&[0-9A-FK-ORa-fk-or]", "");
     }
 
     public FileConfiguration getMessageConfig() {
@@ -90,20 +122,23 @@ public class MessageManager {
     }
 
     public String getMessage(String path) {
-        String message = getMessageConfig().getString(path);
-        if (message == null) {
-            return ChatColor.RED + "Missing message: " + path;
-        }
-
-        String prefix = getMessageConfig().getString("messages.prefix", "&6[ApartmentCore]&r ");
-        boolean useColors = getMessageConfig().getBoolean("messages.use-colors", true);
+        return getTemplate(path).toString();
+    }
 
-        String out = message.replace("{prefix}", prefix);
+    /**
+     * Get a message with its %slots% filled from name/value pairs,
+     * e.g. {@code format("notifications.rent_generated", "apartment", name, "amount", money)}
+     */
+    public String format(String path, Object... args) {
+        return getTemplate(path).render(args);
+    }
 
-        if (useColors) {
-            return ChatColor.translateAlternateColorCodes('&', out);
-        } else {
-            return out.replaceAll("&[0-9A-FK-ORa-fk-or]", "");
+    public MessageTemplate getTemplate(String path) {
+        Map<String, MessageTemplate> compiled = templates;
+        if (compiled == null) {
+            reloadMessages();
+            compiled = templates;
         }
+        return compiled.computeIfAbsent(path, p -> MessageTemplate.compile(ChatColor.RED + "Missing message: " + p));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.aithor.apartmentcore.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message parsed once into literal text and named {@code %slot%} segments.
+ *
+ * <p>The prefix and colour codes are applied at compile time, so rendering
+ * only concatenates literals and arguments into a per-thread reusable
+ * builder. Slots without a matching argument are rendered as the original
+ * {@code %name%} text, matching the old {@code String.replace} behaviour.
+ */
+public final class MessageTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    // literals.length == slots.length + 1
+    private final String[] literals;
+    private final String[] slots;
+    private final String plain;
+
+    private MessageTemplate(String[] literals, String[] slots, String plain) {
+        this.literals = literals;
+        this.slots = slots;
+        this.plain = plain;
+    }
+
+    /**
+     * Split an already coloured message into literals and slots
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '%') {
+                int end = i + 1;
+                while (end < text.length() && isSlotChar(text.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1 && end < text.length() && text.charAt(end) == '%') {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(text.substring(i + 1, end));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+
+        return new MessageTemplate(literals.toArray(new String[0]), slots.toArray(new String[0]), text);
+    }
+
+    private static boolean isSlotChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Render with named arguments given as name/value pairs,
+     * e.g. {@code render("apartment", name, "amount", money)}
+     */
+    public String render(Object... args) {
+        if (slots.length == 0) {
+            return plain;
+        }
+
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+        for (int s = 0; s < slots.length; s++) {
+            sb.append(literals[s]);
+            Object value = lookup(slots[s], args);
+            if (value != null) {
+                sb.append(value);
+            } else {
+                sb.append('%').append(slots[s]).append('%');
+            }
+        }
+        sb.append(literals[slots.length]);
+        return sb.toString();
+    }
+
+    private static Object lookup(String slot, Object[] args) {
+        for (int a = 0; a + 1 < args.length; a += 2) {
+            if (slot.equals(args[a])) {
+                return args[a + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return True if the message has at least one named slot
+     */
+    public boolean hasSlots() {
+        return slots.length > 0;
+    }
+
+    /**
+     * @return The compiled message without any slots filled in
+     */
+    @Override
+    public String toString() {
+        return plain;
+    }
+}
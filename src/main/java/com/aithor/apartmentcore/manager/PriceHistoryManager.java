@@ -0,0 +1,204 @@
+package com.aithor.apartmentcore.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.model.Apartment;
+import com.aithor.apartmentcore.model.PriceStats;
+
+/**
+ * Price history of completed auctions and market sales.
+ *
+ * <p>Every sale is recorded in three groups: {@code all}, the apartment's level
+ * ({@code level:3}) and its level within its world ({@code level:3:world}).
+ * The fair price of an apartment is the median of the most specific group that
+ * has at least {@code price-history.min-samples} sales.
+ *
+ * <p>Sales only mark the history dirty; it is written off the main thread by
+ * the auto-save task ({@link #saveAsync()}) and on disable ({@link #save()}).
+ */
+public class PriceHistoryManager {
+
+    public static final String ALL = "all";
+
+    private final ApartmentCore plugin;
+    private final ConfigManager configManager;
+    private final Map<String, PriceStats> groups = new HashMap<>();
+    private File dataFile;
+    private boolean dirty;
+    // Serializes file writes; a snapshot older than the last written one is skipped
+    private final Object writeLock = new Object();
+    private long snapshotSeq;
+    private long writtenSeq;
+
+    public PriceHistoryManager(ApartmentCore plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+    }
+
+    public static String levelGroup(int level) {
+        return "level:" + level;
+    }
+
+    public static String worldGroup(int level, String worldName) {
+        return "level:" + level + ":" + worldName;
+    }
+
+    /**
+     * Record a completed sale of an apartment
+     */
+    public synchronized void record(Apartment apartment, double price, PriceStats.Source source) {
+        if (apartment == null || price <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        stats(ALL).record(price, source, now);
+        stats(levelGroup(apartment.level)).record(price, source, now);
+        if (apartment.worldName != null) {
+            stats(worldGroup(apartment.level, apartment.worldName)).record(price, source, now);
+        }
+        plugin.debug("Recorded " + source.name().toLowerCase() + " sale of " + apartment.id + " for " + price);
+        dirty = true;
+    }
+
+    /**
+     * @return Statistics of a group, or null when it has no sales
+     */
+    public synchronized PriceStats getStats(String group) {
+        return groups.get(group);
+    }
+
+    /**
+     * @return Median sale price of the most specific group with enough sales, or -1
+     */
+    public synchronized double getFairPrice(Apartment apartment) {
+        int minSamples = configManager.getPriceHistoryMinSamples();
+        PriceStats stats = apartment.worldName != null ? groups.get(worldGroup(apartment.level, apartment.worldName)) : null;
+        if (stats == null || stats.getCount() < minSamples) {
+            stats = groups.get(levelGroup(apartment.level));
+        }
+        if (stats == null || stats.getCount() < minSamples) {
+            return -1;
+        }
+        return stats.getMedian();
+    }
+
+    /**
+     * @return Groups that start with the prefix, sorted by name
+     */
+    public synchronized List<String> getGroups(String prefix) {
+        List<String> names = new ArrayList<>();
+        for (String name : groups.keySet()) {
+            if (name.startsWith(prefix)) {
+                names.add(name);
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    public synchronized void load() {
+        File dataDir = new File(plugin.getDataFolder(), "data");
+        if (!dataDir.exists()) {
+            dataDir.mkdirs();
+        }
+        this.dataFile = new File(dataDir, "price_history.yml");
+        groups.clear();
+        if (!dataFile.exists()) {
+            return;
+        }
+
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(dataFile);
+        ConfigurationSection section = config.getConfigurationSection("groups");
+        if (section == null) {
+            return;
+        }
+        int capacity = configManager.getPriceHistoryRecentSales();
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection groupSection = section.getConfigurationSection(key);
+            if (groupSection == null) {
+                continue;
+            }
+            try {
+                // Keys are stored with '.' replaced, as '.' is the YAML path separator
+                groups.put(key.replace('|', '.'), PriceStats.load(groupSection, capacity));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Failed to load price history group " + key + ": " + e.getMessage());
+            }
+        }
+        plugin.debug("Loaded price history for " + groups.size() + " groups");
+    }
+
+    /**
+     * Write the history now if it changed (plugin disable)
+     */
+    public void save() {
+        Snapshot snapshot = snapshot();
+        if (snapshot != null) {
+            write(snapshot);
+        }
+    }
+
+    /**
+     * Write the history on a background thread if it changed (auto-save)
+     */
+    public void saveAsync() {
+        Snapshot snapshot = snapshot();
+        if (snapshot != null) {
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> write(snapshot));
+        }
+    }
+
+    private static final class Snapshot {
+        final long seq;
+        final String content;
+
+        Snapshot(long seq, String content) {
+            this.seq = seq;
+            this.content = content;
+        }
+    }
+
+    private synchronized Snapshot snapshot() {
+        if (dataFile == null || !dirty) {
+            return null;
+        }
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<String, PriceStats> entry : groups.entrySet()) {
+            entry.getValue().save(config.createSection("groups." + entry.getKey().replace('.', '|')));
+        }
+        dirty = false;
+        return new Snapshot(++snapshotSeq, config.saveToString());
+    }
+
+    private void write(Snapshot snapshot) {
+        synchronized (writeLock) {
+            if (snapshot.seq <= writtenSeq) {
+                return;
+            }
+            try {
+                Files.write(dataFile.toPath(), snapshot.content.getBytes(StandardCharsets.UTF_8));
+                writtenSeq = snapshot.seq;
+            } catch (IOException e) {
+                synchronized (this) {
+                    dirty = true;
+                }
+                plugin.getLogger().severe("Could not save price history: " + e.getMessage());
+            }
+        }
+    }
+
+    private PriceStats stats(String group) {
+        return groups.computeIfAbsent(group, k -> new PriceStats(configManager.getPriceHistoryRecentSales()));
+    }
+}
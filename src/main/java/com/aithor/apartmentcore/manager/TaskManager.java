@@ -1,6 +1,11 @@
 package com.aithor.apartmentcore.manager;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.achievement.AchievementEvent;
+import com.aithor.apartmentcore.model.Apartment;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -24,8 +29,9 @@ public class TaskManager {
     public void startAllTasks() {
         startIncomeTask();
         startDailyUpdateTask();
-        startConfirmationCleanupTask();
+        startCooldownExpiryTask();
         startUpgradeCheckTask();
+        startLeaderboardTask();
 
         if (configManager.isAutoSaveEnabled()) {
             startAutoSaveTask();
@@ -49,6 +55,12 @@ public class TaskManager {
             public void run() {
                 long intervalMs = Math.max(1000L, configManager.getIncomeGenerationInterval() * 50L);
                 long now = System.currentTimeMillis();
+                if (configManager.isLazyIncomeAccrual()) {
+                    // Income is computed on read; keep the timer current so switching
+                    // back to tick mode does not replay the skipped intervals
+                    plugin.setLastIncomeGenerationTime(now);
+                    return;
+                }
                 long lastGen = plugin.getLastIncomeGenerationTime();
 
                 if (lastGen <= 0) {
@@ -63,6 +75,10 @@ public class TaskManager {
                     changed = true;
                 }
 
+                // Send one digest per owner for everything generated above (and any
+                // rate-limited leftovers)
+                plugin.getNotificationManager().flush();
+
                 // If we generated income behind the scenes, we could save the timer here if
                 // needed
             }
@@ -95,12 +111,25 @@ public class TaskManager {
                 long now = System.currentTimeMillis();
 
                 // 1) Tick taxes for every apartment individually based on their specific
-                // lastInvoiceAt timestamp
-                for (com.aithor.apartmentcore.model.Apartment apt : apartmentManager.getApartments().values()) {
+                // lastInvoiceAt timestamp. Auto-payments of all due apartments are batched
+                // so each owner is charged with a single economy transfer.
+                List<Apartment> due = new ArrayList<>();
+                EconomyGateway.Batch payments = plugin.getEconomyGateway().batch();
+                for (Apartment apt : apartmentManager.getTaxTickCandidates(now)) {
                     if (apt.owner != null) {
-                        apt.tickTaxInvoices(plugin.getEconomy(), plugin, configManager, apartmentManager);
+                        // Settle before new invoices or repossession change the accrual
+                        apartmentManager.settleIncome(apt);
+                        apt.generateTaxInvoices(plugin, configManager);
+                        apt.queueAutoPayments(payments, plugin, configManager, apartmentManager);
+                        due.add(apt);
                     }
                 }
+                payments.commit();
+                for (Apartment apt : due) {
+                    apt.applyTaxStatus(plugin, configManager, apartmentManager);
+                    apartmentManager.refreshHotState(apt);
+                }
+                plugin.getNotificationManager().flush();
 
                 long taxIntervalMs = Math.max(1000L, configManager.getTaxGenerationInterval() * 50L);
                 long lastMinecraftDay = plugin.getLastMinecraftDay();
@@ -126,18 +155,36 @@ public class TaskManager {
     }
 
     /**
-     * Start confirmation cleanup task
+     * Start the cooldown expiry task; also expires pending confirmations
      */
-    private void startConfirmationCleanupTask() {
+    private void startCooldownExpiryTask() {
         new BukkitRunnable() {
             @Override
             public void run() {
-                long now = System.currentTimeMillis();
-                long timeout = plugin.getConfig().getLong("security.confirmation-timeout", 30) * 1000;
-                plugin.getPendingConfirmations().entrySet()
-                        .removeIf(entry -> now - entry.getValue().timestamp > timeout);
+                plugin.getCooldownService().tick();
             }
-        }.runTaskTimer(plugin, 600L, 600L); // Every 30 seconds
+        }.runTaskTimer(plugin, 20L, 20L); // Every second
+    }
+
+    /**
+     * Start leaderboard recomputation for the top/rank placeholders
+     */
+    private void startLeaderboardTask() {
+        LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+        if (leaderboards == null)
+            return;
+        long period = configManager.getLeaderboardRefreshInterval() * 20L;
+        BukkitRunnable task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                leaderboards.recompute();
+            }
+        };
+        if (configManager.isPerformanceUseAsync()) {
+            task.runTaskTimerAsynchronously(plugin, 40L, period);
+        } else {
+            task.runTaskTimer(plugin, 40L, period);
+        }
     }
 
     /**
@@ -150,12 +197,13 @@ public class TaskManager {
                 long now = System.currentTimeMillis();
                 boolean changed = false;
 
-                for (com.aithor.apartmentcore.model.Apartment apt : apartmentManager.getApartments().values()) {
+                for (com.aithor.apartmentcore.model.Apartment apt : apartmentManager.getUpgradeCandidates(now)) {
                     if (apt.upgradeInProgress && apt.upgradeCompleteAt > 0 && now >= apt.upgradeCompleteAt) {
                         // Upgrade completed!
                         apt.upgradeInProgress = false;
                         apt.upgradeCompleteAt = 0L;
                         apt.level++;
+                        apartmentManager.refreshIndexes(apt);
                         changed = true;
 
                         // Notify owner
@@ -165,15 +213,15 @@ public class TaskManager {
                                 try {
                                     ownerPlayer.playSound(ownerPlayer.getLocation(),
                                             org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
-                                    String title = plugin.getMessageManager().getMessage("notifications.upgrade_title")
-                                            .replace("%apartment%", apt.displayName)
-                                            .replace("%level%", String.valueOf(apt.level));
-                                    String subtitle = plugin.getMessageManager().getMessage("notifications.upgrade_subtitle")
-                                            .replace("%apartment%", apt.displayName)
-                                            .replace("%level%", String.valueOf(apt.level));
-                                    String actionBar = plugin.getMessageManager().getMessage("notifications.upgrade_actionbar")
-                                            .replace("%apartment%", apt.displayName)
-                                            .replace("%level%", String.valueOf(apt.level));
+                                    String title = plugin.getMessageManager().format("notifications.upgrade_title",
+                                            "apartment", apt.displayName,
+                                            "level", String.valueOf(apt.level));
+                                    String subtitle = plugin.getMessageManager().format("notifications.upgrade_subtitle",
+                                            "apartment", apt.displayName,
+                                            "level", String.valueOf(apt.level));
+                                    String actionBar = plugin.getMessageManager().format("notifications.upgrade_actionbar",
+                                            "apartment", apt.displayName,
+                                            "level", String.valueOf(apt.level));
 
                                     ownerPlayer.sendTitle(title, subtitle, 10, 70, 20);
                                     ownerPlayer.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR,
@@ -184,12 +232,8 @@ public class TaskManager {
 
                             // Track max level achievement
                             if (plugin.getAchievementManager() != null) {
-                                int maxLevel = configManager.getLevelConfigs().keySet().stream()
-                                        .mapToInt(Integer::intValue).max().orElse(5);
-                                if (apt.level >= maxLevel) {
-                                    plugin.getAchievementManager().setProgress(apt.owner,
-                                            com.aithor.apartmentcore.achievement.AchievementType.MAX_LEVEL_OWNER, 1);
-                                }
+                                plugin.getAchievementManager().post(new AchievementEvent.LevelReached(apt.owner,
+                                        apt.level, configManager.getMaxConfiguredLevel()));
                             }
                         }
                     }
@@ -225,6 +269,9 @@ public class TaskManager {
                     } catch (Throwable ignored) {
                     }
                 }
+                if (plugin.getPriceHistoryManager() != null) {
+                    plugin.getPriceHistoryManager().saveAsync();
+                }
                 plugin.log("Auto-saved all data.");
 
                 runs++;
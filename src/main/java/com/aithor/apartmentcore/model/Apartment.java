@@ -1,11 +1,12 @@
 package com.aithor.apartmentcore.model;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.manager.ApartmentManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.manager.EconomyGateway;
+import com.aithor.apartmentcore.notification.NotificationType;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import java.util.List;
 import java.util.ArrayList;
@@ -13,11 +14,8 @@ import java.util.ArrayList;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 
-import net.milkbowl.vault.economy.Economy;
-
 /**
  * Apartment data model class
  */
@@ -38,6 +36,10 @@ public class Apartment {
     public double pendingIncome;
     // Amount generated in the last income tick (used for income-based tax calculation)
     public double lastGeneratedIncome;
+    // Lazy accrual: when pendingIncome was last settled, and the profile it accrues by
+    // (null in tick mode or while unowned)
+    public long incomeSettledAt;
+    private IncomeProfile incomeProfile;
 
     // Legacy inactive/penalty fields (kept for backward-compat)
     public boolean inactive;
@@ -72,9 +74,10 @@ public class Apartment {
     public double marketPrice; // price set by owner for market sale
     public long marketListedAt; // epoch millis when listed on market
 
-    // Custom incomes that override config.yml (populated on creation)
-    public Map<Integer, Double> customMinIncomes;
-    public Map<Integer, Double> customMaxIncomes;
+    // Custom incomes that override config.yml (populated on creation), indexed
+    // by level; null until customised, NaN for levels without an override
+    private double[] customMinIncomes;
+    private double[] customMaxIncomes;
 
     // Custom icon for GUI display (material name)
     public String icon;
@@ -117,9 +120,6 @@ public class Apartment {
         this.marketPrice = 0.0;
         this.marketListedAt = 0L;
 
-        this.customMinIncomes = new HashMap<>();
-        this.customMaxIncomes = new HashMap<>();
-
         // lastGeneratedIncome starts at 0 (no income generated yet)
         this.lastGeneratedIncome = 0.0;
 
@@ -162,6 +162,49 @@ public class Apartment {
         return new Location(world, teleportX, teleportY, teleportZ, teleportYaw, teleportPitch);
     }
 
+    public IncomeProfile getIncomeProfile() {
+        return incomeProfile;
+    }
+
+    public void setIncomeProfile(IncomeProfile incomeProfile) {
+        this.incomeProfile = incomeProfile;
+    }
+
+    /**
+     * Pending income including what accrued since the last settlement
+     */
+    public double getPendingIncome() {
+        return getPendingIncome(System.currentTimeMillis());
+    }
+
+    public double getPendingIncome(long now) {
+        IncomeProfile profile = incomeProfile;
+        return profile != null ? profile.accrue(pendingIncome, incomeSettledAt, now) : pendingIncome;
+    }
+
+    /**
+     * Move the income accrued since the last settlement into pendingIncome.
+     * Progress into the current interval is kept unless accrual has stopped.
+     * Nothing accrues once the apartment has lost its owner.
+     * 
+     * @return The amount added
+     */
+    public double settleIncome(long now) {
+        IncomeProfile profile = incomeProfile;
+        if (profile == null || owner == null) {
+            incomeSettledAt = now;
+            return 0;
+        }
+        double before = pendingIncome;
+        pendingIncome = profile.accrue(before, incomeSettledAt, now);
+        if (pendingIncome < profile.capacity && now < profile.stopsAt) {
+            incomeSettledAt += profile.intervalsBetween(incomeSettledAt, now) * profile.intervalMs;
+        } else {
+            incomeSettledAt = now;
+        }
+        return pendingIncome - before;
+    }
+
     /**
      * Get hourly income based on level with shop buffs applied
      */
@@ -196,7 +239,19 @@ public class Apartment {
 
         // Base income calculation
         double baseIncome = minInc + Math.random() * (maxInc - minInc);
+        return applyIncomeBuffs(baseIncome, configManager, plugin);
+    }
 
+    /**
+     * Mean income per interval with shop and research buffs applied (lazy
+     * accrual pays this instead of a random roll)
+     */
+    public double getExpectedIncomeWithShopBuffs(ConfigManager configManager, ApartmentCore plugin) {
+        double baseIncome = (getMinIncome(configManager, level) + getMaxIncome(configManager, level)) / 2.0;
+        return applyIncomeBuffs(baseIncome, configManager, plugin);
+    }
+
+    private double applyIncomeBuffs(double baseIncome, ConfigManager configManager, ApartmentCore plugin) {
         // Apply shop buffs
         if (plugin != null && plugin.getShopManager() != null) {
             var shopManager = plugin.getShopManager();
@@ -247,21 +302,60 @@ public class Apartment {
     }
 
     public double getMinIncome(ConfigManager configManager, int lvl) {
-        if (customMinIncomes != null && customMinIncomes.containsKey(lvl)) {
-            return customMinIncomes.get(lvl);
+        if (hasCustomIncome(lvl)) {
+            return customMinIncomes[lvl];
         }
         LevelConfig config = configManager.getLevelConfig(lvl);
         return config != null ? config.minIncome : 10.0;
     }
 
     public double getMaxIncome(ConfigManager configManager, int lvl) {
-        if (customMaxIncomes != null && customMaxIncomes.containsKey(lvl)) {
-            return customMaxIncomes.get(lvl);
+        if (hasCustomIncome(lvl)) {
+            return customMaxIncomes[lvl];
         }
         LevelConfig config = configManager.getLevelConfig(lvl);
         return config != null ? config.maxIncome : 20.0;
     }
 
+    /**
+     * Whether this apartment overrides the configured income range for a level
+     */
+    public boolean hasCustomIncome(int lvl) {
+        return customMinIncomes != null && lvl >= 0 && lvl < customMinIncomes.length
+                && !Double.isNaN(customMinIncomes[lvl]);
+    }
+
+    /**
+     * Override the configured income range for a level
+     */
+    public void setCustomIncome(int lvl, double min, double max) {
+        if (lvl < 0)
+            return;
+        if (customMinIncomes == null || lvl >= customMinIncomes.length) {
+            int oldLength = customMinIncomes == null ? 0 : customMinIncomes.length;
+            int length = Math.max(lvl + 1, oldLength * 2);
+            customMinIncomes = growCustomIncomes(customMinIncomes, length);
+            customMaxIncomes = growCustomIncomes(customMaxIncomes, length);
+        }
+        customMinIncomes[lvl] = min;
+        customMaxIncomes[lvl] = max;
+    }
+
+    /**
+     * Upper bound (exclusive) of levels that may have a custom income; 0 when
+     * nothing is customised
+     */
+    public int getCustomIncomeLevelBound() {
+        return customMinIncomes == null ? 0 : customMinIncomes.length;
+    }
+
+    private static double[] growCustomIncomes(double[] incomes, int length) {
+        int oldLength = incomes == null ? 0 : incomes.length;
+        double[] grown = incomes == null ? new double[length] : java.util.Arrays.copyOf(incomes, length);
+        java.util.Arrays.fill(grown, oldLength, length, Double.NaN);
+        return grown;
+    }
+
     // =========================
     // New Invoice-based Tax API
     // =========================
@@ -358,6 +452,22 @@ public class Apartment {
         return sum;
     }
 
+    /**
+     * Creation time of the oldest unpaid invoice, or {@link Long#MAX_VALUE} if
+     * every invoice is paid.
+     */
+    public long getOldestUnpaidCreatedAt() {
+        long oldestCreatedAt = Long.MAX_VALUE;
+        if (taxInvoices != null) {
+            for (TaxInvoice inv : taxInvoices) {
+                if (!inv.isPaid() && inv.createdAt < oldestCreatedAt) {
+                    oldestCreatedAt = inv.createdAt;
+                }
+            }
+        }
+        return oldestCreatedAt;
+    }
+
     /**
      * Compute current tax status from oldest unpaid invoice.
      */
@@ -367,34 +477,15 @@ public class Apartment {
         if (taxInvoices == null || taxInvoices.isEmpty()) {
             return TaxStatus.ACTIVE;
         }
-        long oldestCreatedAt = Long.MAX_VALUE;
-        boolean hasUnpaid = false;
-        for (TaxInvoice inv : taxInvoices) {
-            if (!inv.isPaid()) {
-                hasUnpaid = true;
-                if (inv.createdAt < oldestCreatedAt) {
-                    oldestCreatedAt = inv.createdAt;
-                }
-            }
-        }
-        if (!hasUnpaid)
+        long oldestCreatedAt = getOldestUnpaidCreatedAt();
+        if (oldestCreatedAt == Long.MAX_VALUE)
             return TaxStatus.ACTIVE;
 
         ApartmentCore plugin_instance = (ApartmentCore) org.bukkit.Bukkit.getPluginManager().getPlugin("ApartmentCore");
         long dayMs = plugin_instance != null && plugin_instance.getConfigManager() != null
                 ? plugin_instance.getConfigManager().getTaxGenerationInterval() * 50L
                 : 86_400_000L;
-        if (dayMs <= 0)
-            dayMs = 86_400_000L;
-
-        long days = Math.max(0L, (now - oldestCreatedAt) / dayMs); // config days since oldest unpaid
-        if (days >= 7)
-            return TaxStatus.REPOSSESSION;
-        if (days >= 5)
-            return TaxStatus.INACTIVE;
-        if (days >= 3)
-            return TaxStatus.OVERDUE;
-        return TaxStatus.ACTIVE;
+        return TaxStatus.fromUnpaidSince(oldestCreatedAt, now, dayMs);
     }
 
     /**
@@ -407,14 +498,9 @@ public class Apartment {
     }
 
     /**
-     * Main tick to maintain invoice system.
-     * - Generate new invoice every 24h real time (can stack).
-     * - Auto-pay if enabled and player has funds.
-     * - Send layered notifications.
-     * - Apply status transitions and repossession at day 7.
+     * Phase 1: create an invoice for each full tax interval since the last one
      */
-    public void tickTaxInvoices(Economy econ, ApartmentCore plugin,
-            ConfigManager configManager, ApartmentManager apartmentManager) {
+    public void generateTaxInvoices(ApartmentCore plugin, ConfigManager configManager) {
         if (owner == null)
             return;
 
@@ -426,7 +512,6 @@ public class Apartment {
                 lastInvoiceAt = now;
         }
 
-        // 1) Generate new invoices for each full day passed since lastInvoiceAt
         final long dayMs = Math.max(1000L, configManager.getTaxGenerationInterval() * 50L);
         while (now - lastInvoiceAt >= dayMs) {
             long newCreatedAt = lastInvoiceAt + dayMs;
@@ -451,99 +536,66 @@ public class Apartment {
                 taxInvoices = new ArrayList<>();
             taxInvoices.add(invoice);
             lastInvoiceAt = newCreatedAt;
+            plugin.getLedger().record(TransactionType.TAX_INVOICE, owner, null, id, amount,
+                    multiplier > 1 ? "Invoice x" + multiplier + " (" + statusBefore.name() + ")" : "Invoice");
 
-            OfflinePlayer player = Bukkit.getOfflinePlayer(owner);
             // Send "new bill" notification once for this invoice
             if (!invoice.notifNewSent) {
-                if (player.isOnline()) {
-                    String msg = plugin.getMessageManager().getMessage("notifications.bill_new")
-                            .replace("%amount%", configManager.formatMoney(amount))
-                            .replace("%apartment%", displayName);
-                    player.getPlayer().sendMessage(msg);
-                }
+                plugin.getNotificationManager().notify(owner, NotificationType.BILL_NEW,
+                        plugin.getMessageManager().format("notifications.bill_new",
+                                "amount", configManager.formatMoney(amount),
+                                "apartment", displayName),
+                        amount);
                 invoice.notifNewSent = true;
             }
-
-            // Attempt auto-payment immediately if enabled AND Pro edition AND funds available
-            boolean autoPayAllowed = autoTaxPayment
-                    && plugin.getEditionManager() != null
-                    && plugin.getEditionManager().isAutoTaxPaymentEnabled();
-            if (autoPayAllowed && player != null) {
-                if (econ.has(player, invoice.amount)) {
-                    econ.withdrawPlayer(player, invoice.amount);
-                    invoice.paidAt = System.currentTimeMillis();
-                    lastTaxPayment = invoice.paidAt; // maintain legacy field
-                    // Update stats
-                    ApartmentStats stats = apartmentManager.getStats(id);
-                    stats.totalTaxPaid += invoice.amount;
-                    // Track tax achievement
-                    if (plugin.getAchievementManager() != null) {
-                        double totalTax = 0;
-                        for (Apartment a : apartmentManager.getApartments().values()) {
-                            if (owner.equals(a.owner)) {
-                                ApartmentStats s = apartmentManager.getStats(a.id);
-                                if (s != null)
-                                    totalTax += s.totalTaxPaid;
-                            }
-                        }
-                        plugin.getAchievementManager().setProgress(owner,
-                                com.aithor.apartmentcore.achievement.AchievementType.TAX_CONTRIBUTOR, totalTax);
-                    }
-                    if (player.isOnline()) {
-                        String paid = plugin.getMessageManager().getMessage("notifications.auto_paid")
-                                .replace("%amount%", configManager.formatMoney(invoice.amount))
-                                .replace("%apartment%", displayName);
-                        player.getPlayer().sendMessage(paid);
-                    }
-                }
-            }
         }
+    }
 
-        // 2) Notifications for existing unpaid invoices and status effects
-        OfflinePlayer player = Bukkit.getOfflinePlayer(owner);
-
-        // Try auto-paying existing unpaid invoices if enabled AND Pro edition AND balance allows
-        // (oldest first)
-        boolean autoPayAllowedGlobal = autoTaxPayment
+    /**
+     * Phase 2: queue every unpaid invoice (oldest first) for auto-payment if
+     * enabled AND Pro edition. The batch pays what the owner's balance covers
+     * and marks those invoices paid when it is committed.
+     */
+    public void queueAutoPayments(EconomyGateway.Batch batch, ApartmentCore plugin,
+            ConfigManager configManager, ApartmentManager apartmentManager) {
+        boolean autoPayAllowed = owner != null && autoTaxPayment
                 && plugin.getEditionManager() != null
                 && plugin.getEditionManager().isAutoTaxPaymentEnabled();
-        if (autoPayAllowedGlobal && player != null) {
-            java.util.List<TaxInvoice> unpaid = new java.util.ArrayList<>();
-            if (taxInvoices != null) {
-                for (TaxInvoice i : taxInvoices) {
-                    if (!i.isPaid())
-                        unpaid.add(i);
-                }
-            }
-            unpaid.sort(java.util.Comparator.comparingLong(i -> i.createdAt));
-            for (TaxInvoice i : unpaid) {
-                if (econ.has(player, i.amount)) {
-                    econ.withdrawPlayer(player, i.amount);
-                    i.paidAt = now;
-                    lastTaxPayment = now;
-                    // Update stats
-                    ApartmentStats stats2 = apartmentManager.getStats(id);
-                    stats2.totalTaxPaid += i.amount;
-                    // Track tax achievement
-                    if (plugin.getAchievementManager() != null) {
-                        double totalTax = 0;
-                        for (Apartment a : apartmentManager.getApartments().values()) {
-                            if (owner.equals(a.owner)) {
-                                ApartmentStats s = apartmentManager.getStats(a.id);
-                                if (s != null)
-                                    totalTax += s.totalTaxPaid;
-                            }
-                        }
-                        plugin.getAchievementManager().setProgress(owner,
-                                com.aithor.apartmentcore.achievement.AchievementType.TAX_CONTRIBUTOR, totalTax);
-                    }
-                } else {
-                    break; // stop at first unaffordable invoice
-                }
-            }
+        if (!autoPayAllowed || taxInvoices == null)
+            return;
+
+        UUID payer = owner;
+        for (TaxInvoice invoice : taxInvoices) {
+            if (invoice.isPaid())
+                continue;
+            batch.debit(payer, invoice.amount, invoice.createdAt, () -> {
+                long paidAt = System.currentTimeMillis();
+                invoice.paidAt = paidAt;
+                lastTaxPayment = paidAt; // maintain legacy field
+                plugin.getLedger().record(TransactionType.TAX_PAYMENT, payer,
+                        Bukkit.getOfflinePlayer(payer).getName(), id, invoice.amount, "Auto-paid");
+                // Update stats
+                ApartmentStats stats = apartmentManager.getStats(id);
+                stats.totalTaxPaid += invoice.amount;
+                apartmentManager.trackTaxAchievement(payer, invoice.amount);
+                plugin.getNotificationManager().notify(payer, NotificationType.AUTO_PAID,
+                        plugin.getMessageManager().format("notifications.auto_paid",
+                                "amount", configManager.formatMoney(invoice.amount),
+                                "apartment", displayName),
+                        invoice.amount);
+            });
         }
+    }
 
-        double totalUnpaid = getTotalUnpaid();
+    /**
+     * Phase 3: reminders for unpaid invoices and status effects
+     */
+    public void applyTaxStatus(ApartmentCore plugin, ConfigManager configManager,
+            ApartmentManager apartmentManager) {
+        if (owner == null)
+            return;
+
+        long now = System.currentTimeMillis();
         TaxStatus status = computeTaxStatus(now);
 
         // Iterate invoices for reminders
@@ -554,21 +606,19 @@ public class Apartment {
                 long days = inv.daysSinceCreated(now);
 
                 if (days >= 2 && !inv.notifDay2Sent) {
-                    if (player.isOnline()) {
-                        String msg = plugin.getMessageManager().getMessage("notifications.bill_reminder_day2")
-                                .replace("%amount%", configManager.formatMoney(inv.amount))
-                                .replace("%apartment%", displayName);
-                        player.getPlayer().sendMessage(msg);
-                    }
+                    plugin.getNotificationManager().notify(owner, NotificationType.BILL_REMINDER,
+                            plugin.getMessageManager().format("notifications.bill_reminder_day2",
+                                    "amount", configManager.formatMoney(inv.amount),
+                                    "apartment", displayName),
+                            inv.amount);
                     inv.notifDay2Sent = true;
                 }
                 if (days >= 3 && !inv.notifDay3Sent) {
-                    if (player.isOnline()) {
-                        String msg = plugin.getMessageManager().getMessage("notifications.bill_overdue_day3")
-                                .replace("%total%", configManager.formatMoney(getTotalUnpaid()))
-                                .replace("%apartment%", displayName);
-                        player.getPlayer().sendMessage(msg);
-                    }
+                    plugin.getNotificationManager().notify(owner, NotificationType.BILL_OVERDUE,
+                            plugin.getMessageManager().format("notifications.bill_overdue_day3",
+                                    "total", configManager.formatMoney(getTotalUnpaid()),
+                                    "apartment", displayName),
+                            0);
                     inv.notifDay3Sent = true;
                 }
                 if (days >= 5 && !inv.notifDay5Sent) {
@@ -577,12 +627,11 @@ public class Apartment {
                         inactive = true;
                         inactiveSince = now;
                     }
-                    if (player.isOnline()) {
-                        String msg = plugin.getMessageManager().getMessage("notifications.apartment_inactive_day5")
-                                .replace("%total%", configManager.formatMoney(getTotalUnpaid()))
-                                .replace("%apartment%", displayName);
-                        player.getPlayer().sendMessage(msg);
-                    }
+                    plugin.getNotificationManager().notify(owner, NotificationType.APARTMENT_INACTIVE,
+                            plugin.getMessageManager().format("notifications.apartment_inactive_day5",
+                                    "total", configManager.formatMoney(getTotalUnpaid()),
+                                    "apartment", displayName),
+                            0);
                     inv.notifDay5Sent = true;
                 }
             }
@@ -610,11 +659,10 @@ public class Apartment {
                 break;
             case REPOSSESSION:
                 // 4) Repossess at day 7
-                if (player.isOnline()) {
-                    String msg = plugin.getMessageManager().getMessage("notifications.apartment_repossessed_day7")
-                            .replace("%apartment%", displayName);
-                    player.getPlayer().sendMessage(msg);
-                }
+                plugin.getNotificationManager().notify(owner, NotificationType.REPOSSESSED,
+                        plugin.getMessageManager().format("notifications.apartment_repossessed_day7",
+                                "apartment", displayName),
+                        0);
 
                 // Remove ownership permanently
                 java.util.UUID prevOwner = owner;
@@ -627,6 +675,7 @@ public class Apartment {
                 inactive = false;
                 penalty = 0;
                 pendingIncome = 0;
+                incomeSettledAt = now;
                 inactiveSince = 0;
                 lastTaxCheckDay = 0;
                 lastInvoiceAt = 0;
@@ -639,6 +688,7 @@ public class Apartment {
                 // Reset ratings and stats
                 apartmentManager.getApartmentRatings().remove(id);
                 apartmentManager.removeStats(id);
+                apartmentManager.refreshIndexes(this);
 
                 plugin.debug("Apartment " + id + " repossessed due to unpaid taxes.");
                 break;
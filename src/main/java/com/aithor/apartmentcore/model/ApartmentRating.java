@@ -1,15 +1,40 @@
 package com.aithor.apartmentcore.model;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 public class ApartmentRating {
+    // Running sums; kept separately from raters so admin overrides and
+    // averages stay O(1)
     public double totalRating = 0;
     public int ratingCount = 0;
-    public Map<UUID, Double> raters = new HashMap<>();
+    public final RaterScores raters = new RaterScores();
 
     public double getAverageRating() {
         return ratingCount > 0 ? totalRating / ratingCount : 0.0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Record or replace a player's rating (stored with 0.1 precision)
+     */
+    public void rate(UUID rater, double rating) {
+        int tenths = (int) Math.round(rating * 10);
+        int previous = raters.put(rater, tenths);
+        if (previous >= 0) {
+            // Update existing rating
+            totalRating = totalRating - previous / 10.0 + tenths / 10.0;
+        } else {
+            // New rating
+            totalRating += tenths / 10.0;
+            ratingCount++;
+        }
+    }
+
+    /**
+     * Replace all ratings with a single admin-set value
+     */
+    public void reset(double rating) {
+        totalRating = rating;
+        ratingCount = 1;
+        raters.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.aithor.apartmentcore.model;
+
+/**
+ * Outcome of a submitted auction bid
+ */
+public class BidResult {
+
+    public enum Status {
+        ACCEPTED, // the bid is now the highest and was charged
+        OUTBID,   // valid, but a later bid in the same batch beat it; nothing was charged
+        REJECTED  // invalid or the payment failed; nothing was charged
+    }
+
+    public final Status status;
+    public final double amount;
+    public final double highestBid; // highest bid once the batch was processed
+    public final boolean extended;  // the bid extended the auction (anti-snipe)
+    public final String message;    // reason for a rejection, or null
+
+    private BidResult(Status status, double amount, double highestBid, boolean extended, String message) {
+        this.status = status;
+        this.amount = amount;
+        this.highestBid = highestBid;
+        this.extended = extended;
+        this.message = message;
+    }
+
+    public static BidResult accepted(double amount, boolean extended) {
+        return new BidResult(Status.ACCEPTED, amount, amount, extended, null);
+    }
+
+    public static BidResult outbid(double amount, double highestBid) {
+        return new BidResult(Status.OUTBID, amount, highestBid, false, null);
+    }
+
+    public static BidResult rejected(double amount, String message) {
+        return new BidResult(Status.REJECTED, amount, 0, false, message);
+    }
+}
@@ -0,0 +1,35 @@
+package com.aithor.apartmentcore.model;
+
+/**
+ * Outcome of claiming the pending income of all of an owner's apartments
+ */
+public class ClaimResult {
+
+    public enum Status {
+        CLAIMED, // the income was deposited and pending income cleared
+        NOTHING, // no apartment had pending income
+        FAILED   // the deposit failed; pending income is unchanged
+    }
+
+    public final Status status;
+    public final double amount;
+    public final int apartments;
+
+    private ClaimResult(Status status, double amount, int apartments) {
+        this.status = status;
+        this.amount = amount;
+        this.apartments = apartments;
+    }
+
+    public static ClaimResult claimed(double amount, int apartments) {
+        return new ClaimResult(Status.CLAIMED, amount, apartments);
+    }
+
+    public static ClaimResult nothing() {
+        return new ClaimResult(Status.NOTHING, 0, 0);
+    }
+
+    public static ClaimResult failed(double amount, int apartments) {
+        return new ClaimResult(Status.FAILED, amount, apartments);
+    }
+}
@@ -0,0 +1,39 @@
+package com.aithor.apartmentcore.model;
+
+/**
+ * Income parameters of an apartment, compiled when its income is settled
+ * (lazy accrual mode). Pending income at any later time follows from the
+ * settlement time alone: one expected payout per whole interval, clamped to
+ * the capacity, and nothing after the time its taxes stop income.
+ */
+public class IncomeProfile {
+    public final double incomePerInterval; // expected payout per interval (mean of min/max, buffs applied)
+    public final long intervalMs;
+    public final double capacity;
+    public final long stopsAt; // epoch millis when unpaid taxes stop income (Long.MAX_VALUE = never)
+
+    public IncomeProfile(double incomePerInterval, long intervalMs, double capacity, long stopsAt) {
+        this.incomePerInterval = incomePerInterval;
+        this.intervalMs = Math.max(1000L, intervalMs);
+        this.capacity = capacity;
+        this.stopsAt = stopsAt;
+    }
+
+    /**
+     * Whole intervals completed between {@code since} and {@code now}
+     */
+    public long intervalsBetween(long since, long now) {
+        long end = Math.min(now, stopsAt);
+        return end > since ? (end - since) / intervalMs : 0L;
+    }
+
+    /**
+     * Pending income at {@code now}, given the amount settled at {@code since}
+     */
+    public double accrue(double settled, long since, long now) {
+        if (settled >= capacity) {
+            return settled;
+        }
+        return Math.min(capacity, settled + intervalsBetween(since, now) * incomePerInterval);
+    }
+}
@@ -0,0 +1,175 @@
+package com.aithor.apartmentcore.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import com.aithor.apartmentcore.util.QuantileSketch;
+
+/**
+ * Streaming sale price statistics of one group of apartments: count, mean,
+ * last price, estimated quartiles and a ring of the most recent sales.
+ * Recording a sale is O(1).
+ */
+public class PriceStats {
+
+    public enum Source {
+        AUCTION, MARKET
+    }
+
+    private long count;
+    private double sum;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private double last;
+    private long lastAt;
+    private QuantileSketch p25 = new QuantileSketch(0.25);
+    private QuantileSketch p50 = new QuantileSketch(0.5);
+    private QuantileSketch p75 = new QuantileSketch(0.75);
+
+    // Recent sales ring; head is the next slot to write
+    private final double[] recentPrices;
+    private final long[] recentTimes;
+    private final byte[] recentSources;
+    private int head;
+    private int size;
+
+    public PriceStats(int capacity) {
+        this.recentPrices = new double[capacity];
+        this.recentTimes = new long[capacity];
+        this.recentSources = new byte[capacity];
+    }
+
+    public void record(double price, Source source, long time) {
+        count++;
+        sum += price;
+        min = Double.isNaN(min) ? price : Math.min(min, price);
+        max = Double.isNaN(max) ? price : Math.max(max, price);
+        last = price;
+        lastAt = time;
+        p25.add(price);
+        p50.add(price);
+        p75.add(price);
+
+        recentPrices[head] = price;
+        recentTimes[head] = time;
+        recentSources[head] = (byte) source.ordinal();
+        head = (head + 1) % recentPrices.length;
+        size = Math.min(size + 1, recentPrices.length);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count > 0 ? sum / count : 0.0;
+    }
+
+    public double getMin() {
+        return count > 0 ? min : 0.0;
+    }
+
+    public double getMax() {
+        return count > 0 ? max : 0.0;
+    }
+
+    public double getLast() {
+        return last;
+    }
+
+    public long getLastAt() {
+        return lastAt;
+    }
+
+    public double getMedian() {
+        return p50.get(0.0);
+    }
+
+    public double getP25() {
+        return p25.get(0.0);
+    }
+
+    public double getP75() {
+        return p75.get(0.0);
+    }
+
+    /**
+     * @return Recent sales, newest first, as {price, time, source ordinal}
+     */
+    public List<double[]> getRecent() {
+        List<double[]> sales = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            int idx = (head - i + recentPrices.length) % recentPrices.length;
+            sales.add(new double[] {recentPrices[idx], recentTimes[idx], recentSources[idx]});
+        }
+        return sales;
+    }
+
+    public void save(ConfigurationSection section) {
+        section.set("count", count);
+        section.set("sum", sum);
+        section.set("min", getMin());
+        section.set("max", getMax());
+        section.set("last", last);
+        section.set("last-at", lastAt);
+        section.set("p25", toList(p25.toArray()));
+        section.set("p50", toList(p50.toArray()));
+        section.set("p75", toList(p75.toArray()));
+        List<String> recent = new ArrayList<>();
+        List<double[]> sales = getRecent();
+        // Oldest first so load can replay them in order
+        for (int i = sales.size() - 1; i >= 0; i--) {
+            double[] sale = sales.get(i);
+            recent.add(sale[0] + ";" + (long) sale[1] + ";" + Source.values()[(int) sale[2]].name());
+        }
+        section.set("recent", recent);
+    }
+
+    public static PriceStats load(ConfigurationSection section, int capacity) {
+        PriceStats stats = new PriceStats(capacity);
+        stats.count = section.getLong("count", 0L);
+        stats.sum = section.getDouble("sum", 0.0);
+        if (stats.count > 0) {
+            stats.min = section.getDouble("min", 0.0);
+            stats.max = section.getDouble("max", 0.0);
+        }
+        stats.last = section.getDouble("last", 0.0);
+        stats.lastAt = section.getLong("last-at", 0L);
+        stats.p25 = QuantileSketch.fromArray(0.25, toArray(section.getDoubleList("p25")));
+        stats.p50 = QuantileSketch.fromArray(0.5, toArray(section.getDoubleList("p50")));
+        stats.p75 = QuantileSketch.fromArray(0.75, toArray(section.getDoubleList("p75")));
+        for (String entry : section.getStringList("recent")) {
+            String[] parts = entry.split(";");
+            if (parts.length != 3) {
+                continue;
+            }
+            try {
+                stats.recentPrices[stats.head] = Double.parseDouble(parts[0]);
+                stats.recentTimes[stats.head] = Long.parseLong(parts[1]);
+                stats.recentSources[stats.head] = (byte) Source.valueOf(parts[2]).ordinal();
+                stats.head = (stats.head + 1) % capacity;
+                stats.size = Math.min(stats.size + 1, capacity);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return stats;
+    }
+
+    private static List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
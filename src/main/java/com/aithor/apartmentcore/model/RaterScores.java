@@ -0,0 +1,135 @@
+package com.aithor.apartmentcore.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Compact map from rater UUID to a rating score.
+ *
+ * <p>Scores are stored in tenths of a star (0-100) as single bytes, keyed by
+ * the two halves of the UUID in parallel {@code long} arrays with open
+ * addressing. An apartment with thousands of raters costs about 17 bytes per
+ * rater instead of a boxed {@code HashMap} entry, and the arrays are only
+ * allocated once the first rating arrives.
+ */
+public class RaterScores {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final byte EMPTY = -1;
+    private static final int RECORD_BYTES = 17;
+
+    private long[] most;
+    private long[] least;
+    private byte[] scores;
+    private int size;
+
+    /**
+     * @return the score in tenths, or -1 if the player has not rated
+     */
+    public int get(UUID rater) {
+        if (size == 0) {
+            return -1;
+        }
+        int slot = find(rater.getMostSignificantBits(), rater.getLeastSignificantBits());
+        return scores[slot] == EMPTY ? -1 : scores[slot];
+    }
+
+    /**
+     * Store a score in tenths of a star (clamped to 0-100).
+     * @return the previous score in tenths, or -1 if the player had not rated
+     */
+    public int put(UUID rater, int tenths) {
+        if (scores == null || (size + 1) * 4 > scores.length * 3) {
+            resize(scores == null ? MIN_CAPACITY : scores.length * 2);
+        }
+        long hi = rater.getMostSignificantBits();
+        long lo = rater.getLeastSignificantBits();
+        int slot = find(hi, lo);
+        int previous = scores[slot];
+        if (previous == EMPTY) {
+            most[slot] = hi;
+            least[slot] = lo;
+            size++;
+        }
+        scores[slot] = (byte) Math.max(0, Math.min(100, tenths));
+        return previous == EMPTY ? -1 : previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        most = null;
+        least = null;
+        scores = null;
+        size = 0;
+    }
+
+    /**
+     * Encode all entries as 17-byte records (UUID high, UUID low, score)
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(size * RECORD_BYTES);
+        if (scores != null) {
+            for (int i = 0; i < scores.length; i++) {
+                if (scores[i] != EMPTY) {
+                    buffer.putLong(most[i]).putLong(least[i]).put(scores[i]);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Add records produced by {@link #toBytes()}; a trailing partial record is ignored
+     */
+    public void putAll(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.remaining() >= RECORD_BYTES) {
+            long hi = buffer.getLong();
+            long lo = buffer.getLong();
+            put(new UUID(hi, lo), buffer.get());
+        }
+    }
+
+    private int find(long hi, long lo) {
+        int mask = scores.length - 1;
+        int slot = hash(hi, lo) & mask;
+        while (scores[slot] != EMPTY && (most[slot] != hi || least[slot] != lo)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = most;
+        long[] oldLeast = least;
+        byte[] oldScores = scores;
+
+        most = new long[capacity];
+        least = new long[capacity];
+        scores = new byte[capacity];
+        Arrays.fill(scores, EMPTY);
+
+        if (oldScores != null) {
+            for (int i = 0; i < oldScores.length; i++) {
+                if (oldScores[i] != EMPTY) {
+                    int slot = find(oldMost[i], oldLeast[i]);
+                    most[slot] = oldMost[i];
+                    least[slot] = oldLeast[i];
+                    scores[slot] = oldScores[i];
+                }
+            }
+        }
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = hi ^ lo;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -7,5 +7,39 @@ public enum TaxStatus {
     ACTIVE,       // Normal, can generate income
     OVERDUE,      // 3 days without paying (income stops)
     INACTIVE,     // 5 days without paying (cannot use apartment)
-    REPOSSESSION  // 7 days without paying (ownership removed)
+    REPOSSESSION; // 7 days without paying (ownership removed)
+
+    /**
+     * Status for an apartment whose oldest unpaid invoice was created at
+     * {@code oldestUnpaidAt} ({@link Long#MAX_VALUE} when nothing is unpaid).
+     * @param dayMs length of a tax "day"; non-positive values fall back to 24h
+     */
+    public static TaxStatus fromUnpaidSince(long oldestUnpaidAt, long now, long dayMs) {
+        if (oldestUnpaidAt == Long.MAX_VALUE)
+            return ACTIVE;
+        if (dayMs <= 0)
+            dayMs = 86_400_000L;
+
+        long days = Math.max(0L, (now - oldestUnpaidAt) / dayMs); // config days since oldest unpaid
+        if (days >= 7)
+            return REPOSSESSION;
+        if (days >= 5)
+            return INACTIVE;
+        if (days >= 3)
+            return OVERDUE;
+        return ACTIVE;
+    }
+
+    /**
+     * When an apartment whose oldest unpaid invoice was created at
+     * {@code oldestUnpaidAt} becomes OVERDUE and stops earning
+     * ({@link Long#MAX_VALUE} when nothing is unpaid).
+     */
+    public static long incomeStopsAt(long oldestUnpaidAt, long dayMs) {
+        if (oldestUnpaidAt == Long.MAX_VALUE)
+            return Long.MAX_VALUE;
+        if (dayMs <= 0)
+            dayMs = 86_400_000L;
+        return oldestUnpaidAt + 3 * dayMs;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.aithor.apartmentcore.notification;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.manager.ConfigManager;
+
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+
+/**
+ * Collects owner notifications (rent, capacity, tax) during a tick and sends
+ * each player one digest per notification type when {@link #flush()} runs.
+ *
+ * <p>A single event is delivered with its original message; several events
+ * of the same type are summarized with the type's digest message. Types that
+ * were sent recently keep accumulating until their rate limit has passed.
+ * Notifications for offline owners are kept (already aggregated, so bounded
+ * by the number of types) and delivered when they join, if
+ * {@code notifications.queue-offline} is enabled.
+ */
+public class NotificationManager implements Listener {
+
+    private final ApartmentCore plugin;
+    private final ConfigManager configManager;
+    private final Map<UUID, PlayerDigest> digests = new ConcurrentHashMap<>();
+    // Main thread only
+    private final Map<UUID, Map<NotificationType, Long>> lastSent = new ConcurrentHashMap<>();
+
+    public NotificationManager(ApartmentCore plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+    }
+
+    /**
+     * Record a notification for an owner; safe to call from any thread
+     *
+     * @param message The full single-event message
+     * @param amount  Money amount summed into the digest (0 if not applicable)
+     */
+    public void notify(UUID owner, NotificationType type, String message, double amount) {
+        if (owner == null) {
+            return;
+        }
+        while (!digests.computeIfAbsent(owner, id -> new PlayerDigest()).add(type, message, amount)) {
+            // Digest was closed by a concurrent flush; a new one is created on retry
+        }
+    }
+
+    /**
+     * Send pending digests; hops to the main thread if called from elsewhere
+     */
+    public void flush() {
+        if (!Bukkit.isPrimaryThread()) {
+            if (plugin.isEnabled()) {
+                plugin.getServer().getScheduler().runTask(plugin, this::flush);
+            }
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, PlayerDigest> e : digests.entrySet()) {
+            UUID playerId = e.getKey();
+            PlayerDigest digest = e.getValue();
+            Player player = Bukkit.getPlayer(playerId);
+
+            if (player == null) {
+                if (configManager.isNotificationQueueOffline()) {
+                    digest.setQueued(true);
+                } else {
+                    digest.drain(type -> true);
+                }
+            } else {
+                deliver(player, digest, now, false);
+            }
+
+            if (digest.closeIfEmpty()) {
+                digests.remove(playerId, digest);
+            }
+        }
+    }
+
+    private void deliver(Player player, PlayerDigest digest, long now, boolean ignoreRateLimit) {
+        Map<NotificationType, Long> sent = lastSent.computeIfAbsent(player.getUniqueId(),
+                id -> new EnumMap<>(NotificationType.class));
+        List<PlayerDigest.Entry> ready = digest.drain(type -> ignoreRateLimit
+                || now - sent.getOrDefault(type, 0L) >= configManager.getNotificationRateLimit(type) * 1000L);
+
+        for (PlayerDigest.Entry entry : ready) {
+            String message = entry.count == 1
+                    ? entry.message
+                    : plugin.getMessageManager().format(entry.type.getDigestPath(),
+                            "count", entry.count,
+                            "amount", configManager.formatMoney(entry.amount));
+            send(player, message);
+            sent.put(entry.type, now);
+        }
+    }
+
+    private void send(Player player, String message) {
+        String channel = configManager.getNotificationChannel();
+        if (!"actionbar".equals(channel)) {
+            player.sendMessage(message);
+        }
+        if ("actionbar".equals(channel) || "both".equals(channel)) {
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        PlayerDigest digest = digests.get(playerId);
+        if (digest == null || !digest.isQueued()) {
+            return;
+        }
+
+        // Small delay so the summary is not buried in join spam
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            Player player = event.getPlayer();
+            if (!player.isOnline() || digest.isEmpty()) {
+                return;
+            }
+            player.sendMessage(plugin.getMessageManager().getMessage("notifications.digest.while_away"));
+            digest.setQueued(false);
+            deliver(player, digest, System.currentTimeMillis(), true);
+            if (digest.closeIfEmpty()) {
+                digests.remove(playerId, digest);
+            }
+        }, 60L);
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        lastSent.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Drop all pending notifications (plugin disable)
+     */
+    public void clear() {
+        digests.clear();
+        lastSent.clear();
+    }
+}
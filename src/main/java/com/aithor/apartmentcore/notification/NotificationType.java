@@ -0,0 +1,37 @@
+package com.aithor.apartmentcore.notification;
+
+/**
+ * Kinds of owner notifications collected by {@link NotificationManager}.
+ * Each type is digested separately and rate limited by its config key under
+ * {@code notifications.rate-limit}.
+ */
+public enum NotificationType {
+
+    RENT("rent", "notifications.digest.rent"),
+    CAPACITY_FULL("capacity-full", "notifications.digest.capacity_full"),
+    BILL_NEW("tax", "notifications.digest.bill_new"),
+    AUTO_PAID("tax", "notifications.digest.auto_paid"),
+    BILL_REMINDER("tax", "notifications.digest.bill_reminder"),
+    BILL_OVERDUE("tax", "notifications.digest.bill_overdue"),
+    APARTMENT_INACTIVE("tax", "notifications.digest.apartment_inactive"),
+    REPOSSESSED("tax", "notifications.digest.repossessed");
+
+    private final String rateLimitKey;
+    private final String digestPath;
+
+    NotificationType(String rateLimitKey, String digestPath) {
+        this.rateLimitKey = rateLimitKey;
+        this.digestPath = digestPath;
+    }
+
+    public String getRateLimitKey() {
+        return rateLimitKey;
+    }
+
+    /**
+     * @return Message path used when more than one event of this type is digested
+     */
+    public String getDigestPath() {
+        return digestPath;
+    }
+}
@@ -0,0 +1,85 @@
+package com.aithor.apartmentcore.notification;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Notifications collected for one player, aggregated per type so a digest
+ * never holds more than one entry per {@link NotificationType}.
+ * Events may be added from the async income task; draining happens on the
+ * main thread.
+ */
+class PlayerDigest {
+
+    static class Entry {
+        final NotificationType type;
+        int count;
+        double amount;
+        // The full message of the most recent event, used when count == 1
+        String message;
+
+        Entry(NotificationType type) {
+            this.type = type;
+        }
+    }
+
+    private final Map<NotificationType, Entry> entries = new EnumMap<>(NotificationType.class);
+    private boolean closed;
+    // Entries were held back while the player was offline
+    private boolean queued;
+
+    /**
+     * @return False if the digest was already closed and removed; the caller should retry with a new one
+     */
+    synchronized boolean add(NotificationType type, String message, double amount) {
+        if (closed) {
+            return false;
+        }
+        Entry entry = entries.computeIfAbsent(type, Entry::new);
+        entry.count++;
+        entry.amount += amount;
+        entry.message = message;
+        return true;
+    }
+
+    /**
+     * Remove and return the entries whose type is ready to be sent
+     */
+    synchronized List<Entry> drain(Predicate<NotificationType> ready) {
+        List<Entry> drained = new ArrayList<>();
+        entries.values().removeIf(entry -> {
+            if (ready.test(entry.type)) {
+                drained.add(entry);
+                return true;
+            }
+            return false;
+        });
+        return drained;
+    }
+
+    /**
+     * Close the digest if it has nothing left to send
+     * @return True if it was closed and may be removed
+     */
+    synchronized boolean closeIfEmpty() {
+        if (entries.isEmpty()) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    synchronized boolean isQueued() {
+        return queued;
+    }
+
+    synchronized void setQueued(boolean queued) {
+        this.queued = queued;
+    }
+
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
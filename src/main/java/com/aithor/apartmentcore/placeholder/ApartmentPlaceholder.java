@@ -3,13 +3,18 @@ package com.aithor.apartmentcore.placeholder;
 import com.aithor.apartmentcore.ApartmentCore;
 import com.aithor.apartmentcore.manager.ApartmentManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.manager.LeaderboardManager;
+import com.aithor.apartmentcore.manager.PriceHistoryManager;
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.model.ApartmentRating;
 import com.aithor.apartmentcore.model.ApartmentStats;
+import com.aithor.apartmentcore.model.PriceStats;
 import com.aithor.apartmentcore.model.TaxStatus;
 
 import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -23,13 +28,14 @@ public class ApartmentPlaceholder extends PlaceholderExpansion {
     private final ApartmentCore plugin;
     private final ApartmentManager apartmentManager;
     private final ConfigManager configManager;
-    // Optional refresh heartbeat for future cache logic
-    private volatile long lastRefreshAt = System.currentTimeMillis();
+    private final PlaceholderEngine engine;
 
     public ApartmentPlaceholder(ApartmentCore plugin, ApartmentManager apartmentManager) {
         this.plugin = plugin;
         this.apartmentManager = apartmentManager;
         this.configManager = plugin.getConfigManager();
+        this.engine = new PlaceholderEngine(this::compile, apartmentManager::getDataVersion,
+                configManager.getPlaceholderCacheTtl());
     }
 
     @Override
@@ -78,112 +84,248 @@ public class ApartmentPlaceholder extends PlaceholderExpansion {
     public String onPlaceholderRequest(Player player, String params) {
         if (player == null)
             return "";
+        return engine.resolve(player, params);
+    }
 
+    /**
+     * Parse a parameter string into a resolver. Called once per distinct
+     * string; everything that only depends on the string happens here.
+     */
+    private CompiledPlaceholder compile(String params) {
         // Handle player-specific placeholders
         if (params.equals("owned_count")) {
-            return String.valueOf(apartmentManager.getApartments().values().stream()
-                    .filter(a -> player.getUniqueId().equals(a.owner))
-                    .count());
+            return new CompiledPlaceholder(params, true, (player, now) -> {
+                UUID uuid = player.getUniqueId();
+                int count = 0;
+                for (Apartment a : apartmentManager.getApartments().values()) {
+                    if (uuid.equals(a.owner))
+                        count++;
+                }
+                return String.valueOf(count);
+            });
         }
 
         if (params.equals("total_income")) {
-            return configManager.formatMoney(apartmentManager.getApartments().values().stream()
-                    .filter(a -> player.getUniqueId().equals(a.owner))
-                    .mapToDouble(a -> a.pendingIncome)
-                    .sum());
+            return new CompiledPlaceholder(params, true, (player, now) -> {
+                UUID uuid = player.getUniqueId();
+                double total = 0;
+                for (Apartment a : apartmentManager.getApartments().values()) {
+                    if (uuid.equals(a.owner))
+                        total += a.getPendingIncome();
+                }
+                return configManager.formatMoney(total);
+            });
         }
 
+        // Leaderboards: %apartmentcore_top_<metric>_<n>_<name|value>% and %apartmentcore_rank_<metric>%
+        CompiledPlaceholder leaderboard = compileLeaderboard(params);
+        if (leaderboard != null)
+            return leaderboard;
+
+        // Sale price history: %apartmentcore_prices_<all|level<n>>_<stat>%
+        CompiledPlaceholder prices = compilePriceStats(params);
+        if (prices != null)
+            return prices;
+
         // Handle apartment-specific and statistic placeholders
         String[] parts = params.split("_");
         if (parts.length < 2)
-            return "";
+            return constant(params, "");
 
         // New Statistic Placeholders: %apartmentcore_statistic_<id>_<name>%
         if (parts[0].equalsIgnoreCase("statistic")) {
             if (parts.length < 3)
-                return "Invalid Stat Placeholder";
+                return constant(params, "Invalid Stat Placeholder");
             String aptId = parts[1];
             String statName = String.join("_", Arrays.copyOfRange(parts, 2, parts.length));
-            Apartment apt = apartmentManager.getApartment(aptId);
-            if (apt == null)
-                return "N/A";
-
-            ApartmentStats stats = apartmentManager.getStats(aptId);
-            if (stats == null)
-                return "0"; // Default to 0 if no stats
-
-            return switch (statName) {
-                case "total_tax_paid" -> configManager.formatMoney(stats.totalTaxPaid);
-                case "total_income_generated" -> configManager.formatMoney(stats.totalIncomeGenerated);
-                case "ownership_age_days" -> String.valueOf(stats.ownershipAgeDays);
-                default -> "Unknown Statistic";
-            };
+            return new CompiledPlaceholder(params, false, (player, now) -> {
+                Apartment apt = apartmentManager.getApartment(aptId);
+                if (apt == null)
+                    return "N/A";
+
+                ApartmentStats stats = apartmentManager.getStats(aptId);
+                if (stats == null)
+                    return "0"; // Default to 0 if no stats
+
+                return switch (statName) {
+                    case "total_tax_paid" -> configManager.formatMoney(stats.totalTaxPaid);
+                    case "total_income_generated" -> configManager.formatMoney(stats.totalIncomeGenerated);
+                    case "ownership_age_days" -> String.valueOf(stats.ownershipAgeDays);
+                    default -> "Unknown Statistic";
+                };
+            });
         }
 
         // Existing Apartment-specific Placeholders
         String apartmentId = parts[0];
         String infoType = String.join("_", Arrays.copyOfRange(parts, 1, parts.length));
 
-        Apartment apt = apartmentManager.getApartment(apartmentId);
-        if (apt == null)
-            return "N/A";
-
         // Handle shop buff placeholders
         if (infoType.startsWith("shop_")) {
-            return handleShopPlaceholder(apt, infoType);
+            return forApartment(params, apartmentId, apt -> handleShopPlaceholder(apt, infoType));
         }
 
         return switch (infoType) {
-            case "owner" -> apt.owner != null ? Bukkit.getOfflinePlayer(apt.owner).getName() : "For Sale";
-            case "displayname" -> apt.displayName;
-            case "price" -> configManager.formatMoney(apt.price);
-            case "tax" -> configManager.formatMoney(apt.tax);
-            case "level" -> String.valueOf(apt.level);
-            case "income" -> configManager.formatMoney(apt.pendingIncome);
-            case "status" -> apt.inactive ? "Inactive" : "Active";
-            case "rating" -> {
+            case "owner" -> forApartment(params, apartmentId,
+                    apt -> apt.owner != null ? Bukkit.getOfflinePlayer(apt.owner).getName() : "For Sale");
+            case "displayname" -> forApartment(params, apartmentId, apt -> apt.displayName);
+            case "price" -> forApartment(params, apartmentId, apt -> configManager.formatMoney(apt.price));
+            case "tax" -> forApartment(params, apartmentId, apt -> configManager.formatMoney(apt.tax));
+            case "level" -> forApartment(params, apartmentId, apt -> String.valueOf(apt.level));
+            case "income" -> forApartment(params, apartmentId, apt -> configManager.formatMoney(apt.getPendingIncome()));
+            case "status" -> forApartment(params, apartmentId, apt -> apt.inactive ? "Inactive" : "Active");
+            case "rating" -> forApartment(params, apartmentId, apt -> {
                 ApartmentRating rating = apartmentManager.getRating(apartmentId);
-                yield rating != null && rating.ratingCount > 0 ? String.format("%.1f", rating.getAverageRating())
+                return rating != null && rating.ratingCount > 0 ? String.format("%.1f", rating.getAverageRating())
                         : "N/A";
-            }
-            case "welcome" -> apt.welcomeMessage;
-            case "next_invoice_in" -> { // Time until the next tax invoice is generated
+            });
+            case "welcome" -> forApartment(params, apartmentId, apt -> apt.welcomeMessage);
+            case "next_invoice_in" -> forApartment(params, apartmentId, apt -> { // Time until the next tax invoice
                 if (apt.owner == null)
-                    yield "N/A";
+                    return "N/A";
                 long now = System.currentTimeMillis();
                 // Use configurable tax interval (ticks * 50 = ms)
                 long taxIntervalMs = Math.max(1000L, configManager.getTaxGenerationInterval() * 50L);
                 long nextInvoiceInMs = Math.max(0L,
                         (apt.lastInvoiceAt == 0L ? 0L : (apt.lastInvoiceAt + taxIntervalMs) - now));
-                yield formatTime(nextInvoiceInMs);
-            }
-            case "tax_status" -> {
+                return formatTime(nextInvoiceInMs);
+            });
+            case "tax_status" -> forApartment(params, apartmentId, apt -> {
                 if (apt.owner == null)
-                    yield "For Sale";
+                    return "For Sale";
                 TaxStatus status = apt.computeTaxStatus(System.currentTimeMillis());
-                yield status.name();
-            }
-            case "income_in" -> {
+                return status.name();
+            });
+            case "income_in" -> forApartment(params, apartmentId, apt -> {
                 if (apt.owner == null || apt.inactive)
-                    yield "N/A";
-                // Use configurable income interval (ticks * 50 = ms)
-                long incomeIntervalMs = Math.max(1000L, configManager.getIncomeGenerationInterval() * 50L);
-                long lastGen = plugin.getLastIncomeGenerationTime();
-                long nextIncomeMillis = lastGen <= 0 ? System.currentTimeMillis() + incomeIntervalMs
-                        : lastGen + incomeIntervalMs;
+                    return "N/A";
+                // Next interval boundary for the configured accrual mode
+                long nextIncomeMillis = apartmentManager.getNextIncomeAt(apt, System.currentTimeMillis());
                 long incomeTimeRemaining = nextIncomeMillis - System.currentTimeMillis();
-                yield incomeTimeRemaining > 0 ? formatTime(incomeTimeRemaining) : "Now";
+                return incomeTimeRemaining > 0 ? formatTime(incomeTimeRemaining) : "Now";
+            });
+            case "fair_price" -> forApartment(params, apartmentId, apt -> {
+                double fair = plugin.getPriceHistoryManager().getFairPrice(apt);
+                return fair > 0 ? configManager.formatMoney(fair) : "N/A";
+            });
+            default -> forApartment(params, apartmentId, apt -> "Invalid Placeholder");
+        };
+    }
+
+    /**
+     * @return the price history placeholder, or null if params is not one
+     */
+    private CompiledPlaceholder compilePriceStats(String params) {
+        PriceHistoryManager history = plugin.getPriceHistoryManager();
+        if (history == null || !params.startsWith("prices_"))
+            return null;
+        String[] parts = params.split("_");
+        if (parts.length != 3)
+            return null;
+
+        String group;
+        if (parts[1].equals("all")) {
+            group = PriceHistoryManager.ALL;
+        } else if (parts[1].startsWith("level")) {
+            try {
+                group = PriceHistoryManager.levelGroup(Integer.parseInt(parts[1].substring(5)));
+            } catch (NumberFormatException e) {
+                return null;
             }
-            default -> "Invalid Placeholder";
+        } else {
+            return null;
+        }
+
+        Function<PriceStats, String> value = switch (parts[2]) {
+            case "count" -> stats -> String.valueOf(stats.getCount());
+            case "mean" -> stats -> configManager.formatMoney(stats.getMean());
+            case "median" -> stats -> configManager.formatMoney(stats.getMedian());
+            case "p25" -> stats -> configManager.formatMoney(stats.getP25());
+            case "p75" -> stats -> configManager.formatMoney(stats.getP75());
+            case "last" -> stats -> configManager.formatMoney(stats.getLast());
+            default -> null;
         };
+        if (value == null)
+            return null;
+        boolean count = parts[2].equals("count");
+        return new CompiledPlaceholder(params, false, (player, now) -> {
+            PriceStats stats = history.getStats(group);
+            if (stats == null)
+                return count ? "0" : "N/A";
+            return value.apply(stats);
+        });
+    }
+
+    /**
+     * @return the leaderboard placeholder, or null if params is not one (so
+     *         apartment IDs such as "top" keep working)
+     */
+    private CompiledPlaceholder compileLeaderboard(String params) {
+        LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+        if (leaderboards == null)
+            return null;
+
+        if (params.startsWith("rank_")) {
+            LeaderboardManager.Metric metric = LeaderboardManager.Metric.fromKey(params.substring(5));
+            if (metric == null)
+                return null;
+            return new CompiledPlaceholder(params, true, (player, now) -> {
+                int rank = leaderboards.getBoard(metric).getRank(player.getUniqueId());
+                return rank > 0 ? String.valueOf(rank) : "N/A";
+            });
+        }
+
+        if (params.startsWith("top_")) {
+            // top_<metric>_<n>_<field>; the metric key may itself contain underscores
+            int fieldSep = params.lastIndexOf('_');
+            int positionSep = params.lastIndexOf('_', fieldSep - 1);
+            if (positionSep <= 4)
+                return null;
+            LeaderboardManager.Metric metric = LeaderboardManager.Metric.fromKey(params.substring(4, positionSep));
+            String field = params.substring(fieldSep + 1);
+            int position;
+            try {
+                position = Integer.parseInt(params.substring(positionSep + 1, fieldSep));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (metric == null || (!field.equals("name") && !field.equals("value")))
+                return null;
+            boolean name = field.equals("name");
+            return new CompiledPlaceholder(params, false, (player, now) -> {
+                LeaderboardManager.Board board = leaderboards.getBoard(metric);
+                String value = name ? board.getName(position) : board.getValue(position);
+                return value != null ? value : "N/A";
+            });
+        }
+        return null;
+    }
+
+    private CompiledPlaceholder constant(String params, String value) {
+        return new CompiledPlaceholder(params, false, (player, now) -> value);
     }
 
     /**
-     * Refresh placeholders cache/heartbeat (currently no caching; acts as a
-     * heartbeat).
+     * Resolver that looks the apartment up on each (uncached) request so
+     * apartments created after compilation are picked up
+     */
+    private CompiledPlaceholder forApartment(String params, String apartmentId, Function<Apartment, String> value) {
+        return new CompiledPlaceholder(params, false, (player, now) -> {
+            Apartment apt = apartmentManager.getApartment(apartmentId);
+            return apt == null ? "N/A" : value.apply(apt);
+        });
+    }
+
+    /**
+     * Drop cached placeholder values and pick up the configured cache TTL
      */
     public void refresh() {
-        lastRefreshAt = System.currentTimeMillis();
+        engine.setTtl(configManager.getPlaceholderCacheTtl());
+        engine.invalidate();
+    }
+
+    public PlaceholderEngine getEngine() {
+        return engine;
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.aithor.apartmentcore.placeholder;
+
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A placeholder parameter string parsed once into a resolver, together with
+ * its cached values and hit/miss counters.
+ *
+ * <p>Player-scoped placeholders (e.g. {@code owned_count}) cache one value per
+ * player; all others cache a single shared value. A cached value is reused
+ * until its TTL runs out or the data version it was computed for changes.
+ */
+public class CompiledPlaceholder {
+
+    @FunctionalInterface
+    public interface Resolver {
+        String resolve(Player player, long now);
+    }
+
+    private static final class CachedValue {
+        final String value;
+        final long expiresAt;
+        final long version;
+
+        CachedValue(String value, long expiresAt, long version) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.version = version;
+        }
+
+        boolean isValid(long now, long currentVersion) {
+            return now < expiresAt && version == currentVersion;
+        }
+    }
+
+    // Sweep expired per-player values after this many misses
+    private static final int PRUNE_EVERY_MISSES = 1024;
+
+    private final String params;
+    private final boolean perPlayer;
+    private final Resolver resolver;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile CachedValue shared;
+    private final Map<UUID, CachedValue> playerValues;
+
+    public CompiledPlaceholder(String params, boolean perPlayer, Resolver resolver) {
+        this.params = params;
+        this.perPlayer = perPlayer;
+        this.resolver = resolver;
+        this.playerValues = perPlayer ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Return the cached value if still valid, otherwise resolve and cache it
+     */
+    public String resolve(Player player, long now, long version, long ttlMs) {
+        CachedValue cached = perPlayer ? playerValues.get(player.getUniqueId()) : shared;
+        if (cached != null && cached.isValid(now, version)) {
+            hits.increment();
+            return cached.value;
+        }
+        misses.increment();
+        String value = resolver.resolve(player, now);
+        if (ttlMs > 0) {
+            CachedValue fresh = new CachedValue(value, now + ttlMs, version);
+            if (perPlayer) {
+                playerValues.put(player.getUniqueId(), fresh);
+                if (misses.sum() % PRUNE_EVERY_MISSES == 0) {
+                    playerValues.values().removeIf(v -> !v.isValid(now, version));
+                }
+            } else {
+                shared = fresh;
+            }
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        shared = null;
+        if (playerValues != null) {
+            playerValues.clear();
+        }
+    }
+
+    public String getParams() {
+        return params;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
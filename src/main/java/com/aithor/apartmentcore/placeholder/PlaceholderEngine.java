@@ -0,0 +1,70 @@
+package com.aithor.apartmentcore.placeholder;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Compiles each distinct placeholder parameter string once and serves
+ * resolved values from the compiled placeholder's cache.
+ */
+public class PlaceholderEngine {
+
+    // Upper bound on distinct compiled parameter strings; beyond it new
+    // strings are compiled per request instead of being retained
+    private static final int MAX_COMPILED = 4096;
+
+    private final Function<String, CompiledPlaceholder> compiler;
+    private final LongSupplier versionSupplier;
+    private final Map<String, CompiledPlaceholder> compiled = new ConcurrentHashMap<>();
+    private volatile long ttlMs;
+
+    public PlaceholderEngine(Function<String, CompiledPlaceholder> compiler, LongSupplier versionSupplier,
+            long ttlMs) {
+        this.compiler = compiler;
+        this.versionSupplier = versionSupplier;
+        this.ttlMs = ttlMs;
+    }
+
+    public String resolve(Player player, String params) {
+        CompiledPlaceholder placeholder = compiled.get(params);
+        if (placeholder == null) {
+            placeholder = compiler.apply(params);
+            if (compiled.size() < MAX_COMPILED) {
+                CompiledPlaceholder existing = compiled.putIfAbsent(params, placeholder);
+                if (existing != null) {
+                    placeholder = existing;
+                }
+            }
+        }
+        return placeholder.resolve(player, System.currentTimeMillis(), versionSupplier.getAsLong(), ttlMs);
+    }
+
+    public void setTtl(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Drop every cached value (compiled resolvers are kept)
+     */
+    public void invalidate() {
+        for (CompiledPlaceholder placeholder : compiled.values()) {
+            placeholder.invalidate();
+        }
+    }
+
+    /**
+     * Compiled placeholders ordered by total requests, most requested first
+     */
+    public List<CompiledPlaceholder> getStatistics() {
+        List<CompiledPlaceholder> list = new ArrayList<>(compiled.values());
+        list.sort(Comparator.comparingLong((CompiledPlaceholder p) -> p.getHits() + p.getMisses()).reversed());
+        return list;
+    }
+}
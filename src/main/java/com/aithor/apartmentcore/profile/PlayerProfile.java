@@ -0,0 +1,50 @@
+package com.aithor.apartmentcore.profile;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.aithor.apartmentcore.achievement.PlayerAchievementData;
+import com.aithor.apartmentcore.research.PlayerResearchData;
+
+/**
+ * Research and achievement data of one player, loaded on demand by the
+ * {@link PlayerProfileStore} and stored in {@code data/players/<uuid>.yml}
+ */
+public class PlayerProfile {
+
+    private final UUID playerId;
+    private final PlayerResearchData research;
+    private final PlayerAchievementData achievements;
+    final AtomicBoolean dirty = new AtomicBoolean();
+    volatile long lastUsed = System.currentTimeMillis();
+    boolean evicted; // guarded by this
+
+    PlayerProfile(UUID playerId, PlayerResearchData research, PlayerAchievementData achievements) {
+        this.playerId = playerId;
+        this.research = research;
+        this.achievements = achievements;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public PlayerResearchData getResearch() {
+        return research;
+    }
+
+    public PlayerAchievementData getAchievements() {
+        return achievements;
+    }
+
+    /**
+     * Mark the profile changed; it is written with the next flush, on quit or eviction
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    void touch() {
+        lastUsed = System.currentTimeMillis();
+    }
+}
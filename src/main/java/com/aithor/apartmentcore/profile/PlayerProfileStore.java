@@ -0,0 +1,460 @@
+package com.aithor.apartmentcore.profile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.achievement.PlayerAchievementData;
+import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.research.PlayerResearchData;
+import com.aithor.apartmentcore.research.ResearchSummary;
+
+/**
+ * Loads research and achievement data per player instead of for every player
+ * who ever joined.
+ *
+ * <p>A profile is loaded on {@link AsyncPlayerPreLoginEvent} (or on first use,
+ * e.g. when an offline owner earns income) and kept while the player is
+ * online or it keeps being used. Changed profiles are written on quit, every
+ * {@code profiles.flush-interval} seconds and when they are evicted after
+ * {@code profiles.idle-minutes} without use. Each write only touches the
+ * player's own file, {@code data/players/<uuid>.yml}.
+ *
+ * <p>A {@link ResearchSummary} of every player with research stays resident
+ * ({@code data/player_summary.yml}) so buffs of offline owners and research
+ * that finishes while they are away do not need the full profile.
+ *
+ * <p>All file access runs on one thread in submission order, so a load
+ * always sees the last write of the same player.
+ */
+public class PlayerProfileStore implements Listener {
+
+    private final ApartmentCore plugin;
+    private final ConfigManager configManager;
+    private final File dataDir;
+    private final File profileDir;
+    private final File summaryFile;
+    private final ExecutorService io;
+    private final Map<UUID, PlayerProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<PlayerProfile>> loading = new ConcurrentHashMap<>();
+    private final Map<UUID, ResearchSummary> summaries = new ConcurrentHashMap<>();
+    private final AtomicBoolean summaryScheduled = new AtomicBoolean();
+    private BukkitTask flushTask;
+
+    public PlayerProfileStore(ApartmentCore plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.dataDir = new File(plugin.getDataFolder(), "data");
+        this.profileDir = new File(dataDir, "players");
+        this.summaryFile = new File(dataDir, "player_summary.yml");
+        this.io = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ApartmentCore-Profiles");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Migrate the old all-player data files, load the summaries and start the
+     * flush task
+     */
+    public void load() {
+        if (!profileDir.exists()) {
+            profileDir.mkdirs();
+        }
+        migrateLegacyData();
+        loadSummaries();
+
+        long interval = configManager.getProfileFlushInterval() * 20L;
+        this.flushTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::flush, interval, interval);
+    }
+
+    // ===========================
+    // Access
+    // ===========================
+
+    /**
+     * The player's profile, loading it if needed. Blocks until the profile is
+     * read when it is not in memory; prefer {@link #loadAsync} on hot paths.
+     */
+    public PlayerProfile get(UUID playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile != null) {
+            profile.touch();
+            return profile;
+        }
+        return loadAsync(playerId).join();
+    }
+
+    /**
+     * @return The profile if it is in memory, otherwise null
+     */
+    public PlayerProfile getIfLoaded(UUID playerId) {
+        return profiles.get(playerId);
+    }
+
+    public CompletableFuture<PlayerProfile> loadAsync(UUID playerId) {
+        PlayerProfile loaded = profiles.get(playerId);
+        if (loaded != null) {
+            loaded.touch();
+            return CompletableFuture.completedFuture(loaded);
+        }
+        CompletableFuture<PlayerProfile> future = new CompletableFuture<>();
+        CompletableFuture<PlayerProfile> pending = loading.putIfAbsent(playerId, future);
+        if (pending != null) {
+            return pending;
+        }
+        Runnable task = () -> {
+            try {
+                PlayerProfile profile = profiles.computeIfAbsent(playerId, this::read);
+                profile.touch();
+                future.complete(profile);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                loading.remove(playerId, future);
+            }
+        };
+        try {
+            io.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down: read on the caller thread
+            task.run();
+        }
+        return future;
+    }
+
+    public Collection<PlayerProfile> getLoadedProfiles() {
+        return Collections.unmodifiableCollection(profiles.values());
+    }
+
+    /**
+     * @return The research summary of a player, or null when they have no research
+     */
+    public ResearchSummary getSummary(UUID playerId) {
+        return summaries.get(playerId);
+    }
+
+    public Map<UUID, ResearchSummary> getSummaries() {
+        return Collections.unmodifiableMap(summaries);
+    }
+
+    /**
+     * Change a player's profile under its lock, loading it if needed, and mark
+     * it dirty when the change reports a modification. Eviction takes the same
+     * lock, so a change never lands on a profile that was already written out
+     * and unloaded.
+     *
+     * @return Whether the profile was changed
+     */
+    public boolean update(UUID playerId, Predicate<PlayerProfile> change) {
+        while (true) {
+            PlayerProfile profile = get(playerId);
+            synchronized (profile) {
+                if (profile.evicted) {
+                    continue;
+                }
+                boolean changed = change.test(profile);
+                if (changed) {
+                    profile.markDirty();
+                }
+                return changed;
+            }
+        }
+    }
+
+    /**
+     * Write a player's changes now (e.g. after a purchase or an unlock)
+     */
+    public void save(UUID playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile != null) {
+            scheduleWrite(profile);
+        }
+    }
+
+    // ===========================
+    // Events
+    // ===========================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        try {
+            // Already off the main thread; have the data ready before the join
+            loadAsync(event.getUniqueId()).get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            plugin.getLogger().warning("Failed to preload data of " + event.getName() + ": " + e.getMessage());
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        PlayerProfile profile = profiles.get(event.getPlayer().getUniqueId());
+        if (profile != null) {
+            profile.touch();
+            scheduleWrite(profile);
+        }
+    }
+
+    // ===========================
+    // Flush & eviction
+    // ===========================
+
+    /**
+     * Write changed profiles and unload idle ones of offline players (main thread)
+     */
+    private void flush() {
+        long idleMs = configManager.getProfileIdleMinutes() * 60_000L;
+        long now = System.currentTimeMillis();
+        int idle = 0;
+        for (PlayerProfile profile : profiles.values()) {
+            if (Bukkit.getPlayer(profile.getPlayerId()) != null) {
+                profile.touch();
+            } else if (now - profile.lastUsed >= idleMs) {
+                submit(() -> evict(profile, idleMs));
+                idle++;
+                continue;
+            }
+            scheduleWrite(profile);
+        }
+        if (idle > 0) {
+            plugin.debug("Unloading " + idle + " idle player profile(s); " + profiles.size() + " loaded");
+        }
+    }
+
+    /**
+     * Final write and unload of an idle profile (profile thread). Skipped when
+     * the profile was used again since the flush picked it or the write failed.
+     */
+    private void evict(PlayerProfile profile, long idleMs) {
+        synchronized (profile) {
+            if (System.currentTimeMillis() - profile.lastUsed < idleMs) {
+                return;
+            }
+            updateSummary(profile);
+            if (profile.dirty.compareAndSet(true, false)) {
+                write(profile);
+            }
+            if (profile.dirty.get()) {
+                return;
+            }
+            profile.evicted = true;
+            profiles.remove(profile.getPlayerId(), profile);
+        }
+    }
+
+    private void scheduleWrite(PlayerProfile profile) {
+        updateSummary(profile);
+        if (!profile.dirty.compareAndSet(true, false)) {
+            return;
+        }
+        submit(() -> write(profile));
+    }
+
+    private void updateSummary(PlayerProfile profile) {
+        ResearchSummary summary = ResearchSummary.of(profile.getResearch());
+        ResearchSummary previous = summary != null
+                ? summaries.put(profile.getPlayerId(), summary)
+                : summaries.remove(profile.getPlayerId());
+        if (!Objects.equals(previous, summary) && summaryScheduled.compareAndSet(false, true)) {
+            submit(this::writeSummaries);
+        }
+    }
+
+    /**
+     * Write every changed profile and stop the file thread (plugin disable)
+     */
+    public void close() {
+        if (flushTask != null) {
+            try {
+                flushTask.cancel();
+            } catch (Throwable ignored) {
+            }
+            flushTask = null;
+        }
+        for (PlayerProfile profile : profiles.values()) {
+            scheduleWrite(profile);
+        }
+        io.shutdown();
+        try {
+            io.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            io.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    // ===========================
+    // Files (profile thread)
+    // ===========================
+
+    private File fileOf(UUID playerId) {
+        return new File(profileDir, playerId + ".yml");
+    }
+
+    private PlayerProfile read(UUID playerId) {
+        File file = fileOf(playerId);
+        if (!file.exists()) {
+            return new PlayerProfile(playerId, new PlayerResearchData(playerId), new PlayerAchievementData(playerId));
+        }
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        return new PlayerProfile(playerId,
+                PlayerResearchData.load(playerId, config.getConfigurationSection("research")),
+                PlayerAchievementData.load(playerId, config.getConfigurationSection("achievements")));
+    }
+
+    private void write(PlayerProfile profile) {
+        YamlConfiguration config = new YamlConfiguration();
+        profile.getResearch().save(config.createSection("research"));
+        profile.getAchievements().save(config.createSection("achievements"));
+        try {
+            config.save(fileOf(profile.getPlayerId()));
+        } catch (IOException e) {
+            profile.markDirty();
+            plugin.getLogger().severe("Failed to save data of player " + profile.getPlayerId() + ": " + e.getMessage());
+        }
+    }
+
+    private void writeSummaries() {
+        summaryScheduled.set(false);
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<UUID, ResearchSummary> entry : summaries.entrySet()) {
+            config.set("research." + entry.getKey(), entry.getValue().encode());
+        }
+        try {
+            config.save(summaryFile);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to save player summary: " + e.getMessage());
+        }
+    }
+
+    private void loadSummaries() {
+        if (!summaryFile.exists()) {
+            rebuildSummaries();
+            return;
+        }
+        ConfigurationSection section = YamlConfiguration.loadConfiguration(summaryFile)
+                .getConfigurationSection("research");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                try {
+                    summaries.put(UUID.fromString(key), ResearchSummary.decode(section.getString(key, "")));
+                } catch (RuntimeException e) {
+                    plugin.getLogger().warning("Invalid research summary for " + key);
+                }
+            }
+        }
+        plugin.debug("Loaded research summaries for " + summaries.size() + " players.");
+    }
+
+    /**
+     * One-time scan of every profile file (missing or deleted summary file)
+     */
+    private void rebuildSummaries() {
+        File[] files = profileDir.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files != null) {
+            for (File file : files) {
+                try {
+                    UUID playerId = UUID.fromString(file.getName().substring(0, file.getName().length() - 4));
+                    ResearchSummary summary = ResearchSummary.of(PlayerResearchData.load(playerId,
+                            YamlConfiguration.loadConfiguration(file).getConfigurationSection("research")));
+                    if (summary != null) {
+                        summaries.put(playerId, summary);
+                    }
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Skipping unexpected file in data/players: " + file.getName());
+                }
+            }
+        }
+        writeSummaries();
+        plugin.debug("Rebuilt research summaries for " + summaries.size() + " players.");
+    }
+
+    /**
+     * Split research_data.yml and achievement_data.yml (all players in one
+     * file) into per-player files
+     */
+    private void migrateLegacyData() {
+        File researchFile = new File(dataDir, "research_data.yml");
+        File achievementFile = new File(dataDir, "achievement_data.yml");
+        if (!researchFile.exists() && !achievementFile.exists()) {
+            return;
+        }
+
+        Map<UUID, PlayerProfile> migrated = new HashMap<>();
+        ConfigurationSection research = researchFile.exists()
+                ? YamlConfiguration.loadConfiguration(researchFile).getConfigurationSection("players")
+                : null;
+        ConfigurationSection achievements = achievementFile.exists()
+                ? YamlConfiguration.loadConfiguration(achievementFile).getConfigurationSection("players")
+                : null;
+        for (ConfigurationSection players : new ConfigurationSection[] {research, achievements}) {
+            if (players == null) {
+                continue;
+            }
+            for (String key : players.getKeys(false)) {
+                try {
+                    UUID playerId = UUID.fromString(key);
+                    migrated.computeIfAbsent(playerId, id -> new PlayerProfile(id,
+                            PlayerResearchData.load(id, research != null ? research.getConfigurationSection(key) : null),
+                            PlayerAchievementData.load(id,
+                                    achievements != null ? achievements.getConfigurationSection(key) : null)));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid UUID in legacy player data: " + key);
+                }
+            }
+        }
+
+        for (PlayerProfile profile : migrated.values()) {
+            if (!fileOf(profile.getPlayerId()).exists()) {
+                write(profile);
+            }
+        }
+        for (File legacy : new File[] {researchFile, achievementFile}) {
+            if (legacy.exists() && !legacy.renameTo(new File(dataDir, legacy.getName() + ".migrated"))) {
+                plugin.getLogger().warning("Could not rename " + legacy.getName() + " after migration");
+            }
+        }
+        // Rebuilt from the new files
+        summaryFile.delete();
+        plugin.log("Migrated research and achievement data of " + migrated.size() + " players to data/players");
+    }
+}
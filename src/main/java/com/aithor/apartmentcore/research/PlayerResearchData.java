@@ -4,9 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import org.bukkit.configuration.ConfigurationSection;
+
 /**
  * Stores research progress data for a single player.
  * Tracks completed tier levels and any currently active (in-progress) research.
+ * Written to disk by the profile store thread, hence synchronized.
  */
 public class PlayerResearchData {
 
@@ -45,11 +48,11 @@ public class PlayerResearchData {
 
     // --- Completed tiers ---
 
-    public int getCompletedTier(ResearchType type) {
+    public synchronized int getCompletedTier(ResearchType type) {
         return completedTiers.getOrDefault(type, 0);
     }
 
-    public void setCompletedTier(ResearchType type, int tier) {
+    public synchronized void setCompletedTier(ResearchType type, int tier) {
         completedTiers.put(type, Math.max(0, Math.min(type.getMaxTier(), tier)));
     }
 
@@ -57,36 +60,36 @@ public class PlayerResearchData {
         return getCompletedTier(type) >= type.getMaxTier();
     }
 
-    public Map<ResearchType, Integer> getCompletedTiers() {
+    public synchronized Map<ResearchType, Integer> getCompletedTiers() {
         return new HashMap<>(completedTiers);
     }
 
     // --- Active research ---
 
-    public boolean hasActiveResearch() {
+    public synchronized boolean hasActiveResearch() {
         return activeResearch != null;
     }
 
-    public ResearchType getActiveResearch() {
+    public synchronized ResearchType getActiveResearch() {
         return activeResearch;
     }
 
-    public int getActiveTier() {
+    public synchronized int getActiveTier() {
         return activeTier;
     }
 
-    public long getResearchStartTime() {
+    public synchronized long getResearchStartTime() {
         return researchStartTime;
     }
 
-    public long getResearchDuration() {
+    public synchronized long getResearchDuration() {
         return researchDuration;
     }
 
     /**
      * Start researching a new tier.
      */
-    public void startResearch(ResearchType type, int tier, long durationMillis) {
+    public synchronized void startResearch(ResearchType type, int tier, long durationMillis) {
         this.activeResearch = type;
         this.activeTier = tier;
         this.researchStartTime = System.currentTimeMillis();
@@ -96,7 +99,7 @@ public class PlayerResearchData {
     /**
      * Check if the active research has finished.
      */
-    public boolean isResearchComplete() {
+    public synchronized boolean isResearchComplete() {
         if (activeResearch == null) return false;
         return System.currentTimeMillis() >= researchStartTime + researchDuration;
     }
@@ -104,7 +107,7 @@ public class PlayerResearchData {
     /**
      * Get remaining time in milliseconds for the active research.
      */
-    public long getRemainingTime() {
+    public synchronized long getRemainingTime() {
         if (activeResearch == null) return 0L;
         long end = researchStartTime + researchDuration;
         return Math.max(0L, end - System.currentTimeMillis());
@@ -113,7 +116,7 @@ public class PlayerResearchData {
     /**
      * Complete the active research: increment the completed tier and clear active state.
      */
-    public void completeResearch() {
+    public synchronized void completeResearch() {
         if (activeResearch != null) {
             completedTiers.put(activeResearch, activeTier);
             activeResearch = null;
@@ -126,7 +129,7 @@ public class PlayerResearchData {
     /**
      * Cancel the active research without completing it.
      */
-    public void cancelResearch() {
+    public synchronized void cancelResearch() {
         activeResearch = null;
         activeTier = 0;
         researchStartTime = 0L;
@@ -136,10 +139,51 @@ public class PlayerResearchData {
     /**
      * Restore active research state from saved data (used during load).
      */
-    public void restoreActiveResearch(ResearchType type, int tier, long startTime, long duration) {
+    public synchronized void restoreActiveResearch(ResearchType type, int tier, long startTime, long duration) {
         this.activeResearch = type;
         this.activeTier = tier;
         this.researchStartTime = startTime;
         this.researchDuration = duration;
     }
+
+    // --- Persistence ---
+
+    public synchronized void save(ConfigurationSection section) {
+        for (Map.Entry<ResearchType, Integer> tier : completedTiers.entrySet()) {
+            section.set("completed." + tier.getKey().getConfigKey(), tier.getValue());
+        }
+        if (activeResearch != null) {
+            section.set("active.type", activeResearch.getConfigKey());
+            section.set("active.tier", activeTier);
+            section.set("active.start-time", researchStartTime);
+            section.set("active.duration", researchDuration);
+        }
+    }
+
+    public static PlayerResearchData load(UUID playerId, ConfigurationSection section) {
+        PlayerResearchData data = new PlayerResearchData(playerId);
+        if (section == null)
+            return data;
+
+        ConfigurationSection completed = section.getConfigurationSection("completed");
+        if (completed != null) {
+            for (String key : completed.getKeys(false)) {
+                ResearchType type = ResearchType.fromConfigKey(key);
+                if (type != null) {
+                    data.setCompletedTier(type, completed.getInt(key, 0));
+                }
+            }
+        }
+
+        ConfigurationSection active = section.getConfigurationSection("active");
+        if (active != null) {
+            String typeKey = active.getString("type");
+            ResearchType type = typeKey != null ? ResearchType.fromConfigKey(typeKey) : null;
+            if (type != null) {
+                data.restoreActiveResearch(type, active.getInt("tier", 1),
+                        active.getLong("start-time", 0L), active.getLong("duration", 0L));
+            }
+        }
+        return data;
+    }
 }
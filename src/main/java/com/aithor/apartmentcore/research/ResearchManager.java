@@ -1,7 +1,9 @@
 package com.aithor.apartmentcore.research;
 
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.manager.ConfigManager;
+import com.aithor.apartmentcore.profile.PlayerProfile;
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.economy.EconomyResponse;
 import org.bukkit.Bukkit;
@@ -12,7 +14,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -22,7 +23,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages the research system: configuration, player data, tick processing,
- * persistence, and buff calculations.
+ * persistence, and buff calculations. Player data lives in the
+ * {@link com.aithor.apartmentcore.profile.PlayerProfileStore}.
  */
 public class ResearchManager {
 
@@ -34,13 +36,6 @@ public class ResearchManager {
     private FileConfiguration researchConfig;
     private File researchConfigFile;
 
-    // Player data (UUID -> data)
-    private final Map<UUID, PlayerResearchData> playerData;
-
-    // Data file
-    private File dataFile;
-    private FileConfiguration dataConfig;
-
     // Tick task
     private BukkitTask tickTask;
 
@@ -59,10 +54,8 @@ public class ResearchManager {
         this.plugin = plugin;
         this.economy = economy;
         this.configManager = configManager;
-        this.playerData = new ConcurrentHashMap<>();
 
         loadResearchConfig();
-        loadPlayerData();
         startTickTask();
     }
 
@@ -214,12 +207,17 @@ public class ResearchManager {
 
         // Start research
         long durationMs = getResearchDurationSeconds(type, nextTier) * 1000L;
-        data.startResearch(type, nextTier, durationMs);
+        plugin.getProfileStore().update(player.getUniqueId(), profile -> {
+            profile.getResearch().startResearch(type, nextTier, durationMs);
+            return true;
+        });
 
-        savePlayerData();
+        savePlayerData(player.getUniqueId());
 
         plugin.logTransaction(player.getName() + " started research " + type.getDisplayName() +
                 " tier " + toRoman(nextTier) + " for " + configManager.formatMoney(cost));
+        plugin.getLedger().record(TransactionType.RESEARCH_SPEND, player.getUniqueId(), player.getName(),
+                null, cost, type.getDisplayName() + " " + toRoman(nextTier));
 
         return new StartResult(true, "Research " + type.getDisplayName() +
                 " Tier " + toRoman(nextTier) + " started! Cost: " + configManager.formatMoney(cost));
@@ -234,10 +232,18 @@ public class ResearchManager {
         this.tickTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
             if (!enabled)
                 return;
-            for (Map.Entry<UUID, PlayerResearchData> entry : playerData.entrySet()) {
-                PlayerResearchData data = entry.getValue();
+            for (PlayerProfile profile : plugin.getProfileStore().getLoadedProfiles()) {
+                PlayerResearchData data = profile.getResearch();
                 if (data.hasActiveResearch() && data.isResearchComplete()) {
-                    completeResearch(entry.getKey(), data);
+                    completeResearch(profile.getPlayerId(), data);
+                }
+            }
+            // Research of players who are not loaded finishes from the summary
+            long now = System.currentTimeMillis();
+            for (Map.Entry<UUID, ResearchSummary> entry : plugin.getProfileStore().getSummaries().entrySet()) {
+                long endsAt = entry.getValue().getActiveEndsAt();
+                if (endsAt > 0 && endsAt <= now && plugin.getProfileStore().getIfLoaded(entry.getKey()) == null) {
+                    plugin.getProfileStore().loadAsync(entry.getKey());
                 }
             }
         }, 20L, 20L);
@@ -246,14 +252,21 @@ public class ResearchManager {
     private void completeResearch(UUID playerId, PlayerResearchData data) {
         ResearchType type = data.getActiveResearch();
         int tier = data.getActiveTier();
-        data.completeResearch();
-        savePlayerData();
+        plugin.getProfileStore().update(playerId, profile -> {
+            profile.getResearch().completeResearch();
+            return true;
+        });
+        savePlayerData(playerId);
+        // Income research changes how the player's apartments accrue
+        if (plugin.getApartmentManager() != null) {
+            plugin.getApartmentManager().settleOwnerIncome(playerId);
+        }
 
         Player player = Bukkit.getPlayer(playerId);
         if (player != null && player.isOnline()) {
-            String msg = plugin.getMessageManager().getMessage("research.completed")
-                    .replace("%research%", type.getDisplayName())
-                    .replace("%tier%", toRoman(tier));
+            String msg = plugin.getMessageManager().format("research.completed",
+                    "research", type.getDisplayName(),
+                    "tier", toRoman(tier));
             player.sendMessage(msg);
 
             // Play sound and title
@@ -276,8 +289,8 @@ public class ResearchManager {
                     maxedCount++;
             }
             if (maxedCount > 0) {
-                plugin.getAchievementManager().setProgress(playerId,
-                        com.aithor.apartmentcore.achievement.AchievementType.RESEARCH_MASTER, maxedCount);
+                plugin.getAchievementManager().post(
+                        new com.aithor.apartmentcore.achievement.AchievementEvent.ResearchCompleted(playerId, maxedCount));
             }
         }
 
@@ -294,10 +307,7 @@ public class ResearchManager {
      * Revenue Acceleration: 5% per tier.
      */
     public double getIncomeIntervalReduction(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.REVENUE_ACCELERATION)
+        return getCompletedTier(playerId, ResearchType.REVENUE_ACCELERATION)
                 * effectPerTier.getOrDefault(ResearchType.REVENUE_ACCELERATION, 5.0);
     }
 
@@ -306,10 +316,7 @@ public class ResearchManager {
      * Capital Growth Strategy: 5% per tier.
      */
     public double getIncomeAmountBonus(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.CAPITAL_GROWTH)
+        return getCompletedTier(playerId, ResearchType.CAPITAL_GROWTH)
                 * effectPerTier.getOrDefault(ResearchType.CAPITAL_GROWTH, 5.0);
     }
 
@@ -318,10 +325,7 @@ public class ResearchManager {
      * Tax Efficiency Strategy: 5% per tier (applied to final tax amount).
      */
     public double getTaxReduction(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.TAX_EFFICIENCY)
+        return getCompletedTier(playerId, ResearchType.TAX_EFFICIENCY)
                 * effectPerTier.getOrDefault(ResearchType.TAX_EFFICIENCY, 5.0);
     }
 
@@ -330,10 +334,7 @@ public class ResearchManager {
      * Expansion Plan: +1 per tier.
      */
     public int getExtraOwnershipSlots(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0;
-        return (int) (data.getCompletedTier(ResearchType.EXPANSION_PLAN)
+        return (int) (getCompletedTier(playerId, ResearchType.EXPANSION_PLAN)
                 * effectPerTier.getOrDefault(ResearchType.EXPANSION_PLAN, 1.0));
     }
 
@@ -342,10 +343,7 @@ public class ResearchManager {
      * Vault Expansion: 5% per tier.
      */
     public double getIncomeCapacityBonus(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.CAPACITY_EXPANSION)
+        return getCompletedTier(playerId, ResearchType.CAPACITY_EXPANSION)
                 * effectPerTier.getOrDefault(ResearchType.CAPACITY_EXPANSION, 5.0);
     }
 
@@ -354,10 +352,7 @@ public class ResearchManager {
      * Auction Efficiency: 5% per tier.
      */
     public double getAuctionFeeReduction(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.AUCTION_EFFICIENCY)
+        return getCompletedTier(playerId, ResearchType.AUCTION_EFFICIENCY)
                 * effectPerTierFee.getOrDefault(ResearchType.AUCTION_EFFICIENCY, 5.0);
     }
 
@@ -367,10 +362,7 @@ public class ResearchManager {
      * Auction Efficiency: 1% per tier.
      */
     public double getAuctionCommissionReduction(UUID playerId) {
-        PlayerResearchData data = playerData.get(playerId);
-        if (data == null)
-            return 0.0;
-        return data.getCompletedTier(ResearchType.AUCTION_EFFICIENCY)
+        return getCompletedTier(playerId, ResearchType.AUCTION_EFFICIENCY)
                 * effectPerTierCommission.getOrDefault(ResearchType.AUCTION_EFFICIENCY, 1.0);
     }
 
@@ -378,109 +370,45 @@ public class ResearchManager {
     // Player Data Access
     // ===========================
 
+    /**
+     * Full research data of a player; loads their profile if needed
+     */
     public PlayerResearchData getPlayerData(UUID playerId) {
-        return playerData.computeIfAbsent(playerId, PlayerResearchData::new);
+        return plugin.getProfileStore().get(playerId).getResearch();
     }
 
-    // ===========================
-    // Persistence
-    // ===========================
-
-    private void loadPlayerData() {
-        try {
-            File dataDir = new File(plugin.getDataFolder(), "data");
-            if (!dataDir.exists()) {
-                dataDir.mkdirs();
-            }
-
-            this.dataFile = new File(dataDir, "research_data.yml");
-            if (!dataFile.exists()) {
-                dataFile.createNewFile();
-                plugin.debug("Created new research_data.yml file");
-            }
-
-            this.dataConfig = YamlConfiguration.loadConfiguration(dataFile);
-
-            ConfigurationSection players = dataConfig.getConfigurationSection("players");
-            if (players == null)
-                return;
-
-            for (String uuidStr : players.getKeys(false)) {
-                try {
-                    UUID uuid = UUID.fromString(uuidStr);
-                    PlayerResearchData data = new PlayerResearchData(uuid);
-                    ConfigurationSection playerSec = players.getConfigurationSection(uuidStr);
-                    if (playerSec == null)
-                        continue;
-
-                    // Load completed tiers
-                    ConfigurationSection completed = playerSec.getConfigurationSection("completed");
-                    if (completed != null) {
-                        for (String key : completed.getKeys(false)) {
-                            ResearchType type = ResearchType.fromConfigKey(key);
-                            if (type != null) {
-                                data.setCompletedTier(type, completed.getInt(key, 0));
-                            }
-                        }
-                    }
-
-                    // Load active research
-                    if (playerSec.contains("active")) {
-                        ConfigurationSection active = playerSec.getConfigurationSection("active");
-                        if (active != null) {
-                            String typeKey = active.getString("type");
-                            ResearchType type = typeKey != null ? ResearchType.fromConfigKey(typeKey) : null;
-                            if (type != null) {
-                                int tier = active.getInt("tier", 1);
-                                long startTime = active.getLong("start-time", 0L);
-                                long duration = active.getLong("duration", 0L);
-                                data.restoreActiveResearch(type, tier, startTime, duration);
-                            }
-                        }
-                    }
-
-                    playerData.put(uuid, data);
-                } catch (IllegalArgumentException e) {
-                    plugin.getLogger().warning("Invalid UUID in research data: " + uuidStr);
-                }
-            }
+    /**
+     * Completed tier without loading the profile: from the loaded data, or
+     * from the resident summary for players who are not loaded
+     */
+    private int getCompletedTier(UUID playerId, ResearchType type) {
+        PlayerProfile profile = plugin.getProfileStore().getIfLoaded(playerId);
+        if (profile != null)
+            return profile.getResearch().getCompletedTier(type);
+        ResearchSummary summary = plugin.getProfileStore().getSummary(playerId);
+        return summary != null ? summary.getCompletedTier(type) : 0;
+    }
 
-            plugin.debug("Loaded research data for " + playerData.size() + " players.");
-        } catch (Throwable t) {
-            plugin.getLogger().warning("Failed to load research data: " + t.getMessage());
+    /**
+     * Sum of completed tiers over all research types
+     */
+    public int getTotalCompletedTiers(UUID playerId) {
+        int total = 0;
+        for (ResearchType type : ResearchType.values()) {
+            total += getCompletedTier(playerId, type);
         }
+        return total;
     }
 
-    public void savePlayerData() {
-        try {
-            YamlConfiguration config = new YamlConfiguration();
-
-            for (Map.Entry<UUID, PlayerResearchData> entry : playerData.entrySet()) {
-                String uuid = entry.getKey().toString();
-                PlayerResearchData data = entry.getValue();
-
-                // Save completed tiers
-                for (Map.Entry<ResearchType, Integer> tier : data.getCompletedTiers().entrySet()) {
-                    config.set("players." + uuid + ".completed." + tier.getKey().getConfigKey(), tier.getValue());
-                }
-
-                // Save active research
-                if (data.hasActiveResearch()) {
-                    String activePath = "players." + uuid + ".active.";
-                    config.set(activePath + "type", data.getActiveResearch().getConfigKey());
-                    config.set(activePath + "tier", data.getActiveTier());
-                    config.set(activePath + "start-time", data.getResearchStartTime());
-                    config.set(activePath + "duration", data.getResearchDuration());
-                } else {
-                    config.set("players." + uuid + ".active", null);
-                }
-            }
+    // ===========================
+    // Persistence
+    // ===========================
 
-            config.save(dataFile);
-            plugin.debug("Saved research data for " + playerData.size() + " players.");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save research data: " + e.getMessage());
-        }
+    /**
+     * Write a player's research now (their profile file only)
+     */
+    public void savePlayerData(UUID playerId) {
+        plugin.getProfileStore().save(playerId);
     }
 
     // ===========================
@@ -495,7 +423,6 @@ public class ResearchManager {
             }
             tickTask = null;
         }
-        savePlayerData();
     }
 
     // ===========================
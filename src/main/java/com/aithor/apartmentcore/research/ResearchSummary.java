@@ -0,0 +1,89 @@
+package com.aithor.apartmentcore.research;
+
+import java.util.Arrays;
+
+/**
+ * Compact, immutable view of a player's research that stays in memory while
+ * the full profile is unloaded: the completed tier per research (by ordinal)
+ * and when the active research finishes. Buffs of offline owners are read
+ * from it.
+ */
+public final class ResearchSummary {
+
+    private final byte[] tiers;
+    private final long activeEndsAt; // 0 = no active research
+
+    private ResearchSummary(byte[] tiers, long activeEndsAt) {
+        this.tiers = tiers;
+        this.activeEndsAt = activeEndsAt;
+    }
+
+    /**
+     * @return The summary of the data, or null when there is nothing to remember
+     */
+    public static ResearchSummary of(PlayerResearchData data) {
+        byte[] tiers = new byte[ResearchType.values().length];
+        boolean any = false;
+        for (ResearchType type : ResearchType.values()) {
+            tiers[type.ordinal()] = (byte) data.getCompletedTier(type);
+            any |= tiers[type.ordinal()] > 0;
+        }
+        long endsAt = 0L;
+        synchronized (data) {
+            if (data.hasActiveResearch()) {
+                endsAt = Math.max(1L, data.getResearchStartTime() + data.getResearchDuration());
+            }
+        }
+        if (!any && endsAt == 0L) {
+            return null;
+        }
+        return new ResearchSummary(tiers, endsAt);
+    }
+
+    public int getCompletedTier(ResearchType type) {
+        return type.ordinal() < tiers.length ? tiers[type.ordinal()] : 0;
+    }
+
+    public long getActiveEndsAt() {
+        return activeEndsAt;
+    }
+
+    /**
+     * Storage form: comma separated tiers in {@link ResearchType} order, then
+     * {@code ;} and the active research end time
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tiers.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(tiers[i]);
+        }
+        return sb.append(';').append(activeEndsAt).toString();
+    }
+
+    public static ResearchSummary decode(String encoded) {
+        int sep = encoded.indexOf(';');
+        String[] parts = encoded.substring(0, sep).split(",");
+        byte[] tiers = new byte[ResearchType.values().length];
+        for (int i = 0; i < Math.min(parts.length, tiers.length); i++) {
+            tiers[i] = Byte.parseByte(parts[i].trim());
+        }
+        return new ResearchSummary(tiers, Long.parseLong(encoded.substring(sep + 1).trim()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ResearchSummary)) {
+            return false;
+        }
+        ResearchSummary other = (ResearchSummary) o;
+        return activeEndsAt == other.activeEndsAt && Arrays.equals(tiers, other.tiers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(tiers) + Long.hashCode(activeEndsAt);
+    }
+}
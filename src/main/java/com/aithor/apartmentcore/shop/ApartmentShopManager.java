@@ -2,6 +2,7 @@ package com.aithor.apartmentcore.shop;
 
 import com.aithor.apartmentcore.model.Apartment;
 import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.ledger.TransactionType;
 import com.aithor.apartmentcore.manager.ApartmentManager;
 import com.aithor.apartmentcore.manager.ConfigManager;
 import com.aithor.apartmentcore.manager.DataManager;
@@ -93,6 +94,11 @@ public class ApartmentShopManager {
             plugin.logTransaction(player.getName() + " purchased " + item.getDisplayName() +
                     " tier " + data.getTier(item) + " for apartment " + apartmentId +
                     " for " + configManager.formatMoney(cost));
+            plugin.getLedger().record(TransactionType.SHOP_PURCHASE, player.getUniqueId(), player.getName(),
+                    apartmentId, cost, item.getDisplayName() + " tier " + data.getTier(item));
+
+            // Income buffs changed; settle what accrued under the old tiers
+            apartmentManager.settleIncome(apartment);
 
             // Save shop data
             saveShopData();
@@ -133,6 +139,8 @@ public class ApartmentShopManager {
 
                 plugin.logTransaction("Shop refund of " + configManager.formatMoney(refund) +
                         " given to " + offlinePlayer.getName() + " for apartment " + apartmentId);
+                plugin.getLedger().record(TransactionType.REFUND, previousOwner, offlinePlayer.getName(),
+                        apartmentId, refund, "Shop upgrades refund");
             }
         }
 
@@ -0,0 +1,192 @@
+package com.aithor.apartmentcore.transaction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+import com.aithor.apartmentcore.ApartmentCore;
+
+/**
+ * Append-only text file of intent records ({@code transactions/intents.log}).
+ *
+ * <p>{@link #append} writes the record straight to the file, so it survives a
+ * server crash, but does not wait for the disk. A background thread forces
+ * the file to disk every {@code transactions.sync-interval-ms} when something
+ * was written (group commit), so the main thread never blocks on fsync.
+ *
+ * <p>{@link #rewrite} replaces the file with the live records; the
+ * coordinator calls it once enough records were appended since the last
+ * rewrite, so the file does not grow for the whole uptime.
+ */
+class IntentJournal {
+
+    private final ApartmentCore plugin;
+    private final File file;
+    private final long syncIntervalMs;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean closedWarned = new AtomicBoolean();
+    private volatile boolean openFailed;
+    private ScheduledExecutorService syncer;
+    private volatile FileChannel channel;
+    private int appended; // records since the last rewrite (main thread)
+
+    IntentJournal(ApartmentCore plugin, File file, long syncIntervalMs) {
+        this.plugin = plugin;
+        this.file = file;
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    /**
+     * @return Every complete line of the journal; a torn last line is dropped
+     */
+    List<String> readAll() {
+        List<String> lines = new ArrayList<>();
+        if (!file.exists()) {
+            return lines;
+        }
+        try {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            int start = 0;
+            int end;
+            while ((end = content.indexOf('\n', start)) >= 0) {
+                if (end > start) {
+                    lines.add(content.substring(start, end));
+                }
+                start = end + 1;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to read transaction journal " + file, e);
+        }
+        return lines;
+    }
+
+    /**
+     * Replace the journal with {@code lines} and open it for appending
+     */
+    void open(List<String> lines) throws IOException {
+        try {
+            rewrite(lines);
+        } catch (IOException e) {
+            openFailed = true;
+            throw e;
+        }
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ApartmentCore-TxJournal");
+            t.setDaemon(true);
+            return t;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Atomically replace the journal with {@code lines} (already durable when
+     * this returns) and keep appending to the new file
+     */
+    synchronized void rewrite(List<String> lines) throws IOException {
+        File dir = file.getParentFile();
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        File tmp = new File(dir, file.getName() + ".tmp");
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+            out.force(true);
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        FileChannel previous = channel;
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        appended = 0;
+        dirty.set(false);
+        if (previous != null) {
+            try {
+                previous.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    void append(String line) {
+        FileChannel ch = channel;
+        if (ch == null) {
+            // Before open() (recovery writes the compacted state instead) or after close()
+            if (openFailed && closedWarned.compareAndSet(false, true)) {
+                plugin.getLogger().warning("Transaction journal is not open; auction and market payments are"
+                        + " not recoverable after a crash until the next restart");
+            }
+            return;
+        }
+        try {
+            ByteBuffer buf = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            appended++;
+            dirty.set(true);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to append to transaction journal", e);
+        }
+    }
+
+    /**
+     * Force pending records to disk and stop the sync thread (plugin disable)
+     */
+    void close() {
+        if (syncer != null) {
+            syncer.shutdown();
+            try {
+                syncer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            syncer = null;
+        }
+        synchronized (this) {
+            sync();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * @return Records appended since the journal was last rewritten
+     */
+    int getAppendedCount() {
+        return appended;
+    }
+
+    private synchronized void sync() {
+        FileChannel ch = channel;
+        if (ch == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            ch.force(false);
+        } catch (IOException e) {
+            dirty.set(true);
+            plugin.getLogger().log(Level.WARNING, "Failed to sync transaction journal", e);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.aithor.apartmentcore.transaction;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import com.aithor.apartmentcore.ApartmentCore;
+import com.aithor.apartmentcore.ledger.TransactionType;
+import com.aithor.apartmentcore.manager.ConfigManager;
+
+import net.milkbowl.vault.economy.EconomyResponse;
+
+/**
+ * Runs auction and market payments as recoverable intents.
+ *
+ * <p>Usage: {@link #begin} an intent, add its steps, {@link #execute} it, apply
+ * and save the state change it pays for, then {@link #complete} it. If a step
+ * fails, the steps already done are reversed. If the server stops in between,
+ * {@link #load} resolves the intent on the next start: a registered check
+ * decides whether the state change was applied, in which case the remaining
+ * steps are finished, otherwise the done steps are reversed. A step that was
+ * started but never confirmed is never repeated or reversed automatically; it
+ * is reported for a manual balance check.
+ *
+ * <p>Intents are keyed by an idempotency key: executing a key that already
+ * completed moves no money again. Completed intents are remembered for
+ * {@code transactions.retention-hours}; reversed ones are forgotten at once.
+ * The journal is compacted to the live intents every
+ * {@value #COMPACT_AFTER_RECORDS} appended records.
+ *
+ * <p>Journal records (tab separated): {@code B key kind created apartment steps},
+ * {@code S key step} (started), {@code D key step} (done), {@code F key step}
+ * (failed, nothing moved), {@code C key} (completed) and {@code X key} (reversed).
+ */
+public class TransactionCoordinator {
+
+    private static final int COMPACT_AFTER_RECORDS = 2000;
+
+    private final ApartmentCore plugin;
+    private final ConfigManager config;
+    private final IntentJournal journal;
+    // Main thread only
+    private final Map<String, TransactionIntent> intents = new LinkedHashMap<>();
+    private final Map<TransactionIntent.Kind, Predicate<TransactionIntent>> appliedChecks =
+            new EnumMap<>(TransactionIntent.Kind.class);
+
+    public TransactionCoordinator(ApartmentCore plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.journal = new IntentJournal(plugin,
+                new File(new File(plugin.getDataFolder(), "transactions"), "intents.log"),
+                config.getTransactionSyncInterval());
+    }
+
+    /**
+     * Register how recovery tells whether the state change an intent pays for
+     * was applied (e.g. the apartment already belongs to the buyer)
+     */
+    public void registerRecovery(TransactionIntent.Kind kind, Predicate<TransactionIntent> applied) {
+        appliedChecks.put(kind, applied);
+    }
+
+    /**
+     * Read the journal, resolve unfinished intents and compact the journal.
+     * Call once the data the recovery checks look at is loaded.
+     */
+    public void load() {
+        for (String line : journal.readAll()) {
+            try {
+                replay(intents, line.split("\t", -1));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Skipping malformed transaction journal line: " + line);
+            }
+        }
+
+        int finished = 0;
+        int reversed = 0;
+        for (TransactionIntent intent : new ArrayList<>(intents.values())) {
+            if (intent.isFinished()) {
+                continue;
+            }
+            for (TransactionIntent.Step step : intent.steps) {
+                if (step.started && !step.done) {
+                    plugin.getLogger().severe("Transaction " + intent.key + ": "
+                            + (step.isWithdrawal() ? "withdrawal of " : "deposit of ") + Math.abs(step.amount)
+                            + " for " + step.playerId + " was interrupted and may or may not have happened;"
+                            + " it is not repeated, check the balance manually");
+                }
+            }
+            if (isApplied(intent)) {
+                if (runSteps(intent) == null) {
+                    intent.completed = true;
+                    finished++;
+                }
+            } else {
+                compensate(intent);
+                reversed++;
+            }
+        }
+
+        try {
+            journal.open(compactedRecords());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to open transaction journal", e);
+        }
+        if (finished + reversed > 0) {
+            plugin.log("Recovered unfinished transactions: " + finished + " finished, " + reversed + " reversed");
+        }
+        if (getPendingCount() > 0) {
+            plugin.getLogger().warning(getPendingCount() + " transaction(s) still pending; retrying on next start");
+        }
+    }
+
+    public TransactionIntent begin(TransactionIntent.Kind kind, String key, String apartmentId) {
+        return new TransactionIntent(key, kind, apartmentId, System.currentTimeMillis());
+    }
+
+    /**
+     * Run the steps of an intent that are not done yet
+     *
+     * @return true if every step is done (or the key already completed)
+     */
+    public boolean execute(TransactionIntent intent) {
+        TransactionIntent known = intents.get(intent.key);
+        if (known != null && known.completed) {
+            intent.completed = true;
+            plugin.debug("Transaction " + intent.key + " already completed; not repeated");
+            return true;
+        }
+        if (known != null && !known.aborted && known.steps.size() == intent.steps.size()) {
+            // Pending from an earlier attempt: resume after its done steps
+            for (int i = 0; i < intent.steps.size(); i++) {
+                intent.steps.get(i).started = known.steps.get(i).started;
+                intent.steps.get(i).done = known.steps.get(i).done;
+            }
+        } else {
+            journal.append(beginRecord(intent));
+        }
+        intents.put(intent.key, intent);
+
+        intent.failure = runSteps(intent);
+        if (intent.failure == null) {
+            return true;
+        }
+        if (isApplied(intent)) {
+            plugin.getLogger().warning("Transaction " + intent.key + " failed (" + intent.failure
+                    + "); it stays pending and is retried on next start");
+        } else {
+            compensate(intent);
+        }
+        return false;
+    }
+
+    /**
+     * Mark an intent completed once the state change it pays for is saved
+     */
+    public void complete(TransactionIntent intent) {
+        intent.completed = true;
+        TransactionIntent known = intents.get(intent.key);
+        if (known != null) {
+            known.completed = true;
+        }
+        journal.append("C\t" + intent.key);
+        compactIfNeeded();
+    }
+
+    public int getPendingCount() {
+        int count = 0;
+        for (TransactionIntent intent : intents.values()) {
+            if (!intent.isFinished()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void close() {
+        journal.close();
+    }
+
+    /**
+     * Apply one journal record to the intents read so far
+     */
+    static void replay(Map<String, TransactionIntent> intents, String[] parts) {
+        String key = parts[1];
+        switch (parts[0]) {
+            case "B":
+                TransactionIntent intent = new TransactionIntent(key, TransactionIntent.Kind.valueOf(parts[2]),
+                        parts[4].isEmpty() ? null : parts[4], Long.parseLong(parts[3]));
+                intent.decodeSteps(parts[5]);
+                intents.put(key, intent);
+                break;
+            case "S":
+            case "D":
+            case "F":
+                TransactionIntent owner = intents.get(key);
+                if (owner != null) {
+                    TransactionIntent.Step step = owner.steps.get(Integer.parseInt(parts[2]));
+                    step.started = !"F".equals(parts[0]);
+                    step.done |= "D".equals(parts[0]);
+                }
+                break;
+            case "C":
+            case "X":
+                TransactionIntent finished = intents.get(key);
+                if (finished != null) {
+                    finished.completed = "C".equals(parts[0]);
+                    finished.aborted = "X".equals(parts[0]);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(parts[0]);
+        }
+    }
+
+    private boolean isApplied(TransactionIntent intent) {
+        Predicate<TransactionIntent> check = appliedChecks.get(intent.kind);
+        if (check == null) {
+            return intent.kind.rollsForward;
+        }
+        try {
+            return check.test(intent);
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Recovery check for transaction " + intent.key + " failed: " + e.getMessage());
+            return intent.kind.rollsForward;
+        }
+    }
+
+    /**
+     * Run the steps that were never started. Interrupted steps (started, not
+     * done) are skipped: the economy may already have applied them.
+     *
+     * @return null when no step failed, otherwise the error of the failed step
+     */
+    private String runSteps(TransactionIntent intent) {
+        for (int i = 0; i < intent.steps.size(); i++) {
+            TransactionIntent.Step step = intent.steps.get(i);
+            if (step.done || step.started) {
+                continue;
+            }
+            step.started = true;
+            journal.append("S\t" + intent.key + "\t" + i);
+            String error = transfer(step.playerId == null ? null : Bukkit.getOfflinePlayer(step.playerId), step.amount);
+            if (error != null) {
+                // Refused by the economy, so it is safe to try again
+                step.started = false;
+                journal.append("F\t" + intent.key + "\t" + i);
+                return error;
+            }
+            step.done = true;
+            journal.append("D\t" + intent.key + "\t" + i);
+        }
+        return null;
+    }
+
+    /**
+     * Reverse the done steps, newest first, and mark the intent aborted
+     */
+    private void compensate(TransactionIntent intent) {
+        for (int i = intent.steps.size() - 1; i >= 0; i--) {
+            TransactionIntent.Step step = intent.steps.get(i);
+            if (!step.done) {
+                continue;
+            }
+            OfflinePlayer player = Bukkit.getOfflinePlayer(step.playerId);
+            String error = transfer(player, -step.amount);
+            if (error != null) {
+                plugin.getLogger().severe("Failed to reverse step " + i + " of transaction " + intent.key + " ("
+                        + step.amount + " for " + step.playerId + "): " + error);
+                continue;
+            }
+            step.done = false;
+            if (step.isWithdrawal() && plugin.getLedger() != null) {
+                plugin.getLedger().record(TransactionType.REFUND, step.playerId, player.getName(),
+                        intent.apartmentId, -step.amount, "Reversed " + intent.kind.name().toLowerCase());
+            }
+        }
+        intent.aborted = true;
+        journal.append("X\t" + intent.key);
+        if (intents.get(intent.key) == intent) {
+            intents.remove(intent.key);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Rewrite the journal with the live intents once enough records piled up,
+     * dropping completed intents past their retention
+     */
+    private void compactIfNeeded() {
+        if (journal.getAppendedCount() < COMPACT_AFTER_RECORDS) {
+            return;
+        }
+        try {
+            journal.rewrite(compactedRecords());
+            plugin.debug("Compacted transaction journal; " + intents.size() + " intent(s) kept");
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to compact transaction journal", e);
+        }
+    }
+
+    private String transfer(OfflinePlayer player, double amount) {
+        if (player == null) {
+            return "unknown player";
+        }
+        try {
+            EconomyResponse response = amount < 0
+                    ? plugin.getEconomyGateway().withdraw(player, -amount)
+                    : plugin.getEconomyGateway().deposit(player, amount);
+            if (response == null || !response.transactionSuccess()) {
+                return response != null ? response.errorMessage : "unknown";
+            }
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Pending intents and intents completed within transactions.retention-hours
+     */
+    private List<String> compactedRecords() {
+        long cutoff = System.currentTimeMillis() - config.getTransactionRetentionHours() * 3_600_000L;
+        List<String> lines = new ArrayList<>();
+        intents.values().removeIf(intent -> intent.aborted || (intent.completed && intent.createdAt < cutoff));
+        for (TransactionIntent intent : intents.values()) {
+            lines.add(beginRecord(intent));
+            for (int i = 0; i < intent.steps.size(); i++) {
+                if (intent.steps.get(i).done) {
+                    lines.add("D\t" + intent.key + "\t" + i);
+                } else if (intent.steps.get(i).started) {
+                    lines.add("S\t" + intent.key + "\t" + i);
+                }
+            }
+            if (intent.completed) {
+                lines.add("C\t" + intent.key);
+            }
+        }
+        return lines;
+    }
+
+    private static String beginRecord(TransactionIntent intent) {
+        return "B\t" + intent.key + "\t" + intent.kind.name() + "\t" + intent.createdAt + "\t"
+                + (intent.apartmentId != null ? intent.apartmentId : "") + "\t" + intent.encodeSteps();
+    }
+}
@@ -0,0 +1,117 @@
+package com.aithor.apartmentcore.transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One multi-step money movement (e.g. charge a bidder and refund the previous
+ * one) identified by an idempotency key. Steps run in order; each is recorded
+ * in the intent journal before and after it touches the economy.
+ */
+public class TransactionIntent {
+
+    public enum Kind {
+        AUCTION_BID(false),
+        AUCTION_SETTLE(true),
+        AUCTION_CANCEL(true),
+        MARKET_SALE(false);
+
+        // Recovery without a registered check: finish the steps (true) or undo them (false)
+        final boolean rollsForward;
+
+        Kind(boolean rollsForward) {
+            this.rollsForward = rollsForward;
+        }
+    }
+
+    /**
+     * A single withdrawal (negative amount) or deposit (positive amount)
+     */
+    public static final class Step {
+        public final UUID playerId;
+        public final double amount;
+        boolean started;
+        boolean done;
+
+        Step(UUID playerId, double amount) {
+            this.playerId = playerId;
+            this.amount = amount;
+        }
+
+        public boolean isWithdrawal() {
+            return amount < 0;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+    }
+
+    public final String key;
+    public final Kind kind;
+    public final String apartmentId;
+    public final long createdAt;
+    final List<Step> steps = new ArrayList<>();
+    boolean completed;
+    boolean aborted;
+    String failure;
+
+    TransactionIntent(String key, Kind kind, String apartmentId, long createdAt) {
+        this.key = key;
+        this.kind = kind;
+        this.apartmentId = apartmentId;
+        this.createdAt = createdAt;
+    }
+
+    public TransactionIntent withdraw(UUID playerId, double amount) {
+        steps.add(new Step(playerId, -Math.abs(amount)));
+        return this;
+    }
+
+    public TransactionIntent deposit(UUID playerId, double amount) {
+        steps.add(new Step(playerId, Math.abs(amount)));
+        return this;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return Why the last execution failed, or null
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    boolean isFinished() {
+        return completed || aborted;
+    }
+
+    String encodeSteps() {
+        StringBuilder sb = new StringBuilder();
+        for (Step step : steps) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(step.playerId).append(':').append(step.amount);
+        }
+        return sb.toString();
+    }
+
+    void decodeSteps(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String part : encoded.split(",")) {
+            int sep = part.indexOf(':');
+            steps.add(new Step(UUID.fromString(part.substring(0, sep)), Double.parseDouble(part.substring(sep + 1))));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.aithor.apartmentcore.util;
+
+import java.util.Arrays;
+
+/**
+ * Streaming estimate of one quantile in constant memory (the P² algorithm of
+ * Jain and Chlamtac).
+ *
+ * <p>Five markers track the minimum, the maximum, the target quantile and the
+ * quantiles halfway to either end. Each observation moves the markers'
+ * positions and, when a marker drifts from its desired position, adjusts its
+ * height with a piecewise-parabolic step. Every update is O(1). Until five
+ * values were seen the estimate is exact.
+ */
+public class QuantileSketch {
+
+    private final double p;
+    private final double[] heights = new double[5];
+    private final double[] positions = new double[5];
+    private final double[] desired = new double[5];
+    private final double[] increments;
+    private long count;
+
+    /**
+     * @param p Quantile to track, between 0 and 1 (0.5 = median)
+     */
+    public QuantileSketch(double p) {
+        this.p = p;
+        this.increments = new double[] {0, p / 2, p, (1 + p) / 2, 1};
+    }
+
+    public void add(double value) {
+        if (count < 5) {
+            heights[(int) count] = value;
+            count++;
+            if (count == 5) {
+                Arrays.sort(heights);
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i + 1;
+                }
+                desired[0] = 1;
+                desired[1] = 1 + 2 * p;
+                desired[2] = 1 + 4 * p;
+                desired[3] = 3 + 2 * p;
+                desired[4] = 5;
+            }
+            return;
+        }
+        count++;
+
+        // Cell the value falls in; extend the extremes if needed
+        int k;
+        if (value < heights[0]) {
+            heights[0] = value;
+            k = 0;
+        } else if (value >= heights[4]) {
+            heights[4] = value;
+            k = 3;
+        } else {
+            k = 0;
+            while (k < 3 && value >= heights[k + 1]) {
+                k++;
+            }
+        }
+        for (int i = k + 1; i < 5; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < 5; i++) {
+            desired[i] += increments[i];
+        }
+
+        // Move the three middle markers towards their desired positions
+        for (int i = 1; i <= 3; i++) {
+            double d = desired[i] - positions[i];
+            if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int step = d > 0 ? 1 : -1;
+                double candidate = parabolic(i, step);
+                if (heights[i - 1] < candidate && candidate < heights[i + 1]) {
+                    heights[i] = candidate;
+                } else {
+                    heights[i] += step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+                }
+                positions[i] += step;
+            }
+        }
+    }
+
+    /**
+     * @return The estimated quantile, or {@code fallback} when nothing was added
+     */
+    public double get(double fallback) {
+        if (count == 0) {
+            return fallback;
+        }
+        if (count < 5) {
+            double[] seen = Arrays.copyOf(heights, (int) count);
+            Arrays.sort(seen);
+            return seen[(int) Math.min(count - 1, Math.round(p * (count - 1)))];
+        }
+        return heights[2];
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Marker state for storage: count, then heights, positions and desired positions
+     */
+    public double[] toArray() {
+        double[] state = new double[16];
+        state[0] = count;
+        System.arraycopy(heights, 0, state, 1, 5);
+        System.arraycopy(positions, 0, state, 6, 5);
+        System.arraycopy(desired, 0, state, 11, 5);
+        return state;
+    }
+
+    public static QuantileSketch fromArray(double p, double[] state) {
+        QuantileSketch sketch = new QuantileSketch(p);
+        if (state != null && state.length == 16) {
+            sketch.count = (long) state[0];
+            System.arraycopy(state, 1, sketch.heights, 0, 5);
+            System.arraycopy(state, 6, sketch.positions, 0, 5);
+            System.arraycopy(state, 11, sketch.desired, 0, 5);
+        }
+        return sketch;
+    }
+
+    private double parabolic(int i, int d) {
+        double left = positions[i] - positions[i - 1];
+        double right = positions[i + 1] - positions[i];
+        return heights[i] + d / (positions[i + 1] - positions[i - 1])
+                * ((left + d) * (heights[i + 1] - heights[i]) / right
+                        + (right - d) * (heights[i] - heights[i - 1]) / left);
+    }
+}
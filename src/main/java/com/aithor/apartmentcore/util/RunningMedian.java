@@ -0,0 +1,101 @@
+package com.aithor.apartmentcore.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains the median of a multiset of doubles under insert and remove.
+ *
+ * <p>Values are split into a lower and an upper half, each kept as a sorted
+ * value-to-count map. The upper half always holds {@code ceil(n / 2)} values,
+ * so the median is its smallest key. This matches the "element at index
+ * {@code n / 2} of the sorted list" definition the browser filters used
+ * before. Every operation is O(log n).
+ */
+public class RunningMedian {
+
+    private final TreeMap<Double, Integer> lower = new TreeMap<>();
+    private final TreeMap<Double, Integer> upper = new TreeMap<>();
+    private int lowerSize;
+    private int upperSize;
+
+    public void add(double value) {
+        if (upperSize == 0 || value >= upper.firstKey()) {
+            increment(upper, value);
+            upperSize++;
+        } else {
+            increment(lower, value);
+            lowerSize++;
+        }
+        rebalance();
+    }
+
+    /**
+     * Remove one occurrence of the value.
+     * @return false if the value was not present
+     */
+    public boolean remove(double value) {
+        if (decrement(lower, value)) {
+            lowerSize--;
+        } else if (decrement(upper, value)) {
+            upperSize--;
+        } else {
+            return false;
+        }
+        rebalance();
+        return true;
+    }
+
+    /**
+     * @return the median, or {@code fallback} when empty
+     */
+    public double getMedian(double fallback) {
+        return upperSize == 0 ? fallback : upper.firstKey();
+    }
+
+    public int size() {
+        return lowerSize + upperSize;
+    }
+
+    public void clear() {
+        lower.clear();
+        upper.clear();
+        lowerSize = 0;
+        upperSize = 0;
+    }
+
+    private void rebalance() {
+        // Keep upperSize == lowerSize or lowerSize + 1
+        while (upperSize > lowerSize + 1) {
+            double moved = upper.firstKey();
+            decrement(upper, moved);
+            upperSize--;
+            increment(lower, moved);
+            lowerSize++;
+        }
+        while (lowerSize > upperSize) {
+            double moved = lower.lastKey();
+            decrement(lower, moved);
+            lowerSize--;
+            increment(upper, moved);
+            upperSize++;
+        }
+    }
+
+    private static void increment(TreeMap<Double, Integer> half, double value) {
+        half.merge(value, 1, Integer::sum);
+    }
+
+    private static boolean decrement(TreeMap<Double, Integer> half, double value) {
+        Map.Entry<Double, Integer> entry = half.ceilingEntry(value);
+        if (entry == null || Double.compare(entry.getKey(), value) != 0) {
+            return false;
+        }
+        if (entry.getValue() <= 1) {
+            half.remove(entry.getKey());
+        } else {
+            half.put(entry.getKey(), entry.getValue() - 1);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.aithor.apartmentcore.cooldown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    void firesAcrossLevelZeroRollover() {
+        // Start two ticks before slot 0 comes round again
+        long start = 62 * TICK;
+        TimingWheel wheel = new TimingWheel(TICK, start);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(start + 5 * TICK, () -> fired.add("a"));
+
+        wheel.advance(start + 4 * TICK);
+        assertEquals(List.of(), fired);
+        wheel.advance(start + 5 * TICK);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesFromLevelOneAtTheDeadline() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        long deadline = (64 * 3 + 17) * TICK;
+        List<Long> firedAt = new ArrayList<>();
+        wheel.schedule(deadline, () -> firedAt.add(-1L));
+
+        for (long t = TICK; t <= deadline + 2 * TICK; t += TICK) {
+            int before = firedAt.size();
+            wheel.advance(t);
+            if (firedAt.size() > before) {
+                firedAt.set(before, t);
+            }
+        }
+        assertEquals(List.of(deadline), firedAt);
+    }
+
+    @Test
+    void cascadesFromLevelTwoInOneLargeAdvance() {
+        TimingWheel wheel = new TimingWheel(TICK, 100 * TICK);
+        long deadline = (100 + 64 * 64 * 2 + 5) * TICK;
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(deadline, () -> fired.add("far"));
+
+        wheel.advance(deadline - TICK);
+        assertEquals(List.of(), fired);
+        wheel.advance(deadline);
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void timerBeyondHorizonIsRefiledAndNotFiredEarly() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        long horizon = 64L * 64 * 64;
+        long deadline = (horizon + 300) * TICK;
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(deadline, () -> fired.add("parked"));
+
+        wheel.advance(horizon * TICK);
+        assertEquals(List.of(), fired);
+        wheel.advance(deadline - TICK);
+        assertEquals(List.of(), fired);
+        wheel.advance(deadline);
+        assertEquals(List.of("parked"), fired);
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 500 * TICK);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(10 * TICK, () -> fired.add("late"));
+        assertEquals(1, wheel.size());
+
+        wheel.advance(501 * TICK);
+        assertEquals(List.of("late"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlineBetweenTicksRoundsUp() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(2 * TICK + 1, () -> fired.add("x"));
+
+        wheel.advance(2 * TICK);
+        assertEquals(List.of(), fired);
+        wheel.advance(3 * TICK);
+        assertEquals(List.of("x"), fired);
+    }
+}
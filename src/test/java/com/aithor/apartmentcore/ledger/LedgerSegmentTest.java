@@ -0,0 +1,139 @@
+package com.aithor.apartmentcore.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LedgerSegmentTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final String PLAYER_KEY = LedgerRecord.playerKey(PLAYER);
+
+    @TempDir
+    File dir;
+
+    @Test
+    void reopenCutsTornLastRecord() throws IOException {
+        LedgerSegment segment = new LedgerSegment(dir, 1);
+        int[] offsets = new int[3];
+        for (int i = 0; i < 3; i++) {
+            offsets[i] = (int) segment.dataFile.length();
+            append(segment, frame(LedgerSegment.encode(record(i))));
+        }
+        long good = segment.dataFile.length();
+        byte[] torn = frame(LedgerSegment.encode(record(3)));
+        append(segment, Arrays.copyOf(torn, torn.length / 2));
+
+        LedgerSegment reopened = new LedgerSegment(dir, 1);
+        long cut = reopened.scan();
+
+        assertEquals(torn.length / 2, cut);
+        assertEquals(3, reopened.recordCount);
+        assertEquals(good, reopened.size);
+        assertEquals(good, reopened.dataFile.length());
+        assertArrayEquals(offsets, reopened.getOffsets(PLAYER_KEY));
+    }
+
+    @Test
+    void reopenCutsAtUndecodableRecord() throws IOException {
+        LedgerSegment segment = new LedgerSegment(dir, 1);
+        append(segment, frame(LedgerSegment.encode(record(0))));
+        long good = segment.dataFile.length();
+        append(segment, frame(encodeWithType("NOT_A_TYPE")));
+        append(segment, frame(LedgerSegment.encode(record(2))));
+
+        LedgerSegment reopened = new LedgerSegment(dir, 1);
+        long cut = reopened.scan();
+
+        assertTrue(cut > 0);
+        assertEquals(1, reopened.recordCount);
+        assertEquals(good, reopened.dataFile.length());
+    }
+
+    @Test
+    void sealedIndexRoundTrip() throws IOException {
+        LedgerSegment segment = new LedgerSegment(dir, 2);
+        for (int i = 0; i < 5; i++) {
+            append(segment, frame(LedgerSegment.encode(record(i))));
+        }
+        segment.scan();
+        int[] expected = segment.getOffsets(PLAYER_KEY);
+
+        Map<String, LedgerSegment.KeyRef> written = segment.writeIndex();
+        assertFalse(new File(dir, segment.indexFile.getName() + ".tmp").exists());
+
+        Map<String, LedgerSegment.KeyRef> read = new LedgerSegment(dir, 2).readSummary();
+        assertEquals(written.keySet(), read.keySet());
+        assertEquals(5, read.get(PLAYER_KEY).count);
+        assertArrayEquals(expected, segment.readOffsets(read.get(PLAYER_KEY)));
+    }
+
+    @Test
+    void partialIndexIsRejected() throws IOException {
+        LedgerSegment segment = new LedgerSegment(dir, 3);
+        for (int i = 0; i < 5; i++) {
+            append(segment, frame(LedgerSegment.encode(record(i))));
+        }
+        segment.scan();
+        segment.writeIndex();
+        // A crash while writing the index in place left only its beginning
+        try (RandomAccessFile raf = new RandomAccessFile(segment.indexFile, "rw")) {
+            raf.setLength(16);
+        }
+
+        assertThrows(IOException.class, () -> new LedgerSegment(dir, 3).readSummary());
+
+        // The data file is intact, so a scan rebuilds the index
+        LedgerSegment rebuilt = new LedgerSegment(dir, 3);
+        assertEquals(0, rebuilt.scan());
+        assertEquals(5, rebuilt.recordCount);
+    }
+
+    private static LedgerRecord record(int i) {
+        // One index key per record keeps the index layout predictable
+        return new LedgerRecord(1_000L + i, TransactionType.PURCHASE, PLAYER, "Player", null, null,
+                null, 100 + i, "test");
+    }
+
+    private static byte[] encodeWithType(String type) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(1L);
+        out.writeUTF(type);
+        for (int i = 0; i < 5; i++) {
+            out.writeUTF("");
+        }
+        out.writeDouble(1);
+        out.writeUTF("");
+        return bytes.toByteArray();
+    }
+
+    private static byte[] frame(byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(payload.length);
+        out.write(payload);
+        return bytes.toByteArray();
+    }
+
+    private static void append(LedgerSegment segment, byte[] bytes) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(segment.dataFile, true)) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aithor.apartmentcore.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.aithor.apartmentcore.model.Apartment;
+import com.aithor.apartmentcore.model.TaxInvoice;
+import com.aithor.apartmentcore.model.TaxStatus;
+
+class ApartmentHotStoreTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long NOW = 100 * DAY;
+
+    @Test
+    void incomeScanSkipsUnownedAndOverdue() {
+        Apartment owned = apartment("a", true, 2, 10);
+        Apartment unowned = apartment("b", false, 1, 0);
+        Apartment overdue = apartment("c", true, 3, 5);
+        overdue.taxInvoices.add(new TaxInvoice(10, NOW - 4 * DAY, NOW - DAY));
+
+        ApartmentHotStore store = new ApartmentHotStore();
+        store.rebuild(List.of(owned, unowned, overdue));
+        ApartmentHotStore.IncomeBatch batch = new ApartmentHotStore.IncomeBatch();
+        store.collectIncomeCandidates(NOW, DAY, batch);
+
+        assertEquals(1, batch.size);
+        assertSame(owned, batch.apartments[0]);
+        assertEquals(2, batch.levels[0]);
+        assertEquals(10, batch.pendingIncome[0], 0);
+    }
+
+    @Test
+    void removeMovesTheLastSlotWithItsColumns() {
+        List<Apartment> apartments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            apartments.add(apartment("apt" + i, true, i + 1, i * 100));
+        }
+        ApartmentHotStore store = new ApartmentHotStore();
+        store.rebuild(apartments);
+        store.remove("apt0");
+
+        ApartmentHotStore.IncomeBatch batch = new ApartmentHotStore.IncomeBatch();
+        store.collectIncomeCandidates(NOW, DAY, batch);
+        assertEquals(2, batch.size);
+        for (int i = 0; i < batch.size; i++) {
+            assertEquals(batch.apartments[i].level, batch.levels[i]);
+            assertEquals(batch.apartments[i].pendingIncome, batch.pendingIncome[i], 0);
+        }
+    }
+
+    @Test
+    void columnsFollowSyncAndTickCredits() {
+        Apartment apt = apartment("a", true, 1, 0);
+        ApartmentHotStore store = new ApartmentHotStore();
+        store.rebuild(List.of(apt));
+
+        store.setPendingIncome("a", 42);
+        assertEquals(42, scan(store).pendingIncome[0], 0);
+
+        // Claimed and upgraded outside the tick
+        apt.pendingIncome = 0;
+        apt.level = 3;
+        store.sync(apt);
+        ApartmentHotStore.IncomeBatch batch = scan(store);
+        assertEquals(0, batch.pendingIncome[0], 0);
+        assertEquals(3, batch.levels[0]);
+    }
+
+    /**
+     * Not a pass/fail check: prints how the column scan compares with
+     * filtering the apartment objects the way the tick does without the store
+     * (tax status computed from the invoices, as canGenerateIncome does)
+     */
+    @Test
+    void incomeScanTiming() {
+        int count = 100_000;
+        List<Apartment> apartments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Apartment apt = apartment("apt" + i, i % 4 != 0, 1 + i % 5, i % 1000);
+            if (i % 10 == 0) {
+                apt.taxInvoices.add(new TaxInvoice(10, NOW - (i % 7) * DAY, NOW + DAY));
+            }
+            apartments.add(apt);
+        }
+        ApartmentHotStore store = new ApartmentHotStore();
+        store.rebuild(apartments);
+
+        long objectNanos = Long.MAX_VALUE;
+        long columnNanos = Long.MAX_VALUE;
+        int objectHits = 0;
+        int columnHits = 0;
+        for (int round = 0; round < 20; round++) {
+            long start = System.nanoTime();
+            ApartmentHotStore.IncomeBatch objects = new ApartmentHotStore.IncomeBatch();
+            for (Apartment apt : apartments) {
+                if (apt.owner != null && TaxStatus.fromUnpaidSince(apt.getOldestUnpaidCreatedAt(), NOW, DAY)
+                        == TaxStatus.ACTIVE) {
+                    objects.add(apt, apt.level, apt.pendingIncome);
+                }
+            }
+            objectNanos = Math.min(objectNanos, System.nanoTime() - start);
+            objectHits = objects.size;
+
+            start = System.nanoTime();
+            ApartmentHotStore.IncomeBatch columns = scan(store);
+            columnNanos = Math.min(columnNanos, System.nanoTime() - start);
+            columnHits = columns.size;
+        }
+
+        assertEquals(objectHits, columnHits);
+        System.out.printf("income scan of %d apartments: objects %.2f ms, columns %.2f ms%n",
+                count, objectNanos / 1e6, columnNanos / 1e6);
+    }
+
+    private static ApartmentHotStore.IncomeBatch scan(ApartmentHotStore store) {
+        ApartmentHotStore.IncomeBatch batch = new ApartmentHotStore.IncomeBatch();
+        store.collectIncomeCandidates(NOW, DAY, batch);
+        return batch;
+    }
+
+    private static Apartment apartment(String id, boolean owned, int level, double pendingIncome) {
+        UUID owner = owned ? UUID.nameUUIDFromBytes(id.getBytes()) : null;
+        return new Apartment(id, id, "world", owner, 1000, 0, 0, level, 0L, pendingIncome,
+                false, 0, 0L, null, null, 1, 1);
+    }
+}
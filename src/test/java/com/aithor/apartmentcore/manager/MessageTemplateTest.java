@@ -0,0 +1,81 @@
+package com.aithor.apartmentcore.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateTest {
+
+    @Test
+    void rendersNamedSlots() {
+        MessageTemplate template = MessageTemplate.compile("Paid %amount% for %apartment%.");
+        assertTrue(template.hasSlots());
+        assertEquals("Paid $5 for Loft.", template.render("apartment", "Loft", "amount", "$5"));
+    }
+
+    @Test
+    void missingArgumentKeepsSlotText() {
+        MessageTemplate template = MessageTemplate.compile("Hello %player%, %unknown%!");
+        assertEquals("Hello Ann, %unknown%!", template.render("player", "Ann"));
+    }
+
+    @Test
+    void loosePercentSignsStayLiteral() {
+        MessageTemplate template = MessageTemplate.compile("50% off % now %not a slot%");
+        assertFalse(template.hasSlots());
+        assertEquals("50% off % now %not a slot%", template.render("not", "x"));
+    }
+
+    @Test
+    void textWithoutSlotsIsReturnedAsIs() {
+        String text = "No slots here";
+        assertSame(text, MessageTemplate.compile(text).render());
+    }
+
+    @Test
+    void repeatedAndAdjacentSlots() {
+        MessageTemplate template = MessageTemplate.compile("%a%%b%%a%");
+        assertEquals("xyx", template.render("a", "x", "b", "y"));
+    }
+
+    /**
+     * Not a pass/fail check: prints how rendering a compiled template compares
+     * with the String.replace chains the messages used before
+     */
+    @Test
+    void renderTiming() {
+        String text = "\u00a76[ApartmentCore]\u00a7r \u00a7aYour apartment \u00a7f%apartment%\u00a7a generated"
+                + " \u00a7f%amount%\u00a7a (flat \u00a7f%flat_buff%\u00a7a, \u00a7f%percentage_buff%%\u00a7a)";
+        MessageTemplate template = MessageTemplate.compile(text);
+        int iterations = 200_000;
+
+        long replaceNanos = Long.MAX_VALUE;
+        long renderNanos = Long.MAX_VALUE;
+        int sink = 0;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                String amount = "$" + i;
+                sink += text.replace("%apartment%", "Loft").replace("%amount%", amount)
+                        .replace("%flat_buff%", "$5").replace("%percentage_buff%", "12.5").length();
+            }
+            replaceNanos = Math.min(replaceNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                String amount = "$" + i;
+                sink -= template.render("apartment", "Loft", "amount", amount,
+                        "flat_buff", "$5", "percentage_buff", "12.5").length();
+            }
+            renderNanos = Math.min(renderNanos, System.nanoTime() - start);
+        }
+
+        // Both produce the same text, so the lengths cancel out
+        assertEquals(0, sink);
+        System.out.printf("%d messages: String.replace %.2f ms, template %.2f ms%n",
+                iterations, replaceNanos / 1e6, renderNanos / 1e6);
+    }
+}
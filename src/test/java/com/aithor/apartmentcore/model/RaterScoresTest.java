@@ -0,0 +1,68 @@
+package com.aithor.apartmentcore.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class RaterScoresTest {
+
+    @Test
+    void unknownRaterHasNoScore() {
+        RaterScores scores = new RaterScores();
+        assertEquals(-1, scores.get(UUID.randomUUID()));
+        scores.put(UUID.randomUUID(), 40);
+        assertEquals(-1, scores.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void putReturnsPreviousAndClamps() {
+        RaterScores scores = new RaterScores();
+        UUID rater = UUID.randomUUID();
+        assertEquals(-1, scores.put(rater, 35));
+        assertEquals(35, scores.put(rater, 250));
+        assertEquals(100, scores.get(rater));
+        assertEquals(1, scores.size());
+    }
+
+    @Test
+    void keepsEveryEntryThroughResizes() {
+        Random random = new Random(11);
+        RaterScores scores = new RaterScores();
+        Map<UUID, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            UUID rater = new UUID(random.nextLong(), random.nextLong());
+            int tenths = random.nextInt(101);
+            scores.put(rater, tenths);
+            expected.put(rater, tenths);
+        }
+        assertEquals(expected.size(), scores.size());
+        for (Map.Entry<UUID, Integer> entry : expected.entrySet()) {
+            assertEquals((int) entry.getValue(), scores.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        RaterScores scores = new RaterScores();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        scores.put(a, 10);
+        scores.put(b, 95);
+
+        RaterScores copy = new RaterScores();
+        byte[] data = scores.toBytes();
+        // A trailing partial record is ignored
+        byte[] padded = Arrays.copyOf(data, data.length + 5);
+        copy.putAll(padded);
+
+        assertEquals(2, copy.size());
+        assertEquals(10, copy.get(a));
+        assertEquals(95, copy.get(b));
+    }
+}
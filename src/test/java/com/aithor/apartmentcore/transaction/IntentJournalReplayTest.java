@@ -0,0 +1,125 @@
+package com.aithor.apartmentcore.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntentJournalReplayTest {
+
+    private static final UUID BUYER = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID SELLER = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+    private static final String STEPS = BUYER + ":-100.0," + SELLER + ":100.0";
+
+    @TempDir
+    File dir;
+
+    @Test
+    void replaysStartedAndDoneSteps() {
+        Map<String, TransactionIntent> intents = replay(
+                "B\tk1\tMARKET_SALE\t1000\tapt1\t" + STEPS,
+                "S\tk1\t0",
+                "D\tk1\t0",
+                "S\tk1\t1");
+
+        TransactionIntent intent = intents.get("k1");
+        assertEquals(TransactionIntent.Kind.MARKET_SALE, intent.kind);
+        assertEquals("apt1", intent.apartmentId);
+        assertEquals(2, intent.steps.size());
+        assertTrue(intent.steps.get(0).started);
+        assertTrue(intent.steps.get(0).done);
+        // Interrupted: started but never confirmed
+        assertTrue(intent.steps.get(1).started);
+        assertFalse(intent.steps.get(1).done);
+        assertFalse(intent.isFinished());
+    }
+
+    @Test
+    void beginOnlyIntentHasNoStartedSteps() {
+        TransactionIntent intent = replay("B\tk1\tAUCTION_SETTLE\t1000\t\t" + STEPS).get("k1");
+        assertEquals(null, intent.apartmentId);
+        for (TransactionIntent.Step step : intent.steps) {
+            assertFalse(step.started);
+            assertFalse(step.done);
+        }
+        assertFalse(intent.isFinished());
+    }
+
+    @Test
+    void failedStepCanRunAgain() {
+        TransactionIntent intent = replay(
+                "B\tk1\tAUCTION_BID\t1000\tapt1\t" + STEPS,
+                "S\tk1\t0",
+                "F\tk1\t0").get("k1");
+        assertFalse(intent.steps.get(0).started);
+        assertFalse(intent.steps.get(0).done);
+    }
+
+    @Test
+    void terminalRecordsFinishIntents() {
+        Map<String, TransactionIntent> intents = replay(
+                "B\tk1\tMARKET_SALE\t1000\tapt1\t" + STEPS,
+                "S\tk1\t0",
+                "D\tk1\t0",
+                "S\tk1\t1",
+                "D\tk1\t1",
+                "C\tk1",
+                "B\tk2\tMARKET_SALE\t1000\tapt2\t" + STEPS,
+                "X\tk2");
+        assertTrue(intents.get("k1").isCompleted());
+        assertTrue(intents.get("k2").aborted);
+        assertTrue(intents.get("k2").isFinished());
+    }
+
+    @Test
+    void recordsOfUnknownIntentsAreIgnored() {
+        Map<String, TransactionIntent> intents = replay("S\tmissing\t0", "C\tmissing");
+        assertTrue(intents.isEmpty());
+    }
+
+    @Test
+    void readAllDropsTornLastLine() throws IOException {
+        File file = new File(dir, "intents.log");
+        Files.write(file.toPath(), ("B\tk1\tMARKET_SALE\t1000\tapt1\t" + STEPS + "\nS\tk1\t0\nD\tk1")
+                .getBytes(StandardCharsets.UTF_8));
+
+        List<String> lines = new IntentJournal(null, file, 1000L).readAll();
+        assertEquals(2, lines.size());
+        assertEquals("S\tk1\t0", lines.get(1));
+    }
+
+    @Test
+    void rewriteKeepsAppendingToTheNewFile() throws IOException {
+        File file = new File(dir, "intents.log");
+        IntentJournal journal = new IntentJournal(null, file, 1000L);
+        journal.open(List.of("B\tk1\tMARKET_SALE\t1000\tapt1\t" + STEPS));
+        journal.append("S\tk1\t0");
+        assertEquals(1, journal.getAppendedCount());
+
+        journal.rewrite(List.of("B\tk2\tMARKET_SALE\t1000\tapt2\t" + STEPS));
+        journal.append("S\tk2\t0");
+        journal.close();
+
+        List<String> lines = new IntentJournal(null, file, 1000L).readAll();
+        assertEquals(List.of("B\tk2\tMARKET_SALE\t1000\tapt2\t" + STEPS, "S\tk2\t0"), lines);
+    }
+
+    private static Map<String, TransactionIntent> replay(String... lines) {
+        Map<String, TransactionIntent> intents = new LinkedHashMap<>();
+        for (String line : lines) {
+            TransactionCoordinator.replay(intents, line.split("\t", -1));
+        }
+        return intents;
+    }
+}
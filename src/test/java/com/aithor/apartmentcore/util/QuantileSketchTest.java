@@ -0,0 +1,77 @@
+package com.aithor.apartmentcore.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    @Test
+    void emptySketchReturnsFallback() {
+        assertEquals(-1, new QuantileSketch(0.5).get(-1), 0);
+    }
+
+    @Test
+    void exactWithFewValues() {
+        QuantileSketch median = new QuantileSketch(0.5);
+        median.add(30);
+        median.add(10);
+        median.add(20);
+        assertEquals(20, median.get(-1), 1e-9);
+    }
+
+    @Test
+    void tracksQuantilesOfUniformData() {
+        Random random = new Random(42);
+        QuantileSketch p25 = new QuantileSketch(0.25);
+        QuantileSketch p50 = new QuantileSketch(0.5);
+        QuantileSketch p75 = new QuantileSketch(0.75);
+        double[] values = new double[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000;
+            p25.add(values[i]);
+            p50.add(values[i]);
+            p75.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Within 2% of the value range of the exact quantile
+        assertEquals(values[values.length / 4], p25.get(-1), 20);
+        assertEquals(values[values.length / 2], p50.get(-1), 20);
+        assertEquals(values[values.length * 3 / 4], p75.get(-1), 20);
+        assertEquals(values.length, p50.getCount());
+    }
+
+    @Test
+    void tracksMedianOfSkewedData() {
+        Random random = new Random(7);
+        QuantileSketch p50 = new QuantileSketch(0.5);
+        double[] values = new double[20_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal prices: most sales cheap, a long expensive tail
+            values[i] = Math.exp(10 + random.nextGaussian());
+            p50.add(values[i]);
+        }
+        Arrays.sort(values);
+        double exact = values[values.length / 2];
+        assertEquals(exact, p50.get(-1), exact * 0.05);
+    }
+
+    @Test
+    void survivesRoundTripThroughArray() {
+        QuantileSketch sketch = new QuantileSketch(0.5);
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i);
+        }
+        QuantileSketch copy = QuantileSketch.fromArray(0.5, sketch.toArray());
+        assertEquals(sketch.get(-1), copy.get(-1), 0);
+        assertEquals(sketch.getCount(), copy.getCount());
+
+        sketch.add(1000);
+        copy.add(1000);
+        assertEquals(sketch.get(-1), copy.get(-1), 0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.aithor.apartmentcore.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RunningMedianTest {
+
+    @Test
+    void emptyReturnsFallback() {
+        assertEquals(-1, new RunningMedian().getMedian(-1), 0);
+    }
+
+    @Test
+    void removingAMissingValueFails() {
+        RunningMedian median = new RunningMedian();
+        median.add(5);
+        assertFalse(median.remove(6));
+        assertTrue(median.remove(5));
+        assertEquals(0, median.size());
+    }
+
+    @Test
+    void matchesSortedListUnderRandomUpdates() {
+        Random random = new Random(3);
+        RunningMedian median = new RunningMedian();
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            if (!values.isEmpty() && random.nextInt(3) == 0) {
+                Double removed = values.remove(random.nextInt(values.size()));
+                assertTrue(median.remove(removed));
+            } else {
+                // Few distinct values, so duplicates are common
+                double value = random.nextInt(50);
+                values.add(value);
+                median.add(value);
+            }
+            List<Double> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            double expected = sorted.isEmpty() ? -1 : sorted.get(sorted.size() / 2);
+            assertEquals(expected, median.getMedian(-1), 0);
+            assertEquals(values.size(), median.size());
+        }
+    }
+}